@@ -0,0 +1,57 @@
+package com.sav.app.aspect;
+
+import com.sav.app.datasource.QueryContext;
+import com.sav.app.service.MetricsService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Marks the repository method on the current thread so statement metrics can be tagged with it
+ * (e.g. TicketRepository.findByStatus), and records the rows each call read
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryQueryAspect {
+
+    private final MetricsService metricsService;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "|| execution(* com.sav..infrastructure.repository..*.*(..))")
+    public Object tagRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = repositoryName(joinPoint) + "." + joinPoint.getSignature().getName();
+        QueryContext.enterRepository(method);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            metricsService.recordDatabaseRowsRead(method, QueryContext.exitRepository());
+        }
+    }
+
+    /**
+     * Spring Data repositories are proxies over SimpleJpaRepository; name them after our interface
+     */
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getThis();
+        return repositoryNames.computeIfAbsent(target.getClass(), proxyClass -> {
+            if (target instanceof Repository<?, ?>) {
+                for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(target)) {
+                    if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith("com.sav.")) {
+                        return candidate.getSimpleName();
+                    }
+                }
+            }
+            return AopUtils.getTargetClass(target).getSimpleName();
+        });
+    }
+}
@@ -21,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Component
-@Profile({"dev", "test"})
+@Profile("(dev | test) & !fast-start")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
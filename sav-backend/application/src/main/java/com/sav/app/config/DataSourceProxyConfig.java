@@ -0,0 +1,61 @@
+package com.sav.app.config;
+
+import com.sav.app.datasource.QueryMetricsListener;
+import com.sav.app.datasource.RepeatedQueryFilter;
+import com.sav.app.service.MetricsService;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with datasource-proxy so every statement is timed,
+ * tagged with its repository method and counted per request (database.* metrics)
+ * Pool wait time is exported by Hikari itself as hikaricp.connections.acquire
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public QueryMetricsListener queryMetricsListener(MetricsService metricsService,
+                                                     @Value("${sav.observability.slow-query-ms:500}") long slowQueryMs) {
+        return new QueryMetricsListener(metricsService, slowQueryMs);
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryMetricsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                QueryMetricsListener queryMetricsListener = listener.getObject();
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(queryMetricsListener)
+                        .methodListener(queryMetricsListener)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RepeatedQueryFilter> repeatedQueryFilter(
+            MetricsService metricsService,
+            @Value("${sav.observability.repeated-query-threshold:10}") int threshold) {
+        FilterRegistrationBean<RepeatedQueryFilter> registration =
+                new FilterRegistrationBean<>(new RepeatedQueryFilter(metricsService, threshold));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -22,4 +22,33 @@ public class EventConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes to live update streams and resolves their audience
+     * Idle streams hold no thread (servlet async); only active writes use this pool
+     */
+    @Bean("streamTaskExecutor")
+    public TaskExecutor streamTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs ticket import jobs - each job is sequential, so a small pool bounds database load
+     */
+    @Bean("importTaskExecutor")
+    public TaskExecutor importTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sav.app.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * fast-start profile: beans not needed to serve traffic (springdoc, debug endpoints) are created on first use
+ * instead of at boot. Everything else stays eager so the first real request does not pay for it
+ */
+@Configuration
+@Profile("fast-start")
+@Slf4j
+public class FastStartConfig {
+
+    private static final String LAZY_BEAN_TYPES = "sav.fast-start.lazy-bean-types";
+
+    @Bean
+    public static BeanFactoryPostProcessor fastStartLazyInitializer(Environment environment) {
+        List<String> prefixes = Binder.get(environment)
+                .bind(LAZY_BEAN_TYPES, Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            // With AOT the flag was already applied at build time; count the beans either way
+            int lazy = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(beanName, false);
+                if (type != null && prefixes.stream().anyMatch(type.getName()::startsWith)) {
+                    definition.setLazyInit(true);
+                    lazy++;
+                }
+            }
+            log.info("fast-start: {} non-critical beans deferred until first use", lazy);
+        };
+    }
+}
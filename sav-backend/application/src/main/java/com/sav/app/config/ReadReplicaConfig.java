@@ -0,0 +1,101 @@
+package com.sav.app.config;
+
+import com.sav.app.datasource.ReadReplicaRoutingDataSource;
+import com.sav.app.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting, enabled with sav.datasource.replicas.enabled
+ * @Transactional(readOnly = true) work goes to the replicas; writes, and reads inside a write
+ * transaction, stay on the primary. Each pool reports hikaricp metrics under its own pool name
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "sav.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+                                              Environment environment,
+                                              MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties properties,
+                                               HikariDataSource primaryDataSource,
+                                               MeterRegistry meterRegistry) {
+        List<ReadReplicaProperties.Node> nodes = properties.getNodes();
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("sav.datasource.replicas.enabled is set but no replica nodes are configured");
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReadReplicaProperties.Node node = nodes.get(i);
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(node.getUrl());
+            if (node.getUsername() != null) {
+                config.setUsername(node.getUsername());
+            }
+            if (node.getPassword() != null) {
+                config.setPassword(node.getPassword());
+            }
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), properties.getMaximumPoolSize()));
+            config.setReadOnly(true);
+            // Start even when a replica is down; the lag monitor keeps it out of rotation
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return new ReplicaLagMonitor(replicas, properties.getMaxLagMs(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaLagMonitor.getReplicas().forEach(targets::put);
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        // Defers the physical connection until the first statement, when the read-only flag is known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
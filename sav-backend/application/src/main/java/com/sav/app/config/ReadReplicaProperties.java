@@ -0,0 +1,39 @@
+package com.sav.app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas used for read-only transactions (sav.datasource.replicas)
+ * Username and password default to the primary's spring.datasource settings
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sav.datasource.replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Replicas whose replay lag exceeds this are skipped until they catch up
+     */
+    private long maxLagMs = 5000;
+
+    private long checkIntervalMs = 2000;
+
+    private int maximumPoolSize = 20;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sav.app.datasource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread-bound attribution for JDBC statements: the repository method currently executing
+ * and, inside an HTTP request, how often each SELECT has run
+ */
+public final class QueryContext {
+
+    public static final String UNATTRIBUTED = "unattributed";
+
+    // Bounds memory for requests issuing many distinct statements
+    private static final int MAX_TRACKED_STATEMENTS = 500;
+
+    private static final ThreadLocal<Deque<RepositoryCall>> REPOSITORY_CALLS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<RequestStatistics> REQUEST = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    public static void enterRepository(String method) {
+        REPOSITORY_CALLS.get().push(new RepositoryCall(method));
+    }
+
+    /**
+     * Leave the current repository method, returning the rows its statements read
+     */
+    public static long exitRepository() {
+        Deque<RepositoryCall> calls = REPOSITORY_CALLS.get();
+        RepositoryCall call = calls.poll();
+        if (calls.isEmpty()) {
+            REPOSITORY_CALLS.remove();
+        }
+        return call != null ? call.rows : 0;
+    }
+
+    public static String currentRepositoryMethod() {
+        RepositoryCall call = REPOSITORY_CALLS.get().peek();
+        return call != null ? call.method : UNATTRIBUTED;
+    }
+
+    static void addRow() {
+        RepositoryCall call = REPOSITORY_CALLS.get().peek();
+        if (call != null) {
+            call.rows++;
+        }
+    }
+
+    public static void beginRequest() {
+        REQUEST.set(new RequestStatistics());
+    }
+
+    public static RequestStatistics endRequest() {
+        RequestStatistics statistics = REQUEST.get();
+        REQUEST.remove();
+        return statistics;
+    }
+
+    static void recordStatement(String sql, boolean select) {
+        RequestStatistics statistics = REQUEST.get();
+        if (statistics == null) {
+            return;
+        }
+        statistics.statements++;
+        if (select && (statistics.selects.size() < MAX_TRACKED_STATEMENTS || statistics.selects.containsKey(sql))) {
+            statistics.selects.computeIfAbsent(sql, key -> new StatementCount(currentRepositoryMethod())).count++;
+        }
+    }
+
+    private static final class RepositoryCall {
+        private final String method;
+        private long rows;
+
+        private RepositoryCall(String method) {
+            this.method = method;
+        }
+    }
+
+    /**
+     * Statements issued while handling one request
+     */
+    public static final class RequestStatistics {
+        private int statements;
+        private final Map<String, StatementCount> selects = new HashMap<>();
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public Map<String, StatementCount> getSelects() {
+            return selects;
+        }
+    }
+
+    public static final class StatementCount {
+        private final String repositoryMethod;
+        private int count;
+
+        private StatementCount(String repositoryMethod) {
+            this.repositoryMethod = repositoryMethod;
+        }
+
+        public String getRepositoryMethod() {
+            return repositoryMethod;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
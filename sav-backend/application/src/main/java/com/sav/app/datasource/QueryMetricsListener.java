@@ -0,0 +1,78 @@
+package com.sav.app.datasource;
+
+import com.sav.app.service.MetricsService;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times every statement and tags it with the repository method that issued it
+ * Also counts rows read through result sets and logs statements slower than the threshold
+ */
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private final MetricsService metricsService;
+    private final long slowQueryMs;
+
+    public QueryMetricsListener(MetricsService metricsService, long slowQueryMs) {
+        this.metricsService = metricsService;
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        String repositoryMethod = QueryContext.currentRepositoryMethod();
+        String sql = queryInfoList.get(0).getQuery();
+        QueryType queryType = QueryUtils.getQueryType(sql);
+
+        metricsService.recordDatabaseQueryTime(repositoryMethod, queryType.name().toLowerCase(Locale.ROOT),
+                execInfo.isSuccess(), Duration.ofMillis(execInfo.getElapsedTime()));
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            QueryContext.recordStatement(queryInfo.getQuery(), queryType == QueryType.SELECT);
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryMs) {
+            log.warn("Slow query ({} ms, {}{}): {}", execInfo.getElapsedTime(), repositoryMethod,
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", abbreviate(sql));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            QueryContext.addRow();
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() <= MAX_LOGGED_SQL_LENGTH ? compact : compact.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
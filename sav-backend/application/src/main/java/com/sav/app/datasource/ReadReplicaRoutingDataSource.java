@@ -0,0 +1,53 @@
+package com.sav.app.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica, everything else to the primary
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only known
+ * once the transaction has started, so the physical connection has to be resolved lazily
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryCounter = routingCounter(meterRegistry, "primary");
+        this.replicaCounter = routingCounter(meterRegistry, "replica");
+        this.fallbackCounter = routingCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return PRIMARY;
+        }
+
+        String replica = lagMonitor.nextAvailableReplica();
+        if (replica == null) {
+            // Every replica is down or lagging - read from the primary rather than serve stale data
+            fallbackCounter.increment();
+            return PRIMARY;
+        }
+        replicaCounter.increment();
+        return replica;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
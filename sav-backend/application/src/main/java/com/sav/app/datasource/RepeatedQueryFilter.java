@@ -0,0 +1,60 @@
+package com.sav.app.datasource;
+
+import com.sav.app.service.MetricsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Flags N+1 patterns: the same SELECT issued many times while handling a single request
+ * Typically a lazy association loaded row by row inside a loop
+ */
+@Slf4j
+public class RepeatedQueryFilter extends OncePerRequestFilter {
+
+    private final MetricsService metricsService;
+    private final int threshold;
+
+    public RepeatedQueryFilter(MetricsService metricsService, int threshold) {
+        this.metricsService = metricsService;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryContext.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryContext.RequestStatistics statistics = QueryContext.endRequest();
+            if (statistics != null) {
+                report(request, statistics);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryContext.RequestStatistics statistics) {
+        statistics.getSelects().forEach((sql, count) -> {
+            if (count.getCount() < threshold) {
+                return;
+            }
+            String endpoint = endpoint(request);
+            metricsService.incrementRepeatedQuery(endpoint, count.getRepositoryMethod());
+            log.warn("Possible N+1 in {}: {} ran {} times ({} statements in request): {}",
+                    endpoint, count.getRepositoryMethod(), count.getCount(), statistics.getStatements(),
+                    sql.replaceAll("\\s+", " ").trim());
+        });
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,130 @@
+package com.sav.app.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically measures replay lag on each replica and keeps the set of replicas that may serve reads
+ * A replica is usable when it answers and its lag is within the configured limit
+ * Until the first check completes no replica is usable, so reads start on the primary
+ * The monitor owns the replica pools and closes them on shutdown
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Lag is zero when everything received has been replayed, so an idle primary does not look like lag
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+        END
+        """;
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final Map<String, DataSource> dataSources;
+    private final Map<String, ReplicaState> replicas = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> available = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicaDataSources, long maxLagMs, MeterRegistry meterRegistry) {
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(replicaDataSources));
+        this.maxLagMs = maxLagMs;
+        replicaDataSources.forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+            ReplicaState state = new ReplicaState(jdbcTemplate);
+            replicas.put(name, state);
+
+            Gauge.builder("datasource.replica.lag", state, s -> s.lagMs)
+                    .description("Replication replay lag in milliseconds (-1 when unreachable)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", state, s -> s.available ? 1 : 0)
+                    .description("Whether the replica currently serves read-only transactions")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Round-robin over usable replicas, or null when reads must go to the primary
+     */
+    public String nextAvailableReplica() {
+        List<String> current = available;
+        if (current.isEmpty()) {
+            return null;
+        }
+        return current.get(Math.floorMod(nextReplica.getAndIncrement(), current.size()));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return dataSources;
+    }
+
+    public void close() {
+        dataSources.forEach((name, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool {}: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${sav.datasource.replicas.check-interval-ms:2000}")
+    public void checkReplicas() {
+        List<String> usable = new ArrayList<>(replicas.size());
+        replicas.forEach((name, state) -> {
+            boolean wasAvailable = state.available;
+            try {
+                Double lag = state.jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+                state.lagMs = lag != null ? lag : 0;
+                state.available = state.lagMs <= maxLagMs;
+            } catch (Exception e) {
+                state.lagMs = -1;
+                state.available = false;
+                if (wasAvailable) {
+                    log.warn("Replica {} is unreachable: {}", name, e.getMessage());
+                }
+            }
+
+            if (state.available) {
+                usable.add(name);
+            }
+            if (wasAvailable && !state.available && state.lagMs >= 0) {
+                log.warn("Replica {} is {} ms behind (limit {} ms) - reads fall back to the primary",
+                        name, (long) state.lagMs, maxLagMs);
+            } else if (!wasAvailable && state.available) {
+                log.info("Replica {} is serving reads (lag {} ms)", name, (long) state.lagMs);
+            }
+        });
+        available = List.copyOf(usable);
+    }
+
+    private static final class ReplicaState {
+        private final JdbcTemplate jdbcTemplate;
+        private volatile double lagMs = -1;
+        private volatile boolean available;
+
+        private ReplicaState(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.sav.app.events.handlers;
 import com.sav.common.events.ticket.TicketCreatedEvent;
 import com.sav.common.events.ticket.TicketAssignedEvent;
 import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
 import com.sav.common.events.user.UserCreatedEvent;
 import com.sav.common.events.user.UserRoleChangedEvent;
+import com.sav.common.events.user.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -33,6 +35,14 @@ public class LoggingEventHandler {
                 event.getTicketId(), event.getOldStatus(), event.getNewStatus(), event.getChangedBy());
     }
 
+    @EventListener
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        log.info(" TICKETS BULK UPDATED: Operation={}, Count={}, ChangedBy={}",
+                event.getOperation(), event.getChanges().size(), event.getChangedBy());
+        log.debug(" TICKETS BULK UPDATED: Operation={}, IDs={}", event.getOperation(),
+                event.getChanges().stream().map(TicketsBulkUpdatedEvent.Change::ticketId).toList());
+    }
+
     @EventListener
     public void handleUserCreated(UserCreatedEvent event) {
         log.info(" USER CREATED: ID={}, Username={}, Role={}",
@@ -44,4 +54,10 @@ public class LoggingEventHandler {
         log.info(" USER ROLE CHANGED: ID={}, {} → {}, ChangedBy={}",
                 event.getUserId(), event.getOldRole(), event.getNewRole(), event.getChangedBy());
     }
+
+    @EventListener
+    public void handleUserStatusChanged(UserStatusChangedEvent event) {
+        log.info(" USER STATUS CHANGED: ID={}, {} → {}, ChangedBy={}",
+                event.getUserId(), event.getOldStatus(), event.getNewStatus(), event.getChangedBy());
+    }
 }
\ No newline at end of file
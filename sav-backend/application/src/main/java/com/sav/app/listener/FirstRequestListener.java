@@ -0,0 +1,38 @@
+package com.sav.app.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records time-to-first-request (JVM start to the first handled request) as application.first_request.time,
+ * next to the application.started.time and application.ready.time gauges Spring Boot already exports
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FirstRequestListener {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder("application.first_request.time", () -> uptimeMs, TimeUnit.MILLISECONDS)
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+        log.info("First request served {} ms after JVM start ({} {})", uptimeMs, event.getMethod(), event.getRequestUrl());
+    }
+}
@@ -2,6 +2,7 @@ package com.sav.app.service;
 
 import com.sav.common.service.MetricsServicePort;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
@@ -99,12 +100,29 @@ public class MetricsService implements MetricsServicePort {
         log.debug("Recorded API response time for {} {}: {}ms", method, endpoint, duration.toMillis());
     }
 
-    public void recordDatabaseQueryTime(String queryType, Duration duration) {
+    public void recordDatabaseQueryTime(String repositoryMethod, String queryType, boolean success, Duration duration) {
         Timer.builder("database.query_time")
+                .tag("method", repositoryMethod)
                 .tag("query_type", queryType)
+                .tag("outcome", success ? "success" : "error")
                 .register(meterRegistry)
                 .record(duration);
-        log.debug("Recorded database query time for {}: {}ms", queryType, duration.toMillis());
+    }
+
+    public void recordDatabaseRowsRead(String repositoryMethod, long rows) {
+        DistributionSummary.builder("database.rows_read")
+                .tag("method", repositoryMethod)
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    public void incrementRepeatedQuery(String endpoint, String repositoryMethod) {
+        Counter.builder("database.repeated_queries")
+                .tag("endpoint", endpoint)
+                .tag("method", repositoryMethod)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Incremented repeated query counter for {} in {}", repositoryMethod, endpoint);
     }
 
     @Override
@@ -0,0 +1,55 @@
+-- V10__Create_ticket_archive.sql
+-- Cold storage for tickets closed long ago, moved out of the hot tables by TicketArchiveService.
+-- The archive tables are range-partitioned by the ticket's created_at (one partition per year, created by
+-- the archiver on demand), so old years can be detached, dumped or moved to cheaper tablespaces on their own.
+-- The hot tables stay unpartitioned: messages and attachments reference tickets(id), which a partitioned
+-- tickets table could not keep unique without adding created_at to the key.
+
+CREATE TABLE IF NOT EXISTS archived_tickets (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(50) NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    created_by_user_id VARCHAR(255) NOT NULL,
+    assigned_team VARCHAR(50),
+    assigned_user_id VARCHAR(255),
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Messages and attachments carry their ticket's created_at so they land in the matching year
+CREATE TABLE IF NOT EXISTS archived_ticket_messages (
+    id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    author_id VARCHAR(255) NOT NULL,
+    ticket_id BIGINT NOT NULL,
+    ticket_created_at TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (id, ticket_created_at)
+) PARTITION BY RANGE (ticket_created_at);
+
+CREATE TABLE IF NOT EXISTS archived_ticket_attachments (
+    id BIGINT NOT NULL,
+    filename VARCHAR(255) NOT NULL,
+    file_url VARCHAR(500) NOT NULL,
+    uploaded_at TIMESTAMP NOT NULL,
+    ticket_id BIGINT NOT NULL,
+    ticket_created_at TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (id, ticket_created_at)
+) PARTITION BY RANGE (ticket_created_at);
+
+-- Lookups by ticket id probe this index in every yearly partition
+CREATE INDEX IF NOT EXISTS idx_archived_tickets_id ON archived_tickets(id);
+CREATE INDEX IF NOT EXISTS idx_archived_ticket_messages_ticket ON archived_ticket_messages(ticket_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_archived_ticket_attachments_ticket ON archived_ticket_attachments(ticket_id);
+
+-- Archive candidates: closed tickets by closing time, without scanning the open ones
+CREATE INDEX IF NOT EXISTS idx_tickets_closed_updated_at ON tickets(updated_at) WHERE status = 'CLOSED';
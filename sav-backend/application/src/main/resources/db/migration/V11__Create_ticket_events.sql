@@ -0,0 +1,45 @@
+-- V11__Create_ticket_events.sql
+-- Append-only ticket history, written in batches by TicketHistoryRecorder from committed domain events.
+-- Kinds and statuses are stored as SMALLINT codes (see JdbcTicketEventStore):
+--   kind:   1 CREATED, 2 STATUS_CHANGED, 3 ASSIGNED, 4 TEAM_CHANGED, 5 PRIORITY_CHANGED
+--   status: 1 OPEN, 2 ASSIGNED, 3 IN_PROGRESS, 4 RESOLVED, 5 REOPENED, 6 CLOSED
+-- detail holds the assignee id, team or priority. No foreign key to tickets: history outlives archival.
+CREATE TABLE IF NOT EXISTS ticket_events (
+    id BIGSERIAL PRIMARY KEY,
+    ticket_id BIGINT NOT NULL,
+    at TIMESTAMP NOT NULL,
+    kind SMALLINT NOT NULL,
+    from_status SMALLINT,
+    to_status SMALLINT,
+    actor_id VARCHAR(255),
+    detail VARCHAR(255)
+);
+
+-- Per-ticket replay up to an instant
+CREATE INDEX IF NOT EXISTS idx_ticket_events_ticket_at ON ticket_events(ticket_id, at);
+-- Date-range scans: rows arrive in time order, so a BRIN index stays a few pages for millions of events
+CREATE INDEX IF NOT EXISTS idx_ticket_events_at ON ticket_events USING BRIN (at);
+
+-- Seed what is known about existing tickets: creation, then their current state as of the last update
+INSERT INTO ticket_events (ticket_id, at, kind, to_status, actor_id, detail)
+SELECT id, created_at, 1, NULL, created_by_user_id, priority FROM tickets
+UNION ALL
+SELECT id, created_at, 1, NULL, created_by_user_id, priority FROM archived_tickets;
+
+INSERT INTO ticket_events (ticket_id, at, kind, to_status)
+SELECT id, updated_at, 2,
+       CASE status WHEN 'OPEN' THEN 1 WHEN 'ASSIGNED' THEN 2 WHEN 'IN_PROGRESS' THEN 3
+                   WHEN 'RESOLVED' THEN 4 WHEN 'REOPENED' THEN 5 WHEN 'CLOSED' THEN 6 END
+FROM (SELECT id, updated_at, status FROM tickets
+      UNION ALL
+      SELECT id, updated_at, status FROM archived_tickets) t;
+
+INSERT INTO ticket_events (ticket_id, at, kind, detail)
+SELECT id, updated_at, 3, assigned_user_id FROM tickets WHERE assigned_user_id IS NOT NULL
+UNION ALL
+SELECT id, updated_at, 3, assigned_user_id FROM archived_tickets WHERE assigned_user_id IS NOT NULL;
+
+INSERT INTO ticket_events (ticket_id, at, kind, detail)
+SELECT id, updated_at, 4, assigned_team FROM tickets WHERE assigned_team IS NOT NULL
+UNION ALL
+SELECT id, updated_at, 4, assigned_team FROM archived_tickets WHERE assigned_team IS NOT NULL;
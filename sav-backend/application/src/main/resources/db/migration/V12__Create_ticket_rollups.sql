@@ -0,0 +1,38 @@
+-- V12__Create_ticket_rollups.sql
+-- Hourly and daily reporting aggregates, folded in from ticket_events by TicketRollupService.
+-- One row per (granularity, bucket, priority, type, team); 'NONE' stands for no team / unknown ticket.
+-- backlog_delta is the net change in active tickets, so the backlog at any instant is a sum of deltas.
+-- resolution_histogram counts resolution times per fixed bucket (bounds in TicketRollupService), which
+-- keeps percentiles mergeable across any date range.
+CREATE TABLE IF NOT EXISTS ticket_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    team VARCHAR(50) NOT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    closed_count BIGINT NOT NULL DEFAULT 0,
+    reopened_count BIGINT NOT NULL DEFAULT 0,
+    backlog_delta BIGINT NOT NULL DEFAULT 0,
+    resolution_count BIGINT NOT NULL DEFAULT 0,
+    resolution_seconds BIGINT NOT NULL DEFAULT 0,
+    resolution_histogram BIGINT[] NOT NULL,
+
+    PRIMARY KEY (granularity, bucket_start, priority, type, team),
+    CONSTRAINT chk_rollup_granularity CHECK (granularity IN ('HOUR', 'DAY'))
+);
+
+-- Single-row watermark: the last ticket_events id folded in. Locked by the batch that advances it,
+-- so several application nodes never fold the same events twice
+CREATE TABLE IF NOT EXISTS ticket_rollup_state (
+    id SMALLINT PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO ticket_rollup_state (id, last_event_id) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+-- Insertion time: events are only folded in once every transaction that could still be writing
+-- lower ids has committed
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,60 @@
+-- V13__Create_ticket_view.sql
+-- Denormalized read model behind the ticket listing, search and dashboard endpoints.
+-- One row per hot ticket with the creator/assignee display names and message/attachment counters,
+-- so a listing is a single indexed scan. Rows are recomputed from the source tables by
+-- JdbcTicketViewStore (asynchronously from ticket/message/user events, synchronously for imports and
+-- archiving); there is deliberately no foreign key to tickets.
+CREATE TABLE IF NOT EXISTS ticket_view (
+    id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(50) NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    created_by_user_id VARCHAR(255) NOT NULL,
+    created_by_name VARCHAR(511),
+    assigned_team VARCHAR(50),
+    assigned_user_id VARCHAR(255),
+    assigned_user_name VARCHAR(511),
+    message_count INTEGER NOT NULL DEFAULT 0,
+    last_message_at TIMESTAMP,
+    attachment_count INTEGER NOT NULL DEFAULT 0,
+    -- Statement time of the refresh that wrote the row; an older refresh never overwrites a newer one
+    refreshed_at TIMESTAMP NOT NULL
+);
+
+-- One index per listing endpoint, each ordered by creation for the default sort
+CREATE INDEX IF NOT EXISTS idx_ticket_view_created_at ON ticket_view (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_created_by ON ticket_view (created_by_user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_assigned_user ON ticket_view (assigned_user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_status ON ticket_view (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_priority ON ticket_view (priority, created_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_team ON ticket_view (assigned_team, created_at);
+
+-- Substring search over title and people (must match JdbcTicketViewStore.SEARCH_EXPRESSION)
+CREATE INDEX IF NOT EXISTS idx_ticket_view_search_trgm ON ticket_view USING GIN (
+    (lower(title || ' ' || coalesce(created_by_name, '') || ' ' || coalesce(assigned_user_name, ''))) gin_trgm_ops
+);
+
+-- Seed from the current tickets
+INSERT INTO ticket_view (id, version, title, description, status, type, priority, created_at, updated_at,
+                         created_by_user_id, created_by_name, assigned_team, assigned_user_id, assigned_user_name,
+                         message_count, last_message_at, attachment_count, refreshed_at)
+SELECT t.id, t.version, t.title, t.description, t.status, t.type, t.priority, t.created_at, t.updated_at,
+       t.created_by_user_id, c.first_name || ' ' || c.last_name, t.assigned_team, t.assigned_user_id,
+       a.first_name || ' ' || a.last_name,
+       COALESCE(m.message_count, 0), m.last_message_at, COALESCE(f.attachment_count, 0), CURRENT_TIMESTAMP
+FROM tickets t
+LEFT JOIN users c ON c.id = t.created_by_user_id
+LEFT JOIN users a ON a.id = t.assigned_user_id
+LEFT JOIN (
+    SELECT ticket_id, COUNT(*) AS message_count, MAX(created_at) AS last_message_at
+    FROM ticket_messages GROUP BY ticket_id
+) m ON m.ticket_id = t.id
+LEFT JOIN (
+    SELECT ticket_id, COUNT(*) AS attachment_count FROM ticket_attachments GROUP BY ticket_id
+) f ON f.ticket_id = t.id
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,28 @@
+-- V14__Create_ticket_sla.sql
+-- Adds the WAITING_FOR_CUSTOMER status (ticket_events status code 7) and the per-ticket SLA clocks.
+ALTER TABLE tickets DROP CONSTRAINT IF EXISTS chk_status;
+ALTER TABLE tickets ADD CONSTRAINT chk_status
+    CHECK (status IN ('OPEN', 'ASSIGNED', 'IN_PROGRESS', 'WAITING_FOR_CUSTOMER', 'RESOLVED', 'REOPENED', 'CLOSED'));
+
+-- One SLA clock per hot ticket, maintained by TicketSlaService on every status, priority or type change.
+-- consumed_seconds is the business time used before clock_started_at; warning_at and breach_at are the
+-- precomputed deadlines of a RUNNING clock and are NULL while the clock is PAUSED or STOPPED.
+-- warned_at / breached_at record when each threshold was crossed, so events fire exactly once.
+CREATE TABLE IF NOT EXISTS ticket_sla (
+    ticket_id BIGINT PRIMARY KEY REFERENCES tickets(id) ON DELETE CASCADE,
+    policy VARCHAR(100) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    target_seconds BIGINT NOT NULL,
+    state VARCHAR(20) NOT NULL,
+    consumed_seconds BIGINT NOT NULL DEFAULT 0,
+    clock_started_at TIMESTAMP,
+    warning_at TIMESTAMP,
+    breach_at TIMESTAMP,
+    warned_at TIMESTAMP,
+    breached_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_sla_state CHECK (state IN ('RUNNING', 'PAUSED', 'STOPPED'))
+);
+
+-- Lets every node pick up clocks changed elsewhere
+CREATE INDEX IF NOT EXISTS idx_ticket_sla_updated_at ON ticket_sla (updated_at);
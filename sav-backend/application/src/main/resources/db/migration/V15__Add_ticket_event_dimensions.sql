@@ -0,0 +1,49 @@
+-- V15__Add_ticket_event_dimensions.sql
+-- Every ticket event carries the ticket's status, priority, type and team right after the event, so reports
+-- attribute it to the values it happened under rather than to the ticket's current ones.
+-- from_detail holds the team or priority a TEAM_CHANGED / PRIORITY_CHANGED moved away from.
+-- status uses the same SMALLINT codes as from_status / to_status; priority is never NULL once captured.
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS from_detail VARCHAR(255);
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS status SMALLINT;
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS priority VARCHAR(50);
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS type VARCHAR(50);
+ALTER TABLE ticket_events ADD COLUMN IF NOT EXISTS team VARCHAR(50);
+
+-- Backfill by replaying each ticket's own history: status, priority and team are the values set by the
+-- latest event of the matching kind at or before the row (CREATED carries the initial priority).
+-- Type never changes, so it comes from the ticket itself.
+WITH grouped AS (
+    SELECT id, ticket_id, at, kind, to_status, detail,
+           COUNT(*) FILTER (WHERE kind = 2 OR (kind = 1 AND to_status IS NOT NULL)) OVER w AS status_group,
+           COUNT(*) FILTER (WHERE kind IN (1, 5)) OVER w AS priority_group,
+           COUNT(*) FILTER (WHERE kind = 4) OVER w AS team_group
+    FROM ticket_events
+    WINDOW w AS (PARTITION BY ticket_id ORDER BY at, id)
+), states AS (
+    SELECT id, ticket_id, at, kind,
+           COALESCE(MAX(CASE WHEN kind IN (1, 2) THEN to_status END)
+                        OVER (PARTITION BY ticket_id, status_group), 1) AS status,
+           MAX(CASE WHEN kind IN (1, 5) THEN detail END) OVER (PARTITION BY ticket_id, priority_group) AS priority,
+           MAX(CASE WHEN kind = 4 THEN detail END) OVER (PARTITION BY ticket_id, team_group) AS team
+    FROM grouped
+), replayed AS (
+    SELECT id, ticket_id, kind, status, priority, team,
+           LAG(priority) OVER (PARTITION BY ticket_id ORDER BY at, id) AS previous_priority,
+           LAG(team) OVER (PARTITION BY ticket_id ORDER BY at, id) AS previous_team
+    FROM states
+)
+UPDATE ticket_events e
+SET status = r.status,
+    priority = COALESCE(r.priority, t.priority),
+    type = t.type,
+    team = r.team,
+    from_detail = CASE r.kind WHEN 4 THEN r.previous_team WHEN 5 THEN r.previous_priority END
+FROM replayed r
+LEFT JOIN (SELECT id, priority, type FROM tickets
+           UNION ALL
+           SELECT id, priority, type FROM archived_tickets) t ON t.id = r.ticket_id
+WHERE e.id = r.id;
+
+-- Rollups so far were attributed to the tickets' current values; fold everything in again
+TRUNCATE ticket_rollups;
+UPDATE ticket_rollup_state SET last_event_id = 0, updated_at = CURRENT_TIMESTAMP WHERE id = 1;
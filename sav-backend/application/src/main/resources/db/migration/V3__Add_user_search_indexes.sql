@@ -0,0 +1,15 @@
+-- V3__Add_user_search_indexes.sql
+-- Trigram and prefix indexes backing the user search / typeahead endpoint
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring matching over every searchable column (must match UserRepository.searchUsers)
+CREATE INDEX IF NOT EXISTS idx_users_search_trgm ON users USING GIN (
+    (lower(coalesce(username, '') || ' ' || coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' ||
+           coalesce(email, '') || ' ' || coalesce(company, '') || ' ' || coalesce(department, ''))) gin_trgm_ops
+);
+
+-- Prefix matching for autocomplete ranking
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users (lower(username) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_first_name_prefix ON users (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_prefix ON users (lower(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops);
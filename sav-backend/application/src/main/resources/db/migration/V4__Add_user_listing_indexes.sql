@@ -0,0 +1,4 @@
+-- V4__Add_user_listing_indexes.sql
+-- Support filtered, username-ordered user listings (offset pages and keyset scrolling)
+CREATE INDEX IF NOT EXISTS idx_users_role_status_username ON users(role, status, username);
+CREATE INDEX IF NOT EXISTS idx_users_status_username ON users(status, username);
@@ -0,0 +1,3 @@
+-- V5__Add_ticket_workload_index.sql
+-- Covers the per-user workload aggregation (GROUP BY assigned_user_id, status)
+CREATE INDEX IF NOT EXISTS idx_tickets_assigned_user_status ON tickets(assigned_user_id, status);
@@ -0,0 +1,3 @@
+-- V6__Add_ticket_version.sql
+-- Optimistic locking column for tickets (also used as the HTTP ETag)
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- V7__Add_ticket_message_timeline_index.sql
+-- Keyset timeline reads filter on ticket_id and walk (created_at, id); the composite index
+-- serves them directly and makes the single-column ticket_id index redundant
+CREATE INDEX IF NOT EXISTS idx_ticket_messages_ticket_created_id ON ticket_messages(ticket_id, created_at, id);
+DROP INDEX IF EXISTS idx_ticket_messages_ticket_id;
@@ -0,0 +1,25 @@
+-- V8__Create_ticket_import_jobs.sql
+-- Resumable bulk ticket imports: the checkpoint is committed with each inserted batch
+CREATE TABLE IF NOT EXISTS ticket_import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    format VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    original_filename VARCHAR(255),
+    stored_path VARCHAR(1000) NOT NULL,
+    created_by_user_id VARCHAR(255) NOT NULL,
+    processed_records BIGINT NOT NULL DEFAULT 0,
+    imported_tickets BIGINT NOT NULL DEFAULT 0,
+    imported_messages BIGINT NOT NULL DEFAULT 0,
+    failed_records BIGINT NOT NULL DEFAULT 0,
+    last_committed_record BIGINT NOT NULL DEFAULT 0,
+    processing_millis BIGINT NOT NULL DEFAULT 0,
+    error_report TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+
+    CONSTRAINT chk_import_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT chk_import_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'INTERRUPTED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_import_jobs_status ON ticket_import_jobs(status);
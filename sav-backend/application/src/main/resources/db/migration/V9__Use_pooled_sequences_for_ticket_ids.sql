@@ -0,0 +1,30 @@
+-- V9__Use_pooled_sequences_for_ticket_ids.sql
+-- Tickets, messages and attachments move from IDENTITY to SEQUENCE ids with the pooled-lo optimizer:
+-- each nextval reserves a block of 50 ids, so Hibernate can batch inserts instead of one round-trip per row.
+-- INCREMENT BY must match allocationSize on the entities.
+
+CREATE SEQUENCE IF NOT EXISTS tickets_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ticket_messages_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ticket_attachments_seq INCREMENT BY 50;
+
+SELECT setval('tickets_seq', COALESCE((SELECT MAX(id) FROM tickets), 0) + 1, false);
+SELECT setval('ticket_messages_seq', COALESCE((SELECT MAX(id) FROM ticket_messages), 0) + 1, false);
+SELECT setval('ticket_attachments_seq', COALESCE((SELECT MAX(id) FROM ticket_attachments), 0) + 1, false);
+
+-- Schemas generated by Hibernate use identity columns, the initial migration uses BIGSERIAL; handle both
+ALTER TABLE tickets ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE ticket_messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE ticket_attachments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Plain SQL inserts keep working: each one takes the low value of a fresh block
+ALTER TABLE tickets ALTER COLUMN id SET DEFAULT nextval('tickets_seq');
+ALTER TABLE ticket_messages ALTER COLUMN id SET DEFAULT nextval('ticket_messages_seq');
+ALTER TABLE ticket_attachments ALTER COLUMN id SET DEFAULT nextval('ticket_attachments_seq');
+
+ALTER SEQUENCE tickets_seq OWNED BY tickets.id;
+ALTER SEQUENCE ticket_messages_seq OWNED BY ticket_messages.id;
+ALTER SEQUENCE ticket_attachments_seq OWNED BY ticket_attachments.id;
+
+DROP SEQUENCE IF EXISTS tickets_id_seq;
+DROP SEQUENCE IF EXISTS ticket_messages_id_seq;
+DROP SEQUENCE IF EXISTS ticket_attachments_id_seq;
@@ -0,0 +1,98 @@
+package com.sav.benchmarks;
+
+import com.sav.common.util.ContentSanitizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message validation and sanitization: the single-pass ContentSanitizer against the regex chain
+ * TicketMessageController used before (kept here as the baseline)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentSanitizerBenchmark {
+
+    private static final String PLAIN = "The printer on floor 2 stopped working after the update, error code E-42. ";
+    private static final String MARKUP = "<p>Printer <b>stopped</b> working</p> see <iframe src=x></iframe> & \"quotes\" it's ";
+
+    @Param({"1024", "65536", "1048576"})
+    private int length;
+
+    @Param({"plain", "markup"})
+    private String content;
+
+    // The controller caps messages at 10K characters; lifted so larger inputs can be compared
+    private ContentSanitizer sanitizer;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        sanitizer = ContentSanitizer.MESSAGE.withMaxLength(Integer.MAX_VALUE);
+        String unit = "markup".equals(content) ? MARKUP : PLAIN;
+        StringBuilder sb = new StringBuilder(length + unit.length());
+        while (sb.length() < length) {
+            sb.append(unit);
+        }
+        input = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return sanitizer.sanitize(input);
+    }
+
+    @Benchmark
+    public String regexChain() {
+        return isValidMessageContent(input) ? sanitizeMessageContent(input) : null;
+    }
+
+    private static boolean isValidMessageContent(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return false;
+        }
+        String trimmedContent = content.trim();
+        if (trimmedContent.matches("^[\\s\\p{Punct}]*$")) {
+            return false;
+        }
+        String lowerContent = trimmedContent.toLowerCase();
+        return !(lowerContent.contains("<script")
+                || lowerContent.contains("javascript:")
+                || lowerContent.contains("vbscript:")
+                || lowerContent.contains("onload=")
+                || lowerContent.contains("onerror=")
+                || lowerContent.contains("onclick="));
+    }
+
+    private static String sanitizeMessageContent(String content) {
+        String sanitized = content.trim();
+        sanitized = sanitized.replaceAll("(?i)<script[^>]*>.*?</script>", "");
+        sanitized = sanitized.replaceAll("(?i)<iframe[^>]*>.*?</iframe>", "");
+        sanitized = sanitized.replaceAll("(?i)<object[^>]*>.*?</object>", "");
+        sanitized = sanitized.replaceAll("(?i)<embed[^>]*>.*?</embed>", "");
+        sanitized = sanitized.replaceAll("(?i)\\s*on\\w+\\s*=", "");
+        sanitized = sanitized.replaceAll("(?i)javascript\\s*:", "");
+        sanitized = sanitized.replaceAll("(?i)vbscript\\s*:", "");
+        sanitized = sanitized.replaceAll("(?i)data\\s*:", "");
+        sanitized = sanitized.replaceAll("<[^>]*>", "");
+        return sanitized.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&#x27;");
+    }
+}
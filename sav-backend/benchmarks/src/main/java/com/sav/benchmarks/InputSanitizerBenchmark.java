@@ -0,0 +1,64 @@
+package com.sav.benchmarks;
+
+import com.sav.common.util.InputSanitizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sanitization applied to ticket titles, descriptions and messages on every write
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputSanitizerBenchmark {
+
+    private static final String PLAIN = "The printer on floor 2 stopped working after the update, error code E-42. ";
+    private static final String MARKUP = "<p>Printer <b>stopped</b> working</p><script>alert('x')</script> & \"quotes\" / ";
+
+    /**
+     * Input length in characters - titles are short, descriptions and messages can be long
+     */
+    @Param({"80", "4000"})
+    private int length;
+
+    @Param({"plain", "markup"})
+    private String content;
+
+    private InputSanitizer sanitizer;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        sanitizer = new InputSanitizer();
+        String unit = "markup".equals(content) ? MARKUP : PLAIN;
+        StringBuilder sb = new StringBuilder(length + unit.length());
+        while (sb.length() < length) {
+            sb.append(unit);
+        }
+        input = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public String sanitizeHtml() {
+        return sanitizer.sanitizeHtml(input);
+    }
+
+    @Benchmark
+    public String sanitizeText() {
+        return sanitizer.sanitizeText(input);
+    }
+}
@@ -0,0 +1,76 @@
+package com.sav.benchmarks;
+
+import com.sav.common.dto.KeycloakUserInfo;
+import com.sav.security.util.JwtTokenParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim extraction done for every authenticated request that resolves the current user
+ * Uses a token shaped like the ones Keycloak issues for sav-realm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenParserBenchmark {
+
+    private JwtTokenParser parser;
+    private JwtAuthenticationToken realmRoleToken;
+    private JwtAuthenticationToken clientRoleToken;
+
+    @Setup
+    public void setUp() {
+        parser = new JwtTokenParser();
+        realmRoleToken = token(Map.of("realm_access", Map.of(
+                "roles", List.of("offline_access", "uma_authorization", "default-roles-sav-realm", "TECHNICIAN"))));
+        clientRoleToken = token(Map.of("resource_access", Map.of(
+                "sav-backend", Map.of("roles", List.of("ADMIN")),
+                "account", Map.of("roles", List.of("manage-account", "view-profile")))));
+    }
+
+    @Benchmark
+    public KeycloakUserInfo parseUserInfoRealmRoles() {
+        return parser.parseUserInfo(realmRoleToken);
+    }
+
+    @Benchmark
+    public KeycloakUserInfo parseUserInfoClientRoles() {
+        return parser.parseUserInfo(clientRoleToken);
+    }
+
+    private static JwtAuthenticationToken token(Map<String, Object> roleClaims) {
+        Instant issuedAt = Instant.now();
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("tech-demo-uuid-002")
+                .issuer("http://localhost:8180/realms/sav-realm")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(300))
+                .claim("preferred_username", "tech1")
+                .claim("email", "tech1@sav.com")
+                .claim("given_name", "John")
+                .claim("family_name", "Technician")
+                .claim("name", "John Technician")
+                .claims(claims -> claims.putAll(roleClaims))
+                .build();
+        return new JwtAuthenticationToken(jwt);
+    }
+}
@@ -0,0 +1,59 @@
+package com.sav.benchmarks;
+
+import com.sav.app.service.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meter recording done around every service call, controller call and statement
+ * MetricsService looks meters up through the builder on each call, so this measures lookup plus record
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsServiceBenchmark {
+
+    private static final Duration DURATION = Duration.ofMillis(12);
+
+    private MetricsService metricsService;
+
+    @Setup
+    public void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void incrementTicketCreated() {
+        metricsService.incrementTicketCreated("HIGH", "INCIDENT");
+    }
+
+    @Benchmark
+    public void recordTicketProcessingTime() {
+        metricsService.recordTicketProcessingTime("TicketService.getTicketById", DURATION);
+    }
+
+    @Benchmark
+    public void recordMethodExecutionTime() {
+        metricsService.recordMethodExecutionTime("TicketService.getTicketById", 12);
+    }
+
+    @Benchmark
+    public void recordDatabaseQueryTime() {
+        metricsService.recordDatabaseQueryTime("TicketRepository.findByStatus", "select", true, DURATION);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sav.benchmarks;
+
+import com.sav.app.config.RateLimitingConfig.RateLimitingInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter check that runs before every /api request
+ * Clients rotate through a fixed pool of addresses; once a client is over the limit the
+ * rejected path (429 body write) is measured as well
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimitingInterceptorBenchmark {
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimitingInterceptor interceptor;
+    private MockHttpServletRequest[] requests;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        interceptor = new RateLimitingInterceptor();
+        requests = new MockHttpServletRequest[clients];
+        for (int i = 0; i < clients; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tickets");
+            request.addHeader("X-Forwarded-For", "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff));
+            requests[i] = request;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ClientCursor {
+        private int next;
+    }
+
+    @Benchmark
+    public boolean preHandle(ClientCursor cursor) throws Exception {
+        MockHttpServletRequest request = requests[cursor.next];
+        cursor.next = cursor.next + 1 == requests.length ? 0 : cursor.next + 1;
+        return interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+}
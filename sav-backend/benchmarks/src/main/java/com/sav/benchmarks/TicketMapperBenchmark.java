@@ -0,0 +1,104 @@
+package com.sav.benchmarks;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.ticket.api.dto.TicketResponse;
+import com.sav.ticket.api.mapper.TicketMapper;
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.entity.TicketAttachment;
+import com.sav.ticket.domain.entity.TicketMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done on every ticket read (detail view and list pages)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketMapperBenchmark {
+
+    @Param({"0", "10"})
+    private int messagesPerTicket;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private TicketMapper mapper;
+    private Ticket ticket;
+    private List<Ticket> page;
+
+    @Setup
+    public void setUp() {
+        mapper = new TicketMapper();
+        ticket = ticket(1);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(ticket(i + 1));
+        }
+    }
+
+    @Benchmark
+    public TicketResponse toResponse() {
+        return mapper.toResponse(ticket);
+    }
+
+    @Benchmark
+    public List<TicketResponse> toResponseList() {
+        return mapper.toResponseList(page);
+    }
+
+    private Ticket ticket(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Ticket ticket = Ticket.builder()
+                .id(id)
+                .version(3L)
+                .title("Printer on floor 2 is not responding #" + id)
+                .description("The printer shows an error light and jobs stay queued. Restarting did not help.")
+                .status(TicketStatus.IN_PROGRESS)
+                .type(TicketType.INCIDENT)
+                .priority(Priority.HIGH)
+                .createdAt(now.minusDays(2))
+                .updatedAt(now)
+                .createdByUserId("user-demo-uuid-003")
+                .assignedTeam(Team.SUPPORT)
+                .assignedUserId("tech-demo-uuid-002")
+                .build();
+        for (int m = 0; m < messagesPerTicket; m++) {
+            ticket.getMessages().add(TicketMessage.builder()
+                    .id(id * 100 + m)
+                    .content("Follow-up message " + m + " with some diagnostic details")
+                    .createdAt(now.minusHours(messagesPerTicket - m))
+                    .authorId(m % 2 == 0 ? "user-demo-uuid-003" : "tech-demo-uuid-002")
+                    .ticket(ticket)
+                    .build());
+        }
+        ticket.getAttachments().add(TicketAttachment.builder()
+                .id(id)
+                .filename("error.png")
+                .fileUrl("/files/" + id + "/error.png")
+                .uploadedAt(now.minusDays(1))
+                .ticket(ticket)
+                .build());
+        return ticket;
+    }
+}
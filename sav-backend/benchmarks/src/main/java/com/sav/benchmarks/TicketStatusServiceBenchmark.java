@@ -0,0 +1,49 @@
+package com.sav.benchmarks;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.service.TicketStatusService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status transition check, run for every status change and bulk close
+ * One operation covers every (from, to) pair
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketStatusServiceBenchmark {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    private TicketStatusService statusService;
+
+    @Setup
+    public void setUp() {
+        // isValidTransition does not touch the user service
+        statusService = new TicketStatusService(null);
+    }
+
+    @Benchmark
+    public void isValidTransition(Blackhole blackhole) {
+        for (TicketStatus from : STATUSES) {
+            for (TicketStatus to : STATUSES) {
+                blackhole.consume(statusService.isValidTransition(from, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sav.ticket.api.controller;
+
+import com.sav.ticket.api.dto.TicketReportResponse;
+import com.sav.ticket.api.mapper.TicketMapper;
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+import com.sav.ticket.domain.service.TicketReportService;
+import com.sav.ticket.domain.service.TicketReportService.GroupBy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporting over pre-aggregated ticket rollups - Support staff only
+ */
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    // Rollups are refreshed about once a minute
+    private static final CacheControl REPORT_CACHE_CONTROL = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate();
+
+    private final TicketReportService ticketReportService;
+    private final TicketMapper ticketMapper;
+
+    /**
+     * Created / resolved / closed counts, backlog and mean / p90 resolution time per bucket of [from, to)
+     * Optionally split by priority, type or team
+     */
+    @GetMapping("/tickets")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<TicketReportResponse> getTicketReport(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "granularity", defaultValue = "DAY") Granularity granularity,
+            @RequestParam(name = "groupBy", defaultValue = "NONE") GroupBy groupBy) {
+
+        return ResponseEntity.ok()
+                .cacheControl(REPORT_CACHE_CONTROL)
+                .body(ticketMapper.toReportResponse(ticketReportService.getReport(from, to, granularity, groupBy)));
+    }
+}
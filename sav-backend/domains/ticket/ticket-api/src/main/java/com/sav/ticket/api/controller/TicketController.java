@@ -6,8 +6,12 @@ import com.sav.ticket.api.dto.*;
 import com.sav.ticket.api.mapper.TicketMapper;
 import com.sav.security.util.AuthUtil;
 import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import com.sav.ticket.domain.service.TicketBulkOperationService;
 import com.sav.ticket.domain.service.TicketService;
 import com.sav.ticket.domain.service.TicketSecurityService;
+import com.sav.ticket.domain.service.TicketViewService;
+import com.sav.ticket.domain.service.WorkloadAnalyticsService;
 import com.sav.common.enums.TicketStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,12 +20,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +42,13 @@ public class TicketController {
     private final TicketService ticketService;
     private final TicketMapper ticketMapper;
     private final TicketSecurityService ticketSecurityService;
+    private final WorkloadAnalyticsService workloadAnalyticsService;
+    private final TicketBulkOperationService ticketBulkOperationService;
+    private final TicketViewService ticketViewService;
+
+    // Per-caller caching (browser or gateway); tickets are revalidated through their ETag on every read
+    private static final CacheControl TICKET_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl STATISTICS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(15)).cachePrivate();
 
     /**
      * Create a new ticket
@@ -61,9 +76,13 @@ public class TicketController {
     }
 
 
+    /**
+     * List all tickets
+     * Listings are served from the ticket_view read model and may trail writes by one refresh interval
+     */
     @GetMapping
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<Page<TicketResponse>> getAllTickets(
+    public ResponseEntity<Page<TicketSummaryResponse>> getAllTickets(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
@@ -74,8 +93,8 @@ public class TicketController {
                 : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Ticket> tickets = ticketService.getAllTickets(pageable);
-        Page<TicketResponse> response = tickets.map(ticketMapper::toResponse);
+        Page<TicketSummaryResponse> response = ticketViewService.getAllTickets(pageable)
+                .map(ticketMapper::toSummaryResponse);
 
         return ResponseEntity.ok(response);
     }
@@ -83,7 +102,7 @@ public class TicketController {
 
     @GetMapping("/my-tickets")
     @PreAuthorize("hasAnyRole('USER', 'TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<Page<TicketResponse>> getMyTicketsWithPagination(
+    public ResponseEntity<Page<TicketSummaryResponse>> getMyTicketsWithPagination(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
@@ -100,8 +119,8 @@ public class TicketController {
                 : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Ticket> tickets = ticketService.getTicketsByUser(userId, pageable);
-        Page<TicketResponse> response = tickets.map(ticketMapper::toResponse);
+        Page<TicketSummaryResponse> response = ticketViewService.getTicketsCreatedBy(userId, pageable)
+                .map(ticketMapper::toSummaryResponse);
 
         return ResponseEntity.ok(response);
     }
@@ -109,12 +128,26 @@ public class TicketController {
 
     @GetMapping("/{ticketId}")
     @PreAuthorize("hasAnyRole('USER', 'TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<TicketResponse> getTicketById(@PathVariable(name = "ticketId") Long ticketId) {
+    public ResponseEntity<TicketResponse> getTicketById(
+            @PathVariable(name = "ticketId") Long ticketId,
+            WebRequest webRequest) {
         // Add security validation
         ticketSecurityService.validateTicketAccess(ticketId);
-        
+
+        // Answer conditional polls from the version column alone, without loading messages
+        Optional<Long> version = ticketService.getTicketVersion(ticketId);
+        if (version.isPresent() && webRequest.checkNotModified(TicketETags.of(version.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(TicketETags.of(version.get()))
+                    .cacheControl(TICKET_CACHE_CONTROL)
+                    .build();
+        }
+
         return ticketService.getTicketWithMessages(ticketId)
-                .map(ticket -> ResponseEntity.ok(ticketMapper.toResponse(ticket)))
+                .map(ticket -> ResponseEntity.ok()
+                        .eTag(TicketETags.of(ticket.getVersion()))
+                        .cacheControl(TICKET_CACHE_CONTROL)
+                        .body(ticketMapper.toResponse(ticket)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -124,22 +157,18 @@ public class TicketController {
     public ResponseEntity<TicketResponse> updateTicket(
             @PathVariable(name = "ticketId") Long ticketId,
             @Valid @RequestBody UpdateTicketRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
 
-        // Validate ticket access
-        ticketSecurityService.validateTicketModification(ticketId);
+        // Validate ticket access on the ticket the update then works with
+        Ticket ticket = ticketSecurityService.loadTicketForModification(ticketId);
+        Long expectedVersion = TicketETags.parseIfMatch(ifMatch);
 
         String userId = AuthUtil.extractUserIdFromAuth(authentication);
         if (userId == null) {
             return ResponseEntity.badRequest().build();
         }
 
-        Optional<Ticket> existingTicket = ticketService.getTicketById(ticketId);
-        if (existingTicket.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        Ticket ticket = existingTicket.get();
         boolean isAdmin = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
         boolean isTechnician = authentication.getAuthorities().stream()
@@ -152,6 +181,7 @@ public class TicketController {
 
             return ticketService.updateTicket(
                             ticketId,
+                            expectedVersion,
                             request.getTitle(),
                             request.getDescription(),
                             null,
@@ -159,12 +189,13 @@ public class TicketController {
                             null,
                             null
                     )
-                    .map(updatedTicket -> ResponseEntity.ok(ticketMapper.toResponse(updatedTicket)))
+                    .map(this::toVersionedResponse)
                     .orElse(ResponseEntity.notFound().build());
         }
 
         return ticketService.updateTicket(
                         ticketId,
+                        expectedVersion,
                         request.getTitle(),
                         request.getDescription(),
                         request.getStatus(),
@@ -172,7 +203,7 @@ public class TicketController {
                         request.getAssignedTeam(),
                         request.getAssignedUserId()
                 )
-                .map(updatedTicket -> ResponseEntity.ok(ticketMapper.toResponse(updatedTicket)))
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -181,10 +212,11 @@ public class TicketController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<TicketResponse> assignToTeam(
             @PathVariable(name = "ticketId") Long ticketId,
-            @RequestBody AssignTeamRequest request) {
+            @RequestBody AssignTeamRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        return ticketService.assignTicketToTeam(ticketId, request.getTeam())
-                .map(ticket -> ResponseEntity.ok(ticketMapper.toResponse(ticket)))
+        return ticketService.assignTicketToTeam(ticketId, TicketETags.parseIfMatch(ifMatch), request.getTeam())
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -193,10 +225,11 @@ public class TicketController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<TicketResponse> assignToUser(
             @PathVariable(name = "ticketId") Long ticketId,
-            @RequestBody AssignUserRequest request) {
+            @RequestBody AssignUserRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        return ticketService.assignTicketToUser(ticketId, request.getUserId())
-                .map(ticket -> ResponseEntity.ok(ticketMapper.toResponse(ticket)))
+        return ticketService.assignTicketToUser(ticketId, TicketETags.parseIfMatch(ifMatch), request.getUserId())
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -206,25 +239,63 @@ public class TicketController {
     @PatchMapping("/{ticketId}/close")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
     public ResponseEntity<TicketResponse> closeTicket(
-            @PathVariable(name = "ticketId") Long ticketId) {
-        return ticketService.closeTicket(ticketId)
-                .map(ticket -> ResponseEntity.ok(ticketMapper.toResponse(ticket)))
+            @PathVariable(name = "ticketId") Long ticketId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ticketService.closeTicket(ticketId, TicketETags.parseIfMatch(ifMatch))
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
 
+    /**
+     * Apply one action to many tickets, with a result per ticket
+     * Assignments follow the single-ticket endpoints and are Admin only
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<BulkTicketOperationResponse> bulkOperation(
+            @Valid @RequestBody BulkTicketOperationRequest request,
+            Authentication authentication) {
+
+        String userId = AuthUtil.extractUserIdFromAuth(authentication);
+        if (userId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+        boolean isAssignment = request.getAction() == TicketBulkOperationService.BulkAction.ASSIGN_USER
+                || request.getAction() == TicketBulkOperationService.BulkAction.ASSIGN_TEAM;
+        if (isAssignment && !isAdmin) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            TicketBulkOperationService.BulkOperationResult result = ticketBulkOperationService.execute(
+                    request.getAction(),
+                    request.getTicketIds(),
+                    request.getUserId(),
+                    request.getTeam(),
+                    request.getPriority(),
+                    userId);
+            return ResponseEntity.ok(ticketMapper.toBulkResponse(result));
+        } catch (SecurityException e) {
+            log.warn("Bulk {} denied for user {}: {}", request.getAction(), userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
     @GetMapping("/assigned-to-me")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<List<TicketResponse>> getTicketsAssignedToMe(Authentication authentication) {
+    public ResponseEntity<List<TicketSummaryResponse>> getTicketsAssignedToMe(Authentication authentication) {
 
         String userId = AuthUtil.extractUserIdFromAuth(authentication);
         if (userId == null) {
             return ResponseEntity.badRequest().build();
         }
 
-        List<Ticket> tickets = ticketService.getTicketsAssignedToUser(userId);
-        List<TicketResponse> response = tickets.stream()
-                .map(ticketMapper::toResponse)
+        List<TicketSummaryResponse> response = ticketViewService.getTicketsAssignedTo(userId).stream()
+                .map(ticketMapper::toSummaryResponse)
                 .toList();
 
         return ResponseEntity.ok(response);
@@ -233,14 +304,44 @@ public class TicketController {
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<Page<TicketResponse>> getTicketsByStatus(
+    public ResponseEntity<Page<TicketSummaryResponse>> getTicketsByStatus(
             @PathVariable(name = "status") TicketStatus status,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Ticket> tickets = ticketService.getTicketsByStatus(status, pageable);
-        Page<TicketResponse> response = tickets.map(ticketMapper::toResponse);
+        Page<TicketSummaryResponse> response = ticketViewService.getTicketsByStatus(status, pageable)
+                .map(ticketMapper::toSummaryResponse);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * Filter tickets by any combination of criteria; q matches title, creator and assignee names
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<Page<TicketSummaryResponse>> searchTickets(
+            @RequestParam(name = "status", required = false) TicketStatus status,
+            @RequestParam(name = "priority", required = false) Priority priority,
+            @RequestParam(name = "team", required = false) Team team,
+            @RequestParam(name = "createdByUserId", required = false) String createdByUserId,
+            @RequestParam(name = "assignedUserId", required = false) String assignedUserId,
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDir", defaultValue = "desc") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+
+        TicketViewPort.Filter filter = new TicketViewPort.Filter(
+                status, priority, team, createdByUserId, assignedUserId, query);
+        Page<TicketSummaryResponse> response = ticketViewService.search(filter, PageRequest.of(page, size, sort))
+                .map(ticketMapper::toSummaryResponse);
 
         return ResponseEntity.ok(response);
     }
@@ -261,6 +362,28 @@ public class TicketController {
                 .reopenedTickets(stats.reopenedTickets())
                 .build();
 
+        return ResponseEntity.ok()
+                .cacheControl(STATISTICS_CACHE_CONTROL)
+                .body(response);
+    }
+
+
+    /**
+     * Workload for all active technicians, or for the given users when userIds is set
+     * Computed with a single grouped query; the technician view is cached for a few seconds
+     */
+    @GetMapping("/workload")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<List<UserWorkloadResponse>> getWorkloads(
+            @RequestParam(name = "userIds", required = false) List<String> userIds) {
+
+        List<WorkloadAnalyticsService.UserWorkload> workloads = (userIds == null || userIds.isEmpty())
+                ? workloadAnalyticsService.getTechnicianWorkloads()
+                : List.copyOf(workloadAnalyticsService.getWorkloads(userIds).values());
+
+        List<UserWorkloadResponse> response = workloads.stream()
+                .map(ticketMapper::toWorkloadResponse)
+                .toList();
         return ResponseEntity.ok(response);
     }
 
@@ -268,20 +391,20 @@ public class TicketController {
     @PatchMapping("/{ticketId}/reopen")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
     public ResponseEntity<TicketResponse> reopenTicket(
-            @PathVariable(name = "ticketId") Long ticketId) {
-        return ticketService.reopenTicket(ticketId)
-                .map(ticket -> ResponseEntity.ok(ticketMapper.toResponse(ticket)))
+            @PathVariable(name = "ticketId") Long ticketId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ticketService.reopenTicket(ticketId, TicketETags.parseIfMatch(ifMatch))
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
 
     @GetMapping("/priority/{priority}")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<List<TicketResponse>> getTicketsByPriority(
+    public ResponseEntity<List<TicketSummaryResponse>> getTicketsByPriority(
             @PathVariable(name = "priority") Priority priority) {
-        List<Ticket> tickets = ticketService.getTicketsByPriority(priority);
-        List<TicketResponse> response = tickets.stream()
-                .map(ticketMapper::toResponse)
+        List<TicketSummaryResponse> response = ticketViewService.getTicketsByPriority(priority).stream()
+                .map(ticketMapper::toSummaryResponse)
                 .toList();
         return ResponseEntity.ok(response);
     }
@@ -289,11 +412,10 @@ public class TicketController {
 
     @GetMapping("/team/{team}")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
-    public ResponseEntity<List<TicketResponse>> getTicketsByTeam(
+    public ResponseEntity<List<TicketSummaryResponse>> getTicketsByTeam(
             @PathVariable(name = "team") Team team) {
-        List<Ticket> tickets = ticketService.getTicketsByTeam(team);
-        List<TicketResponse> response = tickets.stream()
-                .map(ticketMapper::toResponse)
+        List<TicketSummaryResponse> response = ticketViewService.getTicketsByTeam(team).stream()
+                .map(ticketMapper::toSummaryResponse)
                 .toList();
         return ResponseEntity.ok(response);
     }
@@ -307,21 +429,15 @@ public class TicketController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<Ticket> myTickets = ticketService.getTicketsByUser(userId);
-        List<Ticket> assignedToMe = ticketService.getTicketsAssignedToUser(userId);
+        TicketViewService.UserDashboard dashboard = ticketViewService.getDashboard(userId);
 
         DashboardResponse response = DashboardResponse.builder()
-                .myTicketsCount(myTickets.size())
-                .assignedToMeCount(assignedToMe.size())
-                .myOpenTickets(myTickets.stream()
-                        .filter(t -> t.getStatus() == TicketStatus.OPEN)
-                        .count())
-                .myInProgressTickets(myTickets.stream()
-                        .filter(t -> t.getStatus() == TicketStatus.IN_PROGRESS)
-                        .count())
-                .recentTickets(myTickets.stream()
-                        .limit(5)
-                        .map(ticketMapper::toResponse)
+                .myTicketsCount(dashboard.counts().created())
+                .assignedToMeCount(dashboard.counts().assigned())
+                .myOpenTickets(dashboard.counts().createdOpen())
+                .myInProgressTickets(dashboard.counts().createdInProgress())
+                .recentTickets(dashboard.recentTickets().stream()
+                        .map(ticketMapper::toSummaryResponse)
                         .toList())
                 .build();
 
@@ -334,6 +450,7 @@ public class TicketController {
     public ResponseEntity<TicketResponse> updateMyTicket(
             @PathVariable(name = "ticketId") Long ticketId,
             @Valid @RequestBody UpdateMyTicketRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
 
         String userId = AuthUtil.extractUserIdFromAuth(authentication);
@@ -353,10 +470,17 @@ public class TicketController {
 
         return ticketService.updateMyTicket(
                         ticketId,
+                        TicketETags.parseIfMatch(ifMatch),
                         request.getTitle(),
                         request.getDescription()
                 )
-                .map(updatedTicket -> ResponseEntity.ok(ticketMapper.toResponse(updatedTicket)))
+                .map(this::toVersionedResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    private ResponseEntity<TicketResponse> toVersionedResponse(Ticket ticket) {
+        return ResponseEntity.ok()
+                .eTag(TicketETags.of(ticket.getVersion()))
+                .body(ticketMapper.toResponse(ticket));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sav.ticket.api.controller;
+
+/**
+ * Helpers for the version-based ticket ETag ("<version>")
+ */
+final class TicketETags {
+
+    private TicketETags() {
+    }
+
+    /**
+     * Build the strong ETag for a ticket version
+     */
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * Parse an If-Match header into the expected version
+     * Returns null when the header is absent or "*" (no precondition on the version)
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("Weak ETags cannot be used with If-Match");
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
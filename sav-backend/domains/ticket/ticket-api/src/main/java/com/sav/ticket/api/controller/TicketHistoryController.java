@@ -0,0 +1,95 @@
+package com.sav.ticket.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sav.ticket.api.dto.TicketHistoryEventResponse;
+import com.sav.ticket.api.dto.TicketStateResponse;
+import com.sav.ticket.api.mapper.TicketMapper;
+import com.sav.ticket.domain.service.TicketHistoryService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ticket history from the append-only event store - Support staff only
+ */
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+@Slf4j
+public class TicketHistoryController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TicketHistoryService ticketHistoryService;
+    private final TicketMapper ticketMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * A ticket's state as it was at the given instant (now by default)
+     */
+    @GetMapping("/{ticketId}/history/state")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<TicketStateResponse> getStateAt(
+            @PathVariable(name = "ticketId") Long ticketId,
+            @RequestParam(name = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        LocalDateTime instant = at != null ? at : LocalDateTime.now();
+        return ticketHistoryService.getStateAt(ticketId, instant)
+                .map(state -> ResponseEntity.ok(ticketMapper.toStateResponse(state)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * A ticket's events up to the given instant (now by default), oldest first
+     */
+    @GetMapping("/{ticketId}/history")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<List<TicketHistoryEventResponse>> getEvents(
+            @PathVariable(name = "ticketId") Long ticketId,
+            @RequestParam(name = "until", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until) {
+
+        LocalDateTime instant = until != null ? until : LocalDateTime.now();
+        return ResponseEntity.ok(ticketHistoryService.getEvents(ticketId, instant).stream()
+                .map(ticketMapper::toHistoryEventResponse)
+                .toList());
+    }
+
+    /**
+     * Every ticket event in [from, to) as newline-delimited JSON, streamed as it is read - Admin only
+     */
+    @GetMapping(value = "/history", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void streamEvents(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        response.setContentType(NDJSON);
+        ServletOutputStream out = response.getOutputStream();
+        ticketHistoryService.forEachEventBetween(from, to, event -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(ticketMapper.toHistoryEventResponse(event)));
+                out.write('\n');
+            } catch (IOException e) {
+                // Client went away - abort the query
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sav.ticket.api.controller;
+
+import com.sav.security.util.AuthUtil;
+import com.sav.ticket.api.dto.TicketImportJobResponse;
+import com.sav.ticket.api.mapper.TicketMapper;
+import com.sav.ticket.domain.entity.TicketImportJob;
+import com.sav.ticket.domain.entity.TicketImportJob.ImportFormat;
+import com.sav.ticket.domain.service.TicketImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/tickets/imports")
+@RequiredArgsConstructor
+@Slf4j
+public class TicketImportController {
+
+    private final TicketImportService ticketImportService;
+    private final TicketMapper ticketMapper;
+
+    /**
+     * Upload a CSV or NDJSON file and import it in the background - Admin only
+     * The format is taken from the file extension unless given explicitly
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketImportJobResponse> startImport(
+            @RequestParam(name = "file") MultipartFile file,
+            @RequestParam(name = "format", required = false) ImportFormat format,
+            Authentication authentication) {
+
+        String userId = AuthUtil.extractUserIdFromAuth(authentication);
+        if (userId == null || file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ImportFormat importFormat = format != null ? format : detectFormat(file.getOriginalFilename());
+        try (InputStream content = file.getInputStream()) {
+            TicketImportJob job = ticketImportService.startImport(importFormat, file.getOriginalFilename(), content, userId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticketMapper.toImportJobResponse(job));
+        } catch (IOException e) {
+            log.error("Failed to store import file '{}'", file.getOriginalFilename(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Most recent import jobs - Admin only
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<TicketImportJobResponse>> getRecentImports() {
+        return ResponseEntity.ok(ticketImportService.getRecentJobs().stream()
+                .map(ticketMapper::toImportJobResponse)
+                .toList());
+    }
+
+    /**
+     * Import progress and throughput - Admin only
+     */
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketImportJobResponse> getImport(@PathVariable(name = "jobId") Long jobId) {
+        return ticketImportService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(ticketMapper.toImportJobResponse(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Resume a failed or interrupted import from its last committed batch - Admin only
+     */
+    @PostMapping("/{jobId}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketImportJobResponse> resumeImport(@PathVariable(name = "jobId") Long jobId) {
+        TicketImportJob job = ticketImportService.resumeImport(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticketMapper.toImportJobResponse(job));
+    }
+
+    private ImportFormat detectFormat(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot detect import format from '" + filename + "', pass format=CSV or NDJSON");
+    }
+}
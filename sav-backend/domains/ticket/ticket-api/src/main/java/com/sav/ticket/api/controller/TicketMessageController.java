@@ -1,7 +1,9 @@
 package com.sav.ticket.api.controller;
 
+import com.sav.common.util.ContentSanitizer;
 import com.sav.ticket.api.dto.CreateTicketMessageRequest;
 import com.sav.ticket.api.dto.TicketMessageResponse;
+import com.sav.ticket.api.dto.TicketMessageTimelineResponse;
 import com.sav.ticket.api.mapper.TicketMapper;
 import com.sav.ticket.domain.service.TicketService;
 import com.sav.security.util.AuthUtil;
@@ -17,6 +19,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/tickets/{ticketId}/messages")
@@ -83,15 +86,15 @@ public class TicketMessageController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        // Additional content validation beyond @Valid annotation
-        if (!isValidMessageContent(request.getContent())) {
-            log.warn("Invalid message content attempted on ticket {} by user {}", ticketId, userId);
+        // Additional content validation beyond @Valid annotation, then XSS sanitization in the same pass
+        String sanitizedContent;
+        try {
+            sanitizedContent = ContentSanitizer.MESSAGE.sanitize(Objects.requireNonNullElse(request.getContent(), ""));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid message content attempted on ticket {} by user {}: {}", ticketId, userId, e.getMessage());
             return ResponseEntity.badRequest().build();
         }
 
-        // Sanitize content (remove potential XSS, etc.)
-        String sanitizedContent = sanitizeMessageContent(request.getContent());
-
         return ticketMessageService.addMessageToTicket(ticketId, sanitizedContent, userId)
                 .map(message -> {
                     log.info("Successfully added message {} to ticket {} by user {}",
@@ -126,6 +129,28 @@ public class TicketMessageController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get the message timeline page by page, or only messages not yet returned for the "since" cursor when polling
+     */
+    @GetMapping("/timeline")
+    @PreAuthorize("hasAnyRole('USER', 'TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<TicketMessageTimelineResponse> getMessageTimeline(
+            @PathVariable(name = "ticketId") Long ticketId,
+            @RequestParam(name = "since", required = false) String since,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            Authentication authentication) {
+
+        if (!validateTicketAccess(ticketId, authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        TicketMessageService.MessageTimeline timeline =
+                ticketMessageService.getMessageTimeline(ticketId, since, limit);
+
+        log.debug("Retrieved {} timeline messages for ticket {}", timeline.messages().size(), ticketId);
+        return ResponseEntity.ok(ticketMapper.toTimelineResponse(timeline));
+    }
+
     /**
      * Delete a message - Only TECHNICIAN and ADMIN can delete messages
      */
@@ -166,78 +191,6 @@ public class TicketMessageController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    /**
-     * Enhanced message content validation and sanitization
-     */
-    private boolean isValidMessageContent(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            return false;
-        }
-
-        // Check message length limits
-        if (content.length() > 10000) { // 10K character limit
-            return false;
-        }
-
-        // Basic content validation
-        String trimmedContent = content.trim();
-
-        // Prevent messages that are just whitespace or special characters
-        if (trimmedContent.matches("^[\\s\\p{Punct}]*$")) {
-            return false;
-        }
-
-        // Check for potential XSS patterns
-        String lowerContent = trimmedContent.toLowerCase();
-        if (lowerContent.contains("<script") || 
-            lowerContent.contains("javascript:") || 
-            lowerContent.contains("vbscript:") ||
-            lowerContent.contains("onload=") ||
-            lowerContent.contains("onerror=") ||
-            lowerContent.contains("onclick=")) {
-            return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * Sanitize message content to prevent XSS and other security issues
-     * Enhanced version with better security
-     */
-    private String sanitizeMessageContent(String content) {
-        if (content == null) {
-            return "";
-        }
-
-        // Enhanced sanitization with multiple passes
-        String sanitized = content.trim();
-        
-        // Remove script tags and dangerous HTML
-        sanitized = sanitized.replaceAll("(?i)<script[^>]*>.*?</script>", "");
-        sanitized = sanitized.replaceAll("(?i)<iframe[^>]*>.*?</iframe>", "");
-        sanitized = sanitized.replaceAll("(?i)<object[^>]*>.*?</object>", "");
-        sanitized = sanitized.replaceAll("(?i)<embed[^>]*>.*?</embed>", "");
-        
-        // Remove dangerous attributes
-        sanitized = sanitized.replaceAll("(?i)\\s*on\\w+\\s*=", "");
-        sanitized = sanitized.replaceAll("(?i)javascript\\s*:", "");
-        sanitized = sanitized.replaceAll("(?i)vbscript\\s*:", "");
-        sanitized = sanitized.replaceAll("(?i)data\\s*:", "");
-        
-        // Remove all HTML tags (allow only plain text)
-        sanitized = sanitized.replaceAll("<[^>]*>", "");
-        
-        // Escape remaining dangerous characters
-        sanitized = sanitized.replace("&", "&amp;")
-                           .replace("<", "&lt;")
-                           .replace(">", "&gt;")
-                           .replace("\"", "&quot;")
-                           .replace("'", "&#x27;");
-
-        return sanitized;
-    }
-
     /**
      * Get message by ID - for internal use or future features
      */
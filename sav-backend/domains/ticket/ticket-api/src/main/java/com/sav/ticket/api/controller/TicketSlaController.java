@@ -0,0 +1,63 @@
+package com.sav.ticket.api.controller;
+
+import com.sav.ticket.api.dto.SlaSummaryResponse;
+import com.sav.ticket.api.dto.TicketSlaResponse;
+import com.sav.ticket.api.mapper.TicketMapper;
+import com.sav.ticket.domain.service.TicketSlaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * SLA clocks and deadlines - Support staff only
+ */
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+public class TicketSlaController {
+
+    private static final int MAX_UPCOMING = 200;
+
+    private final TicketSlaService ticketSlaService;
+    private final TicketMapper ticketMapper;
+
+    /**
+     * Running, paused, at-risk and breached clocks per priority, from the in-memory index
+     */
+    @GetMapping("/sla/summary")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<SlaSummaryResponse> getSummary() {
+        return ResponseEntity.ok(ticketMapper.toSlaSummaryResponse(ticketSlaService.getCounts()));
+    }
+
+    /**
+     * Running clocks ordered by their next warning or breach, soonest first
+     */
+    @GetMapping("/sla/upcoming")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<List<TicketSlaResponse>> getUpcoming(
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+
+        if (limit < 1 || limit > MAX_UPCOMING) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_UPCOMING);
+        }
+        return ResponseEntity.ok(ticketSlaService.getUpcomingDeadlines(limit).stream()
+                .map(ticketMapper::toSlaResponse)
+                .toList());
+    }
+
+    @GetMapping("/{ticketId}/sla")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<TicketSlaResponse> getTicketSla(@PathVariable(name = "ticketId") Long ticketId) {
+        return ticketSlaService.getTicketSla(ticketId)
+                .map(sla -> ResponseEntity.ok(ticketMapper.toSlaResponse(sla)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.sav.ticket.api.controller;
+
+import com.sav.common.enums.Team;
+import com.sav.security.util.AuthUtil;
+import com.sav.ticket.api.stream.TicketUpdateBroadcaster;
+import com.sav.ticket.domain.service.TicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/tickets")
+@RequiredArgsConstructor
+@Slf4j
+public class TicketStreamController {
+
+    private static final int MAX_TICKET_TOPICS = 50;
+
+    private final TicketUpdateBroadcaster broadcaster;
+    private final TicketService ticketService;
+
+    /**
+     * Subscribe to live ticket updates (Server-Sent Events)
+     * Every stream receives updates for tickets the user created or is assigned to;
+     * ticketIds adds individual tickets, teams (support staff only) adds whole team queues
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<SseEmitter> streamUpdates(
+            @RequestParam(name = "ticketIds", required = false) List<Long> ticketIds,
+            @RequestParam(name = "teams", required = false) List<Team> teams,
+            Authentication authentication) {
+
+        String userId = AuthUtil.extractUserIdFromAuth(authentication);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        boolean isSupport = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_TECHNICIAN") ||
+                        auth.getAuthority().equals("ROLE_ADMIN"));
+
+        Set<String> topics = new LinkedHashSet<>();
+        topics.add(TicketUpdateBroadcaster.userTopic(userId));
+
+        if (teams != null && !teams.isEmpty()) {
+            if (!isSupport) {
+                log.warn("User {} denied team stream subscription", userId);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            teams.forEach(team -> topics.add(TicketUpdateBroadcaster.teamTopic(team)));
+        }
+
+        if (ticketIds != null && !ticketIds.isEmpty()) {
+            if (ticketIds.size() > MAX_TICKET_TOPICS) {
+                throw new IllegalArgumentException("Cannot subscribe to more than " + MAX_TICKET_TOPICS + " tickets");
+            }
+            for (Long ticketId : ticketIds) {
+                if (!isSupport && !ticketService.canUserUpdateTicket(userId, ticketId)) {
+                    log.warn("User {} denied stream subscription to ticket {}", userId, ticketId);
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                }
+                topics.add(TicketUpdateBroadcaster.ticketTopic(ticketId));
+            }
+        }
+
+        return broadcaster.subscribe(userId, topics)
+                .map(emitter -> ResponseEntity.ok()
+                        .header("Cache-Control", "no-cache")
+                        // Stop nginx-style proxies from buffering the stream
+                        .header("X-Accel-Buffering", "no")
+                        .body(emitter))
+                .orElse(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build());
+    }
+}
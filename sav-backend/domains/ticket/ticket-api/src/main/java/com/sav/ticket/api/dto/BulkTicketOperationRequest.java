@@ -0,0 +1,30 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.ticket.domain.service.TicketBulkOperationService.BulkAction;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTicketOperationRequest {
+    @NotNull(message = "Action is required")
+    private BulkAction action;
+
+    @NotEmpty(message = "At least one ticket ID is required")
+    @Size(max = 2000, message = "Cannot process more than 2000 tickets at once")
+    private List<Long> ticketIds;
+
+    // Required for ASSIGN_USER
+    private String userId;
+
+    // Required for ASSIGN_TEAM
+    private Team team;
+
+    // Required for CHANGE_PRIORITY
+    private Priority priority;
+}
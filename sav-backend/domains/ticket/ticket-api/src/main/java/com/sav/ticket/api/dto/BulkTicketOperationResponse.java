@@ -0,0 +1,27 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.ticket.domain.service.TicketBulkOperationService.BulkAction;
+import com.sav.ticket.domain.service.TicketBulkOperationService.BulkOutcome;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkTicketOperationResponse {
+    private BulkAction action;
+    private long requested;
+    private long updated;
+    private long skipped;
+    private long failed;
+    private List<Item> results;
+
+    @Data
+    @Builder
+    public static class Item {
+        private Long ticketId;
+        private BulkOutcome outcome;
+        private String message;
+    }
+}
@@ -11,10 +11,10 @@ public class DashboardResponse {
     private long assignedToMeCount;
     private long myOpenTickets;
     private long myInProgressTickets;
-    private List<TicketResponse> recentTickets;
+    private List<TicketSummaryResponse> recentTickets;
 
     // For admin/technician dashboard
     private TicketStatsResponse globalStats;
-    private List<TicketResponse> urgentTickets;
-    private List<TicketResponse> unassignedTickets;
+    private List<TicketSummaryResponse> urgentTickets;
+    private List<TicketSummaryResponse> unassignedTickets;
 }
\ No newline at end of file
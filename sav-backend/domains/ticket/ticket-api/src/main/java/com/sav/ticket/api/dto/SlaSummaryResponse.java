@@ -0,0 +1,23 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class SlaSummaryResponse {
+    private Counts total;
+    private Map<Priority, Counts> byPriority;
+
+    @Data
+    @Builder
+    public static class Counts {
+        private long running;
+        private long paused;
+        private long atRisk;
+        private long breached;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.repository.TicketHistoryEvent.Kind;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TicketHistoryEventResponse {
+    private Long ticketId;
+    private LocalDateTime at;
+    private Kind kind;
+    private TicketStatus fromStatus;
+    private TicketStatus toStatus;
+    private String actorId;
+    private String detail;
+}
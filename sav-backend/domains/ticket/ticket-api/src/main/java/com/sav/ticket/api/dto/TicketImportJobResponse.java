@@ -0,0 +1,30 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.ticket.domain.entity.TicketImportJob.ImportFormat;
+import com.sav.ticket.domain.entity.TicketImportJob.ImportStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class TicketImportJobResponse {
+    private Long id;
+    private ImportFormat format;
+    private ImportStatus status;
+    private String originalFilename;
+    private String createdByUserId;
+    private long processedRecords;
+    private long importedTickets;
+    private long importedMessages;
+    private long failedRecords;
+    private long lastCommittedRecord;
+    private double recordsPerSecond;
+    private boolean resumable;
+    private List<String> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
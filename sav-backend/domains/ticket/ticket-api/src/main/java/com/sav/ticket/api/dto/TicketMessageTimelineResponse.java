@@ -0,0 +1,14 @@
+package com.sav.ticket.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TicketMessageTimelineResponse {
+    private List<TicketMessageResponse> messages;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,41 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+import com.sav.ticket.domain.service.TicketReportService.GroupBy;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class TicketReportResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Granularity granularity;
+    private GroupBy groupBy;
+    private List<Series> series;
+
+    @Data
+    @Builder
+    public static class Series {
+        private String key;
+        private Point total;
+        private List<Point> points;
+    }
+
+    @Data
+    @Builder
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long created;
+        private long resolved;
+        private long closed;
+        private long reopened;
+        private long backlog;
+        private long resolutions;
+        private Double meanResolutionHours;
+        private Double p90ResolutionHours;
+    }
+}
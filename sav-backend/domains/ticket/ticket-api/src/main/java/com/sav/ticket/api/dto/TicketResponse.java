@@ -14,6 +14,7 @@ import java.util.List;
 @Builder
 public class TicketResponse {
     private Long id;
+    private Long version;
     private String title;
     private String description;
     private TicketStatus status;
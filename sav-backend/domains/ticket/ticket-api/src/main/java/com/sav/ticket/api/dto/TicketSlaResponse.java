@@ -0,0 +1,25 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import com.sav.ticket.domain.repository.TicketSla;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TicketSlaResponse {
+    private Long ticketId;
+    private String policy;
+    private Priority priority;
+    private TicketSla.State state;
+    private long targetSeconds;
+    // Business time used up to clockStartedAt
+    private long consumedSeconds;
+    private LocalDateTime clockStartedAt;
+    private LocalDateTime warningAt;
+    private LocalDateTime breachAt;
+    private LocalDateTime warnedAt;
+    private LocalDateTime breachedAt;
+}
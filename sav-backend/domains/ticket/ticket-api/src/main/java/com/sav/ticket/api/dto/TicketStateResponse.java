@@ -0,0 +1,23 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TicketStateResponse {
+    private Long ticketId;
+    private LocalDateTime at;
+    private TicketStatus status;
+    private Priority priority;
+    private Team assignedTeam;
+    private String assignedUserId;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastChangedAt;
+    private int eventCount;
+}
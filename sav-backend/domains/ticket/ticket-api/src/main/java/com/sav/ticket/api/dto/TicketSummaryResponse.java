@@ -0,0 +1,35 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.common.enums.Team;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ticket as listed: TicketResponse without messages and attachments, with people's names and counters
+ */
+@Data
+@Builder
+public class TicketSummaryResponse {
+    private Long id;
+    private Long version;
+    private String title;
+    private String description;
+    private TicketStatus status;
+    private TicketType type;
+    private Priority priority;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String createdByUserId;
+    private String createdByName;
+    private Team assignedTeam;
+    private String assignedUserId;
+    private String assignedUserName;
+    private int messageCount;
+    private LocalDateTime lastMessageAt;
+    private int attachmentCount;
+}
@@ -0,0 +1,24 @@
+package com.sav.ticket.api.dto;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Payload pushed on the ticket update stream - a notification, clients refetch what they display
+ */
+@Data
+@Builder
+public class TicketUpdateEvent {
+    private String eventType;
+    private Long ticketId;
+    private TicketStatus status;
+    private Priority priority;
+    private String assignedTo;
+    private Long messageId;
+    private String actor;
+    private Instant occurredAt;
+}
@@ -0,0 +1,23 @@
+package com.sav.ticket.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UserWorkloadResponse {
+    private String userId;
+    private long openTickets;
+    private long assignedTickets;
+    private long inProgressTickets;
+    private long waitingTickets;
+    private long resolvedTickets;
+    private long closedTickets;
+    private long overdueTickets;
+    private double averageOpenAgeHours;
+    private double averageResolutionHours;
+
+    public long getActiveTickets() {
+        return openTickets + assignedTickets + inProgressTickets + waitingTickets;
+    }
+}
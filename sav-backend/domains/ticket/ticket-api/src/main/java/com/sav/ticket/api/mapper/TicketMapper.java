@@ -1,14 +1,29 @@
 package com.sav.ticket.api.mapper;
 
 
+import com.sav.common.enums.Priority;
 import com.sav.ticket.api.dto.*;
 import com.sav.ticket.domain.entity.Ticket;
 import com.sav.ticket.domain.entity.TicketMessage;
 import com.sav.ticket.domain.entity.TicketAttachment;
+import com.sav.ticket.domain.entity.TicketImportJob;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketSla;
+import com.sav.ticket.domain.repository.TicketView;
+import com.sav.ticket.domain.service.TicketBulkOperationService.BulkOperationResult;
+import com.sav.ticket.domain.service.TicketBulkOperationService.BulkOutcome;
+import com.sav.ticket.domain.service.TicketHistoryService.TicketState;
+import com.sav.ticket.domain.service.TicketMessageService.MessageTimeline;
+import com.sav.ticket.domain.service.TicketReportService;
+import com.sav.ticket.domain.service.TicketReportService.TicketReport;
+import com.sav.ticket.domain.service.TicketSlaService.SlaCounts;
+import com.sav.ticket.domain.service.WorkloadAnalyticsService.UserWorkload;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,6 +39,7 @@ public class TicketMapper {
 
         return TicketResponse.builder()
                 .id(ticket.getId())
+                .version(ticket.getVersion())
                 .title(ticket.getTitle())
                 .description(ticket.getDescription())
                 .status(ticket.getStatus())
@@ -39,6 +55,35 @@ public class TicketMapper {
                 .build();
     }
 
+    /**
+     * Convert a ticket_view row to TicketSummaryResponse DTO
+     */
+    public TicketSummaryResponse toSummaryResponse(TicketView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return TicketSummaryResponse.builder()
+                .id(view.id())
+                .version(view.version())
+                .title(view.title())
+                .description(view.description())
+                .status(view.status())
+                .type(view.type())
+                .priority(view.priority())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .createdByUserId(view.createdByUserId())
+                .createdByName(view.createdByName())
+                .assignedTeam(view.assignedTeam())
+                .assignedUserId(view.assignedUserId())
+                .assignedUserName(view.assignedUserName())
+                .messageCount(view.messageCount())
+                .lastMessageAt(view.lastMessageAt())
+                .attachmentCount(view.attachmentCount())
+                .build();
+    }
+
     /**
      * Convert TicketMessage entity to TicketMessageResponse DTO
      */
@@ -84,6 +129,17 @@ public class TicketMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Convert a message timeline page to TicketMessageTimelineResponse DTO
+     */
+    public TicketMessageTimelineResponse toTimelineResponse(MessageTimeline timeline) {
+        return TicketMessageTimelineResponse.builder()
+                .messages(toMessageResponseList(timeline.messages()))
+                .nextCursor(timeline.nextCursor())
+                .hasMore(timeline.hasMore())
+                .build();
+    }
+
     /**
      * Convert list of TicketAttachment entities to list of DTOs
      */
@@ -109,4 +165,195 @@ public class TicketMapper {
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Convert UserWorkload to UserWorkloadResponse DTO
+     */
+    public UserWorkloadResponse toWorkloadResponse(UserWorkload workload) {
+        if (workload == null) {
+            return null;
+        }
+
+        return UserWorkloadResponse.builder()
+                .userId(workload.userId())
+                .openTickets(workload.openTickets())
+                .assignedTickets(workload.assignedTickets())
+                .inProgressTickets(workload.inProgressTickets())
+                .waitingTickets(workload.waitingTickets())
+                .resolvedTickets(workload.resolvedTickets())
+                .closedTickets(workload.closedTickets())
+                .overdueTickets(workload.overdueTickets())
+                .averageOpenAgeHours(workload.averageOpenAgeHours())
+                .averageResolutionHours(workload.averageResolutionHours())
+                .build();
+    }
+
+    /**
+     * Convert BulkOperationResult to BulkTicketOperationResponse DTO
+     */
+    public BulkTicketOperationResponse toBulkResponse(BulkOperationResult result) {
+        return BulkTicketOperationResponse.builder()
+                .action(result.action())
+                .requested(result.results().size())
+                .updated(result.count(BulkOutcome.UPDATED))
+                .skipped(result.count(BulkOutcome.SKIPPED))
+                .failed(result.count(BulkOutcome.FAILED))
+                .results(result.results().stream()
+                        .map(item -> BulkTicketOperationResponse.Item.builder()
+                                .ticketId(item.ticketId())
+                                .outcome(item.outcome())
+                                .message(item.message())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Convert TicketImportJob entity to TicketImportJobResponse DTO
+     */
+    public TicketImportJobResponse toImportJobResponse(TicketImportJob job) {
+        if (job == null) {
+            return null;
+        }
+
+        return TicketImportJobResponse.builder()
+                .id(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .originalFilename(job.getOriginalFilename())
+                .createdByUserId(job.getCreatedByUserId())
+                .processedRecords(job.getProcessedRecords())
+                .importedTickets(job.getImportedTickets())
+                .importedMessages(job.getImportedMessages())
+                .failedRecords(job.getFailedRecords())
+                .lastCommittedRecord(job.getLastCommittedRecord())
+                .recordsPerSecond(job.getRecordsPerSecond())
+                .resumable(job.isResumable())
+                .errors(job.getErrorReport() == null ? Collections.emptyList() : job.getErrorReport().lines().toList())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * Convert a ticket history event to TicketHistoryEventResponse DTO
+     */
+    public TicketHistoryEventResponse toHistoryEventResponse(TicketHistoryEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return TicketHistoryEventResponse.builder()
+                .ticketId(event.ticketId())
+                .at(event.at())
+                .kind(event.kind())
+                .fromStatus(event.fromStatus())
+                .toStatus(event.toStatus())
+                .actorId(event.actorId())
+                .detail(event.detail())
+                .build();
+    }
+
+    /**
+     * Convert a replayed ticket state to TicketStateResponse DTO
+     */
+    public TicketStateResponse toStateResponse(TicketState state) {
+        if (state == null) {
+            return null;
+        }
+
+        return TicketStateResponse.builder()
+                .ticketId(state.ticketId())
+                .at(state.at())
+                .status(state.status())
+                .priority(state.priority())
+                .assignedTeam(state.assignedTeam())
+                .assignedUserId(state.assignedUserId())
+                .createdAt(state.createdAt())
+                .lastChangedAt(state.lastChangedAt())
+                .eventCount(state.eventCount())
+                .build();
+    }
+
+    /**
+     * Convert TicketReport to TicketReportResponse DTO
+     */
+    public TicketReportResponse toReportResponse(TicketReport report) {
+        return TicketReportResponse.builder()
+                .from(report.from())
+                .to(report.to())
+                .granularity(report.granularity())
+                .groupBy(report.groupBy())
+                .series(report.series().stream()
+                        .map(series -> TicketReportResponse.Series.builder()
+                                .key(series.key())
+                                .total(toReportPoint(series.total()))
+                                .points(series.points().stream().map(this::toReportPoint).toList())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private TicketReportResponse.Point toReportPoint(TicketReportService.Point point) {
+        return TicketReportResponse.Point.builder()
+                .bucketStart(point.bucketStart())
+                .created(point.created())
+                .resolved(point.resolved())
+                .closed(point.closed())
+                .reopened(point.reopened())
+                .backlog(point.backlog())
+                .resolutions(point.resolutions())
+                .meanResolutionHours(point.meanResolutionHours())
+                .p90ResolutionHours(point.p90ResolutionHours())
+                .build();
+    }
+
+    /**
+     * Convert TicketSla to TicketSlaResponse DTO
+     */
+    public TicketSlaResponse toSlaResponse(TicketSla sla) {
+        return TicketSlaResponse.builder()
+                .ticketId(sla.ticketId())
+                .policy(sla.policy())
+                .priority(sla.priority())
+                .state(sla.state())
+                .targetSeconds(sla.targetSeconds())
+                .consumedSeconds(sla.consumedSeconds())
+                .clockStartedAt(sla.clockStartedAt())
+                .warningAt(sla.warningAt())
+                .breachAt(sla.breachAt())
+                .warnedAt(sla.warnedAt())
+                .breachedAt(sla.breachedAt())
+                .build();
+    }
+
+    /**
+     * Convert per-priority SLA counts to SlaSummaryResponse DTO
+     */
+    public SlaSummaryResponse toSlaSummaryResponse(Map<Priority, SlaCounts> counts) {
+        Map<Priority, SlaSummaryResponse.Counts> byPriority = new EnumMap<>(Priority.class);
+        long running = 0, paused = 0, atRisk = 0, breached = 0;
+        for (Map.Entry<Priority, SlaCounts> entry : counts.entrySet()) {
+            SlaCounts c = entry.getValue();
+            byPriority.put(entry.getKey(), toSlaCounts(c.running(), c.paused(), c.atRisk(), c.breached()));
+            running += c.running();
+            paused += c.paused();
+            atRisk += c.atRisk();
+            breached += c.breached();
+        }
+        return SlaSummaryResponse.builder()
+                .total(toSlaCounts(running, paused, atRisk, breached))
+                .byPriority(byPriority)
+                .build();
+    }
+
+    private SlaSummaryResponse.Counts toSlaCounts(long running, long paused, long atRisk, long breached) {
+        return SlaSummaryResponse.Counts.builder()
+                .running(running)
+                .paused(paused)
+                .atRisk(atRisk)
+                .breached(breached)
+                .build();
+    }
 }
@@ -0,0 +1,280 @@
+package com.sav.ticket.api.stream;
+
+import com.sav.common.enums.Team;
+import com.sav.common.events.BaseDomainEvent;
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketCreatedEvent;
+import com.sav.common.events.ticket.TicketMessageAddedEvent;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.ticket.domain.repository.TicketAudienceProjection;
+import com.sav.ticket.api.dto.TicketUpdateEvent;
+import com.sav.ticket.domain.service.TicketService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans ticket domain events out to open SSE streams by user, team and ticket topic
+ * Events are pushed after commit, so a client refetching on notification sees the change
+ */
+@Component
+@Slf4j
+public class TicketUpdateBroadcaster {
+
+    private final TicketService ticketService;
+    private final TaskExecutor dispatchExecutor;
+    private final long streamTimeoutMs;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+
+    private final Map<String, Set<TicketUpdateSubscription>> subscriptionsByTopic = new ConcurrentHashMap<>();
+    private final Set<TicketUpdateSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> connectionsPerUser = new ConcurrentHashMap<>();
+
+    public TicketUpdateBroadcaster(TicketService ticketService,
+                                   @Qualifier("streamTaskExecutor") TaskExecutor dispatchExecutor,
+                                   @Value("${sav.stream.timeout-ms:1800000}") long streamTimeoutMs,
+                                   @Value("${sav.stream.buffer-size:64}") int bufferSize,
+                                   @Value("${sav.stream.max-connections:20000}") int maxConnections,
+                                   @Value("${sav.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.ticketService = ticketService;
+        this.dispatchExecutor = dispatchExecutor;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    public static String userTopic(String userId) {
+        return "user:" + userId;
+    }
+
+    public static String teamTopic(Team team) {
+        return "team:" + team.name();
+    }
+
+    public static String ticketTopic(Long ticketId) {
+        return "ticket:" + ticketId;
+    }
+
+    /**
+     * Open a stream for the user on the given topics
+     * Empty when the server-wide or per-user connection limit is reached
+     */
+    public Optional<SseEmitter> subscribe(String userId, Set<String> topics) {
+        if (subscriptions.size() >= maxConnections) {
+            log.warn("Rejecting stream for user {}: {} connections open", userId, subscriptions.size());
+            return Optional.empty();
+        }
+        AtomicBoolean admitted = new AtomicBoolean();
+        connectionsPerUser.compute(userId, (id, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxConnectionsPerUser) {
+                return count;
+            }
+            admitted.set(true);
+            return current + 1;
+        });
+        if (!admitted.get()) {
+            log.warn("Rejecting stream for user {}: per-user limit of {} reached", userId, maxConnectionsPerUser);
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        TicketUpdateSubscription subscription = new TicketUpdateSubscription(
+                userId, Set.copyOf(topics), emitter, bufferSize, dispatchExecutor);
+
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+
+        subscriptions.add(subscription);
+        for (String topic : subscription.getTopics()) {
+            subscriptionsByTopic.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscription);
+        }
+
+        // Flushes the response headers through proxies before the first real event
+        subscription.offerComment("connected");
+        log.debug("Stream opened for user {} on {} topics ({} open)", userId, topics.size(), subscriptions.size());
+        return Optional.of(emitter);
+    }
+
+    public int getOpenConnections() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketCreated(TicketCreatedEvent event) {
+        dispatch(event, event.getTicketId(), TicketUpdateEvent.builder()
+                .priority(event.getPriority())
+                .actor(event.getCreatedBy()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketAssigned(TicketAssignedEvent event) {
+        dispatch(event, event.getTicketId(), TicketUpdateEvent.builder()
+                .assignedTo(event.getAssignedTo())
+                .actor(event.getAssignedBy()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketStatusChanged(TicketStatusChangedEvent event) {
+        dispatch(event, event.getTicketId(), TicketUpdateEvent.builder()
+                .status(event.getNewStatus())
+                .actor(event.getChangedBy()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketMessageAdded(TicketMessageAddedEvent event) {
+        dispatch(event, event.getTicketId(), TicketUpdateEvent.builder()
+                .messageId(event.getMessageId())
+                .actor(event.getAuthorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        if (subscriptions.isEmpty() || event.getChanges().isEmpty()) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> fanOutBulk(event));
+        } catch (RuntimeException e) {
+            log.warn("Dropping stream updates for bulk {}: {}", event.getOperation(), e.getMessage());
+        }
+    }
+
+    /**
+     * Keep idle streams alive through proxies and detect dead clients
+     */
+    @Scheduled(fixedDelayString = "${sav.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        for (TicketUpdateSubscription subscription : subscriptions) {
+            if (!subscription.offerComment("heartbeat")) {
+                closeSlowSubscription(subscription);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(TicketUpdateSubscription::close);
+    }
+
+    private void dispatch(BaseDomainEvent event, Long ticketId, TicketUpdateEvent.TicketUpdateEventBuilder payload) {
+        if (subscriptions.isEmpty() || ticketId == null) {
+            return;
+        }
+        TicketUpdateEvent update = payload
+                .eventType(event.getEventType())
+                .ticketId(ticketId)
+                .occurredAt(event.getOccurredAt())
+                .build();
+
+        // Resolving the audience needs a query - keep it off the committing request thread
+        try {
+            dispatchExecutor.execute(() -> fanOut(event.getEventId(), update));
+        } catch (RuntimeException e) {
+            log.warn("Dropping stream update {} for ticket {}: {}", event.getEventType(), ticketId, e.getMessage());
+        }
+    }
+
+    private void fanOut(String eventId, TicketUpdateEvent update) {
+        deliver(eventId, update, ticketService.getTicketAudience(update.getTicketId()).orElse(null));
+    }
+
+    private void fanOutBulk(TicketsBulkUpdatedEvent event) {
+        // One audience query for the whole batch
+        Map<Long, TicketAudienceProjection> audiences = new HashMap<>();
+        List<Long> ticketIds = event.getChanges().stream().map(TicketsBulkUpdatedEvent.Change::ticketId).toList();
+        ticketService.getTicketAudiences(ticketIds).forEach(audience -> audiences.put(audience.getId(), audience));
+
+        for (TicketsBulkUpdatedEvent.Change change : event.getChanges()) {
+            TicketUpdateEvent update = TicketUpdateEvent.builder()
+                    .eventType(event.getEventType())
+                    .ticketId(change.ticketId())
+                    .status(change.newStatus())
+                    .priority(event.getPriority())
+                    .assignedTo(event.getAssignedTo())
+                    .actor(event.getChangedBy())
+                    .occurredAt(event.getOccurredAt())
+                    .build();
+            deliver(event.getEventId() + ":" + change.ticketId(), update, audiences.get(change.ticketId()));
+        }
+    }
+
+    private void deliver(String eventId, TicketUpdateEvent update, TicketAudienceProjection audience) {
+        Set<String> topics = new LinkedHashSet<>();
+        topics.add(ticketTopic(update.getTicketId()));
+        if (update.getAssignedTo() != null) {
+            topics.add(userTopic(update.getAssignedTo()));
+        }
+        if (audience != null) {
+            if (audience.getCreatedByUserId() != null) {
+                topics.add(userTopic(audience.getCreatedByUserId()));
+            }
+            if (audience.getAssignedUserId() != null) {
+                topics.add(userTopic(audience.getAssignedUserId()));
+            }
+            if (audience.getAssignedTeam() != null) {
+                topics.add(teamTopic(audience.getAssignedTeam()));
+            }
+        }
+
+        // A stream subscribed to several matching topics receives the event once
+        Set<TicketUpdateSubscription> recipients = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String topic : topics) {
+            Collection<TicketUpdateSubscription> subscribed = subscriptionsByTopic.get(topic);
+            if (subscribed != null) {
+                recipients.addAll(subscribed);
+            }
+        }
+
+        for (TicketUpdateSubscription subscription : recipients) {
+            if (!subscription.offer(eventId, update.getEventType(), update)) {
+                closeSlowSubscription(subscription);
+            }
+        }
+    }
+
+    private void closeSlowSubscription(TicketUpdateSubscription subscription) {
+        if (!subscription.isClosed()) {
+            log.info("Closing stream for user {}: client is not keeping up", subscription.getUserId());
+            subscription.close();
+        }
+        unregister(subscription);
+    }
+
+    private void unregister(TicketUpdateSubscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        for (String topic : subscription.getTopics()) {
+            subscriptionsByTopic.computeIfPresent(topic, (t, subscribed) -> {
+                subscribed.remove(subscription);
+                return subscribed.isEmpty() ? null : subscribed;
+            });
+        }
+        connectionsPerUser.computeIfPresent(subscription.getUserId(),
+                (id, count) -> count <= 1 ? null : count - 1);
+    }
+}
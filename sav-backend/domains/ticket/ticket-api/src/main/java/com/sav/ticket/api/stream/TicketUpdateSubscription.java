@@ -0,0 +1,120 @@
+package com.sav.ticket.api.stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open stream: its topics, emitter and a bounded outbound buffer
+ * Writes happen on the dispatch executor, never on the thread publishing the event,
+ * and at most one drain runs per connection so events keep their order
+ */
+@Slf4j
+final class TicketUpdateSubscription {
+
+    @Getter
+    private final String userId;
+    @Getter
+    private final Set<String> topics;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<Outbound> buffer;
+    private final TaskExecutor dispatchExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TicketUpdateSubscription(String userId, Set<String> topics, SseEmitter emitter,
+                             int bufferSize, TaskExecutor dispatchExecutor) {
+        this.userId = userId;
+        this.topics = topics;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /**
+     * Queue an event - returns false when the client is too slow and the buffer is full
+     */
+    boolean offer(String id, String name, Object data) {
+        return enqueue(new Outbound(id, name, data, null));
+    }
+
+    boolean offerComment(String comment) {
+        return enqueue(new Outbound(null, null, null, comment));
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Close the stream; the client's EventSource reconnects and resynchronises
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("Error completing stream for user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean enqueue(Outbound message) {
+        if (closed.get() || !buffer.offer(message)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                dispatchExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                log.warn("Stream dispatch rejected for user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Outbound message;
+            while (!closed.get() && (message = buffer.poll()) != null) {
+                emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away - the emitter callbacks unregister the subscription
+            log.debug("Stream write failed for user {}: {}", userId, e.getMessage());
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        // An event may have been queued after the last poll but before the flag was cleared
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private record Outbound(String id, String name, Object data, String comment) {
+        // SseEventBuilder is single-use, so it is built per connection at write time
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sav.common.enums.Priority;
 import com.sav.common.enums.TicketStatus;
 import com.sav.common.enums.TicketType;
 import com.sav.common.enums.Team;
+import com.sav.common.events.ticket.TicketSnapshot;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,10 +25,17 @@ import java.util.List;
 @AllArgsConstructor
 public class Ticket {
 
+    // Pooled-lo sequence (blocks of 50) so inserts can be JDBC-batched; must match the sequence INCREMENT BY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_seq")
+    @SequenceGenerator(name = "tickets_seq", sequenceName = "tickets_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic locking - also exposed to clients as the ticket ETag
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -69,4 +77,19 @@ public class Ticket {
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<TicketAttachment> attachments = new ArrayList<>();
+
+    /**
+     * Mark the ticket as modified so its version advances
+     * Used when messages or attachments change, since they are part of the ticket representation
+     */
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Reporting attributes as they are now, for events that carry them
+     */
+    public TicketSnapshot snapshot() {
+        return new TicketSnapshot(status, priority, type, assignedTeam);
+    }
 }
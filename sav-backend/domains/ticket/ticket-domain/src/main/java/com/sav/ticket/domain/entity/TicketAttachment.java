@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class TicketAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_attachments_seq")
+    @SequenceGenerator(name = "ticket_attachments_seq", sequenceName = "ticket_attachments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,105 @@
+package com.sav.ticket.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bulk ticket import and its progress
+ * lastCommittedRecord is written in the same transaction as each inserted batch, so a resumed
+ * job continues exactly after the last batch that reached the database
+ */
+@Entity
+@Table(name = "ticket_import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    private String originalFilename;
+
+    @Column(nullable = false, length = 1000)
+    private String storedPath;
+
+    @Column(nullable = false)
+    private String createdByUserId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long processedRecords = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long importedTickets = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long importedMessages = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long failedRecords = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long lastCommittedRecord = 0;
+
+    // Accumulated across runs so throughput stays meaningful after a resume
+    @Builder.Default
+    @Column(nullable = false)
+    private long processingMillis = 0;
+
+    // First rejected records with their reason, one per line
+    @Column(columnDefinition = "TEXT")
+    private String errorReport;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /**
+     * Records processed per second over all runs
+     */
+    public double getRecordsPerSecond() {
+        return processingMillis == 0 ? 0.0 : processedRecords * 1000.0 / processingMillis;
+    }
+
+    public boolean isResumable() {
+        return status == ImportStatus.FAILED || status == ImportStatus.INTERRUPTED;
+    }
+
+    public enum ImportFormat {
+        CSV,
+        NDJSON
+    }
+
+    public enum ImportStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        INTERRUPTED
+    }
+}
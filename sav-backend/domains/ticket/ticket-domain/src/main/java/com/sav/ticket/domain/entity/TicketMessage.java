@@ -17,8 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class TicketMessage {
 
+    // Same pooled-lo scheme as Ticket - messages are inserted in batches alongside their tickets
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_messages_seq")
+    @SequenceGenerator(name = "ticket_messages_seq", sequenceName = "ticket_messages_seq", allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -0,0 +1,25 @@
+package com.sav.ticket.domain.exception;
+
+/**
+ * Exception thrown when a conditional update targets a stale ticket version
+ */
+public class TicketVersionConflictException extends RuntimeException {
+
+    private final Long ticketId;
+    private final Long currentVersion;
+
+    public TicketVersionConflictException(Long ticketId, Long expectedVersion, Long currentVersion) {
+        super(String.format("Ticket %d has been modified (expected version %d, current version %d)",
+                ticketId, expectedVersion, currentVersion));
+        this.ticketId = ticketId;
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
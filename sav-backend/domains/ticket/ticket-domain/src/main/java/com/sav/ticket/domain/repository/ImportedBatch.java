@@ -0,0 +1,15 @@
+package com.sav.ticket.domain.repository;
+
+import java.util.List;
+
+/**
+ * What {@link TicketImportWriterPort} wrote for one batch
+ *
+ * @param ticketIds ids of the inserted tickets, in input order
+ */
+public record ImportedBatch(
+    List<Long> ticketIds,
+    int messageCount
+) {
+    public static final ImportedBatch EMPTY = new ImportedBatch(List.of(), 0);
+}
@@ -0,0 +1,28 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A validated import record, ready to be written by {@link TicketImportWriterPort}
+ */
+public record ImportedTicket(
+    String title,
+    String description,
+    TicketStatus status,
+    TicketType type,
+    Priority priority,
+    String createdByUserId,
+    Team assignedTeam,
+    String assignedUserId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<Message> messages
+) {
+    public record Message(String content, String authorId, LocalDateTime createdAt) {}
+}
@@ -0,0 +1,15 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Team;
+
+/**
+ * The columns access checks depend on, read without loading the ticket
+ */
+public interface TicketAccessProjection {
+
+    Long getId();
+    String getCreatedByUserId();
+    String getAssignedUserId();
+    Team getAssignedTeam();
+    Long getVersion();
+}
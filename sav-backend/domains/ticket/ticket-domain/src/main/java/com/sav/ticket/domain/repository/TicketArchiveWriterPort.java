@@ -0,0 +1,22 @@
+package com.sav.ticket.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves closed tickets, with their messages and attachments, from the hot tables to the archive
+ */
+public interface TicketArchiveWriterPort {
+
+    /**
+     * Ids of tickets closed (last updated) before the cutoff, oldest first
+     */
+    List<Long> findArchivableTicketIds(LocalDateTime closedBefore, int limit);
+
+    /**
+     * Copy the given tickets to the archive and delete them from the hot tables
+     * Must run inside the caller's transaction; tickets that were reopened, updated after the cutoff
+     * or are locked by another archiver are skipped. Returns the number of tickets archived
+     */
+    int archive(List<Long> ticketIds, LocalDateTime closedBefore);
+}
@@ -0,0 +1,14 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Team;
+
+/**
+ * Projection of the people and team concerned by a ticket, used to route live updates
+ */
+public interface TicketAudienceProjection {
+
+    Long getId();
+    String getCreatedByUserId();
+    String getAssignedUserId();
+    Team getAssignedTeam();
+}
@@ -0,0 +1,28 @@
+package com.sav.ticket.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only store of ticket history events, independent of the tickets table
+ */
+public interface TicketEventStorePort {
+
+    /**
+     * Insert the events with batched statements
+     */
+    void append(Collection<TicketHistoryEvent> events);
+
+    /**
+     * A ticket's events at or before the given instant, in the order they happened
+     */
+    List<TicketHistoryEvent> findByTicketIdUntil(Long ticketId, LocalDateTime until);
+
+    /**
+     * Stream events in [from, to) in time order without materializing them
+     * Must run inside a transaction so the driver can fetch rows in chunks
+     */
+    void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<TicketHistoryEvent> consumer);
+}
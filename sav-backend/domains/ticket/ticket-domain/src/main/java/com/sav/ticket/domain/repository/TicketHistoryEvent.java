@@ -0,0 +1,33 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.ticket.TicketSnapshot;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only ticket history
+ *
+ * @param detail the assignee id, team or priority, depending on the kind
+ * @param fromDetail the team or priority before a TEAM_CHANGED or PRIORITY_CHANGED
+ * @param ticket the ticket's status, priority, type and team right after this event; null when not captured
+ */
+public record TicketHistoryEvent(
+    Long ticketId,
+    LocalDateTime at,
+    Kind kind,
+    TicketStatus fromStatus,
+    TicketStatus toStatus,
+    String actorId,
+    String detail,
+    String fromDetail,
+    TicketSnapshot ticket
+) {
+    public enum Kind {
+        CREATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        TEAM_CHANGED,
+        PRIORITY_CHANGED
+    }
+}
@@ -0,0 +1,13 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.ticket.domain.entity.TicketImportJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketImportJobRepositoryPort {
+    TicketImportJob save(TicketImportJob job);
+    Optional<TicketImportJob> findById(Long id);
+    List<TicketImportJob> findByStatus(TicketImportJob.ImportStatus status);
+    List<TicketImportJob> findTop20ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,15 @@
+package com.sav.ticket.domain.repository;
+
+import java.util.List;
+
+/**
+ * Set-oriented writer for imported tickets - bypasses the entity lifecycle for throughput
+ */
+public interface TicketImportWriterPort {
+
+    /**
+     * Insert tickets, their messages and their history with batched statements
+     * Must run inside the caller's transaction
+     */
+    ImportedBatch insertBatch(List<ImportedTicket> tickets);
+}
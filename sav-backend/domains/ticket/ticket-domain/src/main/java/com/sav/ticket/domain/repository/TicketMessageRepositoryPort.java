@@ -1,7 +1,9 @@
 package com.sav.ticket.domain.repository;
 
 import com.sav.ticket.domain.entity.TicketMessage;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,5 +11,7 @@ public interface TicketMessageRepositoryPort {
     TicketMessage save(TicketMessage message);
     Optional<TicketMessage> findById(Long id);
     List<TicketMessage> findByTicketIdOrderByCreatedAtAsc(Long ticketId);
+    List<TicketMessage> findTimeline(Long ticketId, Pageable pageable);
+    List<TicketMessage> findTimelineAfter(Long ticketId, LocalDateTime afterCreatedAt, Long afterId, Pageable pageable);
     void delete(TicketMessage message);
 }
@@ -7,6 +7,8 @@ import com.sav.ticket.domain.entity.Ticket;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +27,28 @@ public interface TicketRepositoryPort {
 
     // Ticket-specific queries
     Optional<Ticket> findByIdWithMessages(Long id);
+    List<Ticket> findAllById(Iterable<Long> ids);
+    Optional<Long> findVersionById(Long id);
+    Optional<TicketAudienceProjection> findAudienceById(Long id);
+    Optional<TicketAccessProjection> findAccessById(Long id);
+    List<TicketAudienceProjection> findAudienceByIdIn(Collection<Long> ids);
     Page<Ticket> findByCreatedByUserId(String userId, Pageable pageable);
 
+    // Archived tickets (closed long ago, moved to cold storage) - read-only, detached, only reachable by id
+    Optional<Ticket> findArchivedById(Long id);
+    Optional<TicketAccessProjection> findArchivedAccessById(Long id);
+
+    /**
+     * The ticket with its messages, from the hot tables or else the archive
+     */
+    default Optional<Ticket> findByIdIncludingArchive(Long id) {
+        return findByIdWithMessages(id).or(() -> findArchivedById(id));
+    }
+
+    default Optional<TicketAccessProjection> findAccessByIdIncludingArchive(Long id) {
+        return findAccessById(id).or(() -> findArchivedAccessById(id));
+    }
+
     List<Ticket> findByAssignedUserId(String userId);
     Page<Ticket> findByAssignedUserIdOrCreatedByUserId(String assignedUserId, String createdByUserId, Pageable pageable);
     long countByAssignedUserId(String userId);
@@ -55,4 +77,7 @@ public interface TicketRepositoryPort {
     
     // Performance-optimized statistics query
     TicketStatisticsProjection getTicketStatistics();
+
+    // Workload grouped by assigned user and status - overdue tickets are those past their SLA breach instant
+    List<UserWorkloadProjection> getWorkloadByAssignedUsers(Collection<String> userIds, LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.sav.ticket.domain.repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Aggregates for one time bucket and (priority, type, team) combination
+ * Used both for the deltas folded into ticket_rollups and for the rows read back by reports
+ *
+ * @param backlogDelta        net change in active tickets during the bucket
+ * @param resolutionHistogram resolution times counted per bucket of {@code TicketRollupService.RESOLUTION_BOUNDS}
+ */
+public record TicketRollup(
+    Granularity granularity,
+    LocalDateTime bucketStart,
+    String priority,
+    String type,
+    String team,
+    long createdCount,
+    long resolvedCount,
+    long closedCount,
+    long reopenedCount,
+    long backlogDelta,
+    long resolutionCount,
+    long resolutionSeconds,
+    long[] resolutionHistogram
+) {
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Storage for ticket_rollups and the roll-up watermark
+ */
+public interface TicketRollupPort {
+
+    /**
+     * The last folded-in event id, locked until the caller's transaction ends
+     */
+    long lockWatermark();
+
+    void advanceWatermark(long lastEventId);
+
+    /**
+     * Events after the watermark in id order, stopping before the first one recorded at or after
+     * recordedBefore so events from transactions still in flight are never skipped
+     */
+    List<TicketRollupSource> findEventsAfter(long afterEventId, LocalDateTime recordedBefore, int limit);
+
+    /**
+     * Add the deltas to their rows, creating missing ones
+     */
+    void merge(Collection<TicketRollup> deltas);
+
+    List<TicketRollup> findBetween(Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Active tickets per (priority, type, team) just before the given instant, from the backlog deltas
+     */
+    List<DimensionBacklog> findBacklogBefore(LocalDateTime before);
+
+    record DimensionBacklog(String priority, String type, String team, long backlog) {}
+}
@@ -0,0 +1,29 @@
+package com.sav.ticket.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ticket event awaiting roll-up, with the ticket attributes it is aggregated by
+ * Attributes are the ticket's at the time of the event; events recorded without them fall back to the
+ * ticket's current ones (hot or archived); NONE stands for no team or an unknown value
+ *
+ * @param fromPriority the priority the ticket's backlog moves away from on a PRIORITY_CHANGED, else priority
+ * @param fromTeam     the team the ticket's backlog moves away from on a TEAM_CHANGED, else team
+ */
+public record TicketRollupSource(
+    long eventId,
+    TicketHistoryEvent event,
+    String priority,
+    String type,
+    String team,
+    String fromPriority,
+    String fromTeam,
+    LocalDateTime ticketCreatedAt
+) {
+    /**
+     * Whether this event moves the ticket to other reporting attributes
+     */
+    public boolean movesTicket() {
+        return !priority.equals(fromPriority) || !team.equals(fromTeam);
+    }
+}
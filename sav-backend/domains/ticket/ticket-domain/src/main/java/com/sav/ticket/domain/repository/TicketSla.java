@@ -0,0 +1,69 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * The SLA clock of one ticket (a ticket_sla row)
+ *
+ * @param policy          name of the policy the target and calendar come from
+ * @param consumedSeconds business time used before clockStartedAt
+ * @param clockStartedAt  when the clock last started running, null unless RUNNING
+ * @param warningAt       precomputed instant the warning share is used up, null unless RUNNING
+ * @param breachAt        precomputed instant the target is used up, null unless RUNNING
+ * @param warnedAt        when the warning threshold was crossed, null if not yet
+ * @param breachedAt      when the target was exceeded, null if not yet
+ */
+public record TicketSla(
+    Long ticketId,
+    String policy,
+    Priority priority,
+    long targetSeconds,
+    State state,
+    long consumedSeconds,
+    LocalDateTime clockStartedAt,
+    LocalDateTime warningAt,
+    LocalDateTime breachAt,
+    LocalDateTime warnedAt,
+    LocalDateTime breachedAt,
+    LocalDateTime updatedAt
+) {
+
+    public enum State {
+        RUNNING,
+        PAUSED,
+        STOPPED
+    }
+
+    public boolean isBreached() {
+        return breachedAt != null;
+    }
+
+    public boolean isAtRisk() {
+        return warnedAt != null && breachedAt == null;
+    }
+
+    /**
+     * Next threshold this clock will cross, null if it is not running or both are already crossed
+     */
+    public LocalDateTime nextDeadline() {
+        if (state != State.RUNNING) {
+            return null;
+        }
+        if (warnedAt == null && warningAt != null) {
+            return warningAt;
+        }
+        return breachedAt == null ? breachAt : null;
+    }
+
+    public TicketSla withWarnedAt(LocalDateTime at, LocalDateTime now) {
+        return new TicketSla(ticketId, policy, priority, targetSeconds, state, consumedSeconds, clockStartedAt,
+                warningAt, breachAt, at, breachedAt, now);
+    }
+
+    public TicketSla withBreachedAt(LocalDateTime at, LocalDateTime now) {
+        return new TicketSla(ticketId, policy, priority, targetSeconds, state, consumedSeconds, clockStartedAt,
+                warningAt, breachAt, warnedAt, at, now);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage for the per-ticket SLA clocks
+ */
+public interface TicketSlaPort {
+
+    /**
+     * Create a clock running since creation for each of these tickets that has none yet
+     * Policy and deadlines are left for the caller to fill in within the same transaction
+     */
+    void createMissing(Collection<Long> ticketIds);
+
+    /**
+     * Clocks of these tickets with their tickets' current attributes, locked until the transaction ends
+     */
+    List<TicketSlaSource> lockForUpdate(Collection<Long> ticketIds);
+
+    void saveAll(Collection<TicketSla> clocks);
+
+    Optional<TicketSla> findByTicketId(Long ticketId);
+
+    /**
+     * Clocks that are not stopped, in ticket id order after the given id
+     */
+    List<TicketSla> findUnstopped(long afterTicketId, int limit);
+
+    List<TicketSla> findUpdatedSince(LocalDateTime since);
+
+    /**
+     * Tickets in one of these statuses that have no clock yet
+     */
+    List<Long> findTicketsWithoutSla(Collection<TicketStatus> statuses, int limit);
+
+    /**
+     * Record the warning if it is still pending at this deadline - false if another node got there first
+     * or the clock changed since
+     */
+    boolean markWarned(Long ticketId, LocalDateTime warningAt, LocalDateTime now);
+
+    /**
+     * Record the breach if it is still pending at this deadline - false if another node got there first
+     * or the clock changed since
+     */
+    boolean markBreached(Long ticketId, LocalDateTime breachAt, LocalDateTime now);
+}
@@ -0,0 +1,15 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+
+/**
+ * A locked SLA clock with the current attributes of its ticket
+ */
+public record TicketSlaSource(
+    TicketSla sla,
+    TicketStatus status,
+    Priority priority,
+    TicketType type
+) {}
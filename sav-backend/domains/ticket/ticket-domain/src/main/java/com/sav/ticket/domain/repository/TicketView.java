@@ -0,0 +1,35 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the ticket_view read model: a ticket with everything a listing shows
+ *
+ * @param createdByName    display name of the creator at the last refresh, null if unknown
+ * @param assignedUserName display name of the assignee at the last refresh, null if unassigned or unknown
+ */
+public record TicketView(
+    Long id,
+    Long version,
+    String title,
+    String description,
+    TicketStatus status,
+    TicketType type,
+    Priority priority,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    String createdByUserId,
+    String createdByName,
+    Team assignedTeam,
+    String assignedUserId,
+    String assignedUserName,
+    int messageCount,
+    LocalDateTime lastMessageAt,
+    int attachmentCount
+) {
+}
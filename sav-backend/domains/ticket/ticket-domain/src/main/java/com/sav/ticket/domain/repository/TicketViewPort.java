@@ -0,0 +1,77 @@
+package com.sav.ticket.domain.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Storage for the ticket_view read model
+ * Rows are always recomputed from the source tables, so refreshing is idempotent and order-independent
+ */
+public interface TicketViewPort {
+
+    /**
+     * Recompute the rows of these tickets; rows of tickets no longer in the hot table are removed
+     */
+    void refreshTickets(Collection<Long> ticketIds);
+
+    /**
+     * Copy the current display names of these users onto every row that references them
+     */
+    void refreshUserNames(Collection<String> userIds);
+
+    Page<TicketView> find(Filter filter, Pageable pageable);
+
+    List<TicketView> findAll(Filter filter, Sort sort);
+
+    List<TicketView> findFirst(Filter filter, Sort sort, int limit);
+
+    /**
+     * Dashboard counters for one user, from a single scan of their created and assigned rows
+     */
+    UserCounts countForUser(String userId);
+
+    /**
+     * Listing criteria; null fields do not filter
+     *
+     * @param searchTerm lower-cased substring matched against title, creator and assignee names
+     */
+    record Filter(
+        TicketStatus status,
+        Priority priority,
+        Team assignedTeam,
+        String createdByUserId,
+        String assignedUserId,
+        String searchTerm
+    ) {
+        public static final Filter NONE = new Filter(null, null, null, null, null, null);
+
+        public static Filter createdBy(String userId) {
+            return new Filter(null, null, null, userId, null, null);
+        }
+
+        public static Filter assignedTo(String userId) {
+            return new Filter(null, null, null, null, userId, null);
+        }
+
+        public static Filter status(TicketStatus status) {
+            return new Filter(status, null, null, null, null, null);
+        }
+
+        public static Filter priority(Priority priority) {
+            return new Filter(null, priority, null, null, null, null);
+        }
+
+        public static Filter team(Team team) {
+            return new Filter(null, null, team, null, null, null);
+        }
+    }
+
+    record UserCounts(long created, long assigned, long createdOpen, long createdInProgress) {}
+}
@@ -0,0 +1,17 @@
+package com.sav.ticket.domain.repository;
+
+/**
+ * Projection for per-user, per-status workload rows (one row per assigned_user_id/status pair)
+ */
+public interface UserWorkloadProjection {
+
+    String getAssignedUserId();
+    String getStatus();
+    long getTicketCount();
+
+    // Hours since creation for active tickets, creation to last update for resolved/closed ones
+    Double getAverageAgeHours();
+
+    // Tickets older than their priority's escalation threshold
+    long getOverdueCount();
+}
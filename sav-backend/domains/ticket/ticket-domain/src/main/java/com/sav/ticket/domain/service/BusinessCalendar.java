@@ -0,0 +1,132 @@
+package com.sav.ticket.domain.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Working time of a support desk: open days, a daily opening window and holidays, in one time zone
+ * Timestamps are the JVM-local LocalDateTimes used on tickets; they are converted to the calendar's zone
+ * A calendar without an opening window is open all day on its work days
+ */
+public final class BusinessCalendar {
+
+    public static final BusinessCalendar ALWAYS_OPEN =
+            new BusinessCalendar(ZoneId.systemDefault(), EnumSet.allOf(DayOfWeek.class), null, null, Set.of());
+
+    // Bounds the day-by-day walk; a calendar that stays closed this long is a configuration error
+    private static final int MAX_DAYS_SCANNED = 3660;
+
+    private final ZoneId zone;
+    private final Set<DayOfWeek> workDays;
+    private final LocalTime opensAt;
+    private final LocalTime closesAt;
+    private final Set<LocalDate> holidays;
+    private final boolean alwaysOpen;
+
+    public BusinessCalendar(ZoneId zone, Set<DayOfWeek> workDays, LocalTime opensAt, LocalTime closesAt,
+                            Set<LocalDate> holidays) {
+        if (workDays.isEmpty()) {
+            throw new IllegalArgumentException("A business calendar needs at least one work day");
+        }
+        if ((opensAt == null) != (closesAt == null)) {
+            throw new IllegalArgumentException("Opening and closing times must be set together");
+        }
+        if (opensAt != null && !opensAt.isBefore(closesAt)) {
+            throw new IllegalArgumentException("Opening time " + opensAt + " must be before closing time " + closesAt);
+        }
+        this.zone = zone;
+        this.workDays = EnumSet.copyOf(workDays);
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.holidays = Set.copyOf(holidays);
+        this.alwaysOpen = this.workDays.size() == DayOfWeek.values().length && opensAt == null && holidays.isEmpty();
+    }
+
+    /**
+     * The instant at which the given amount of working time after start has elapsed
+     */
+    public LocalDateTime plus(LocalDateTime start, Duration amount) {
+        if (amount.isZero() || amount.isNegative()) {
+            return start;
+        }
+        if (alwaysOpen) {
+            return start.plus(amount);
+        }
+
+        ZonedDateTime cursor = toZoned(start);
+        Duration remaining = amount;
+        for (int i = 0; i < MAX_DAYS_SCANNED; i++) {
+            LocalDate day = cursor.toLocalDate();
+            if (isWorkingDay(day)) {
+                ZonedDateTime opens = opening(day);
+                ZonedDateTime from = cursor.isAfter(opens) ? cursor : opens;
+                ZonedDateTime closes = closing(day);
+                if (from.isBefore(closes)) {
+                    Duration available = Duration.between(from, closes);
+                    if (remaining.compareTo(available) <= 0) {
+                        return toLocal(from.plus(remaining));
+                    }
+                    remaining = remaining.minus(available);
+                }
+            }
+            cursor = day.plusDays(1).atStartOfDay(zone);
+        }
+        throw new IllegalStateException("Business calendar has no working time in the next " + MAX_DAYS_SCANNED + " days");
+    }
+
+    /**
+     * Working time between two instants, zero if to is not after from
+     */
+    public Duration between(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return Duration.ZERO;
+        }
+        if (alwaysOpen) {
+            return Duration.between(from, to);
+        }
+
+        ZonedDateTime start = toZoned(from);
+        ZonedDateTime end = toZoned(to);
+        Duration total = Duration.ZERO;
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+            if (!isWorkingDay(day)) {
+                continue;
+            }
+            ZonedDateTime opens = opening(day);
+            ZonedDateTime closes = closing(day);
+            ZonedDateTime a = start.isAfter(opens) ? start : opens;
+            ZonedDateTime b = end.isBefore(closes) ? end : closes;
+            if (a.isBefore(b)) {
+                total = total.plus(Duration.between(a, b));
+            }
+        }
+        return total;
+    }
+
+    private boolean isWorkingDay(LocalDate day) {
+        return workDays.contains(day.getDayOfWeek()) && !holidays.contains(day);
+    }
+
+    private ZonedDateTime opening(LocalDate day) {
+        return opensAt != null ? ZonedDateTime.of(day, opensAt, zone) : day.atStartOfDay(zone);
+    }
+
+    private ZonedDateTime closing(LocalDate day) {
+        return closesAt != null ? ZonedDateTime.of(day, closesAt, zone) : day.plusDays(1).atStartOfDay(zone);
+    }
+
+    private ZonedDateTime toZoned(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone);
+    }
+
+    private static LocalDateTime toLocal(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.ticket.domain.repository.TicketSla;
+import com.sav.ticket.domain.service.TicketSlaService.SlaCounts;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * In-memory view of the clocks that are not stopped
+ * Next deadlines are kept in a sorted set and the per-priority counters are maintained on every change,
+ * so updates cost O(log n), polling due clocks O(log n) each and counts O(1)
+ */
+final class SlaDeadlineIndex {
+
+    private static final int RUNNING = 0;
+    private static final int PAUSED = 1;
+    private static final int AT_RISK = 2;
+    private static final int BREACHED = 3;
+
+    private final Map<Long, TicketSla> clocks = new HashMap<>();
+    private final NavigableSet<Deadline> deadlines = new TreeSet<>();
+    private final long[][] counters = new long[Priority.values().length][4];
+
+    /**
+     * Replace the indexed clock of this ticket, unless the indexed one is newer
+     */
+    synchronized void put(TicketSla sla) {
+        TicketSla previous = clocks.get(sla.ticketId());
+        if (previous != null) {
+            if (previous.updatedAt() != null && sla.updatedAt() != null && previous.updatedAt().isAfter(sla.updatedAt())) {
+                return;
+            }
+            unindex(previous);
+        }
+        if (sla.state() != TicketSla.State.STOPPED) {
+            index(sla);
+        }
+    }
+
+    /**
+     * Remove and return the clocks whose next deadline is not after now
+     * They stay counted until put back with the crossed threshold recorded
+     */
+    synchronized List<TicketSla> pollDue(LocalDateTime now) {
+        List<TicketSla> due = new ArrayList<>();
+        Deadline first;
+        while ((first = deadlines.isEmpty() ? null : deadlines.first()) != null && !first.at().isAfter(now)) {
+            deadlines.pollFirst();
+            due.add(clocks.get(first.ticketId()));
+        }
+        return due;
+    }
+
+    synchronized Optional<TicketSla> get(Long ticketId) {
+        return Optional.ofNullable(clocks.get(ticketId));
+    }
+
+    /**
+     * Running clocks in deadline order, soonest first
+     */
+    synchronized List<TicketSla> upcoming(int limit) {
+        List<TicketSla> result = new ArrayList<>(Math.min(limit, deadlines.size()));
+        Iterator<Deadline> iterator = deadlines.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(clocks.get(iterator.next().ticketId()));
+        }
+        return result;
+    }
+
+    synchronized Map<Priority, SlaCounts> counts() {
+        Map<Priority, SlaCounts> result = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            long[] c = counters[priority.ordinal()];
+            result.put(priority, new SlaCounts(c[RUNNING], c[PAUSED], c[AT_RISK], c[BREACHED]));
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return clocks.size();
+    }
+
+    private void index(TicketSla sla) {
+        clocks.put(sla.ticketId(), sla);
+        count(sla, 1);
+        LocalDateTime next = sla.nextDeadline();
+        if (next != null) {
+            deadlines.add(new Deadline(next, sla.ticketId()));
+        }
+    }
+
+    private void unindex(TicketSla sla) {
+        clocks.remove(sla.ticketId());
+        count(sla, -1);
+        LocalDateTime next = sla.nextDeadline();
+        if (next != null) {
+            deadlines.remove(new Deadline(next, sla.ticketId()));
+        }
+    }
+
+    private void count(TicketSla sla, int delta) {
+        long[] c = counters[sla.priority().ordinal()];
+        c[sla.state() == TicketSla.State.RUNNING ? RUNNING : PAUSED] += delta;
+        if (sla.isBreached()) {
+            c[BREACHED] += delta;
+        } else if (sla.isAtRisk()) {
+            c[AT_RISK] += delta;
+        }
+    }
+
+    private record Deadline(LocalDateTime at, long ticketId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            int byTime = at.compareTo(other.at);
+            return byTime != 0 ? byTime : Long.compare(ticketId, other.ticketId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SLA policies and business calendars (sav.sla)
+ * Without configuration every priority keeps its historical target, counted around the clock
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sav.sla")
+public class SlaProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Share of the target after which a warning is raised
+     */
+    private double warningRatio = 0.8;
+
+    /**
+     * How often clocks changed on other nodes are pulled into the local deadline index
+     */
+    private long syncIntervalMs = 5000;
+
+    private int batchSize = 500;
+
+    private Map<String, Calendar> calendars = new LinkedHashMap<>();
+
+    /**
+     * A policy with a type wins over the policy for its priority alone
+     */
+    private List<Policy> policies = new ArrayList<>(List.of(
+            Policy.of(Priority.CRITICAL, Duration.ofHours(4)),
+            Policy.of(Priority.HIGH, Duration.ofHours(24)),
+            Policy.of(Priority.MEDIUM, Duration.ofHours(48)),
+            Policy.of(Priority.LOW, Duration.ofHours(72))));
+
+    @Getter
+    @Setter
+    public static class Calendar {
+        /**
+         * Defaults to the JVM zone
+         */
+        private String zone;
+        private Set<DayOfWeek> workDays = EnumSet.allOf(DayOfWeek.class);
+        /**
+         * HH:mm; leave both unset for whole days
+         */
+        private String opensAt;
+        private String closesAt;
+        /**
+         * ISO dates (yyyy-MM-dd)
+         */
+        private List<String> holidays = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Priority priority;
+        /**
+         * Null applies to every type without a policy of its own
+         */
+        private TicketType type;
+        private Duration target;
+        /**
+         * Name of an entry in calendars; null counts around the clock
+         */
+        private String calendar;
+
+        static Policy of(Priority priority, Duration target) {
+            Policy policy = new Policy();
+            policy.setPriority(priority);
+            policy.setTarget(target);
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.security.util.SecurityUtil;
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.repository.TicketAccessProjection;
+import com.sav.ticket.domain.repository.TicketRepositoryPort;
+import com.sav.user.domain.entity.User;
+import com.sav.user.domain.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers "can this user see / modify this ticket" from the creator, assignee and role alone
+ * The ticket columns come from a narrow projection (or a ticket the caller already loaded), the role from
+ * the caller's token; decisions are cached briefly per (user, ticket) together with the ticket version
+ */
+@Service
+@Slf4j
+public class TicketAccessService {
+
+    public enum Access {
+        VIEW,
+        MODIFY
+    }
+
+    private static final List<String> ROLES_BY_PRECEDENCE = List.of("ADMIN", "TECHNICIAN", "USER");
+
+    private final TicketRepositoryPort ticketRepository;
+    private final UserService userService;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+
+    public TicketAccessService(TicketRepositoryPort ticketRepository,
+                               UserService userService,
+                               @Value("${sav.tickets.access-cache.ttl-ms:5000}") long ttlMs,
+                               @Value("${sav.tickets.access-cache.max-entries:10000}") int maxEntries) {
+        this.ticketRepository = ticketRepository;
+        this.userService = userService;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Decide from the cache or the access projection (archived tickets included); unknown tickets are denied
+     */
+    public boolean isAllowed(String userId, Long ticketId, Access access) {
+        if (userId == null || userId.isBlank() || ticketId == null) {
+            return false;
+        }
+        UserRole role = resolveRole(userId);
+        if (role == null) {
+            return false;
+        }
+        DecisionKey key = new DecisionKey(userId, ticketId);
+        Decision cached = decisions.get(key);
+        if (cached != null && cached.isValidFor(role, null)) {
+            return cached.allows(access);
+        }
+        return ticketRepository.findAccessByIdIncludingArchive(ticketId)
+                .map(projection -> store(key, decide(userId, role, projection.getCreatedByUserId(),
+                        projection.getAssignedUserId(), projection.getVersion())))
+                .map(decision -> decision.allows(access))
+                .orElse(false);
+    }
+
+    /**
+     * Decide for a ticket the caller already loaded; a cached decision is reused only for the same version
+     */
+    public boolean isAllowed(String userId, Ticket ticket, Access access) {
+        if (userId == null || userId.isBlank() || ticket == null) {
+            return false;
+        }
+        UserRole role = resolveRole(userId);
+        if (role == null) {
+            return false;
+        }
+        DecisionKey key = new DecisionKey(userId, ticket.getId());
+        Decision cached = decisions.get(key);
+        if (cached != null && cached.isValidFor(role, ticket.getVersion())) {
+            return cached.allows(access);
+        }
+        return store(key, decide(userId, role, ticket.getCreatedByUserId(), ticket.getAssignedUserId(),
+                ticket.getVersion())).allows(access);
+    }
+
+    /**
+     * Load the ticket once for an operation that needs it anyway, checking access on the loaded entity
+     *
+     * @throws SecurityException if the ticket does not exist or access is denied
+     */
+    public Ticket loadIfAllowed(String userId, Long ticketId, Access access) {
+        Optional<Ticket> ticket = ticketId != null ? ticketRepository.findById(ticketId) : Optional.empty();
+        if (ticket.isEmpty() || !isAllowed(userId, ticket.get(), access)) {
+            throw new SecurityException((access == Access.VIEW ? "Access" : "Modification")
+                    + " denied for ticket: " + ticketId);
+        }
+        return ticket.get();
+    }
+
+    public void evict(Long ticketId) {
+        decisions.keySet().removeIf(key -> key.ticketId().equals(ticketId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketAssigned(TicketAssignedEvent event) {
+        evict(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        if (event.getAssignedTo() == null) {
+            return;
+        }
+        event.getChanges().forEach(change -> evict(change.ticketId()));
+    }
+
+    /**
+     * Same rules as before for both levels: admins always, technicians when assigned, anyone for tickets they created
+     */
+    private Decision decide(String userId, UserRole role, String createdByUserId, String assignedUserId, Long version) {
+        boolean creator = userId.equals(createdByUserId);
+        boolean assignee = userId.equals(assignedUserId);
+        boolean allowed = switch (role) {
+            case ADMIN -> true;
+            case TECHNICIAN -> assignee || creator;
+            default -> creator;
+        };
+        return new Decision(version, role, allowed, allowed, System.nanoTime() + ttlNanos);
+    }
+
+    private Decision store(DecisionKey key, Decision decision) {
+        if (decisions.size() >= maxEntries) {
+            long now = System.nanoTime();
+            decisions.values().removeIf(entry -> entry.isExpired(now));
+            if (decisions.size() >= maxEntries) {
+                decisions.clear();
+            }
+        }
+        decisions.put(key, decision);
+        return decision;
+    }
+
+    /**
+     * The authenticated user's role comes from the token; other users' from the user table
+     */
+    private UserRole resolveRole(String userId) {
+        String currentUserId;
+        try {
+            currentUserId = SecurityUtil.getCurrentUserId();
+        } catch (SecurityException e) {
+            currentUserId = null;
+        }
+        if (userId.equals(currentUserId)) {
+            List<String> roles = SecurityUtil.getCurrentUserRoles();
+            return ROLES_BY_PRECEDENCE.stream()
+                    .filter(roles::contains)
+                    .findFirst()
+                    .map(UserRole::valueOf)
+                    .orElse(null);
+        }
+        return userService.getUserById(userId).map(User::getRole).orElse(null);
+    }
+
+    private record DecisionKey(String userId, Long ticketId) {
+    }
+
+    private record Decision(Long version, UserRole role, boolean view, boolean modify, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+
+        boolean isValidFor(UserRole currentRole, Long currentVersion) {
+            return role == currentRole
+                    && (currentVersion == null || Objects.equals(version, currentVersion))
+                    && !isExpired(System.nanoTime());
+        }
+
+        boolean allows(Access access) {
+            return access == Access.VIEW ? view : modify;
+        }
+    }
+}
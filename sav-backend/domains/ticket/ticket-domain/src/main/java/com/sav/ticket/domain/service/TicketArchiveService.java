@@ -0,0 +1,85 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.ticket.domain.repository.TicketArchiveWriterPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves tickets closed more than retention-days ago, with their messages and attachments, to the
+ * partitioned archive tables. Each batch is its own transaction, so a run can stop at any point
+ * and the next one picks up where it left off; archived tickets stay readable by id
+ */
+@Service
+@Slf4j
+public class TicketArchiveService {
+
+    private final TicketArchiveWriterPort archiveWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TicketArchiveService(TicketArchiveWriterPort archiveWriter,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${sav.tickets.archive.enabled:false}") boolean enabled,
+                                @Value("${sav.tickets.archive.retention-days:180}") int retentionDays,
+                                @Value("${sav.tickets.archive.batch-size:500}") int batchSize,
+                                @Value("${sav.tickets.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.archiveWriter = archiveWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${sav.tickets.archive.cron:0 30 2 * * *}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archiveClosedTickets();
+        }
+    }
+
+    /**
+     * Archive every eligible ticket, batch by batch; returns the number of tickets moved
+     */
+    public long archiveClosedTickets() {
+        LocalDateTime closedBefore = LocalDateTime.now().minusDays(retentionDays);
+        long archived = 0;
+        long startedAt = System.currentTimeMillis();
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = archiveWriter.findArchivableTicketIds(closedBefore, batchSize);
+                    return ids.isEmpty() ? null : archiveWriter.archive(ids, closedBefore);
+                });
+            } catch (RuntimeException e) {
+                log.error("Ticket archival stopped after {} tickets", archived, e);
+                break;
+            }
+            if (moved == null) {
+                break;
+            }
+            archived += moved;
+            if (moved == 0) {
+                // Every candidate was locked by another node or changed meanwhile
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} tickets closed before {} in {} ms", archived, closedBefore,
+                    System.currentTimeMillis() - startedAt);
+        }
+        return archived;
+    }
+}
@@ -4,17 +4,25 @@ import com.sav.common.enums.Team;
 import com.sav.common.enums.TicketStatus;
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketTeamChangedEvent;
+import com.sav.common.events.ticket.TicketUpdatedEvent;
 import com.sav.ticket.domain.entity.Ticket;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
 import com.sav.user.domain.entity.User;
+import com.sav.security.util.SecurityUtil;
 import com.sav.user.domain.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for handling ticket assignment with comprehensive business logic
@@ -28,8 +36,11 @@ public class TicketAssignmentService {
     private final TicketRepositoryPort ticketRepository;
     private final UserService userService;
     private final TicketSecurityService ticketSecurityService;
+    private final WorkloadAnalyticsService workloadAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
     
     private static final int MAX_TICKETS_PER_USER = 10;
+    private static final String SYSTEM_ACTOR = "system";
 
     /**
      * Assign ticket to user with comprehensive validation
@@ -45,8 +56,36 @@ public class TicketAssignmentService {
         if (!isAssignableStatus(ticket.getStatus())) {
             throw new IllegalStateException("Ticket cannot be assigned in status: " + ticket.getStatus());
         }
-        
-        // 2. VALIDATE USER EXISTS AND HAS PROPER ROLE
+
+        // 2. VALIDATE ASSIGNMENT PERMISSIONS
+        ticketSecurityService.validateTicketAssignment();
+
+        return assign(ticket, userId, SecurityUtil.getCurrentUserId());
+    }
+
+    /**
+     * Assign a ticket on behalf of the system, e.g. when its SLA is breached
+     * There is no current user to check permissions for; the assignee rules still apply and the change is
+     * recorded as made by "system". A ticket assigned to someone who has not started on it may be reassigned
+     */
+    @Transactional
+    public Ticket assignTicketAsSystem(Long ticketId, String userId) {
+        log.info("Assigning ticket {} to user {} as system", ticketId, userId);
+
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
+
+        if (!isAssignableStatus(ticket.getStatus()) && ticket.getStatus() != TicketStatus.ASSIGNED) {
+            throw new IllegalStateException("Ticket cannot be assigned in status: " + ticket.getStatus());
+        }
+
+        return assign(ticket, userId, SYSTEM_ACTOR);
+    }
+
+    private Ticket assign(Ticket ticket, String userId, String actorId) {
+        Long ticketId = ticket.getId();
+
+        // VALIDATE USER EXISTS AND HAS PROPER ROLE
         User user = userService.getUserById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
                 
@@ -54,19 +93,25 @@ public class TicketAssignmentService {
             throw new IllegalArgumentException("User cannot be assigned tickets");
         }
         
-        // 3. CHECK WORKLOAD LIMITS
+        // CHECK WORKLOAD LIMITS
         if (exceedsWorkloadLimit(userId)) {
             throw new IllegalStateException("User workload limit exceeded");
         }
         
-        // 4. VALIDATE ASSIGNMENT PERMISSIONS
-        ticketSecurityService.validateTicketAssignment();
-        
-        // 5. PERFORM ASSIGNMENT WITH AUDIT
+        // PERFORM ASSIGNMENT WITH AUDIT
+        TicketStatus oldStatus = ticket.getStatus();
         ticket.setAssignedUserId(userId);
         ticket.setStatus(TicketStatus.ASSIGNED);
         
         Ticket savedTicket = ticketRepository.save(ticket);
+        TicketSnapshot snapshot = savedTicket.snapshot();
+        eventPublisher.publishEvent(new TicketAssignedEvent(ticketId, userId, actorId,
+                snapshot.withStatus(oldStatus)));
+        if (oldStatus != TicketStatus.ASSIGNED) {
+            eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                    ticketId, oldStatus, TicketStatus.ASSIGNED, actorId, snapshot));
+        }
+        eventPublisher.publishEvent(new TicketUpdatedEvent(ticketId, actorId));
         
         log.info("Successfully assigned ticket {} to user {}", ticketId, userId);
         return savedTicket;
@@ -88,12 +133,26 @@ public class TicketAssignmentService {
         
         ticketSecurityService.validateTicketAssignment();
         
-        ticket.setAssignedTeam(Team.valueOf(team));
-        if (ticket.getStatus() == TicketStatus.OPEN) {
+        TicketStatus oldStatus = ticket.getStatus();
+        Team oldTeam = ticket.getAssignedTeam();
+        Team newTeam = Team.valueOf(team);
+        ticket.setAssignedTeam(newTeam);
+        if (oldStatus == TicketStatus.OPEN) {
             ticket.setStatus(TicketStatus.ASSIGNED);
         }
         
         Ticket savedTicket = ticketRepository.save(ticket);
+        String currentUserId = SecurityUtil.getCurrentUserId();
+        TicketSnapshot snapshot = savedTicket.snapshot();
+        if (newTeam != oldTeam) {
+            eventPublisher.publishEvent(new TicketTeamChangedEvent(
+                    ticketId, oldTeam, newTeam, currentUserId, snapshot.withStatus(oldStatus)));
+        }
+        if (ticket.getStatus() != oldStatus) {
+            eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                    ticketId, oldStatus, ticket.getStatus(), currentUserId, snapshot));
+        }
+        eventPublisher.publishEvent(new TicketUpdatedEvent(ticketId, currentUserId));
         
         log.info("Successfully assigned ticket {} to team {}", ticketId, team);
         return savedTicket;
@@ -110,8 +169,14 @@ public class TicketAssignmentService {
      * Check if user can be assigned tickets
      */
     private boolean canUserBeAssignedTickets(User user) {
-        return user.getStatus() == UserStatus.ACTIVE && 
-               (user.getRole() == UserRole.TECHNICIAN || user.getRole() == UserRole.ADMIN);
+        return canBeAssignedTickets(user.getRole(), user.getStatus());
+    }
+
+    /**
+     * Only active technicians and admins can hold tickets (also applied to imported assignees)
+     */
+    public static boolean canBeAssignedTickets(UserRole role, UserStatus status) {
+        return status == UserStatus.ACTIVE && (role == UserRole.TECHNICIAN || role == UserRole.ADMIN);
     }
 
     /**
@@ -131,8 +196,12 @@ public class TicketAssignmentService {
      * Get available users for assignment
      */
     public List<User> getAvailableUsersForAssignment() {
-        return userService.getAvailableTechnicians().stream()
-                .filter(user -> !exceedsWorkloadLimit(user.getId()))
+        List<User> technicians = userService.getAvailableTechnicians();
+        Map<String, WorkloadAnalyticsService.UserWorkload> workloads = workloadAnalyticsService.getWorkloads(
+                technicians.stream().map(User::getId).toList());
+
+        return technicians.stream()
+                .filter(user -> workloads.get(user.getId()).limitedTickets() < MAX_TICKETS_PER_USER)
                 .toList();
     }
 
@@ -140,17 +209,14 @@ public class TicketAssignmentService {
      * Get user workload statistics
      */
     public UserWorkloadStats getUserWorkloadStats(String userId) {
-        long assignedTickets = ticketRepository.countByAssignedUserIdAndStatusIn(
-            userId, 
-            Arrays.asList(TicketStatus.ASSIGNED, TicketStatus.IN_PROGRESS)
-        );
-        
-        long completedTickets = ticketRepository.countByAssignedUserIdAndStatusIn(
-            userId, 
-            Arrays.asList(TicketStatus.CLOSED, TicketStatus.RESOLVED)
+        WorkloadAnalyticsService.UserWorkload workload = workloadAnalyticsService.getWorkload(userId);
+
+        return new UserWorkloadStats(
+            workload.limitedTickets(),
+            workload.completedTickets(),
+            workload.overdueTickets(),
+            Math.round(workload.averageResolutionHours())
         );
-        
-        return new UserWorkloadStats(assignedTickets, completedTickets, 0, 0);
     }
 
     /**
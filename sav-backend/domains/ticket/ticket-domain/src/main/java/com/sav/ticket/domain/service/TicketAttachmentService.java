@@ -1,10 +1,13 @@
 package com.sav.ticket.domain.service;
 
+import com.sav.common.events.ticket.TicketUpdatedEvent;
 import com.sav.ticket.domain.entity.TicketAttachment;
 import com.sav.ticket.domain.repository.TicketAttachmentRepositoryPort;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
+import com.sav.security.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ public class TicketAttachmentService {
 
     private final TicketAttachmentRepositoryPort ticketAttachmentRepository;
     private final TicketRepositoryPort ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Add attachment to a ticket
@@ -36,8 +40,12 @@ public class TicketAttachmentService {
                             .build();
 
                     TicketAttachment savedAttachment = ticketAttachmentRepository.save(attachment);
+                    // Advance the ticket version so cached ticket representations (ETags) are invalidated
+                    ticket.touch();
                     log.info("Added attachment with ID: {} to ticket: {}", savedAttachment.getId(), ticketId);
 
+                    eventPublisher.publishEvent(new TicketUpdatedEvent(ticketId, SecurityUtil.getCurrentUserId()));
+
                     return savedAttachment;
                 });
     }
@@ -65,7 +73,10 @@ public class TicketAttachmentService {
 
         return ticketAttachmentRepository.findById(attachmentId)
                 .map(attachment -> {
+                    attachment.getTicket().touch();
                     ticketAttachmentRepository.delete(attachment);
+                    eventPublisher.publishEvent(new TicketUpdatedEvent(
+                            attachment.getTicket().getId(), SecurityUtil.getCurrentUserId()));
                     return true;
                 })
                 .orElse(false);
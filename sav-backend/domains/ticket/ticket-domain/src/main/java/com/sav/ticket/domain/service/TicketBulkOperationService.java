@@ -0,0 +1,260 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.common.service.MetricsServicePort;
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.repository.TicketRepositoryPort;
+import com.sav.user.domain.entity.User;
+import com.sav.user.domain.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one action to many tickets
+ * Permissions and the target user are resolved once; tickets are loaded and written in chunks
+ * (one SELECT ... IN and one JDBC batch of UPDATEs per chunk) and each chunk publishes a single event
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketBulkOperationService {
+
+    public static final int MAX_BULK_SIZE = 2000;
+    // One SELECT ... IN and a few JDBC batches (hibernate.jdbc.batch_size) per transaction
+    private static final int CHUNK_SIZE = 200;
+
+    private final TicketRepositoryPort ticketRepository;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricsServicePort metricsService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Run a bulk action - every requested ticket gets a result, in request order
+     */
+    public BulkOperationResult execute(BulkAction action, List<Long> ticketIds, String assignedUserId,
+                                       Team team, Priority priority, String actorId) {
+        if (action == null) {
+            throw new IllegalArgumentException("Bulk action is required");
+        }
+        List<Long> ids = ticketIds == null ? List.of() : List.copyOf(new LinkedHashSet<>(ticketIds));
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one ticket ID is required");
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Cannot process more than " + MAX_BULK_SIZE + " tickets at once");
+        }
+
+        User actor = userService.getUserById(actorId)
+                .filter(User::canAssignTickets)
+                .orElseThrow(() -> new SecurityException("User " + actorId + " is not authorized to run bulk operations"));
+
+        BulkChange change = prepare(action, assignedUserId, team, priority, actor);
+
+        log.info("Bulk {} on {} tickets by {}", action, ids.size(), actorId);
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            results.addAll(executeChunk(change, ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()))));
+        }
+
+        BulkOperationResult result = new BulkOperationResult(action, results);
+        log.info("Bulk {} finished: {} updated, {} skipped, {} failed",
+                action, result.count(BulkOutcome.UPDATED), result.count(BulkOutcome.SKIPPED), result.count(BulkOutcome.FAILED));
+        return result;
+    }
+
+    /**
+     * Validate the action's arguments once, before touching any ticket
+     */
+    private BulkChange prepare(BulkAction action, String assignedUserId, Team team, Priority priority, User actor) {
+        return switch (action) {
+            case ASSIGN_USER -> {
+                if (assignedUserId == null || assignedUserId.isBlank()) {
+                    throw new IllegalArgumentException("User ID is required to assign tickets");
+                }
+                User assignee = userService.getUserById(assignedUserId.trim())
+                        .orElseThrow(() -> new IllegalArgumentException("User with ID " + assignedUserId + " not found"));
+                if (assignee.getStatus() != UserStatus.ACTIVE) {
+                    throw new IllegalArgumentException("User " + assignee.getId() + " is not active (status: " + assignee.getStatus() + ")");
+                }
+                if (!assignee.canAssignTickets()) {
+                    throw new IllegalArgumentException("User " + assignee.getId() + " with role " + assignee.getRole() + " cannot be assigned tickets");
+                }
+                yield new BulkChange(action, actor, assignee, null, null);
+            }
+            case ASSIGN_TEAM -> {
+                if (team == null) {
+                    throw new IllegalArgumentException("Team is required to assign tickets to a team");
+                }
+                yield new BulkChange(action, actor, null, team, null);
+            }
+            case CHANGE_PRIORITY -> {
+                if (priority == null) {
+                    throw new IllegalArgumentException("Priority is required to change ticket priority");
+                }
+                yield new BulkChange(action, actor, null, null, priority);
+            }
+            case CLOSE -> new BulkChange(action, actor, null, null, null);
+        };
+    }
+
+    private List<BulkItemResult> executeChunk(BulkChange change, List<Long> ids) {
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        List<TicketsBulkUpdatedEvent.Change> changes = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Ticket> tickets = ticketRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+                for (Long id : ids) {
+                    Ticket ticket = tickets.get(id);
+                    if (ticket == null) {
+                        results.add(new BulkItemResult(id, BulkOutcome.FAILED, "Ticket not found"));
+                        continue;
+                    }
+                    try {
+                        TicketSnapshot before = ticket.snapshot();
+                        String skipReason = apply(change, ticket);
+                        if (skipReason != null) {
+                            results.add(new BulkItemResult(id, BulkOutcome.SKIPPED, skipReason));
+                        } else {
+                            changes.add(new TicketsBulkUpdatedEvent.Change(
+                                    id, before.status(), ticket.getStatus(), before));
+                            results.add(new BulkItemResult(id, BulkOutcome.UPDATED, null));
+                        }
+                    } catch (IllegalArgumentException | IllegalStateException | SecurityException e) {
+                        results.add(new BulkItemResult(id, BulkOutcome.FAILED, e.getMessage()));
+                    }
+                }
+
+                if (!changes.isEmpty()) {
+                    // Dirty tickets are written as batched UPDATEs when the chunk commits
+                    eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                            change.action().name(),
+                            changes,
+                            change.assignee() != null ? change.assignee().getId() : null,
+                            change.team(),
+                            change.priority(),
+                            change.actor().getId()));
+                }
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // Nothing in the chunk was written - typically a concurrent edit detected by the version check
+            log.warn("Bulk {} chunk of {} tickets rolled back: {}", change.action(), ids.size(), e.getMessage());
+            return ids.stream()
+                    .map(id -> new BulkItemResult(id, BulkOutcome.FAILED, "Concurrent modification, retry this ticket"))
+                    .toList();
+        }
+
+        recordMetrics(change, changes);
+        return results;
+    }
+
+    /**
+     * Apply the change to one ticket in memory
+     * Returns a reason when the ticket is left as is, throws when the change is not allowed
+     */
+    private String apply(BulkChange change, Ticket ticket) {
+        User actor = change.actor();
+        boolean isAdmin = actor.getRole() == UserRole.ADMIN;
+
+        switch (change.action()) {
+            case ASSIGN_USER -> {
+                User assignee = change.assignee();
+                if (assignee.getId().equals(ticket.getAssignedUserId())) {
+                    return "Already assigned to " + assignee.getId();
+                }
+                if (ticket.getAssignedTeam() != null) {
+                    TicketService.validateTeamAssignment(ticket.getAssignedTeam(), assignee);
+                }
+                ticket.setAssignedUserId(assignee.getId());
+                ticket.setStatus(TicketStatus.IN_PROGRESS);
+            }
+            case ASSIGN_TEAM -> {
+                if (change.team() == ticket.getAssignedTeam()) {
+                    return "Already assigned to team " + change.team();
+                }
+                ticket.setAssignedTeam(change.team());
+                if (ticket.getStatus() == TicketStatus.OPEN) {
+                    ticket.setStatus(TicketStatus.ASSIGNED);
+                }
+            }
+            case CHANGE_PRIORITY -> {
+                if (!isAdmin && !actor.getId().equals(ticket.getAssignedUserId())) {
+                    throw new SecurityException("Not authorized to modify ticket " + ticket.getId());
+                }
+                if (change.priority() == ticket.getPriority()) {
+                    return "Priority is already " + change.priority();
+                }
+                TicketService.validatePriorityTypeCombination(change.priority(), ticket.getType());
+                ticket.setPriority(change.priority());
+            }
+            case CLOSE -> {
+                if (!isAdmin && !actor.getId().equals(ticket.getAssignedUserId())) {
+                    throw new SecurityException("Not authorized to close ticket " + ticket.getId());
+                }
+                if (ticket.getStatus() == TicketStatus.CLOSED) {
+                    return "Already closed";
+                }
+                if (!TicketService.isValidClosureStatus(ticket.getStatus())) {
+                    throw new IllegalStateException("Cannot close ticket in status: " + ticket.getStatus());
+                }
+                ticket.setStatus(TicketStatus.CLOSED);
+            }
+        }
+        return null;
+    }
+
+    private void recordMetrics(BulkChange change, List<TicketsBulkUpdatedEvent.Change> changes) {
+        String actorId = change.actor().getId();
+        for (TicketsBulkUpdatedEvent.Change c : changes) {
+            if (change.assignee() != null) {
+                metricsService.incrementTicketAssigned(change.assignee().getId(), actorId);
+            }
+            if (c.statusChanged()) {
+                metricsService.incrementTicketStatusChanged(c.oldStatus().name(), c.newStatus().name(), actorId);
+            }
+        }
+    }
+
+    public enum BulkAction {
+        ASSIGN_USER,
+        ASSIGN_TEAM,
+        CHANGE_PRIORITY,
+        CLOSE
+    }
+
+    public enum BulkOutcome {
+        UPDATED,
+        SKIPPED,
+        FAILED
+    }
+
+    private record BulkChange(BulkAction action, User actor, User assignee, Team team, Priority priority) {}
+
+    public record BulkItemResult(Long ticketId, BulkOutcome outcome, String message) {}
+
+    public record BulkOperationResult(BulkAction action, List<BulkItemResult> results) {
+        public long count(BulkOutcome outcome) {
+            return results.stream().filter(r -> r.outcome() == outcome).count();
+        }
+    }
+}
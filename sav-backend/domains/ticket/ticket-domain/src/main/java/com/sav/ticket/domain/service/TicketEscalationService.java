@@ -2,20 +2,21 @@ package com.sav.ticket.domain.service;
 
 import com.sav.common.enums.Priority;
 import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.ticket.TicketSlaBreachedEvent;
 import com.sav.ticket.domain.entity.Ticket;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
+import com.sav.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.List;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * Service for handling ticket escalation based on priority and time
+ * Service for handling ticket escalation when a ticket breaches its SLA
+ * Breaches come from TicketSlaService, which publishes each of them once
  */
 @Service
 @RequiredArgsConstructor
@@ -25,34 +26,21 @@ public class TicketEscalationService {
 
     private final TicketRepositoryPort ticketRepository;
     private final TicketAssignmentService ticketAssignmentService;
-
-    // Escalation time thresholds in hours
-    private static final int ESCALATION_HOURS_CRITICAL = 4;
-    private static final int ESCALATION_HOURS_HIGH = 24;
-    private static final int ESCALATION_HOURS_MEDIUM = 48;
-    private static final int ESCALATION_HOURS_LOW = 72;
+    private final TicketSlaService ticketSlaService;
 
     /**
-     * Check for tickets that need escalation
-     * Runs every hour
+     * Escalate a ticket as soon as its SLA is breached
+     * Runs asynchronously after the breach committed, so it opens its own write transaction and assigns as the
+     * system rather than as a current user
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
-    public void checkForEscalations() {
-        log.info("Checking for ticket escalations...");
-        
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleSlaBreached(TicketSlaBreachedEvent event) {
         try {
-            // Get all open and assigned tickets
-            List<Ticket> openTickets = ticketRepository.findByStatus(TicketStatus.OPEN);
-            List<Ticket> assignedTickets = ticketRepository.findByStatus(TicketStatus.ASSIGNED);
-            
-            // Check each ticket for escalation
-            checkTicketsForEscalation(openTickets);
-            checkTicketsForEscalation(assignedTickets);
-            
-            log.info("Escalation check completed");
+            ticketRepository.findById(event.getTicketId()).ifPresent(this::escalate);
         } catch (Exception e) {
-            log.error("Error during escalation check", e);
+            log.error("Error escalating ticket {}", event.getTicketId(), e);
         }
     }
 
@@ -60,87 +48,52 @@ public class TicketEscalationService {
      * Check if a specific ticket needs escalation
      */
     public boolean needsEscalation(Ticket ticket) {
-        if (ticket == null || ticket.getCreatedAt() == null) {
-            return false;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdAt = ticket.getCreatedAt();
-        long hoursSinceCreation = java.time.Duration.between(createdAt, now).toHours();
-
-        return switch (ticket.getPriority()) {
-            case CRITICAL -> hoursSinceCreation >= ESCALATION_HOURS_CRITICAL;
-            case HIGH -> hoursSinceCreation >= ESCALATION_HOURS_HIGH;
-            case MEDIUM -> hoursSinceCreation >= ESCALATION_HOURS_MEDIUM;
-            case LOW -> hoursSinceCreation >= ESCALATION_HOURS_LOW;
-        };
+        return ticket != null && ticket.getId() != null && ticketSlaService.isBreached(ticket.getId());
     }
 
     /**
      * Escalate a ticket
+     * Only tickets nobody has started on (open or assigned) are handed to an available technician
      */
     @Transactional
     public void escalateTicket(Ticket ticket) {
+        escalate(ticket);
+    }
+
+    private void escalate(Ticket ticket) {
         if (ticket == null || !needsEscalation(ticket)) {
             return;
         }
+        if (ticket.getStatus() != TicketStatus.OPEN && ticket.getStatus() != TicketStatus.ASSIGNED) {
+            return;
+        }
 
-        log.warn("Escalating ticket {} with priority {} - created {} hours ago", 
-                ticket.getId(), ticket.getPriority(), 
-                java.time.Duration.between(ticket.getCreatedAt(), LocalDateTime.now()).toHours());
+        log.warn("Escalating ticket {} with priority {} - SLA breached", ticket.getId(), ticket.getPriority());
 
         // Try to auto-assign to available technician
         try {
-            // Get available technicians and assign to the first one
-            var availableUsers = ticketAssignmentService.getAvailableUsersForAssignment();
-            if (!availableUsers.isEmpty()) {
-                ticketAssignmentService.assignTicketToUser(ticket.getId(), availableUsers.get(0).getId());
-            }
+            // Get available technicians and hand the ticket to the first one not already holding it
+            ticketAssignmentService.getAvailableUsersForAssignment().stream()
+                    .map(User::getId)
+                    .filter(userId -> !userId.equals(ticket.getAssignedUserId()))
+                    .findFirst()
+                    .ifPresent(userId -> ticketAssignmentService.assignTicketAsSystem(ticket.getId(), userId));
         } catch (Exception e) {
             log.error("Failed to auto-assign escalated ticket {}", ticket.getId(), e);
         }
-
-        // Publish escalation event
-        // eventPublisher.publishEvent(new TicketEscalatedEvent(ticket.getId(), ticket.getPriority()));
-        
-        // Update ticket with escalation flag or metadata
-        // This could be added to the Ticket entity if needed
     }
 
     /**
-     * Get escalation time for a priority
+     * Get escalation time for a priority (its SLA target, in hours of the policy's calendar)
      */
     public int getEscalationHours(Priority priority) {
-        return switch (priority) {
-            case CRITICAL -> ESCALATION_HOURS_CRITICAL;
-            case HIGH -> ESCALATION_HOURS_HIGH;
-            case MEDIUM -> ESCALATION_HOURS_MEDIUM;
-            case LOW -> ESCALATION_HOURS_LOW;
-        };
+        return (int) ticketSlaService.getPolicy(priority, null).target().toHours();
     }
 
     /**
-     * Check if ticket is approaching escalation
+     * Check if ticket is approaching escalation (past the SLA warning threshold)
      */
     public boolean isApproachingEscalation(Ticket ticket) {
-        if (ticket == null || ticket.getCreatedAt() == null) {
-            return false;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdAt = ticket.getCreatedAt();
-        long hoursSinceCreation = java.time.Duration.between(createdAt, now).toHours();
-        int escalationHours = getEscalationHours(ticket.getPriority());
-
-        // Consider approaching if within 1 hour of escalation
-        return hoursSinceCreation >= (escalationHours - 1) && hoursSinceCreation < escalationHours;
-    }
-
-    private void checkTicketsForEscalation(List<Ticket> tickets) {
-        for (Ticket ticket : tickets) {
-            if (needsEscalation(ticket)) {
-                escalateTicket(ticket);
-            }
-        }
+        return ticket != null && ticket.getId() != null && ticketSlaService.isAtRisk(ticket.getId());
     }
 }
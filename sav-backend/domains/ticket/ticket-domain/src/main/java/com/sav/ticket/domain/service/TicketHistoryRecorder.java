@@ -0,0 +1,178 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketCreatedEvent;
+import com.sav.common.events.ticket.TicketPriorityChangedEvent;
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketTeamChangedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.ticket.domain.repository.TicketEventStorePort;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketHistoryEvent.Kind;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Turns committed ticket events into ticket_events rows
+ * Events are buffered and written in batches by a background flush; when the buffer is full the
+ * publishing thread flushes it itself, so bursts slow writers down rather than losing history
+ */
+@Service
+@Slf4j
+public class TicketHistoryRecorder {
+
+    private final TicketEventStorePort eventStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<TicketHistoryEvent> buffer;
+
+    public TicketHistoryRecorder(TicketEventStorePort eventStore,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${sav.tickets.history.enabled:true}") boolean enabled,
+                                 @Value("${sav.tickets.history.buffer-size:10000}") int bufferSize,
+                                 @Value("${sav.tickets.history.batch-size:500}") int batchSize) {
+        this.eventStore = eventStore;
+        // Own transaction per batch - flushes may run from an after-commit callback of the publisher's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketCreated(TicketCreatedEvent event) {
+        record(new TicketHistoryEvent(event.getTicketId(), at(event.getOccurredAt()), Kind.CREATED,
+                null, TicketStatus.OPEN, event.getCreatedBy(), event.getPriority().name(), null,
+                new TicketSnapshot(TicketStatus.OPEN, event.getPriority(), event.getType(), null)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketStatusChanged(TicketStatusChangedEvent event) {
+        record(new TicketHistoryEvent(event.getTicketId(), at(event.getOccurredAt()), Kind.STATUS_CHANGED,
+                event.getOldStatus(), event.getNewStatus(), event.getChangedBy(), null, null, event.getTicket()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketAssigned(TicketAssignedEvent event) {
+        record(new TicketHistoryEvent(event.getTicketId(), at(event.getOccurredAt()), Kind.ASSIGNED,
+                null, null, event.getAssignedBy(), event.getAssignedTo(), null, event.getTicket()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketTeamChanged(TicketTeamChangedEvent event) {
+        record(new TicketHistoryEvent(event.getTicketId(), at(event.getOccurredAt()), Kind.TEAM_CHANGED,
+                null, null, event.getChangedBy(), name(event.getNewTeam()), name(event.getOldTeam()),
+                event.getTicket()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketPriorityChanged(TicketPriorityChangedEvent event) {
+        record(new TicketHistoryEvent(event.getTicketId(), at(event.getOccurredAt()), Kind.PRIORITY_CHANGED,
+                null, null, event.getChangedBy(), name(event.getNewPriority()), name(event.getOldPriority()),
+                event.getTicket()));
+    }
+
+    /**
+     * Rows follow the order status, assignee, team, priority, each with the ticket as of its own change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        LocalDateTime at = at(event.getOccurredAt());
+        String actor = event.getChangedBy();
+        for (TicketsBulkUpdatedEvent.Change change : event.getChanges()) {
+            TicketSnapshot before = change.before();
+            TicketSnapshot ticket = before;
+            if (change.statusChanged()) {
+                ticket = ticket != null ? ticket.withStatus(change.newStatus()) : null;
+                record(new TicketHistoryEvent(change.ticketId(), at, Kind.STATUS_CHANGED,
+                        change.oldStatus(), change.newStatus(), actor, null, null, ticket));
+            }
+            if (event.getAssignedTo() != null) {
+                record(new TicketHistoryEvent(change.ticketId(), at, Kind.ASSIGNED,
+                        null, null, actor, event.getAssignedTo(), null, ticket));
+            }
+            if (event.getTeam() != null) {
+                ticket = ticket != null ? ticket.withTeam(event.getTeam()) : null;
+                record(new TicketHistoryEvent(change.ticketId(), at, Kind.TEAM_CHANGED,
+                        null, null, actor, event.getTeam().name(), before != null ? name(before.team()) : null,
+                        ticket));
+            }
+            if (event.getPriority() != null) {
+                ticket = ticket != null ? ticket.withPriority(event.getPriority()) : null;
+                record(new TicketHistoryEvent(change.ticketId(), at, Kind.PRIORITY_CHANGED,
+                        null, null, actor, event.getPriority().name(),
+                        before != null ? name(before.priority()) : null, ticket));
+            }
+        }
+    }
+
+    /**
+     * Write everything buffered so far, batch by batch
+     */
+    @Scheduled(fixedDelayString = "${sav.tickets.history.flush-interval-ms:500}")
+    public synchronized void flush() {
+        List<TicketHistoryEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> eventStore.append(batch));
+            } catch (RuntimeException e) {
+                // Keep the batch for the next flush; rows carry their own timestamps, so order does not matter
+                int requeued = 0;
+                for (TicketHistoryEvent event : batch) {
+                    if (buffer.offer(event)) {
+                        requeued++;
+                    }
+                }
+                log.error("Could not write {} ticket history events ({} kept for retry)",
+                        batch.size(), requeued, e);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void record(TicketHistoryEvent event) {
+        if (!enabled || event.ticketId() == null) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            flush();
+            if (!buffer.offer(event)) {
+                log.error("Ticket history buffer full, dropped {} event for ticket {}", event.kind(), event.ticketId());
+            }
+        }
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static LocalDateTime at(Instant occurredAt) {
+        // Same zone as the tickets' own LocalDateTime columns
+        return LocalDateTime.ofInstant(occurredAt, ZoneId.systemDefault());
+    }
+}
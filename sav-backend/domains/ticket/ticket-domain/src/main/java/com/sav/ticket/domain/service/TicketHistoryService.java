@@ -0,0 +1,95 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.repository.TicketEventStorePort;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Time-travel and analytics reads over ticket_events; never touches the tickets table
+ * Events reach the store within one flush interval of their commit (see {@link TicketHistoryRecorder})
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TicketHistoryService {
+
+    private final TicketEventStorePort eventStore;
+
+    /**
+     * A ticket's events up to the given instant, oldest first
+     */
+    public List<TicketHistoryEvent> getEvents(Long ticketId, LocalDateTime until) {
+        return eventStore.findByTicketIdUntil(ticketId, until);
+    }
+
+    /**
+     * Rebuild a ticket's state as it was at the given instant by replaying its events
+     * Empty when nothing was recorded for the ticket by then; fields no event has set yet stay null
+     */
+    public Optional<TicketState> getStateAt(Long ticketId, LocalDateTime at) {
+        List<TicketHistoryEvent> events = eventStore.findByTicketIdUntil(ticketId, at);
+        if (events.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LocalDateTime createdAt = null;
+        TicketStatus status = null;
+        Priority priority = null;
+        Team team = null;
+        String assignedUserId = null;
+        for (TicketHistoryEvent event : events) {
+            switch (event.kind()) {
+                case CREATED -> {
+                    createdAt = event.at();
+                    if (event.toStatus() != null) {
+                        status = event.toStatus();
+                    }
+                    if (event.detail() != null) {
+                        priority = Priority.valueOf(event.detail());
+                    }
+                }
+                case STATUS_CHANGED -> status = event.toStatus();
+                case ASSIGNED -> assignedUserId = event.detail();
+                case TEAM_CHANGED -> team = event.detail() != null ? Team.valueOf(event.detail()) : null;
+                case PRIORITY_CHANGED -> priority = Priority.valueOf(event.detail());
+            }
+        }
+
+        return Optional.of(new TicketState(ticketId, at, status, priority, team, assignedUserId, createdAt,
+                events.get(events.size() - 1).at(), events.size()));
+    }
+
+    /**
+     * Hand every event in [from, to) to the consumer in time order, streamed from the database
+     */
+    public void forEachEventBetween(LocalDateTime from, LocalDateTime to, Consumer<TicketHistoryEvent> consumer) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        eventStore.forEachBetween(from, to, consumer);
+    }
+
+    /**
+     * A ticket as the history says it was at a given instant
+     */
+    public record TicketState(
+            Long ticketId,
+            LocalDateTime at,
+            TicketStatus status,
+            Priority priority,
+            Team assignedTeam,
+            String assignedUserId,
+            LocalDateTime createdAt,
+            LocalDateTime lastChangedAt,
+            int eventCount) {}
+}
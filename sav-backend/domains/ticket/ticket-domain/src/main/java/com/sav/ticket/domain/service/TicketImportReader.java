@@ -0,0 +1,228 @@
+package com.sav.ticket.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sav.ticket.domain.entity.TicketImportJob.ImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming readers for import files - only the current record is held in memory
+ * Field names are matched loosely (case, '_', '-' and spaces ignored) so legacy exports
+ * using created_by_user_id or "Created By User Id" map to the same field
+ */
+abstract class TicketImportReader implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    protected final BufferedReader reader;
+    protected long recordNumber;
+
+    protected TicketImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    static TicketImportReader open(ImportFormat format, Reader reader) {
+        return switch (format) {
+            case CSV -> new CsvReader(reader);
+            case NDJSON -> new NdjsonReader(reader);
+        };
+    }
+
+    /**
+     * Next record, or null at the end of the input
+     * Malformed records are returned with a parse error rather than aborting the import
+     */
+    abstract RawRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static String normalizeKey(String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c != '_' && c != '-' && !Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One record as read from the file, before validation
+     */
+    record RawRecord(long number, Map<String, String> fields, List<Map<String, String>> messages, String parseError) {
+
+        static RawRecord invalid(long number, String parseError) {
+            return new RawRecord(number, Map.of(), List.of(), parseError);
+        }
+
+        String field(String name) {
+            String value = fields.get(name);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV: quoted fields may contain separators, doubled quotes and line breaks
+     * The first row is the header; tickets only (no messages)
+     */
+    private static final class CsvReader extends TicketImportReader {
+
+        private List<String> header;
+
+        CsvReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        RawRecord next() throws IOException {
+            if (header == null) {
+                List<String> headerRow = readRow();
+                if (headerRow == null) {
+                    return null;
+                }
+                header = headerRow.stream().map(TicketImportReader::normalizeKey).toList();
+            }
+
+            List<String> row;
+            do {
+                row = readRow();
+                if (row == null) {
+                    return null;
+                }
+            } while (row.size() == 1 && row.get(0).isBlank());
+
+            recordNumber++;
+            if (row.size() != header.size()) {
+                return RawRecord.invalid(recordNumber,
+                        "Expected " + header.size() + " columns but found " + row.size());
+            }
+
+            Map<String, String> fields = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), row.get(i));
+            }
+            return new RawRecord(recordNumber, fields, List.of(), null);
+        }
+
+        private List<String> readRow() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean readAny = false;
+            int c;
+
+            while ((c = reader.read()) != -1) {
+                readAny = true;
+                char ch = (char) c;
+                if (inQuotes) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        int nextChar = reader.read();
+                        if (nextChar == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            if (nextChar != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append(ch);
+                    }
+                } else if (ch == '"' && field.isEmpty()) {
+                    inQuotes = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (ch != '\r') {
+                    field.append(ch);
+                }
+            }
+
+            if (!readAny) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    /**
+     * Newline-delimited JSON: one ticket object per line, with an optional "messages" array
+     */
+    private static final class NdjsonReader extends TicketImportReader {
+
+        NdjsonReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        RawRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            recordNumber++;
+            JsonNode node;
+            try {
+                node = OBJECT_MAPPER.readTree(line);
+            } catch (JsonProcessingException e) {
+                return RawRecord.invalid(recordNumber, "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                return RawRecord.invalid(recordNumber, "Expected a JSON object");
+            }
+
+            List<Map<String, String>> messages = new ArrayList<>();
+            JsonNode messagesNode = node.get("messages");
+            if (messagesNode != null && !messagesNode.isNull()) {
+                if (!messagesNode.isArray()) {
+                    return RawRecord.invalid(recordNumber, "\"messages\" must be an array");
+                }
+                for (JsonNode message : messagesNode) {
+                    if (!message.isObject()) {
+                        return RawRecord.invalid(recordNumber, "Each message must be a JSON object");
+                    }
+                    messages.add(toFields(message));
+                }
+            }
+
+            return new RawRecord(recordNumber, toFields(node), messages, null);
+        }
+
+        private static Map<String, String> toFields(JsonNode node) {
+            Map<String, String> fields = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode value = entry.getValue();
+                if (value.isValueNode() && !value.isNull()) {
+                    fields.put(normalizeKey(entry.getKey()), value.asText());
+                }
+            }
+            return fields;
+        }
+    }
+}
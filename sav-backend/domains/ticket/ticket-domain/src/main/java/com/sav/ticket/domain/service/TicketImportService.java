@@ -0,0 +1,490 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.common.events.ticket.TicketsImportedEvent;
+import com.sav.common.util.InputSanitizer;
+import com.sav.ticket.domain.entity.TicketImportJob;
+import com.sav.ticket.domain.entity.TicketImportJob.ImportFormat;
+import com.sav.ticket.domain.entity.TicketImportJob.ImportStatus;
+import com.sav.ticket.domain.repository.ImportedBatch;
+import com.sav.ticket.domain.repository.ImportedTicket;
+import com.sav.ticket.domain.repository.TicketImportJobRepositoryPort;
+import com.sav.ticket.domain.repository.TicketImportWriterPort;
+import com.sav.ticket.domain.service.TicketImportReader.RawRecord;
+import com.sav.user.domain.repository.UserSummaryProjection;
+import com.sav.user.domain.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk ticket import from CSV or NDJSON files
+ * Files are parsed as a stream, each batch is validated in parallel, then written with batched
+ * inserts together with the job checkpoint. Imported tickets are historical data: they skip
+ * auto-assignment and per-ticket creation events. Their history is written with the batch, and one
+ * TicketsImportedEvent per batch lets the SLA engine start their clocks
+ */
+@Service
+@Slf4j
+public class TicketImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 5000;
+    private static final int MAX_MESSAGE_LENGTH = 10000;
+    private static final DateTimeFormatter SPACE_SEPARATED = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]");
+
+    private final TicketImportJobRepositoryPort jobRepository;
+    private final TicketImportWriterPort importWriter;
+    private final UserService userService;
+    private final InputSanitizer inputSanitizer;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor importExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path storageDir;
+    private final int batchSize;
+
+    public TicketImportService(TicketImportJobRepositoryPort jobRepository,
+                               TicketImportWriterPort importWriter,
+                               UserService userService,
+                               InputSanitizer inputSanitizer,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("importTaskExecutor") TaskExecutor importExecutor,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${sav.imports.storage-dir:${java.io.tmpdir}/sav-imports}") String storageDir,
+                               @Value("${sav.imports.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.importWriter = importWriter;
+        this.userService = userService;
+        this.inputSanitizer = inputSanitizer;
+        this.transactionTemplate = transactionTemplate;
+        this.importExecutor = importExecutor;
+        this.eventPublisher = eventPublisher;
+        this.storageDir = Path.of(storageDir);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Store the uploaded file and start importing it in the background
+     */
+    public TicketImportJob startImport(ImportFormat format, String originalFilename,
+                                       InputStream content, String createdByUserId) throws IOException {
+        if (format == null) {
+            throw new IllegalArgumentException("Import format is required (CSV or NDJSON)");
+        }
+
+        // Kept on disk so a failed or interrupted job can be resumed
+        Files.createDirectories(storageDir);
+        Path target = storageDir.resolve(UUID.randomUUID() + "." + format.name().toLowerCase(Locale.ROOT));
+        Files.copy(content, target);
+
+        TicketImportJob job = jobRepository.save(TicketImportJob.builder()
+                .format(format)
+                .status(ImportStatus.PENDING)
+                .originalFilename(originalFilename)
+                .storedPath(target.toString())
+                .createdByUserId(createdByUserId)
+                .build());
+
+        log.info("Created {} import job {} for file '{}' by {}", format, job.getId(), originalFilename, createdByUserId);
+        submit(job);
+        return job;
+    }
+
+    /**
+     * Resume a failed or interrupted job after its last committed batch
+     */
+    public TicketImportJob resumeImport(Long jobId) {
+        TicketImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Import job not found: " + jobId));
+        if (!job.isResumable()) {
+            throw new IllegalArgumentException("Import job " + jobId + " cannot be resumed in status " + job.getStatus());
+        }
+        if (!Files.isReadable(Path.of(job.getStoredPath()))) {
+            throw new IllegalArgumentException("Import file for job " + jobId + " is no longer available");
+        }
+
+        job.setStatus(ImportStatus.PENDING);
+        job.setFinishedAt(null);
+        TicketImportJob saved = jobRepository.save(job);
+
+        log.info("Resuming import job {} after record {}", jobId, saved.getLastCommittedRecord());
+        submit(saved);
+        return saved;
+    }
+
+    public Optional<TicketImportJob> getJob(Long jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    public List<TicketImportJob> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * Jobs still RUNNING at startup were cut short by a restart - make them resumable
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        for (TicketImportJob job : jobRepository.findByStatus(ImportStatus.RUNNING)) {
+            job.setStatus(ImportStatus.INTERRUPTED);
+            jobRepository.save(job);
+            log.warn("Import job {} was interrupted at record {} and can be resumed",
+                    job.getId(), job.getLastCommittedRecord());
+        }
+    }
+
+    private void submit(TicketImportJob job) {
+        Long jobId = job.getId();
+        try {
+            importExecutor.execute(() -> run(jobId));
+        } catch (RuntimeException e) {
+            log.warn("Import job {} could not be scheduled: {}", jobId, e.getMessage());
+            finish(jobId, ImportStatus.FAILED, "Import queue is full, resume the job later");
+        }
+    }
+
+    private void run(Long jobId) {
+        TicketImportJob job = transactionTemplate.execute(status -> {
+            TicketImportJob current = jobRepository.findById(jobId).orElseThrow();
+            current.setStatus(ImportStatus.RUNNING);
+            if (current.getStartedAt() == null) {
+                current.setStartedAt(LocalDateTime.now());
+            }
+            return jobRepository.save(current);
+        });
+
+        long checkpoint = job.getLastCommittedRecord();
+        Map<String, UserSummaryProjection> knownUsers = new HashMap<>();
+        Set<String> unknownUsers = new HashSet<>();
+        long[] lastTick = {System.nanoTime()};
+
+        try (Reader fileReader = Files.newBufferedReader(Path.of(job.getStoredPath()), StandardCharsets.UTF_8);
+             TicketImportReader reader = TicketImportReader.open(job.getFormat(), fileReader)) {
+
+            List<RawRecord> batch = new ArrayList<>(batchSize);
+            RawRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.number() <= checkpoint) {
+                    continue;
+                }
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    processBatch(job, batch, knownUsers, unknownUsers, lastTick);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                processBatch(job, batch, knownUsers, unknownUsers, lastTick);
+            }
+
+            finish(jobId, ImportStatus.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("Import job {} failed", jobId, e);
+            finish(jobId, ImportStatus.FAILED, "Import stopped: " + e.getMessage());
+        }
+    }
+
+    private void processBatch(TicketImportJob job, List<RawRecord> batch,
+                              Map<String, UserSummaryProjection> knownUsers, Set<String> unknownUsers,
+                              long[] lastTick) {
+        resolveUsers(batch, job.getCreatedByUserId(), knownUsers, unknownUsers);
+
+        // Validation is CPU-only once users are resolved, so records are checked in parallel (order is kept)
+        List<ValidatedRecord> validated = batch.parallelStream()
+                .map(record -> validate(record, job.getCreatedByUserId(), knownUsers))
+                .toList();
+
+        List<ImportedTicket> tickets = validated.stream()
+                .filter(v -> v.ticket() != null)
+                .map(ValidatedRecord::ticket)
+                .toList();
+        List<String> errors = validated.stream()
+                .filter(v -> v.error() != null)
+                .map(v -> "Record " + v.number() + ": " + v.error())
+                .toList();
+        long lastRecord = batch.get(batch.size() - 1).number();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ImportedBatch written = tickets.isEmpty() ? ImportedBatch.EMPTY : importWriter.insertBatch(tickets);
+                recordProgress(job.getId(), batch.size(), tickets.size(), written.messageCount(), errors, lastRecord,
+                        lastTick);
+                publishImported(written, job.getCreatedByUserId());
+            });
+        } catch (DataAccessException e) {
+            // A row the validation could not predict (e.g. a user deleted meanwhile) - isolate it
+            log.warn("Import job {} batch ending at record {} failed, retrying records individually: {}",
+                    job.getId(), lastRecord, e.getMessage());
+            processIndividually(job.getId(), job.getCreatedByUserId(), validated, lastTick);
+        }
+    }
+
+    private void processIndividually(Long jobId, String importedBy, List<ValidatedRecord> validated,
+                                     long[] lastTick) {
+        for (ValidatedRecord record : validated) {
+            List<String> errors = record.error() != null
+                    ? List.of("Record " + record.number() + ": " + record.error())
+                    : List.of();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    ImportedBatch written = record.ticket() != null
+                            ? importWriter.insertBatch(List.of(record.ticket()))
+                            : ImportedBatch.EMPTY;
+                    recordProgress(jobId, 1, record.ticket() != null ? 1 : 0, written.messageCount(), errors,
+                            record.number(), lastTick);
+                    publishImported(written, importedBy);
+                });
+            } catch (DataAccessException e) {
+                transactionTemplate.executeWithoutResult(status -> recordProgress(jobId, 1, 0, 0,
+                        List.of("Record " + record.number() + ": rejected by the database"), record.number(), lastTick));
+            }
+        }
+    }
+
+    /**
+     * Delivered to listeners once the batch's transaction commits
+     */
+    private void publishImported(ImportedBatch written, String importedBy) {
+        if (!written.ticketIds().isEmpty()) {
+            eventPublisher.publishEvent(new TicketsImportedEvent(written.ticketIds(), importedBy));
+        }
+    }
+
+    /**
+     * Update counters and checkpoint - runs inside the transaction that wrote the batch
+     */
+    private void recordProgress(Long jobId, int processed, int imported, int messages,
+                                List<String> errors, long lastRecord, long[] lastTick) {
+        TicketImportJob job = jobRepository.findById(jobId).orElseThrow();
+        long now = System.nanoTime();
+
+        job.setProcessedRecords(job.getProcessedRecords() + processed);
+        job.setImportedTickets(job.getImportedTickets() + imported);
+        job.setImportedMessages(job.getImportedMessages() + messages);
+        job.setFailedRecords(job.getFailedRecords() + errors.size());
+        job.setLastCommittedRecord(lastRecord);
+        job.setProcessingMillis(job.getProcessingMillis() + (now - lastTick[0]) / 1_000_000);
+        appendErrors(job, errors);
+        jobRepository.save(job);
+
+        lastTick[0] = now;
+    }
+
+    private void finish(Long jobId, ImportStatus status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setFinishedAt(LocalDateTime.now());
+            if (message != null) {
+                appendErrors(job, List.of(message));
+            }
+            jobRepository.save(job);
+            log.info("Import job {} {}: {} processed, {} tickets and {} messages imported, {} failed ({} records/s)",
+                    jobId, status, job.getProcessedRecords(), job.getImportedTickets(), job.getImportedMessages(),
+                    job.getFailedRecords(), String.format("%.1f", job.getRecordsPerSecond()));
+        }));
+    }
+
+    private void appendErrors(TicketImportJob job, List<String> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        String report = job.getErrorReport() == null ? "" : job.getErrorReport();
+        int reported = report.isEmpty() ? 0 : (int) report.lines().count();
+        StringBuilder sb = new StringBuilder(report);
+        for (String error : errors) {
+            if (reported++ >= MAX_REPORTED_ERRORS) {
+                break;
+            }
+            sb.append(error).append('\n');
+        }
+        job.setErrorReport(sb.toString());
+    }
+
+    /**
+     * Look up every user referenced by the batch that has not been seen yet, with role and status, in one query
+     */
+    private void resolveUsers(List<RawRecord> batch, String importerId,
+                              Map<String, UserSummaryProjection> knownUsers, Set<String> unknownUsers) {
+        Set<String> pending = new HashSet<>();
+        pending.add(importerId);
+        for (RawRecord record : batch) {
+            addIfUnseen(pending, createdByField(record), knownUsers, unknownUsers);
+            addIfUnseen(pending, record.field("assigneduserid"), knownUsers, unknownUsers);
+            for (Map<String, String> message : record.messages()) {
+                addIfUnseen(pending, trimToNull(message.get("authorid")), knownUsers, unknownUsers);
+            }
+        }
+        pending.removeAll(knownUsers.keySet());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (UserSummaryProjection user : userService.findUserSummaries(pending)) {
+            knownUsers.put(user.getId(), user);
+            pending.remove(user.getId());
+        }
+        unknownUsers.addAll(pending);
+    }
+
+    private static void addIfUnseen(Set<String> pending, String userId,
+                                    Map<String, UserSummaryProjection> knownUsers, Set<String> unknownUsers) {
+        if (userId != null && !knownUsers.containsKey(userId) && !unknownUsers.contains(userId)) {
+            pending.add(userId);
+        }
+    }
+
+    private static String createdByField(RawRecord record) {
+        return firstNonNull(record.field("createdbyuserid"), record.field("createdby"));
+    }
+
+    private ValidatedRecord validate(RawRecord record, String importerId, Map<String, UserSummaryProjection> knownUsers) {
+        if (record.parseError() != null) {
+            return ValidatedRecord.rejected(record.number(), record.parseError());
+        }
+        try {
+            String title = record.field("title");
+            if (title == null || title.length() < 3 || title.length() > 255) {
+                throw new IllegalArgumentException("Title must be 3-255 characters long");
+            }
+
+            String description = inputSanitizer.sanitizeHtml(record.field("description"));
+            if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+                throw new IllegalArgumentException("Description cannot exceed " + MAX_DESCRIPTION_LENGTH + " characters");
+            }
+
+            TicketType type = parseEnum(TicketType.class, record.field("type"), "type");
+            Priority priority = parseEnum(Priority.class, record.field("priority"), "priority");
+            if (type == null || priority == null) {
+                throw new IllegalArgumentException("Ticket type and priority are required");
+            }
+            TicketStatus status = firstNonNull(parseEnum(TicketStatus.class, record.field("status"), "status"), TicketStatus.OPEN);
+            Team team = parseEnum(Team.class, firstNonNull(record.field("assignedteam"), record.field("team")), "team");
+            TicketService.validatePriorityTypeCombination(priority, type);
+
+            String createdBy = firstNonNull(createdByField(record), importerId);
+            requireKnownUser(createdBy, knownUsers);
+            String assignedUserId = record.field("assigneduserid");
+            if (assignedUserId != null) {
+                UserSummaryProjection assignee = requireKnownUser(assignedUserId, knownUsers);
+                if (!TicketAssignmentService.canBeAssignedTickets(assignee.getRole(), assignee.getStatus())) {
+                    throw new IllegalArgumentException("User cannot be assigned tickets: " + assignedUserId);
+                }
+            }
+
+            LocalDateTime createdAt = parseTimestamp(record.field("createdat"), "createdAt", LocalDateTime.now());
+            LocalDateTime updatedAt = parseTimestamp(record.field("updatedat"), "updatedAt", createdAt);
+
+            List<ImportedTicket.Message> messages = new ArrayList<>(record.messages().size());
+            for (Map<String, String> raw : record.messages()) {
+                String content = inputSanitizer.sanitizeHtml(trimToNull(raw.get("content")));
+                if (content == null || content.isEmpty() || content.length() > MAX_MESSAGE_LENGTH) {
+                    throw new IllegalArgumentException("Message content must be 1-" + MAX_MESSAGE_LENGTH + " characters");
+                }
+                String authorId = firstNonNull(trimToNull(raw.get("authorid")), createdBy);
+                requireKnownUser(authorId, knownUsers);
+                messages.add(new ImportedTicket.Message(
+                        content, authorId, parseTimestamp(trimToNull(raw.get("createdat")), "message createdAt", createdAt)));
+            }
+
+            return new ValidatedRecord(record.number(), new ImportedTicket(
+                    title, description, status, type, priority, createdBy, team, assignedUserId,
+                    createdAt, updatedAt, messages), null);
+        } catch (IllegalArgumentException e) {
+            return ValidatedRecord.rejected(record.number(), e.getMessage());
+        }
+    }
+
+    private static UserSummaryProjection requireKnownUser(String userId, Map<String, UserSummaryProjection> knownUsers) {
+        UserSummaryProjection user = knownUsers.get(userId);
+        if (user == null) {
+            throw new IllegalArgumentException("Unknown user: " + userId);
+        }
+        return user;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    /**
+     * Accepts ISO local or offset date-times (offsets are converted to UTC) and "yyyy-MM-dd HH:mm[:ss]"
+     */
+    private static LocalDateTime parseTimestamp(String value, String field, LocalDateTime defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+            // try the other accepted formats
+        }
+        try {
+            return OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+            // try the other accepted formats
+        }
+        try {
+            return LocalDateTime.parse(value, SPACE_SEPARATED);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    @SafeVarargs
+    private static <T> T firstNonNull(T... values) {
+        for (T value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record ValidatedRecord(long number, ImportedTicket ticket, String error) {
+        static ValidatedRecord rejected(long number, String error) {
+            return new ValidatedRecord(number, null, error);
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.sav.ticket.domain.service;
 
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.ticket.TicketMessageAddedEvent;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketUpdatedEvent;
 import com.sav.ticket.domain.entity.TicketMessage;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
 import com.sav.ticket.domain.repository.TicketMessageRepositoryPort;
+import com.sav.security.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,8 +33,16 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class TicketMessageService {
 
+    public static final int MAX_TIMELINE_SIZE = 200;
+
+    // How far behind its position a timeline cursor re-reads, for messages that committed late
+    static final Duration TIMELINE_OVERLAP = Duration.ofSeconds(10);
+    // Most ids a cursor carries for the overlap window before it falls back to a strict keyset
+    static final int MAX_SEEN_IDS = 50;
+
     private final TicketMessageRepositoryPort ticketMessageRepository;
     private final TicketRepositoryPort ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Add a message to a ticket
@@ -36,8 +60,21 @@ public class TicketMessageService {
                             .build();
 
                     TicketMessage savedMessage = ticketMessageRepository.save(message);
+                    // Advance the ticket version so cached ticket representations (ETags) are invalidated
+                    ticket.touch();
                     log.info("Added message with ID: {} to ticket: {}", savedMessage.getId(), ticketId);
 
+                    eventPublisher.publishEvent(new TicketMessageAddedEvent(ticketId, savedMessage.getId(), authorId));
+
+                    // A reply from the customer hands the ticket back to support and restarts its SLA clock
+                    if (ticket.getStatus() == TicketStatus.WAITING_FOR_CUSTOMER
+                            && authorId != null && authorId.equals(ticket.getCreatedByUserId())) {
+                        ticket.setStatus(TicketStatus.IN_PROGRESS);
+                        eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                                ticketId, TicketStatus.WAITING_FOR_CUSTOMER, TicketStatus.IN_PROGRESS, authorId,
+                                ticket.snapshot()));
+                    }
+
                     return savedMessage;
                 });
     }
@@ -49,6 +86,42 @@ public class TicketMessageService {
         return ticketMessageRepository.findByTicketIdOrderByCreatedAtAsc(ticketId);
     }
 
+    /**
+     * Get a page of the message timeline ordered by (createdAt, id)
+     * Without a cursor the timeline starts at the first message; with one, only messages not returned yet are
+     * returned, so polling with the last nextCursor fetches just the new messages.
+     * createdAt is stamped before the inserting transaction commits, so a message can become visible after a
+     * newer one was already served; the cursor therefore re-reads the last TIMELINE_OVERLAP before its position
+     * and skips the ids it already returned there. A late message is delivered on the next poll, possibly after
+     * messages that sort behind it. Where more than MAX_SEEN_IDS messages share the window (imported messages
+     * stamped with one time) the cursor falls back to a strict keyset, so it stays small and pages stay bounded
+     */
+    public MessageTimeline getMessageTimeline(Long ticketId, String since, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TIMELINE_SIZE));
+        MessageCursor cursor = StringUtils.hasText(since) ? MessageCursor.decode(since) : null;
+
+        if (cursor == null) {
+            // Fetch one extra row to know whether more messages follow without a count query
+            List<TicketMessage> rows = ticketMessageRepository.findTimeline(ticketId, PageRequest.of(0, size + 1));
+            boolean hasMore = rows.size() > size;
+            List<TicketMessage> messages = hasMore ? rows.subList(0, size) : rows;
+            String nextCursor = messages.isEmpty() ? null : MessageCursor.first(messages).encode();
+            return new MessageTimeline(messages, nextCursor, hasMore);
+        }
+
+        // The window holds at most cursor.seenIds() rows already returned, on top of one extra row
+        MessagePosition from = cursor.readFrom();
+        List<TicketMessage> rows = ticketMessageRepository.findTimelineAfter(ticketId, from.createdAt(), from.id(),
+                PageRequest.of(0, size + 1 + cursor.seenIds().size()));
+        List<TicketMessage> unseen = rows.stream()
+                .filter(message -> !cursor.seenIds().contains(message.getId()))
+                .toList();
+
+        boolean hasMore = unseen.size() > size;
+        List<TicketMessage> messages = hasMore ? unseen.subList(0, size) : unseen;
+        return new MessageTimeline(messages, cursor.advance(rows, messages, hasMore).encode(), hasMore);
+    }
+
     /**
      * Get message by ID
      */
@@ -65,9 +138,141 @@ public class TicketMessageService {
 
         return ticketMessageRepository.findById(messageId)
                 .map(message -> {
+                    message.getTicket().touch();
                     ticketMessageRepository.delete(message);
+                    eventPublisher.publishEvent(new TicketUpdatedEvent(
+                            message.getTicket().getId(), SecurityUtil.getCurrentUserId()));
                     return true;
                 })
                 .orElse(false);
     }
-}
\ No newline at end of file
+
+    /**
+     * One page of a ticket's message timeline
+     */
+    public record MessageTimeline(List<TicketMessage> messages, String nextCursor, boolean hasMore) {}
+
+    /**
+     * A (createdAt, id) point of the timeline order
+     */
+    public record MessagePosition(LocalDateTime createdAt, Long id) {
+
+        static MessagePosition of(TicketMessage message) {
+            return new MessagePosition(message.getCreatedAt(), message.getId());
+        }
+
+        boolean isAfter(MessagePosition other) {
+            int byTime = createdAt.compareTo(other.createdAt);
+            return byTime > 0 || (byTime == 0 && id > other.id);
+        }
+    }
+
+    /**
+     * Opaque timeline position, base64url encoded - the furthest message returned, the ids returned within
+     * TIMELINE_OVERLAP of it, and an optional floor the overlap never reads back past (set when the seen ids
+     * outgrew MAX_SEEN_IDS and the cursor fell back to a strict keyset)
+     */
+    public record MessageCursor(MessagePosition position, Set<Long> seenIds, MessagePosition floor) {
+
+        /**
+         * Where the next read starts: the overlap window, but not before the floor
+         */
+        MessagePosition readFrom() {
+            MessagePosition windowStart = new MessagePosition(position.createdAt().minus(TIMELINE_OVERLAP), 0L);
+            return floor != null && floor.isAfter(windowStart) ? floor : windowStart;
+        }
+
+        /**
+         * Move past the returned messages; window holds every row read from readFrom() onwards
+         * Seen ids that were not read again stay remembered only while later rows remain unread, otherwise the
+         * message is gone (deleted)
+         */
+        MessageCursor advance(List<TicketMessage> window, List<TicketMessage> returned, boolean hasMore) {
+            MessagePosition next = position;
+            if (!returned.isEmpty() && MessagePosition.of(returned.get(returned.size() - 1)).isAfter(position)) {
+                next = MessagePosition.of(returned.get(returned.size() - 1));
+            }
+            LocalDateTime windowStart = next.createdAt().minus(TIMELINE_OVERLAP);
+
+            Set<Long> returnedIds = returned.stream().map(TicketMessage::getId).collect(Collectors.toSet());
+            Set<Long> readIds = window.stream().map(TicketMessage::getId).collect(Collectors.toSet());
+            Set<Long> seen = new LinkedHashSet<>();
+            for (TicketMessage message : window) {
+                if ((returnedIds.contains(message.getId()) || seenIds.contains(message.getId()))
+                        && !message.getCreatedAt().isBefore(windowStart)) {
+                    seen.add(message.getId());
+                }
+            }
+            if (hasMore) {
+                seenIds.stream().filter(seenId -> !readIds.contains(seenId)).forEach(seen::add);
+            }
+            MessagePosition nextFloor = floor != null && !floor.createdAt().isBefore(windowStart) ? floor : null;
+            return bounded(next, seen, nextFloor);
+        }
+
+        /**
+         * Cursor after the first page
+         */
+        static MessageCursor first(List<TicketMessage> returned) {
+            TicketMessage last = returned.get(returned.size() - 1);
+            LocalDateTime windowStart = last.getCreatedAt().minus(TIMELINE_OVERLAP);
+            Set<Long> seen = returned.stream()
+                    .filter(message -> !message.getCreatedAt().isBefore(windowStart))
+                    .map(TicketMessage::getId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return bounded(MessagePosition.of(last), seen, null);
+        }
+
+        /**
+         * Too many seen ids: nothing at or before the position is read again, late commits behind it included
+         */
+        private static MessageCursor bounded(MessagePosition position, Set<Long> seen, MessagePosition floor) {
+            return seen.size() > MAX_SEEN_IDS
+                    ? new MessageCursor(position, Set.of(), position)
+                    : new MessageCursor(position, seen, floor);
+        }
+
+        public String encode() {
+            StringBuilder raw = new StringBuilder()
+                    .append(position.createdAt()).append('|').append(position.id()).append('|')
+                    .append(seenIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            if (floor != null) {
+                raw.append('|').append(floor.createdAt()).append('|').append(floor.id());
+            }
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Cursors issued before the overlap window ("createdAt|id") decode as a strict keyset, as they were read
+         */
+        public static MessageCursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", -1);
+                if (parts.length != 2 && parts.length != 3 && parts.length != 5) {
+                    throw new IllegalArgumentException("Invalid message cursor");
+                }
+                MessagePosition position = new MessagePosition(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+                if (parts.length == 2) {
+                    return new MessageCursor(position, Set.of(), position);
+                }
+                Set<Long> seen = new LinkedHashSet<>();
+                if (!parts[2].isEmpty()) {
+                    for (String seenId : parts[2].split(",")) {
+                        seen.add(Long.valueOf(seenId));
+                    }
+                }
+                if (seen.size() > MAX_SEEN_IDS) {
+                    throw new IllegalArgumentException("Invalid message cursor");
+                }
+                MessagePosition floor = parts.length == 5
+                        ? new MessagePosition(LocalDateTime.parse(parts[3]), Long.valueOf(parts[4]))
+                        : null;
+                return new MessageCursor(position, seen, floor);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid message cursor: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.ticket.domain.repository.TicketRollup;
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+import com.sav.ticket.domain.repository.TicketRollupPort;
+import com.sav.ticket.domain.repository.TicketRollupPort.DimensionBacklog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Ticket reports for arbitrary date ranges, assembled from ticket_rollups only
+ * Cost depends on the number of buckets in the range, not on the number of tickets
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TicketReportService {
+
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(3 * 366);
+    private static final String ALL = "ALL";
+
+    public enum GroupBy {
+        NONE,
+        PRIORITY,
+        TYPE,
+        TEAM;
+
+        String keyOf(String priority, String type, String team) {
+            return switch (this) {
+                case NONE -> ALL;
+                case PRIORITY -> priority;
+                case TYPE -> type;
+                case TEAM -> team;
+            };
+        }
+    }
+
+    private final TicketRollupPort rollupPort;
+
+    /**
+     * Counts, backlog and resolution times per bucket in [from, to), optionally split by one dimension
+     * from is rounded down to its bucket; the backlog is the number of active tickets at the end of each bucket
+     */
+    public TicketReport getReport(LocalDateTime from, LocalDateTime to, Granularity granularity, GroupBy groupBy) {
+        LocalDateTime start = granularity.truncate(from);
+        if (!start.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        Duration maxRange = granularity == Granularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(start, to).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException(granularity + " reports cover at most " + maxRange.toDays() + " days");
+        }
+
+        Map<String, Long> backlog = new HashMap<>();
+        for (DimensionBacklog baseline : rollupPort.findBacklogBefore(start)) {
+            backlog.merge(groupBy.keyOf(baseline.priority(), baseline.type(), baseline.team()),
+                    baseline.backlog(), Long::sum);
+        }
+
+        Map<String, Map<LocalDateTime, Totals>> buckets = new TreeMap<>();
+        for (TicketRollup row : rollupPort.findBetween(granularity, start, to)) {
+            buckets.computeIfAbsent(groupBy.keyOf(row.priority(), row.type(), row.team()), key -> new HashMap<>())
+                    .computeIfAbsent(row.bucketStart(), bucket -> new Totals())
+                    .add(row);
+        }
+
+        TreeSet<String> keys = new TreeSet<>(buckets.keySet());
+        backlog.forEach((key, value) -> {
+            if (value != 0) {
+                keys.add(key);
+            }
+        });
+        if (groupBy == GroupBy.NONE) {
+            keys.add(ALL);
+        }
+
+        List<Series> series = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Map<LocalDateTime, Totals> byBucket = buckets.getOrDefault(key, Map.of());
+            long running = backlog.getOrDefault(key, 0L);
+            Totals range = new Totals();
+            List<Point> points = new ArrayList<>();
+            for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = granularity.next(bucket)) {
+                Totals totals = byBucket.getOrDefault(bucket, new Totals());
+                running += totals.backlogDelta;
+                range.add(totals);
+                points.add(totals.toPoint(bucket, running));
+            }
+            series.add(new Series(key, points, range.toPoint(start, running)));
+        }
+
+        return new TicketReport(start, to, granularity, groupBy, series);
+    }
+
+    public record TicketReport(LocalDateTime from, LocalDateTime to, Granularity granularity, GroupBy groupBy,
+                               List<Series> series) {}
+
+    /**
+     * One group's buckets, plus the whole range folded into a single point
+     */
+    public record Series(String key, List<Point> points, Point total) {}
+
+    /**
+     * @param backlog active tickets at the end of the bucket
+     */
+    public record Point(LocalDateTime bucketStart, long created, long resolved, long closed, long reopened,
+                        long backlog, long resolutions, Double meanResolutionHours, Double p90ResolutionHours) {}
+
+    private static final class Totals {
+        private long created;
+        private long resolved;
+        private long closed;
+        private long reopened;
+        private long backlogDelta;
+        private long resolutionCount;
+        private long resolutionSeconds;
+        private final long[] histogram = new long[TicketRollupService.RESOLUTION_BOUNDS.length + 1];
+
+        void add(TicketRollup row) {
+            created += row.createdCount();
+            resolved += row.resolvedCount();
+            closed += row.closedCount();
+            reopened += row.reopenedCount();
+            backlogDelta += row.backlogDelta();
+            resolutionCount += row.resolutionCount();
+            resolutionSeconds += row.resolutionSeconds();
+            long[] rowHistogram = row.resolutionHistogram();
+            for (int i = 0; i < Math.min(histogram.length, rowHistogram.length); i++) {
+                histogram[i] += rowHistogram[i];
+            }
+        }
+
+        void add(Totals other) {
+            created += other.created;
+            resolved += other.resolved;
+            closed += other.closed;
+            reopened += other.reopened;
+            backlogDelta += other.backlogDelta;
+            resolutionCount += other.resolutionCount;
+            resolutionSeconds += other.resolutionSeconds;
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+        }
+
+        Point toPoint(LocalDateTime bucketStart, long backlog) {
+            Double mean = resolutionCount > 0 ? resolutionSeconds / 3600.0 / resolutionCount : null;
+            return new Point(bucketStart, created, resolved, closed, reopened, backlog, resolutionCount, mean,
+                    TicketRollupService.quantileHours(histogram, 0.9));
+        }
+    }
+}
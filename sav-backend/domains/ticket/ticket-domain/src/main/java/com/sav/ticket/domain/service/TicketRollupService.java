@@ -0,0 +1,245 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketRollup;
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+import com.sav.ticket.domain.repository.TicketRollupPort;
+import com.sav.ticket.domain.repository.TicketRollupSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds ticket_events into hourly and daily ticket_rollups, incrementally from a watermark
+ * Each batch adds its deltas and advances the watermark in one transaction, so every event is
+ * counted exactly once however many nodes run the job
+ */
+@Service
+@Slf4j
+public class TicketRollupService {
+
+    /**
+     * Upper bounds of the resolution time histogram; the last bucket holds everything longer
+     */
+    public static final Duration[] RESOLUTION_BOUNDS = {
+            Duration.ofHours(1), Duration.ofHours(2), Duration.ofHours(4), Duration.ofHours(8),
+            Duration.ofHours(12), Duration.ofDays(1), Duration.ofDays(2), Duration.ofDays(3),
+            Duration.ofDays(5), Duration.ofDays(7), Duration.ofDays(14), Duration.ofDays(30)
+    };
+
+    // Events younger than this may still have lower-id neighbours in uncommitted transactions
+    private static final Duration COMMIT_GRACE = Duration.ofSeconds(30);
+
+    private final TicketRollupPort rollupPort;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TicketRollupService(TicketRollupPort rollupPort,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${sav.reports.rollup.enabled:true}") boolean enabled,
+                               @Value("${sav.reports.rollup.batch-size:5000}") int batchSize,
+                               @Value("${sav.reports.rollup.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.rollupPort = rollupPort;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${sav.reports.rollup.interval-ms:60000}",
+               initialDelayString = "${sav.reports.rollup.interval-ms:60000}")
+    public void rollUpScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rollUp();
+        } catch (RuntimeException e) {
+            log.error("Ticket roll-up failed", e);
+        }
+    }
+
+    /**
+     * Fold in every event recorded so far (up to the per-run cap); returns the number of events processed
+     */
+    public long rollUp() {
+        long processed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer count = transactionTemplate.execute(status -> rollUpBatch());
+            if (count == null || count == 0) {
+                break;
+            }
+            processed += count;
+        }
+        if (processed > 0) {
+            log.debug("Rolled up {} ticket events", processed);
+        }
+        return processed;
+    }
+
+    private int rollUpBatch() {
+        long watermark = rollupPort.lockWatermark();
+        List<TicketRollupSource> sources = rollupPort.findEventsAfter(
+                watermark, LocalDateTime.now().minus(COMMIT_GRACE), batchSize);
+        if (sources.isEmpty()) {
+            return 0;
+        }
+
+        Map<RollupKey, Accumulator> deltas = new HashMap<>();
+        for (TicketRollupSource source : sources) {
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucketStart = granularity.truncate(source.event().at());
+                RollupKey key = new RollupKey(granularity, bucketStart,
+                        source.priority(), source.type(), source.team());
+                deltas.computeIfAbsent(key, k -> new Accumulator()).add(source);
+
+                // A team or priority change of an active ticket moves it from one backlog to the other
+                if (source.movesTicket() && isActive(statusAfter(source))) {
+                    RollupKey from = new RollupKey(granularity, bucketStart,
+                            source.fromPriority(), source.type(), source.fromTeam());
+                    deltas.computeIfAbsent(from, k -> new Accumulator()).backlogDelta--;
+                    deltas.get(key).backlogDelta++;
+                }
+            }
+        }
+
+        rollupPort.merge(deltas.entrySet().stream()
+                .map(entry -> entry.getValue().toRollup(entry.getKey()))
+                .toList());
+        rollupPort.advanceWatermark(sources.get(sources.size() - 1).eventId());
+        return sources.size();
+    }
+
+    /**
+     * Histogram bucket for a resolution time
+     */
+    static int resolutionBucket(Duration resolution) {
+        for (int i = 0; i < RESOLUTION_BOUNDS.length; i++) {
+            if (resolution.compareTo(RESOLUTION_BOUNDS[i]) <= 0) {
+                return i;
+            }
+        }
+        return RESOLUTION_BOUNDS.length;
+    }
+
+    /**
+     * Estimate a quantile (0..1) in hours from a resolution histogram, interpolating inside the bucket
+     * The open-ended last bucket reports its lower bound; null when the histogram is empty
+     */
+    static Double quantileHours(long[] histogram, double quantile) {
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        double rank = quantile * total;
+        long cumulative = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] == 0) {
+                continue;
+            }
+            if (cumulative + histogram[i] >= rank) {
+                double lower = i == 0 ? 0 : hours(RESOLUTION_BOUNDS[i - 1]);
+                if (i == RESOLUTION_BOUNDS.length) {
+                    return lower;
+                }
+                double upper = hours(RESOLUTION_BOUNDS[i]);
+                return lower + (upper - lower) * (rank - cumulative) / histogram[i];
+            }
+            cumulative += histogram[i];
+        }
+        return hours(RESOLUTION_BOUNDS[RESOLUTION_BOUNDS.length - 1]);
+    }
+
+    private static double hours(Duration duration) {
+        return duration.toSeconds() / 3600.0;
+    }
+
+    private static TicketStatus statusAfter(TicketRollupSource source) {
+        return source.event().ticket() != null ? source.event().ticket().status() : null;
+    }
+
+    private static boolean isActive(TicketStatus status) {
+        // Status unknown (seeded history): the ticket was created active
+        return status == null || WorkloadAnalyticsService.ACTIVE_STATUSES.contains(status);
+    }
+
+    private record RollupKey(Granularity granularity, LocalDateTime bucketStart,
+                             String priority, String type, String team) {}
+
+    private static final class Accumulator {
+        private long created;
+        private long resolved;
+        private long closed;
+        private long reopened;
+        private long backlogDelta;
+        private long resolutionCount;
+        private long resolutionSeconds;
+        private final long[] histogram = new long[RESOLUTION_BOUNDS.length + 1];
+
+        void add(TicketRollupSource source) {
+            TicketHistoryEvent event = source.event();
+            switch (event.kind()) {
+                case CREATED -> {
+                    created++;
+                    backlogDelta++;
+                }
+                case STATUS_CHANGED -> {
+                    TicketStatus to = event.toStatus();
+                    if (to == TicketStatus.RESOLVED) {
+                        resolved++;
+                    } else if (to == TicketStatus.CLOSED) {
+                        closed++;
+                    } else if (to == TicketStatus.REOPENED) {
+                        reopened++;
+                    }
+
+                    boolean wasActive = isActive(event.fromStatus());
+                    boolean nowActive = to != null && WorkloadAnalyticsService.ACTIVE_STATUSES.contains(to);
+                    if (wasActive && !nowActive) {
+                        backlogDelta--;
+                        recordResolution(source);
+                    } else if (!wasActive && nowActive) {
+                        backlogDelta++;
+                    }
+                }
+                default -> {
+                    // Assignments do not affect these aggregates; team and priority changes only move backlog
+                }
+            }
+        }
+
+        private void recordResolution(TicketRollupSource source) {
+            if (source.ticketCreatedAt() == null) {
+                return;
+            }
+            Duration resolution = Duration.between(source.ticketCreatedAt(), source.event().at());
+            if (resolution.isNegative()) {
+                return;
+            }
+            resolutionCount++;
+            resolutionSeconds += resolution.toSeconds();
+            histogram[resolutionBucket(resolution)]++;
+        }
+
+        TicketRollup toRollup(RollupKey key) {
+            return new TicketRollup(key.granularity(), key.bucketStart(), key.priority(), key.type(), key.team(),
+                    created, resolved, closed, reopened, backlogDelta, resolutionCount, resolutionSeconds,
+                    histogram.clone());
+        }
+    }
+}
@@ -20,89 +20,20 @@ public class TicketSecurityService {
 
     private final UserService userService;
     private final TicketRepositoryPort ticketRepository;
+    private final TicketAccessService ticketAccessService;
 
     /**
      * Check if current user can modify a specific ticket
      */
     public boolean canModifyTicket(Long ticketId, String userId) {
-        try {
-            if (ticketId == null || userId == null || userId.trim().isEmpty()) {
-                return false;
-            }
-
-            // Get current user
-            String currentUserId = SecurityUtil.getCurrentUserId();
-            User currentUser = userService.getUserById(currentUserId).orElse(null);
-            if (currentUser == null) {
-                return false;
-            }
-
-            // Get ticket
-            Ticket ticket = getTicketById(ticketId);
-            if (ticket == null) {
-                return false;
-            }
-
-            // Admins can modify any ticket
-            if (currentUser.getRole() == UserRole.ADMIN) {
-                return true;
-            }
-
-            // Technicians can modify assigned tickets
-            if (currentUser.getRole() == UserRole.TECHNICIAN && 
-                currentUserId.equals(ticket.getAssignedUserId())) {
-                return true;
-            }
-
-            // Users can modify their own created tickets
-            return currentUserId.equals(ticket.getCreatedByUserId());
-
-        } catch (Exception e) {
-            log.warn("Error checking ticket modification permissions: {}", e.getMessage());
-            return false;
-        }
+        return isCurrentUserAllowed(ticketId, userId, TicketAccessService.Access.MODIFY);
     }
 
     /**
      * Check if current user can view a specific ticket
      */
     public boolean canViewTicket(Long ticketId, String userId) {
-        try {
-            if (ticketId == null || userId == null || userId.trim().isEmpty()) {
-                return false;
-            }
-
-            // Get current user
-            String currentUserId = SecurityUtil.getCurrentUserId();
-            User currentUser = userService.getUserById(currentUserId).orElse(null);
-            if (currentUser == null) {
-                return false;
-            }
-
-            // Get ticket
-            Ticket ticket = getTicketById(ticketId);
-            if (ticket == null) {
-                return false;
-            }
-
-            // Admins can view any ticket
-            if (currentUser.getRole() == UserRole.ADMIN) {
-                return true;
-            }
-
-            // Technicians can view assigned tickets or tickets they created
-            if (currentUser.getRole() == UserRole.TECHNICIAN) {
-                return currentUserId.equals(ticket.getAssignedUserId()) || 
-                       currentUserId.equals(ticket.getCreatedByUserId());
-            }
-
-            // Users can only view tickets they created
-            return currentUserId.equals(ticket.getCreatedByUserId());
-
-        } catch (Exception e) {
-            log.warn("Error checking ticket view permissions: {}", e.getMessage());
-            return false;
-        }
+        return isCurrentUserAllowed(ticketId, userId, TicketAccessService.Access.VIEW);
     }
 
     /**
@@ -189,6 +120,14 @@ public class TicketSecurityService {
         }
     }
 
+    /**
+     * Validate ticket modification and return the ticket, loaded once for the operation
+     */
+    public Ticket loadTicketForModification(Long ticketId) {
+        return ticketAccessService.loadIfAllowed(SecurityUtil.getCurrentUserId(), ticketId,
+                TicketAccessService.Access.MODIFY);
+    }
+
     /**
      * Validate ticket assignment for current user
      */
@@ -198,6 +137,18 @@ public class TicketSecurityService {
         }
     }
 
+    private boolean isCurrentUserAllowed(Long ticketId, String userId, TicketAccessService.Access access) {
+        try {
+            if (ticketId == null || userId == null || userId.trim().isEmpty()) {
+                return false;
+            }
+            return ticketAccessService.isAllowed(SecurityUtil.getCurrentUserId(), ticketId, access);
+        } catch (Exception e) {
+            log.warn("Error checking ticket {} permissions: {}", access.name().toLowerCase(), e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Helper method to get ticket by ID
      */
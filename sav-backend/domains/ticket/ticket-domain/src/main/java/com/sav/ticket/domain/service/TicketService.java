@@ -9,8 +9,15 @@ import com.sav.common.enums.UserStatus;
 import com.sav.common.events.ticket.TicketAssignedEvent;
 import com.sav.common.events.ticket.TicketCreatedEvent;
 // import com.sav.common.events.ticket.TicketEscalatedEvent;
+import com.sav.common.events.ticket.TicketPriorityChangedEvent;
+import com.sav.common.events.ticket.TicketSnapshot;
 import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketTeamChangedEvent;
+import com.sav.common.events.ticket.TicketUpdatedEvent;
 import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.exception.TicketVersionConflictException;
+import com.sav.ticket.domain.repository.TicketAccessProjection;
+import com.sav.ticket.domain.repository.TicketAudienceProjection;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
 import com.sav.ticket.domain.repository.TicketStatisticsProjection;
 import com.sav.user.domain.entity.User;
@@ -26,6 +33,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,7 +51,7 @@ public class TicketService {
     private final ApplicationEventPublisher eventPublisher;
     private final UserService userService;
     private final MetricsServicePort metricsService;
-    private final TicketEscalationService ticketEscalationService;
+    private final TicketAccessService ticketAccessService;
     
     // Thread-safe locks for critical operations
     private final ReentrantLock assignmentLock = new ReentrantLock();
@@ -112,6 +120,19 @@ public class TicketService {
     public Optional<Ticket> updateTicket(Long ticketId, String title, String description,
                                          TicketStatus status, Priority priority,
                                          Team assignedTeam, String assignedUserId, String currentUserId) {
+        return updateTicket(ticketId, title, description, status, priority, assignedTeam, assignedUserId,
+                currentUserId, null);
+    }
+
+    /**
+     * Update ticket only if it is still at the expected version (null skips the check)
+     * Concurrent commits between load and flush are caught by the @Version column
+     */
+    @Transactional
+    public Optional<Ticket> updateTicket(Long ticketId, String title, String description,
+                                         TicketStatus status, Priority priority,
+                                         Team assignedTeam, String assignedUserId, String currentUserId,
+                                         Long expectedVersion) {
         log.info("Updating ticket ID: {} by user: {}", ticketId, currentUserId);
 
         if (ticketId == null) {
@@ -120,12 +141,18 @@ public class TicketService {
 
         return ticketRepository.findById(ticketId)
                 .map(ticket -> {
+                    checkVersion(ticket, expectedVersion);
+
                     // Enhanced permission validation
                     if (!canUserModifyTicket(currentUserId, ticket)) {
                         throw new SecurityException("User " + currentUserId + " is not authorized to modify ticket " + ticketId);
                     }
 
+                    TicketSnapshot snapshot = ticket.snapshot();
                     TicketStatus oldStatus = ticket.getStatus();
+                    Priority oldPriority = ticket.getPriority();
+                    Team oldTeam = ticket.getAssignedTeam();
+                    String oldAssignedUserId = ticket.getAssignedUserId();
                     boolean statusChanged = false;
 
                     // Update fields with validation
@@ -169,18 +196,32 @@ public class TicketService {
 
                     Ticket updatedTicket = ticketRepository.save(ticket);
 
-                    // Publish events
+                    // Publish events, each with the ticket as of its own change
                     if (statusChanged) {
+                        snapshot = snapshot.withStatus(status);
                         eventPublisher.publishEvent(new TicketStatusChangedEvent(
                                 ticketId,
                                 oldStatus,
                                 status,
-                                currentUserId
+                                currentUserId,
+                                snapshot
                         ));
                     }
-
-                    // Check for escalation
-                    checkAndEscalateTicket(updatedTicket);
+                    if (ticket.getPriority() != oldPriority) {
+                        snapshot = snapshot.withPriority(ticket.getPriority());
+                        eventPublisher.publishEvent(new TicketPriorityChangedEvent(
+                                ticketId, oldPriority, ticket.getPriority(), currentUserId, snapshot));
+                    }
+                    if (ticket.getAssignedTeam() != oldTeam) {
+                        snapshot = snapshot.withTeam(ticket.getAssignedTeam());
+                        eventPublisher.publishEvent(new TicketTeamChangedEvent(
+                                ticketId, oldTeam, ticket.getAssignedTeam(), currentUserId, snapshot));
+                    }
+                    if (ticket.getAssignedUserId() != null && !ticket.getAssignedUserId().equals(oldAssignedUserId)) {
+                        eventPublisher.publishEvent(new TicketAssignedEvent(
+                                ticketId, ticket.getAssignedUserId(), currentUserId, snapshot));
+                    }
+                    eventPublisher.publishEvent(new TicketUpdatedEvent(ticketId, currentUserId));
 
                     log.info("Successfully updated ticket ID: {} by user: {}", ticketId, currentUserId);
                     return updatedTicket;
@@ -192,6 +233,14 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> assignTicketToUser(Long ticketId, String userId, String assignedBy) {
+        return assignTicketToUser(ticketId, userId, assignedBy, null);
+    }
+
+    /**
+     * Assign ticket to user only if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> assignTicketToUser(Long ticketId, String userId, String assignedBy, Long expectedVersion) {
         log.info("Assigning ticket {} to user: {} by: {}", ticketId, userId, assignedBy);
 
         assignmentLock.lock();
@@ -205,6 +254,8 @@ public class TicketService {
 
             return ticketRepository.findById(ticketId)
                     .map(ticket -> {
+                        checkVersion(ticket, expectedVersion);
+
                         // Validate assignment permissions
                         if (!canUserAssignTickets(assignedBy)) {
                             throw new SecurityException("User " + assignedBy + " is not authorized to assign tickets");
@@ -227,10 +278,12 @@ public class TicketService {
                         Ticket updatedTicket = ticketRepository.save(ticket);
 
                         // Publish events
+                        TicketSnapshot snapshot = updatedTicket.snapshot();
                         eventPublisher.publishEvent(new TicketAssignedEvent(
                                 ticketId,
                                 trimmedUserId,
-                                assignedBy
+                                assignedBy,
+                                snapshot.withStatus(oldStatus)
                         ));
 
                         if (ticket.getStatus() != oldStatus) {
@@ -238,7 +291,8 @@ public class TicketService {
                                     ticketId,
                                     oldStatus,
                                     ticket.getStatus(),
-                                    assignedBy
+                                    assignedBy,
+                                    snapshot
                             ));
                         }
 
@@ -261,6 +315,14 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> closeTicket(Long ticketId, String closedBy) {
+        return closeTicket(ticketId, closedBy, null);
+    }
+
+    /**
+     * Close ticket only if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> closeTicket(Long ticketId, String closedBy, Long expectedVersion) {
         log.info("Closing ticket: {} by user: {}", ticketId, closedBy);
 
         statusChangeLock.lock();
@@ -271,6 +333,8 @@ public class TicketService {
 
             return ticketRepository.findById(ticketId)
                     .map(ticket -> {
+                        checkVersion(ticket, expectedVersion);
+
                         // Validate closure permissions
                         if (!canUserCloseTicket(closedBy, ticket)) {
                             throw new SecurityException("User " + closedBy + " is not authorized to close ticket " + ticketId);
@@ -296,7 +360,8 @@ public class TicketService {
                                 ticketId,
                                 oldStatus,
                                 TicketStatus.CLOSED,
-                                closedBy
+                                closedBy,
+                                updatedTicket.snapshot()
                         ));
 
                         log.info("Successfully closed ticket: {} by user: {}", ticketId, closedBy);
@@ -312,6 +377,14 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> reopenTicket(Long ticketId, String reopenedBy) {
+        return reopenTicket(ticketId, reopenedBy, null);
+    }
+
+    /**
+     * Reopen ticket only if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> reopenTicket(Long ticketId, String reopenedBy, Long expectedVersion) {
         log.info("Reopening ticket: {} by user: {}", ticketId, reopenedBy);
 
         statusChangeLock.lock();
@@ -322,6 +395,8 @@ public class TicketService {
 
             return ticketRepository.findById(ticketId)
                     .map(ticket -> {
+                        checkVersion(ticket, expectedVersion);
+
                         // Validate reopening permissions
                         if (!canUserReopenTicket(reopenedBy, ticket)) {
                             throw new SecurityException("User " + reopenedBy + " is not authorized to reopen ticket " + ticketId);
@@ -342,7 +417,8 @@ public class TicketService {
                                 ticketId,
                                 oldStatus,
                                 TicketStatus.REOPENED,
-                                reopenedBy
+                                reopenedBy,
+                                updatedTicket.snapshot()
                         ));
 
                         log.info("Successfully reopened ticket: {} by user: {}", ticketId, reopenedBy);
@@ -458,7 +534,7 @@ public class TicketService {
         }
     }
 
-    private void validatePriorityTypeCombination(Priority priority, TicketType type) {
+    static void validatePriorityTypeCombination(Priority priority, TicketType type) {
         // Business rules for priority and type combinations
         if (priority == Priority.CRITICAL && type == TicketType.FEATURE_REQUEST) {
             throw new IllegalArgumentException("Feature requests cannot be marked as CRITICAL priority");
@@ -506,7 +582,7 @@ public class TicketService {
         }
     }
 
-    private void validateTeamAssignment(Team requiredTeam, User user) {
+    static void validateTeamAssignment(Team requiredTeam, User user) {
         if (requiredTeam == Team.SUPPORT && user.getRole() != UserRole.TECHNICIAN) {
             throw new IllegalArgumentException("Only technicians can be assigned to support team tickets");
         }
@@ -529,7 +605,9 @@ public class TicketService {
         return switch (from) {
             case OPEN -> to == TicketStatus.ASSIGNED || to == TicketStatus.IN_PROGRESS || to == TicketStatus.CLOSED;
             case ASSIGNED -> to == TicketStatus.IN_PROGRESS || to == TicketStatus.OPEN || to == TicketStatus.CLOSED;
-            case IN_PROGRESS -> to == TicketStatus.RESOLVED || to == TicketStatus.ASSIGNED || to == TicketStatus.CLOSED;
+            case IN_PROGRESS -> to == TicketStatus.RESOLVED || to == TicketStatus.ASSIGNED
+                    || to == TicketStatus.WAITING_FOR_CUSTOMER || to == TicketStatus.CLOSED;
+            case WAITING_FOR_CUSTOMER -> to == TicketStatus.IN_PROGRESS || to == TicketStatus.RESOLVED || to == TicketStatus.CLOSED;
             case RESOLVED -> to == TicketStatus.CLOSED || to == TicketStatus.REOPENED || to == TicketStatus.IN_PROGRESS;
             case CLOSED -> to == TicketStatus.REOPENED;
             case REOPENED -> to == TicketStatus.ASSIGNED || to == TicketStatus.IN_PROGRESS || to == TicketStatus.CLOSED;
@@ -540,24 +618,7 @@ public class TicketService {
         if (userId == null || userId.trim().isEmpty()) {
             return false;
         }
-
-        User user = userService.getUserById(userId.trim()).orElse(null);
-        if (user == null) {
-            return false;
-        }
-
-        // Admins can modify any ticket
-        if (user.getRole() == UserRole.ADMIN) {
-            return true;
-        }
-
-        // Technicians can modify assigned tickets
-        if (user.getRole() == UserRole.TECHNICIAN && userId.equals(ticket.getAssignedUserId())) {
-            return true;
-        }
-
-        // Users can modify their own tickets
-        return userId.equals(ticket.getCreatedByUserId());
+        return ticketAccessService.isAllowed(userId.trim(), ticket, TicketAccessService.Access.MODIFY);
     }
 
     private boolean canUserAssignTickets(String userId) {
@@ -635,7 +696,7 @@ public class TicketService {
         return user.getRole() == UserRole.ADMIN || user.getRole() == UserRole.TECHNICIAN;
     }
 
-    private boolean isValidClosureStatus(TicketStatus status) {
+    static boolean isValidClosureStatus(TicketStatus status) {
         return status == TicketStatus.RESOLVED || status == TicketStatus.OPEN || status == TicketStatus.ASSIGNED || status == TicketStatus.IN_PROGRESS;
     }
 
@@ -669,21 +730,6 @@ public class TicketService {
                 .orElse(null);
     }
 
-    private void checkAndEscalateTicket(Ticket ticket) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdAt = ticket.getCreatedAt();
-        long hoursSinceCreation = java.time.Duration.between(createdAt, now).toHours();
-
-        boolean shouldEscalate = ticketEscalationService.needsEscalation(ticket);
-
-        if (shouldEscalate && ticket.getStatus() != TicketStatus.CLOSED && ticket.getStatus() != TicketStatus.RESOLVED) {
-            log.warn("Ticket {} should be escalated - created {} hours ago with priority {}", 
-                    ticket.getId(), hoursSinceCreation, ticket.getPriority());
-            
-            // TODO: Implement TicketEscalatedEvent when available
-        }
-    }
-
 
     public record TicketStats(
             long totalTickets,
@@ -726,10 +772,10 @@ public class TicketService {
     }
 
     /**
-     * Get ticket with messages
+     * Get ticket with messages, falling back to the archive for tickets closed long ago
      */
     public Optional<Ticket> getTicketWithMessages(Long ticketId) {
-        return ticketRepository.findByIdWithMessages(ticketId);
+        return ticketRepository.findByIdIncludingArchive(ticketId);
     }
 
     /**
@@ -779,33 +825,8 @@ public class TicketService {
      */
     public boolean canUserUpdateTicket(String userId, Long ticketId) {
         try {
-            String currentUserId = SecurityUtil.getCurrentUserId();
-            User currentUser = userService.getUserById(currentUserId).orElse(null);
-            if (currentUser == null) {
-                return false;
-            }
-
-            Optional<Ticket> ticketOpt = ticketRepository.findById(ticketId);
-            if (ticketOpt.isEmpty()) {
-                return false;
-            }
-
-            Ticket ticket = ticketOpt.get();
-
-            // Admins can update any ticket
-            if (currentUser.getRole() == UserRole.ADMIN) {
-                return true;
-            }
-
-            // Technicians can update assigned tickets
-            if (currentUser.getRole() == UserRole.TECHNICIAN && 
-                currentUserId.equals(ticket.getAssignedUserId())) {
-                return true;
-            }
-
-            // Users can update their own created tickets
-            return currentUserId.equals(ticket.getCreatedByUserId());
-
+            return ticketAccessService.isAllowed(SecurityUtil.getCurrentUserId(), ticketId,
+                    TicketAccessService.Access.MODIFY);
         } catch (Exception e) {
             log.warn("Error checking ticket update permissions: {}", e.getMessage());
             return false;
@@ -817,17 +838,41 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> assignTicketToTeam(Long ticketId, Team team) {
+        return assignTicketToTeam(ticketId, (Long) null, team);
+    }
+
+    /**
+     * Assign ticket to team if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> assignTicketToTeam(Long ticketId, Long expectedVersion, Team team) {
         try {
             Ticket ticket = ticketRepository.findById(ticketId)
                     .orElseThrow(() -> new IllegalArgumentException("Ticket not found: " + ticketId));
+            checkVersion(ticket, expectedVersion);
 
+            TicketStatus oldStatus = ticket.getStatus();
+            Team oldTeam = ticket.getAssignedTeam();
             ticket.setAssignedTeam(team);
-            if (ticket.getStatus() == TicketStatus.OPEN) {
+            if (oldStatus == TicketStatus.OPEN) {
                 ticket.setStatus(TicketStatus.ASSIGNED);
             }
 
             Ticket savedTicket = ticketRepository.save(ticket);
+            String currentUserId = SecurityUtil.getCurrentUserId();
+            TicketSnapshot snapshot = savedTicket.snapshot();
+            if (team != oldTeam) {
+                eventPublisher.publishEvent(new TicketTeamChangedEvent(
+                        ticketId, oldTeam, team, currentUserId, snapshot.withStatus(oldStatus)));
+            }
+            if (ticket.getStatus() != oldStatus) {
+                eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                        ticketId, oldStatus, ticket.getStatus(), currentUserId, snapshot));
+            }
+            eventPublisher.publishEvent(new TicketUpdatedEvent(ticketId, currentUserId));
             return Optional.of(savedTicket);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error assigning ticket to team", e);
             return Optional.empty();
@@ -839,9 +884,19 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> assignTicketToUser(Long ticketId, String userId) {
+        return assignTicketToUser(ticketId, (Long) null, userId);
+    }
+
+    /**
+     * Assign ticket to user if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> assignTicketToUser(Long ticketId, Long expectedVersion, String userId) {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
-            return assignTicketToUser(ticketId, userId, currentUserId);
+            return assignTicketToUser(ticketId, userId, currentUserId, expectedVersion);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error assigning ticket to user", e);
             return Optional.empty();
@@ -853,9 +908,19 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> closeTicket(Long ticketId) {
+        return closeTicket(ticketId, (Long) null);
+    }
+
+    /**
+     * Close ticket if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> closeTicket(Long ticketId, Long expectedVersion) {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
-            return closeTicket(ticketId, currentUserId);
+            return closeTicket(ticketId, currentUserId, expectedVersion);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error closing ticket", e);
             return Optional.empty();
@@ -867,9 +932,19 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> reopenTicket(Long ticketId) {
+        return reopenTicket(ticketId, (Long) null);
+    }
+
+    /**
+     * Reopen ticket if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> reopenTicket(Long ticketId, Long expectedVersion) {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
-            return reopenTicket(ticketId, currentUserId);
+            return reopenTicket(ticketId, currentUserId, expectedVersion);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error reopening ticket", e);
             return Optional.empty();
@@ -881,9 +956,19 @@ public class TicketService {
      */
     @Transactional
     public Optional<Ticket> updateMyTicket(Long ticketId, String title, String description) {
+        return updateMyTicket(ticketId, null, title, description);
+    }
+
+    /**
+     * Update my ticket if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> updateMyTicket(Long ticketId, Long expectedVersion, String title, String description) {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
-            return updateTicket(ticketId, title, description, null, null, null, null, currentUserId);
+            return updateTicket(ticketId, title, description, null, null, null, null, currentUserId, expectedVersion);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error updating my ticket", e);
             return Optional.empty();
@@ -897,15 +982,63 @@ public class TicketService {
     public Optional<Ticket> updateTicket(Long ticketId, String title, String description, 
                                        TicketStatus status, Priority priority, Team assignedTeam, 
                                        String assignedUserId) {
+        return updateTicket(ticketId, (Long) null, title, description, status, priority, assignedTeam, assignedUserId);
+    }
+
+    /**
+     * Update ticket if it is still at the expected version (null skips the check)
+     */
+    @Transactional
+    public Optional<Ticket> updateTicket(Long ticketId, Long expectedVersion, String title, String description,
+                                       TicketStatus status, Priority priority, Team assignedTeam,
+                                       String assignedUserId) {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
-            return updateTicket(ticketId, title, description, status, priority, assignedTeam, assignedUserId, currentUserId);
+            return updateTicket(ticketId, title, description, status, priority, assignedTeam, assignedUserId,
+                    currentUserId, expectedVersion);
+        } catch (TicketVersionConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error updating ticket", e);
             return Optional.empty();
         }
     }
 
+    /**
+     * Reject the change when the loaded ticket is no longer at the version the client last saw
+     * Runs inside the writing transaction; commits after the load are caught by the @Version column
+     */
+    private void checkVersion(Ticket ticket, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(ticket.getVersion())) {
+            throw new TicketVersionConflictException(ticket.getId(), expectedVersion, ticket.getVersion());
+        }
+    }
+
+    /**
+     * Get the current version of a ticket without loading it
+     */
+    public Optional<Long> getTicketVersion(Long ticketId) {
+        return ticketRepository.findVersionById(ticketId)
+                .or(() -> ticketRepository.findArchivedAccessById(ticketId).map(TicketAccessProjection::getVersion));
+    }
+
+    /**
+     * Get the creator, assignee and team of a ticket without loading it
+     */
+    public Optional<TicketAudienceProjection> getTicketAudience(Long ticketId) {
+        return ticketRepository.findAudienceById(ticketId);
+    }
+
+    /**
+     * Get the creator, assignee and team of several tickets in one query
+     */
+    public List<TicketAudienceProjection> getTicketAudiences(Collection<Long> ticketIds) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            return List.of();
+        }
+        return ticketRepository.findAudienceByIdIn(ticketIds);
+    }
+
     /**
      * Update ticket with only title and description (for API compatibility)
      */
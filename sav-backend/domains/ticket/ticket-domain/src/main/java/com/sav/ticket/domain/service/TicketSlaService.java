@@ -0,0 +1,437 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketCreatedEvent;
+import com.sav.common.events.ticket.TicketSlaBreachedEvent;
+import com.sav.common.events.ticket.TicketSlaWarningEvent;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketUpdatedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.common.events.ticket.TicketsImportedEvent;
+import com.sav.ticket.domain.repository.TicketSla;
+import com.sav.ticket.domain.repository.TicketSlaPort;
+import com.sav.ticket.domain.repository.TicketSlaSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Event-driven SLA clocks, one per ticket
+ * Status, priority and type changes only mark tickets dirty; a background flush advances their clocks under
+ * a row lock and precomputes the warning and breach instants on the policy's business calendar, once per
+ * change. Running clocks wait in a sorted in-memory deadline index that a short tick polls, so no ticket is
+ * ever rescanned, and every crossing is claimed in ticket_sla before its event is published.
+ * Tickets waiting for the customer pause their clock; resolved and closed tickets stop it.
+ */
+@Service
+@Slf4j
+@EnableConfigurationProperties(SlaProperties.class)
+public class TicketSlaService {
+
+    // Re-read this far behind the newest synced change, for transactions that committed late
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final TicketSlaPort slaStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SlaProperties properties;
+    private final Map<String, SlaPolicy> policies;
+    private final SlaDeadlineIndex index = new SlaDeadlineIndex();
+    private final Set<Long> dirtyTickets = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loaded;
+    private LocalDateTime syncedUpTo;
+    private long lastSyncNanos;
+
+    public TicketSlaService(TicketSlaPort slaStore,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            SlaProperties properties) {
+        this.slaStore = slaStore;
+        this.eventPublisher = eventPublisher;
+        // Own transaction per batch - the flush never joins a publisher's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.policies = buildPolicies(properties);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketCreated(TicketCreatedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketStatusChanged(TicketStatusChangedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketAssigned(TicketAssignedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    // Priority and type changes arrive as plain updates
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketUpdated(TicketUpdatedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        for (TicketsBulkUpdatedEvent.Change change : event.getChanges()) {
+            markTicket(change.ticketId());
+        }
+    }
+
+    // Imported tickets get their clocks on the next tick, running since their original creation
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsImported(TicketsImportedEvent event) {
+        event.getTicketIds().forEach(this::markTicket);
+    }
+
+    /**
+     * Advance dirty clocks, pick up clocks changed on other nodes and fire the deadlines that came due
+     * The first tick builds the index, creating clocks for active tickets that have none
+     */
+    @Scheduled(fixedDelayString = "${sav.sla.tick-interval-ms:1000}")
+    public synchronized void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!loaded) {
+                load();
+            }
+            flush();
+            if (System.nanoTime() - lastSyncNanos >= Duration.ofMillis(properties.getSyncIntervalMs()).toNanos()) {
+                sync();
+            }
+            fireDue(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("SLA tick failed", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (loaded) {
+            flush();
+        }
+    }
+
+    /**
+     * Clock counts per priority, maintained incrementally - reading them never touches the database
+     */
+    public Map<Priority, SlaCounts> getCounts() {
+        return index.counts();
+    }
+
+    public Optional<TicketSla> getTicketSla(Long ticketId) {
+        Optional<TicketSla> indexed = index.get(ticketId);
+        return indexed.isPresent() ? indexed : slaStore.findByTicketId(ticketId);
+    }
+
+    /**
+     * Running clocks ordered by their next warning or breach, soonest first
+     */
+    public List<TicketSla> getUpcomingDeadlines(int limit) {
+        return index.upcoming(limit);
+    }
+
+    public boolean isBreached(Long ticketId) {
+        return index.get(ticketId).map(TicketSla::isBreached).orElse(false);
+    }
+
+    public boolean isAtRisk(Long ticketId) {
+        return index.get(ticketId).map(TicketSla::isAtRisk).orElse(false);
+    }
+
+    /**
+     * Policy applied to tickets of this priority and type - a null type gets the priority's own policy
+     */
+    public SlaPolicy getPolicy(Priority priority, TicketType type) {
+        SlaPolicy policy = type != null ? policies.get(policyName(priority, type)) : null;
+        return policy != null ? policy : policies.get(policyName(priority, null));
+    }
+
+    private void load() {
+        List<Long> missing;
+        while (!(missing = slaStore.findTicketsWithoutSla(
+                WorkloadAnalyticsService.ACTIVE_STATUSES, properties.getBatchSize())).isEmpty()) {
+            reconcile(missing);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long after = 0;
+        List<TicketSla> page;
+        do {
+            page = slaStore.findUnstopped(after, properties.getBatchSize());
+            for (TicketSla sla : page) {
+                index.put(sla);
+                after = sla.ticketId();
+            }
+        } while (page.size() == properties.getBatchSize());
+
+        syncedUpTo = startedAt;
+        lastSyncNanos = System.nanoTime();
+        loaded = true;
+        log.info("Indexed {} SLA clocks", index.size());
+    }
+
+    private void flush() {
+        List<Long> tickets;
+        while (!(tickets = drain()).isEmpty()) {
+            try {
+                reconcile(tickets);
+            } catch (RuntimeException e) {
+                // Marks are idempotent - put them back for the next tick
+                dirtyTickets.addAll(tickets);
+                log.error("Could not advance {} SLA clocks", tickets.size(), e);
+                return;
+            }
+        }
+    }
+
+    private void sync() {
+        LocalDateTime newest = syncedUpTo;
+        for (TicketSla sla : slaStore.findUpdatedSince(syncedUpTo.minus(SYNC_OVERLAP))) {
+            index.put(sla);
+            if (sla.updatedAt().isAfter(newest)) {
+                newest = sla.updatedAt();
+            }
+        }
+        syncedUpTo = newest;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    /**
+     * Advance the clocks of these tickets to their current status, priority and type, in one transaction
+     */
+    private void reconcile(List<Long> ticketIds) {
+        List<Transition> transitions = new ArrayList<>();
+        List<TicketSla> clocks = transactionTemplate.execute(status -> {
+            slaStore.createMissing(ticketIds);
+            LocalDateTime now = LocalDateTime.now();
+            List<TicketSla> current = new ArrayList<>(ticketIds.size());
+            List<TicketSla> changed = new ArrayList<>();
+            for (TicketSlaSource source : slaStore.lockForUpdate(ticketIds)) {
+                TicketSla next = advance(source, now);
+                current.add(next);
+                if (next != source.sla()) {
+                    changed.add(next);
+                    transitions.add(new Transition(source.sla(), next));
+                }
+            }
+            slaStore.saveAll(changed);
+            return current;
+        });
+
+        clocks.forEach(index::put);
+        for (Transition transition : transitions) {
+            if (transition.before().warnedAt() == null && transition.after().warnedAt() != null) {
+                publishWarning(transition.after());
+            }
+            if (transition.before().breachedAt() == null && transition.after().breachedAt() != null) {
+                publishBreach(transition.after());
+            }
+        }
+    }
+
+    /**
+     * The clock of one ticket after a change at now; the same instance when nothing it depends on changed
+     */
+    private TicketSla advance(TicketSlaSource source, LocalDateTime now) {
+        TicketSla current = source.sla();
+        SlaPolicy policy = getPolicy(source.priority(), source.type());
+        TicketSla.State state = stateOf(source.status());
+        if (state == current.state() && policy.name().equals(current.policy())
+                && policy.target().getSeconds() == current.targetSeconds() && source.priority() == current.priority()) {
+            return current;
+        }
+
+        // Time already run is measured on the calendar it ran under
+        long consumed = current.consumedSeconds();
+        if (current.state() == TicketSla.State.RUNNING && current.clockStartedAt() != null) {
+            BusinessCalendar ranOn = policies.getOrDefault(current.policy(), policy).calendar();
+            consumed += ranOn.between(current.clockStartedAt(), now).getSeconds();
+        }
+
+        long target = policy.target().getSeconds();
+        long warnAfter = (long) (target * properties.getWarningRatio());
+        LocalDateTime warnedAt = consumed >= warnAfter ? crossedAt(current.warnedAt(), current.warningAt(), now) : null;
+        LocalDateTime breachedAt = consumed >= target ? crossedAt(current.breachedAt(), current.breachAt(), now) : null;
+
+        LocalDateTime clockStartedAt = null;
+        LocalDateTime warningAt = null;
+        LocalDateTime breachAt = null;
+        if (state == TicketSla.State.RUNNING) {
+            clockStartedAt = now;
+            warningAt = warnedAt != null ? warnedAt : policy.calendar().plus(now, Duration.ofSeconds(warnAfter - consumed));
+            breachAt = breachedAt != null ? breachedAt : policy.calendar().plus(now, Duration.ofSeconds(target - consumed));
+        }
+
+        return new TicketSla(current.ticketId(), policy.name(), source.priority(), target, state, consumed,
+                clockStartedAt, warningAt, breachAt, warnedAt, breachedAt, now);
+    }
+
+    /**
+     * Claim and publish the thresholds crossed by now, soonest first
+     */
+    private void fireDue(LocalDateTime now) {
+        for (TicketSla due : index.pollDue(now)) {
+            boolean warning = due.warnedAt() == null && due.warningAt() != null && !due.warningAt().isAfter(now);
+            try {
+                boolean claimed = warning
+                        ? slaStore.markWarned(due.ticketId(), due.warningAt(), now)
+                        : slaStore.markBreached(due.ticketId(), due.breachAt(), now);
+                if (!claimed) {
+                    // Another node claimed it or the clock moved on - re-read it on the next tick
+                    dirtyTickets.add(due.ticketId());
+                    continue;
+                }
+                TicketSla crossed = warning
+                        ? due.withWarnedAt(due.warningAt(), now)
+                        : due.withBreachedAt(due.breachAt(), now);
+                index.put(crossed);
+                if (warning) {
+                    publishWarning(crossed);
+                } else {
+                    publishBreach(crossed);
+                }
+            } catch (RuntimeException e) {
+                dirtyTickets.add(due.ticketId());
+                log.error("Could not record SLA deadline of ticket {}", due.ticketId(), e);
+            }
+        }
+    }
+
+    private void publishWarning(TicketSla sla) {
+        log.info("Ticket {} is at risk of breaching its {} SLA at {}", sla.ticketId(), sla.policy(), sla.breachAt());
+        eventPublisher.publishEvent(new TicketSlaWarningEvent(sla.ticketId(), sla.priority(), sla.policy(), sla.breachAt()));
+    }
+
+    private void publishBreach(TicketSla sla) {
+        log.warn("Ticket {} breached its {} SLA at {}", sla.ticketId(), sla.policy(), sla.breachedAt());
+        eventPublisher.publishEvent(new TicketSlaBreachedEvent(sla.ticketId(), sla.priority(), sla.policy(), sla.breachedAt()));
+    }
+
+    private void markTicket(Long ticketId) {
+        if (properties.isEnabled() && ticketId != null) {
+            dirtyTickets.add(ticketId);
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> batch = new ArrayList<>(Math.min(properties.getBatchSize(), dirtyTickets.size()));
+        Iterator<Long> iterator = dirtyTickets.iterator();
+        while (batch.size() < properties.getBatchSize() && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private static TicketSla.State stateOf(TicketStatus status) {
+        return switch (status) {
+            case OPEN, ASSIGNED, IN_PROGRESS, REOPENED -> TicketSla.State.RUNNING;
+            case WAITING_FOR_CUSTOMER -> TicketSla.State.PAUSED;
+            case RESOLVED, CLOSED -> TicketSla.State.STOPPED;
+        };
+    }
+
+    // A threshold keeps the instant it was first crossed; one crossed by a change counts from the change
+    private static LocalDateTime crossedAt(LocalDateTime crossed, LocalDateTime scheduled, LocalDateTime now) {
+        if (crossed != null) {
+            return crossed;
+        }
+        return scheduled != null && scheduled.isBefore(now) ? scheduled : now;
+    }
+
+    private static Map<String, SlaPolicy> buildPolicies(SlaProperties properties) {
+        Map<String, BusinessCalendar> calendars = new HashMap<>();
+        properties.getCalendars().forEach((name, config) -> calendars.put(name, toCalendar(name, config)));
+
+        Map<String, SlaPolicy> result = new HashMap<>();
+        for (SlaProperties.Policy config : properties.getPolicies()) {
+            if (config.getPriority() == null || config.getTarget() == null
+                    || config.getTarget().isZero() || config.getTarget().isNegative()) {
+                throw new IllegalArgumentException("SLA policies need a priority and a positive target");
+            }
+            BusinessCalendar calendar = BusinessCalendar.ALWAYS_OPEN;
+            if (config.getCalendar() != null) {
+                calendar = calendars.get(config.getCalendar());
+                if (calendar == null) {
+                    throw new IllegalArgumentException("Unknown SLA calendar: " + config.getCalendar());
+                }
+            }
+            String name = policyName(config.getPriority(), config.getType());
+            result.put(name, new SlaPolicy(name, config.getTarget(), calendar));
+        }
+
+        for (Priority priority : Priority.values()) {
+            if (!result.containsKey(policyName(priority, null))) {
+                throw new IllegalArgumentException("No SLA policy for priority " + priority);
+            }
+        }
+        log.info("Loaded SLA policies {}", result.values().stream()
+                .map(p -> p.name() + "=" + p.target())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        return Map.copyOf(result);
+    }
+
+    private static BusinessCalendar toCalendar(String name, SlaProperties.Calendar config) {
+        try {
+            return new BusinessCalendar(
+                    config.getZone() != null ? ZoneId.of(config.getZone()) : ZoneId.systemDefault(),
+                    config.getWorkDays(),
+                    config.getOpensAt() != null ? LocalTime.parse(config.getOpensAt()) : null,
+                    config.getClosesAt() != null ? LocalTime.parse(config.getClosesAt()) : null,
+                    config.getHolidays().stream().map(LocalDate::parse).collect(Collectors.toSet()));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid SLA calendar " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String policyName(Priority priority, TicketType type) {
+        return type != null ? priority.name() + "/" + type.name() : priority.name();
+    }
+
+    /**
+     * Target and calendar for a priority, optionally narrowed to one ticket type
+     */
+    public record SlaPolicy(String name, Duration target, BusinessCalendar calendar) {}
+
+    /**
+     * Clock counts for one priority; at-risk clocks are warned but not yet breached
+     */
+    public record SlaCounts(long running, long paused, long atRisk, long breached) {}
+
+    private record Transition(TicketSla before, TicketSla after) {}
+}
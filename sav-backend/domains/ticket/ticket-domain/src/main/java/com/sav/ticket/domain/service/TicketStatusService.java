@@ -32,7 +32,8 @@ public class TicketStatusService {
     private static final Map<TicketStatus, Set<TicketStatus>> VALID_TRANSITIONS = Map.of(
         TicketStatus.OPEN, Set.of(TicketStatus.ASSIGNED, TicketStatus.CLOSED),
         TicketStatus.ASSIGNED, Set.of(TicketStatus.IN_PROGRESS, TicketStatus.OPEN, TicketStatus.CLOSED),
-        TicketStatus.IN_PROGRESS, Set.of(TicketStatus.RESOLVED, TicketStatus.ASSIGNED, TicketStatus.CLOSED),
+        TicketStatus.IN_PROGRESS, Set.of(TicketStatus.RESOLVED, TicketStatus.ASSIGNED, TicketStatus.WAITING_FOR_CUSTOMER, TicketStatus.CLOSED),
+        TicketStatus.WAITING_FOR_CUSTOMER, Set.of(TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED, TicketStatus.CLOSED),
         TicketStatus.RESOLVED, Set.of(TicketStatus.CLOSED, TicketStatus.REOPENED, TicketStatus.IN_PROGRESS),
         TicketStatus.CLOSED, Set.of(TicketStatus.REOPENED),
         TicketStatus.REOPENED, Set.of(TicketStatus.ASSIGNED, TicketStatus.IN_PROGRESS, TicketStatus.CLOSED)
@@ -123,6 +124,9 @@ public class TicketStatusService {
             case IN_PROGRESS:
                 validateInProgressTransition(ticket);
                 break;
+            case WAITING_FOR_CUSTOMER:
+                validateWaitingForCustomerTransition(ticket);
+                break;
             case RESOLVED:
                 validateResolvedTransition(ticket);
                 break;
@@ -153,6 +157,15 @@ public class TicketStatusService {
         }
     }
 
+    /**
+     * Validate waiting-for-customer transition
+     */
+    private void validateWaitingForCustomerTransition(Ticket ticket) {
+        if (ticket.getAssignedUserId() == null) {
+            throw new IllegalStateException("Only assigned tickets can wait for the customer");
+        }
+    }
+
     /**
      * Validate resolved transition
      */
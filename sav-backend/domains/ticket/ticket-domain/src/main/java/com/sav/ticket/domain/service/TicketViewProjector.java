@@ -0,0 +1,155 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.events.ticket.TicketAssignedEvent;
+import com.sav.common.events.ticket.TicketCreatedEvent;
+import com.sav.common.events.ticket.TicketMessageAddedEvent;
+import com.sav.common.events.ticket.TicketStatusChangedEvent;
+import com.sav.common.events.ticket.TicketUpdatedEvent;
+import com.sav.common.events.ticket.TicketsBulkUpdatedEvent;
+import com.sav.common.events.user.UserCreatedEvent;
+import com.sav.common.events.user.UserProfileUpdatedEvent;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the ticket_view read model in step with committed ticket, message and user events
+ * Events only mark tickets and users dirty; a background flush recomputes their rows in batches, so a
+ * burst of events on one ticket costs a single refresh and events never need to arrive in order
+ */
+@Service
+@Slf4j
+public class TicketViewProjector {
+
+    private final TicketViewPort ticketViews;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Set<Long> dirtyTickets = ConcurrentHashMap.newKeySet();
+    private final Set<String> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    public TicketViewProjector(TicketViewPort ticketViews,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${sav.tickets.view.enabled:true}") boolean enabled,
+                               @Value("${sav.tickets.view.batch-size:500}") int batchSize) {
+        this.ticketViews = ticketViews;
+        // Own transaction per batch - the flush never joins a publisher's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketCreated(TicketCreatedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketStatusChanged(TicketStatusChangedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketAssigned(TicketAssignedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketUpdated(TicketUpdatedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketMessageAdded(TicketMessageAddedEvent event) {
+        markTicket(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        for (TicketsBulkUpdatedEvent.Change change : event.getChanges()) {
+            markTicket(change.ticketId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserCreated(UserCreatedEvent event) {
+        markUser(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        markUser(event.getUserId());
+    }
+
+    /**
+     * Refresh everything marked so far, batch by batch
+     */
+    @Scheduled(fixedDelayString = "${sav.tickets.view.refresh-interval-ms:200}")
+    public synchronized void flush() {
+        List<Long> tickets;
+        while (!(tickets = drain(dirtyTickets)).isEmpty()) {
+            List<Long> batch = tickets;
+            try {
+                transactionTemplate.executeWithoutResult(status -> ticketViews.refreshTickets(batch));
+            } catch (RuntimeException e) {
+                // Marks are idempotent - put them back for the next flush
+                dirtyTickets.addAll(batch);
+                log.error("Could not refresh {} ticket view rows", batch.size(), e);
+                return;
+            }
+        }
+
+        List<String> users;
+        while (!(users = drain(dirtyUsers)).isEmpty()) {
+            List<String> batch = users;
+            try {
+                transactionTemplate.executeWithoutResult(status -> ticketViews.refreshUserNames(batch));
+            } catch (RuntimeException e) {
+                dirtyUsers.addAll(batch);
+                log.error("Could not refresh ticket view names for {} users", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void markTicket(Long ticketId) {
+        if (enabled && ticketId != null) {
+            dirtyTickets.add(ticketId);
+        }
+    }
+
+    private void markUser(String userId) {
+        if (enabled && userId != null) {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    private <T> List<T> drain(Set<T> dirty) {
+        List<T> batch = new ArrayList<>(Math.min(batchSize, dirty.size()));
+        Iterator<T> iterator = dirty.iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
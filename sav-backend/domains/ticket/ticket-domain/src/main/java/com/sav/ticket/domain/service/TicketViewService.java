@@ -0,0 +1,73 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.repository.TicketView;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import com.sav.ticket.domain.repository.TicketViewPort.Filter;
+import com.sav.ticket.domain.repository.TicketViewPort.UserCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Ticket listings served from the ticket_view read model
+ * Rows trail the tickets by one refresh interval (see TicketViewProjector); single-ticket reads and
+ * every write still go through TicketService
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TicketViewService {
+
+    public static final int DASHBOARD_RECENT_TICKETS = 5;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final TicketViewPort ticketViews;
+
+    public Page<TicketView> getAllTickets(Pageable pageable) {
+        return ticketViews.find(Filter.NONE, pageable);
+    }
+
+    public Page<TicketView> getTicketsCreatedBy(String userId, Pageable pageable) {
+        return ticketViews.find(Filter.createdBy(userId), pageable);
+    }
+
+    public List<TicketView> getTicketsAssignedTo(String userId) {
+        return ticketViews.findAll(Filter.assignedTo(userId), NEWEST_FIRST);
+    }
+
+    public Page<TicketView> getTicketsByStatus(TicketStatus status, Pageable pageable) {
+        return ticketViews.find(Filter.status(status), pageable);
+    }
+
+    public List<TicketView> getTicketsByPriority(Priority priority) {
+        return ticketViews.findAll(Filter.priority(priority), NEWEST_FIRST);
+    }
+
+    public List<TicketView> getTicketsByTeam(Team team) {
+        return ticketViews.findAll(Filter.team(team), NEWEST_FIRST);
+    }
+
+    public Page<TicketView> search(Filter filter, Pageable pageable) {
+        return ticketViews.find(filter, pageable);
+    }
+
+    /**
+     * Counters and most recent tickets for a user's dashboard - two indexed queries
+     */
+    public UserDashboard getDashboard(String userId) {
+        return new UserDashboard(
+                ticketViews.countForUser(userId),
+                ticketViews.findFirst(Filter.createdBy(userId), NEWEST_FIRST, DASHBOARD_RECENT_TICKETS));
+    }
+
+    public record UserDashboard(UserCounts counts, List<TicketView> recentTickets) {}
+}
@@ -0,0 +1,190 @@
+package com.sav.ticket.domain.service;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.ticket.domain.repository.TicketRepositoryPort;
+import com.sav.ticket.domain.repository.UserWorkloadProjection;
+import com.sav.user.domain.entity.User;
+import com.sav.user.domain.service.EnhancedUserService;
+import com.sav.user.domain.service.UserService;
+import com.sav.user.domain.service.UserWorkloadProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Workload analytics for technicians, computed with one grouped query regardless of team size
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class WorkloadAnalyticsService implements UserWorkloadProvider {
+
+    private final TicketRepositoryPort ticketRepository;
+    private final UserService userService;
+
+    // The team view is polled by dashboards - a short-lived snapshot keeps it to one query per window
+    private static final Duration TEAM_SNAPSHOT_TTL = Duration.ofSeconds(30);
+    private static final int MAX_BATCH_SIZE = 500;
+    static final Set<TicketStatus> ACTIVE_STATUSES = EnumSet.of(TicketStatus.OPEN, TicketStatus.ASSIGNED,
+            TicketStatus.IN_PROGRESS, TicketStatus.WAITING_FOR_CUSTOMER, TicketStatus.REOPENED);
+
+    private volatile TeamSnapshot teamSnapshot;
+
+    /**
+     * Get workload for all active technicians (briefly cached)
+     */
+    public List<UserWorkload> getTechnicianWorkloads() {
+        TeamSnapshot snapshot = teamSnapshot;
+        if (snapshot != null && snapshot.isFresh()) {
+            return snapshot.workloads();
+        }
+
+        List<String> technicianIds = userService.getAvailableTechnicians().stream()
+                .map(User::getId)
+                .toList();
+        List<UserWorkload> workloads = List.copyOf(getWorkloads(technicianIds).values());
+
+        teamSnapshot = new TeamSnapshot(workloads, System.nanoTime());
+        return workloads;
+    }
+
+    /**
+     * Get workload for the given users in a single query
+     * Every requested user is present in the result, with zeros if nothing is assigned
+     */
+    public Map<String, UserWorkload> getWorkloads(Collection<String> userIds) {
+        Set<String> ids = new LinkedHashSet<>(userIds);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot load workload for more than " + MAX_BATCH_SIZE + " users at once");
+        }
+        Map<String, WorkloadAccumulator> accumulators = new HashMap<>();
+        ids.forEach(id -> accumulators.put(id, new WorkloadAccumulator()));
+
+        if (!ids.isEmpty()) {
+            List<UserWorkloadProjection> rows = ticketRepository.getWorkloadByAssignedUsers(ids, LocalDateTime.now());
+
+            for (UserWorkloadProjection row : rows) {
+                WorkloadAccumulator acc = accumulators.get(row.getAssignedUserId());
+                if (acc != null) {
+                    acc.add(TicketStatus.valueOf(row.getStatus()), row.getTicketCount(),
+                            row.getAverageAgeHours(), row.getOverdueCount());
+                }
+            }
+        }
+
+        Map<String, UserWorkload> result = new LinkedHashMap<>();
+        for (String id : ids) {
+            result.put(id, accumulators.get(id).toWorkload(id));
+        }
+        return result;
+    }
+
+    /**
+     * Get workload for a single user
+     */
+    public UserWorkload getWorkload(String userId) {
+        return getWorkloads(List.of(userId)).get(userId);
+    }
+
+    @Override
+    public EnhancedUserService.UserWorkloadStats getUserWorkloadStats(String userId) {
+        UserWorkload workload = getWorkload(userId);
+        return new EnhancedUserService.UserWorkloadStats(
+                workload.limitedTickets(),
+                workload.completedTickets(),
+                workload.overdueTickets(),
+                Math.round(workload.averageResolutionHours()));
+    }
+
+    /**
+     * Running totals for one user while folding the grouped rows
+     */
+    private static final class WorkloadAccumulator {
+        private final Map<TicketStatus, Long> counts = new HashMap<>();
+        private long overdue;
+        private double activeAgeSum;
+        private long activeCount;
+        private double resolutionSum;
+        private long resolvedCount;
+
+        void add(TicketStatus status, long count, Double averageAgeHours, long overdueCount) {
+            counts.merge(status, count, Long::sum);
+            double ageHours = averageAgeHours != null ? averageAgeHours : 0.0;
+
+            if (ACTIVE_STATUSES.contains(status)) {
+                overdue += overdueCount;
+                activeAgeSum += ageHours * count;
+                activeCount += count;
+            } else {
+                resolutionSum += ageHours * count;
+                resolvedCount += count;
+            }
+        }
+
+        UserWorkload toWorkload(String userId) {
+            return new UserWorkload(
+                    userId,
+                    counts.getOrDefault(TicketStatus.OPEN, 0L) + counts.getOrDefault(TicketStatus.REOPENED, 0L),
+                    counts.getOrDefault(TicketStatus.ASSIGNED, 0L),
+                    counts.getOrDefault(TicketStatus.IN_PROGRESS, 0L),
+                    counts.getOrDefault(TicketStatus.WAITING_FOR_CUSTOMER, 0L),
+                    counts.getOrDefault(TicketStatus.RESOLVED, 0L),
+                    counts.getOrDefault(TicketStatus.CLOSED, 0L),
+                    overdue,
+                    activeCount == 0 ? 0.0 : activeAgeSum / activeCount,
+                    resolvedCount == 0 ? 0.0 : resolutionSum / resolvedCount);
+        }
+    }
+
+    private record TeamSnapshot(List<UserWorkload> workloads, long createdAtNanos) {
+        boolean isFresh() {
+            return System.nanoTime() - createdAtNanos < TEAM_SNAPSHOT_TTL.toNanos();
+        }
+    }
+
+    /**
+     * Workload figures for one user, one count per status - ages are in hours
+     * openTickets are OPEN or REOPENED tickets still naming the user; waitingTickets wait for the customer
+     */
+    public record UserWorkload(
+        String userId,
+        long openTickets,
+        long assignedTickets,
+        long inProgressTickets,
+        long waitingTickets,
+        long resolvedTickets,
+        long closedTickets,
+        long overdueTickets,
+        double averageOpenAgeHours,
+        double averageResolutionHours
+    ) {
+        /**
+         * Tickets the user has taken on (ASSIGNED, IN_PROGRESS) - what the assignment limit and the
+         * workload stats count
+         */
+        public long limitedTickets() {
+            return assignedTickets + inProgressTickets;
+        }
+
+        public long activeTickets() {
+            return openTickets + limitedTickets() + waitingTickets;
+        }
+
+        public long completedTickets() {
+            return resolvedTickets + closedTickets;
+        }
+    }
+}
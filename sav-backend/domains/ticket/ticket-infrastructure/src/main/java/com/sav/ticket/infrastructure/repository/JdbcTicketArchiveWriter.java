@@ -0,0 +1,145 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.ticket.domain.repository.TicketArchiveWriterPort;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set-oriented archiver: each table is moved with a single DELETE ... RETURNING feeding an INSERT,
+ * so a batch costs a handful of statements whatever its size
+ * Yearly archive partitions are created the first time a ticket from that year is archived
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcTicketArchiveWriter implements TicketArchiveWriterPort {
+
+    private static final String SELECT_ARCHIVABLE = """
+        SELECT id FROM tickets
+        WHERE status = 'CLOSED' AND updated_at < :closedBefore
+        ORDER BY updated_at
+        LIMIT :limit
+        """;
+
+    // Rows another archiver holds are skipped; reopened or recently updated tickets drop out here
+    private static final String LOCK_TICKETS = """
+        SELECT id FROM tickets
+        WHERE id IN (:ids) AND status = 'CLOSED' AND updated_at < :closedBefore
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String SELECT_YEARS = """
+        SELECT DISTINCT CAST(EXTRACT(YEAR FROM created_at) AS INTEGER) FROM tickets WHERE id IN (:ids)
+        """;
+
+    private static final String MOVE_MESSAGES = """
+        WITH moved AS (
+            DELETE FROM ticket_messages m USING tickets t
+            WHERE m.ticket_id = t.id AND t.id IN (:ids)
+            RETURNING m.id, m.content, m.created_at, m.author_id, m.ticket_id, t.created_at AS ticket_created_at
+        )
+        INSERT INTO archived_ticket_messages (id, content, created_at, author_id, ticket_id, ticket_created_at)
+        SELECT id, content, created_at, author_id, ticket_id, ticket_created_at FROM moved
+        """;
+
+    private static final String MOVE_ATTACHMENTS = """
+        WITH moved AS (
+            DELETE FROM ticket_attachments a USING tickets t
+            WHERE a.ticket_id = t.id AND t.id IN (:ids)
+            RETURNING a.id, a.filename, a.file_url, a.uploaded_at, a.ticket_id, t.created_at AS ticket_created_at
+        )
+        INSERT INTO archived_ticket_attachments (id, filename, file_url, uploaded_at, ticket_id, ticket_created_at)
+        SELECT id, filename, file_url, uploaded_at, ticket_id, ticket_created_at FROM moved
+        """;
+
+    private static final String MOVE_TICKETS = """
+        WITH moved AS (
+            DELETE FROM tickets WHERE id IN (:ids)
+            RETURNING id, version, title, description, status, type, priority, created_at, updated_at,
+                      created_by_user_id, assigned_team, assigned_user_id
+        )
+        INSERT INTO archived_tickets (id, version, title, description, status, type, priority, created_at,
+                                      updated_at, created_by_user_id, assigned_team, assigned_user_id, archived_at)
+        SELECT id, version, title, description, status, type, priority, created_at, updated_at,
+               created_by_user_id, assigned_team, assigned_user_id, CURRENT_TIMESTAMP
+        FROM moved
+        """;
+
+    private static final List<String> PARTITIONED_TABLES =
+            List.of("archived_tickets", "archived_ticket_messages", "archived_ticket_attachments");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TicketViewPort ticketViews;
+    private final Set<Integer> knownPartitionYears = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public List<Long> findArchivableTicketIds(LocalDateTime closedBefore, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ARCHIVABLE, new MapSqlParameterSource()
+                .addValue("closedBefore", Timestamp.valueOf(closedBefore))
+                .addValue("limit", limit), Long.class);
+    }
+
+    @Override
+    public int archive(List<Long> ticketIds, LocalDateTime closedBefore) {
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_TICKETS, new MapSqlParameterSource()
+                .addValue("ids", ticketIds)
+                .addValue("closedBefore", Timestamp.valueOf(closedBefore)), Long.class);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Long>> ids = Map.of("ids", locked);
+        for (Integer year : jdbcTemplate.queryForList(SELECT_YEARS, ids, Integer.class)) {
+            ensurePartitions(year);
+        }
+
+        jdbcTemplate.update(MOVE_MESSAGES, ids);
+        jdbcTemplate.update(MOVE_ATTACHMENTS, ids);
+        int moved = jdbcTemplate.update(MOVE_TICKETS, ids);
+        // Archived tickets leave the listings with the same commit
+        ticketViews.refreshTickets(locked);
+        return moved;
+    }
+
+    /**
+     * One partition per year of ticket creation, in each archive table
+     * The year is only remembered once the transaction that created its partitions has committed
+     */
+    private void ensurePartitions(int year) {
+        if (knownPartitionYears.contains(year)) {
+            return;
+        }
+        for (String table : PARTITIONED_TABLES) {
+            // DDL cannot take bind parameters; year is an integer read from the database
+            jdbcTemplate.getJdbcTemplate().execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s_%d PARTITION OF %s FOR VALUES FROM ('%d-01-01') TO ('%d-01-01')",
+                    table, year, table, year, year + 1));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownPartitionYears.add(year);
+                }
+            });
+        }
+        log.debug("Archive partitions for {} ensured", year);
+    }
+}
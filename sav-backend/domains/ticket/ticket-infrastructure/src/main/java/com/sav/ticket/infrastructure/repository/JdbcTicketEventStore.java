@@ -0,0 +1,193 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.ticket.domain.repository.TicketEventStorePort;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketHistoryEvent.Kind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC store for ticket_events
+ * Kinds and statuses are written as fixed SMALLINT codes (listed in V11__Create_ticket_events.sql),
+ * never as enum ordinals, so reordering an enum cannot rewrite history
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketEventStore implements TicketEventStorePort {
+
+    private static final String INSERT_EVENT = """
+        INSERT INTO ticket_events (ticket_id, at, kind, from_status, to_status, actor_id, detail, from_detail,
+                                   status, priority, type, team)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String SELECT_BY_TICKET = """
+        SELECT ticket_id, at, kind, from_status, to_status, actor_id, detail, from_detail,
+               status, priority, type, team
+        FROM ticket_events
+        WHERE ticket_id = ? AND at <= ?
+        ORDER BY at, id
+        """;
+
+    private static final String SELECT_BETWEEN = """
+        SELECT ticket_id, at, kind, from_status, to_status, actor_id, detail, from_detail,
+               status, priority, type, team
+        FROM ticket_events
+        WHERE at >= ? AND at < ?
+        ORDER BY at, id
+        """;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final RowMapper<TicketHistoryEvent> ROW_MAPPER = JdbcTicketEventStore::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(Collection<TicketHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = events.stream()
+                .map(event -> {
+                    TicketSnapshot ticket = event.ticket();
+                    return new Object[] {
+                            event.ticketId(),
+                            Timestamp.valueOf(event.at()),
+                            kindCode(event.kind()),
+                            statusCode(event.fromStatus()),
+                            statusCode(event.toStatus()),
+                            event.actorId(),
+                            event.detail(),
+                            event.fromDetail(),
+                            ticket != null ? statusCode(ticket.status()) : null,
+                            ticket != null ? name(ticket.priority()) : null,
+                            ticket != null ? name(ticket.type()) : null,
+                            ticket != null ? name(ticket.team()) : null
+                    };
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows, new int[] {
+                Types.BIGINT, Types.TIMESTAMP, Types.SMALLINT, Types.SMALLINT, Types.SMALLINT,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.SMALLINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+        });
+    }
+
+    @Override
+    public List<TicketHistoryEvent> findByTicketIdUntil(Long ticketId, LocalDateTime until) {
+        return jdbcTemplate.query(SELECT_BY_TICKET, ROW_MAPPER, ticketId, Timestamp.valueOf(until));
+    }
+
+    @Override
+    public void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<TicketHistoryEvent> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BETWEEN);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs, 0)));
+    }
+
+    static TicketHistoryEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TicketHistoryEvent(
+                rs.getLong("ticket_id"),
+                rs.getTimestamp("at").toLocalDateTime(),
+                kind(rs.getShort("kind")),
+                status(rs.getShort("from_status")),
+                status(rs.getShort("to_status")),
+                rs.getString("actor_id"),
+                rs.getString("detail"),
+                rs.getString("from_detail"),
+                snapshot(rs));
+    }
+
+    // Rows written before V15 without a captured ticket have no priority
+    private static TicketSnapshot snapshot(ResultSet rs) throws SQLException {
+        String priority = rs.getString("priority");
+        if (priority == null) {
+            return null;
+        }
+        String type = rs.getString("type");
+        String team = rs.getString("team");
+        return new TicketSnapshot(
+                status(rs.getShort("status")),
+                Priority.valueOf(priority),
+                type != null ? TicketType.valueOf(type) : null,
+                team != null ? Team.valueOf(team) : null);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static short kindCode(Kind kind) {
+        return switch (kind) {
+            case CREATED -> 1;
+            case STATUS_CHANGED -> 2;
+            case ASSIGNED -> 3;
+            case TEAM_CHANGED -> 4;
+            case PRIORITY_CHANGED -> 5;
+        };
+    }
+
+    private static Kind kind(short code) {
+        return switch (code) {
+            case 1 -> Kind.CREATED;
+            case 2 -> Kind.STATUS_CHANGED;
+            case 3 -> Kind.ASSIGNED;
+            case 4 -> Kind.TEAM_CHANGED;
+            case 5 -> Kind.PRIORITY_CHANGED;
+            default -> throw new IllegalStateException("Unknown ticket event kind " + code);
+        };
+    }
+
+    private static Short statusCode(TicketStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case OPEN -> 1;
+            case ASSIGNED -> 2;
+            case IN_PROGRESS -> 3;
+            case RESOLVED -> 4;
+            case REOPENED -> 5;
+            case CLOSED -> 6;
+            case WAITING_FOR_CUSTOMER -> 7;
+        };
+    }
+
+    // getShort returns 0 for SQL NULL
+    private static TicketStatus status(short code) {
+        return switch (code) {
+            case 0 -> null;
+            case 1 -> TicketStatus.OPEN;
+            case 2 -> TicketStatus.ASSIGNED;
+            case 3 -> TicketStatus.IN_PROGRESS;
+            case 4 -> TicketStatus.RESOLVED;
+            case 5 -> TicketStatus.REOPENED;
+            case 6 -> TicketStatus.CLOSED;
+            case 7 -> TicketStatus.WAITING_FOR_CUSTOMER;
+            default -> throw new IllegalStateException("Unknown ticket status code " + code);
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.ticket.domain.repository.ImportedBatch;
+import com.sav.ticket.domain.repository.ImportedTicket;
+import com.sav.ticket.domain.repository.TicketEventStorePort;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketHistoryEvent.Kind;
+import com.sav.ticket.domain.repository.TicketImportWriterPort;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC batch writer for ticket imports
+ * IDs are taken from the tables' sequences in one round-trip per batch, so tickets and their
+ * messages can be linked and sent as JDBC batches (rewritten to multi-row INSERTs by the driver)
+ * Allocation follows Hibernate's pooled-lo scheme so imported rows never collide with JPA inserts
+ * Imports publish no per-ticket events, so their ticket_view rows and ticket_events history are written
+ * in the same transaction
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketImportWriter implements TicketImportWriterPort {
+
+    private static final String INSERT_TICKET = """
+        INSERT INTO tickets (id, version, title, description, status, type, priority,
+                             created_at, updated_at, created_by_user_id, assigned_team, assigned_user_id)
+        VALUES (?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_MESSAGE = """
+        INSERT INTO ticket_messages (id, content, created_at, author_id, ticket_id)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    // Must match allocationSize on the entities and INCREMENT BY on the sequences
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketViewPort ticketViews;
+    private final TicketEventStorePort eventStore;
+
+    @Override
+    public ImportedBatch insertBatch(List<ImportedTicket> tickets) {
+        if (tickets.isEmpty()) {
+            return ImportedBatch.EMPTY;
+        }
+
+        List<Long> ticketIds = allocateIds("tickets_seq", tickets.size());
+        List<Object[]> ticketRows = new ArrayList<>(tickets.size());
+        List<Object[]> messageRows = new ArrayList<>();
+        List<TicketHistoryEvent> history = new ArrayList<>(tickets.size() * 2);
+
+        for (int i = 0; i < tickets.size(); i++) {
+            ImportedTicket ticket = tickets.get(i);
+            Long ticketId = ticketIds.get(i);
+            ticketRows.add(new Object[] {
+                    ticketId,
+                    ticket.title(),
+                    ticket.description(),
+                    ticket.status().name(),
+                    ticket.type().name(),
+                    ticket.priority().name(),
+                    Timestamp.valueOf(ticket.createdAt()),
+                    Timestamp.valueOf(ticket.updatedAt()),
+                    ticket.createdByUserId(),
+                    ticket.assignedTeam() != null ? ticket.assignedTeam().name() : null,
+                    ticket.assignedUserId()
+            });
+            for (ImportedTicket.Message message : ticket.messages()) {
+                messageRows.add(new Object[] {
+                        null,
+                        message.content(),
+                        Timestamp.valueOf(message.createdAt()),
+                        message.authorId(),
+                        ticketId
+                });
+            }
+            addHistory(history, ticketId, ticket);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TICKET, ticketRows, new int[] {
+                Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+        });
+
+        if (!messageRows.isEmpty()) {
+            List<Long> messageIds = allocateIds("ticket_messages_seq", messageRows.size());
+            for (int i = 0; i < messageRows.size(); i++) {
+                messageRows.get(i)[0] = messageIds.get(i);
+            }
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE, messageRows, new int[] {
+                    Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT
+            });
+        }
+
+        ticketViews.refreshTickets(ticketIds);
+        eventStore.append(history);
+        return new ImportedBatch(ticketIds, messageRows.size());
+    }
+
+    /**
+     * The history an imported ticket would have had: created open, then moved to its team, status and
+     * assignee when it was last updated
+     */
+    private static void addHistory(List<TicketHistoryEvent> history, Long ticketId, ImportedTicket ticket) {
+        String creator = ticket.createdByUserId();
+        TicketSnapshot snapshot = new TicketSnapshot(TicketStatus.OPEN, ticket.priority(), ticket.type(), null);
+        history.add(new TicketHistoryEvent(ticketId, ticket.createdAt(), Kind.CREATED, null, TicketStatus.OPEN,
+                creator, ticket.priority().name(), null, snapshot));
+
+        if (ticket.assignedTeam() != null) {
+            snapshot = snapshot.withTeam(ticket.assignedTeam());
+            history.add(new TicketHistoryEvent(ticketId, ticket.updatedAt(), Kind.TEAM_CHANGED, null, null,
+                    creator, ticket.assignedTeam().name(), null, snapshot));
+        }
+        if (ticket.status() != TicketStatus.OPEN) {
+            snapshot = snapshot.withStatus(ticket.status());
+            history.add(new TicketHistoryEvent(ticketId, ticket.updatedAt(), Kind.STATUS_CHANGED,
+                    TicketStatus.OPEN, ticket.status(), creator, null, null, snapshot));
+        }
+        if (ticket.assignedUserId() != null) {
+            history.add(new TicketHistoryEvent(ticketId, ticket.updatedAt(), Kind.ASSIGNED, null, null,
+                    creator, ticket.assignedUserId(), null, snapshot));
+        }
+    }
+
+    /**
+     * Reserve IDs from a pooled-lo sequence in a single query
+     * Each nextval value v owns the block [v, v + ID_ALLOCATION_SIZE - 1]
+     */
+    private List<Long> allocateIds(String sequence, int count) {
+        int blocks = (count + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockStart : blockStarts) {
+            for (int i = 0; i < ID_ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,224 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.events.ticket.TicketSnapshot;
+import com.sav.ticket.domain.repository.TicketHistoryEvent;
+import com.sav.ticket.domain.repository.TicketHistoryEvent.Kind;
+import com.sav.ticket.domain.repository.TicketRollup;
+import com.sav.ticket.domain.repository.TicketRollup.Granularity;
+import com.sav.ticket.domain.repository.TicketRollupPort;
+import com.sav.ticket.domain.repository.TicketRollupSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC store for ticket_rollups
+ * Deltas are merged with INSERT ... ON CONFLICT DO UPDATE, adding counters and histograms in place
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketRollupStore implements TicketRollupPort {
+
+    private static final String NO_DIMENSION = "NONE";
+
+    private static final String LOCK_WATERMARK =
+            "SELECT last_event_id FROM ticket_rollup_state WHERE id = 1 FOR UPDATE";
+
+    private static final String ADVANCE_WATERMARK =
+            "UPDATE ticket_rollup_state SET last_event_id = ?, updated_at = CURRENT_TIMESTAMP WHERE id = 1";
+
+    // Events carry the ticket's attributes at event time; the ticket's current ones (hot table or, once
+    // archived, the archive) are only used for events recorded without them
+    private static final String SELECT_EVENTS = """
+        SELECT e.id, e.ticket_id, e.at, e.kind, e.from_status, e.to_status, e.actor_id, e.detail, e.from_detail,
+               e.status, e.priority, e.type, e.team,
+               t.priority AS ticket_priority, t.type AS ticket_type, t.assigned_team AS ticket_team,
+               t.created_at AS ticket_created_at
+        FROM ticket_events e
+        LEFT JOIN LATERAL (
+            SELECT priority, type, assigned_team, created_at FROM tickets WHERE id = e.ticket_id
+            UNION ALL
+            SELECT priority, type, assigned_team, created_at FROM archived_tickets WHERE id = e.ticket_id
+            LIMIT 1
+        ) t ON TRUE
+        WHERE e.id > ?
+          AND e.id < COALESCE((SELECT MIN(r.id) FROM ticket_events r WHERE r.id > ? AND r.recorded_at >= ?),
+                              9223372036854775807)
+        ORDER BY e.id
+        LIMIT ?
+        """;
+
+    private static final String MERGE_ROLLUP = """
+        INSERT INTO ticket_rollups (granularity, bucket_start, priority, type, team, created_count, resolved_count,
+                                    closed_count, reopened_count, backlog_delta, resolution_count,
+                                    resolution_seconds, resolution_histogram)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (granularity, bucket_start, priority, type, team) DO UPDATE SET
+            created_count = ticket_rollups.created_count + EXCLUDED.created_count,
+            resolved_count = ticket_rollups.resolved_count + EXCLUDED.resolved_count,
+            closed_count = ticket_rollups.closed_count + EXCLUDED.closed_count,
+            reopened_count = ticket_rollups.reopened_count + EXCLUDED.reopened_count,
+            backlog_delta = ticket_rollups.backlog_delta + EXCLUDED.backlog_delta,
+            resolution_count = ticket_rollups.resolution_count + EXCLUDED.resolution_count,
+            resolution_seconds = ticket_rollups.resolution_seconds + EXCLUDED.resolution_seconds,
+            resolution_histogram = ARRAY(
+                SELECT COALESCE(h.existing, 0) + COALESCE(h.added, 0)
+                FROM unnest(ticket_rollups.resolution_histogram, EXCLUDED.resolution_histogram)
+                     WITH ORDINALITY AS h(existing, added, position)
+                ORDER BY h.position)
+        """;
+
+    private static final String SELECT_BETWEEN = """
+        SELECT granularity, bucket_start, priority, type, team, created_count, resolved_count, closed_count,
+               reopened_count, backlog_delta, resolution_count, resolution_seconds, resolution_histogram
+        FROM ticket_rollups
+        WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?
+        ORDER BY bucket_start
+        """;
+
+    // Whole days from the daily rows, the rest of the last day from the hourly ones
+    private static final String SELECT_BACKLOG_BEFORE = """
+        SELECT priority, type, team, SUM(backlog_delta) AS backlog
+        FROM ticket_rollups
+        WHERE (granularity = 'DAY' AND bucket_start < ?)
+           OR (granularity = 'HOUR' AND bucket_start >= ? AND bucket_start < ?)
+        GROUP BY priority, type, team
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long lockWatermark() {
+        Long watermark = jdbcTemplate.queryForObject(LOCK_WATERMARK, Long.class);
+        return watermark != null ? watermark : 0L;
+    }
+
+    @Override
+    public void advanceWatermark(long lastEventId) {
+        jdbcTemplate.update(ADVANCE_WATERMARK, lastEventId);
+    }
+
+    @Override
+    public List<TicketRollupSource> findEventsAfter(long afterEventId, LocalDateTime recordedBefore, int limit) {
+        return jdbcTemplate.query(SELECT_EVENTS, JdbcTicketRollupStore::mapSource,
+                afterEventId, afterEventId, Timestamp.valueOf(recordedBefore), limit);
+    }
+
+    @Override
+    public void merge(Collection<TicketRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<TicketRollup> rows = List.copyOf(deltas);
+        jdbcTemplate.batchUpdate(MERGE_ROLLUP, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TicketRollup rollup = rows.get(i);
+                ps.setString(1, rollup.granularity().name());
+                ps.setTimestamp(2, Timestamp.valueOf(rollup.bucketStart()));
+                ps.setString(3, rollup.priority());
+                ps.setString(4, rollup.type());
+                ps.setString(5, rollup.team());
+                ps.setLong(6, rollup.createdCount());
+                ps.setLong(7, rollup.resolvedCount());
+                ps.setLong(8, rollup.closedCount());
+                ps.setLong(9, rollup.reopenedCount());
+                ps.setLong(10, rollup.backlogDelta());
+                ps.setLong(11, rollup.resolutionCount());
+                ps.setLong(12, rollup.resolutionSeconds());
+                ps.setArray(13, ps.getConnection().createArrayOf("bigint",
+                        Arrays.stream(rollup.resolutionHistogram()).boxed().toArray(Long[]::new)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    @Override
+    public List<TicketRollup> findBetween(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_BETWEEN, JdbcTicketRollupStore::mapRollup,
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<DimensionBacklog> findBacklogBefore(LocalDateTime before) {
+        Timestamp dayStart = Timestamp.valueOf(Granularity.DAY.truncate(before));
+        return jdbcTemplate.query(SELECT_BACKLOG_BEFORE, (rs, rowNum) -> new DimensionBacklog(
+                rs.getString("priority"),
+                rs.getString("type"),
+                rs.getString("team"),
+                rs.getLong("backlog")),
+                dayStart, dayStart, Timestamp.valueOf(before));
+    }
+
+    private static TicketRollupSource mapSource(ResultSet rs, int rowNum) throws SQLException {
+        TicketHistoryEvent event = JdbcTicketEventStore.mapRow(rs, rowNum);
+        LocalDateTime createdAt = toLocalDateTime(rs.getTimestamp("ticket_created_at"));
+        TicketSnapshot ticket = event.ticket();
+        if (ticket == null) {
+            String priority = dimension(rs.getString("ticket_priority"));
+            String team = dimension(rs.getString("ticket_team"));
+            return new TicketRollupSource(rs.getLong("id"), event, priority, dimension(rs.getString("ticket_type")),
+                    team, priority, team, createdAt);
+        }
+
+        String priority = dimension(ticket.priority());
+        String team = dimension(ticket.team());
+        return new TicketRollupSource(rs.getLong("id"), event, priority, dimension(ticket.type()), team,
+                event.kind() == Kind.PRIORITY_CHANGED ? dimension(event.fromDetail()) : priority,
+                event.kind() == Kind.TEAM_CHANGED ? dimension(event.fromDetail()) : team,
+                createdAt);
+    }
+
+    private static TicketRollup mapRollup(ResultSet rs, int rowNum) throws SQLException {
+        return new TicketRollup(
+                Granularity.valueOf(rs.getString("granularity")),
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                rs.getString("priority"),
+                rs.getString("type"),
+                rs.getString("team"),
+                rs.getLong("created_count"),
+                rs.getLong("resolved_count"),
+                rs.getLong("closed_count"),
+                rs.getLong("reopened_count"),
+                rs.getLong("backlog_delta"),
+                rs.getLong("resolution_count"),
+                rs.getLong("resolution_seconds"),
+                histogram(rs.getArray("resolution_histogram")));
+    }
+
+    private static long[] histogram(Array array) throws SQLException {
+        Object[] values = (Object[]) array.getArray();
+        long[] counts = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            counts[i] = values[i] != null ? ((Number) values[i]).longValue() : 0L;
+        }
+        return counts;
+    }
+
+    private static String dimension(String value) {
+        return value != null ? value : NO_DIMENSION;
+    }
+
+    private static String dimension(Enum<?> value) {
+        return value != null ? value.name() : NO_DIMENSION;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,214 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.ticket.domain.repository.TicketSla;
+import com.sav.ticket.domain.repository.TicketSlaPort;
+import com.sav.ticket.domain.repository.TicketSlaSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC store for ticket_sla
+ * Warnings and breaches are claimed with conditional UPDATEs, so only one node publishes each of them
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketSlaStore implements TicketSlaPort {
+
+    private static final String COLUMNS = """
+        s.ticket_id, s.policy, s.priority, s.target_seconds, s.state, s.consumed_seconds, s.clock_started_at,
+        s.warning_at, s.breach_at, s.warned_at, s.breached_at, s.updated_at
+        """;
+
+    private static final String CREATE_MISSING = """
+        INSERT INTO ticket_sla (ticket_id, policy, priority, target_seconds, state, consumed_seconds,
+                                clock_started_at, updated_at)
+        SELECT id, '', priority, 0, 'RUNNING', 0, created_at, LOCALTIMESTAMP
+        FROM tickets
+        WHERE id IN (:ids)
+        ON CONFLICT (ticket_id) DO NOTHING
+        """;
+
+    // Rows are locked in id order so concurrent batches cannot deadlock
+    private static final String LOCK_FOR_UPDATE = "SELECT " + COLUMNS + """
+        , t.status AS ticket_status, t.priority AS ticket_priority, t.type AS ticket_type
+        FROM ticket_sla s
+        JOIN tickets t ON t.id = s.ticket_id
+        WHERE s.ticket_id IN (:ids)
+        ORDER BY s.ticket_id
+        FOR UPDATE OF s
+        """;
+
+    private static final String UPDATE = """
+        UPDATE ticket_sla SET
+            policy = :policy,
+            priority = :priority,
+            target_seconds = :targetSeconds,
+            state = :state,
+            consumed_seconds = :consumedSeconds,
+            clock_started_at = :clockStartedAt,
+            warning_at = :warningAt,
+            breach_at = :breachAt,
+            warned_at = :warnedAt,
+            breached_at = :breachedAt,
+            updated_at = :updatedAt
+        WHERE ticket_id = :ticketId
+        """;
+
+    private static final String FIND_BY_TICKET = "SELECT " + COLUMNS + " FROM ticket_sla s WHERE s.ticket_id = :ticketId";
+
+    private static final String FIND_UNSTOPPED = "SELECT " + COLUMNS + """
+        FROM ticket_sla s
+        WHERE s.state <> 'STOPPED' AND s.ticket_id > :after
+        ORDER BY s.ticket_id
+        LIMIT :limit
+        """;
+
+    private static final String FIND_UPDATED_SINCE =
+            "SELECT " + COLUMNS + " FROM ticket_sla s WHERE s.updated_at > :since";
+
+    private static final String FIND_TICKETS_WITHOUT_SLA = """
+        SELECT t.id FROM tickets t
+        WHERE t.status IN (:statuses)
+          AND NOT EXISTS (SELECT 1 FROM ticket_sla s WHERE s.ticket_id = t.id)
+        ORDER BY t.id
+        LIMIT :limit
+        """;
+
+    private static final String MARK_WARNED = """
+        UPDATE ticket_sla SET warned_at = warning_at, updated_at = :now
+        WHERE ticket_id = :ticketId AND state = 'RUNNING' AND warning_at = :at AND warned_at IS NULL
+        """;
+
+    private static final String MARK_BREACHED = """
+        UPDATE ticket_sla SET breached_at = breach_at, updated_at = :now
+        WHERE ticket_id = :ticketId AND state = 'RUNNING' AND breach_at = :at AND breached_at IS NULL
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void createMissing(Collection<Long> ticketIds) {
+        if (!ticketIds.isEmpty()) {
+            jdbcTemplate.update(CREATE_MISSING, new MapSqlParameterSource("ids", ticketIds));
+        }
+    }
+
+    @Override
+    public List<TicketSlaSource> lockForUpdate(Collection<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(LOCK_FOR_UPDATE, new MapSqlParameterSource("ids", ticketIds),
+                (rs, rowNum) -> new TicketSlaSource(
+                        mapRow(rs, rowNum),
+                        TicketStatus.valueOf(rs.getString("ticket_status")),
+                        Priority.valueOf(rs.getString("ticket_priority")),
+                        TicketType.valueOf(rs.getString("ticket_type"))));
+    }
+
+    @Override
+    public void saveAll(Collection<TicketSla> clocks) {
+        if (clocks.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = clocks.stream()
+                .map(sla -> new MapSqlParameterSource()
+                        .addValue("ticketId", sla.ticketId())
+                        .addValue("policy", sla.policy())
+                        .addValue("priority", sla.priority().name())
+                        .addValue("targetSeconds", sla.targetSeconds())
+                        .addValue("state", sla.state().name())
+                        .addValue("consumedSeconds", sla.consumedSeconds())
+                        .addValue("clockStartedAt", toTimestamp(sla.clockStartedAt()))
+                        .addValue("warningAt", toTimestamp(sla.warningAt()))
+                        .addValue("breachAt", toTimestamp(sla.breachAt()))
+                        .addValue("warnedAt", toTimestamp(sla.warnedAt()))
+                        .addValue("breachedAt", toTimestamp(sla.breachedAt()))
+                        .addValue("updatedAt", toTimestamp(sla.updatedAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE, batch);
+    }
+
+    @Override
+    public Optional<TicketSla> findByTicketId(Long ticketId) {
+        return jdbcTemplate.query(FIND_BY_TICKET, new MapSqlParameterSource("ticketId", ticketId),
+                JdbcTicketSlaStore::mapRow).stream().findFirst();
+    }
+
+    @Override
+    public List<TicketSla> findUnstopped(long afterTicketId, int limit) {
+        return jdbcTemplate.query(FIND_UNSTOPPED,
+                new MapSqlParameterSource("after", afterTicketId).addValue("limit", limit),
+                JdbcTicketSlaStore::mapRow);
+    }
+
+    @Override
+    public List<TicketSla> findUpdatedSince(LocalDateTime since) {
+        return jdbcTemplate.query(FIND_UPDATED_SINCE, new MapSqlParameterSource("since", Timestamp.valueOf(since)),
+                JdbcTicketSlaStore::mapRow);
+    }
+
+    @Override
+    public List<Long> findTicketsWithoutSla(Collection<TicketStatus> statuses, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("statuses", statuses.stream().map(Enum::name).toList())
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(FIND_TICKETS_WITHOUT_SLA, params, Long.class);
+    }
+
+    @Override
+    public boolean markWarned(Long ticketId, LocalDateTime warningAt, LocalDateTime now) {
+        return mark(MARK_WARNED, ticketId, warningAt, now);
+    }
+
+    @Override
+    public boolean markBreached(Long ticketId, LocalDateTime breachAt, LocalDateTime now) {
+        return mark(MARK_BREACHED, ticketId, breachAt, now);
+    }
+
+    private boolean mark(String sql, Long ticketId, LocalDateTime at, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ticketId", ticketId)
+                .addValue("at", Timestamp.valueOf(at))
+                .addValue("now", Timestamp.valueOf(now));
+        return jdbcTemplate.update(sql, params) == 1;
+    }
+
+    private static TicketSla mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TicketSla(
+                rs.getLong("ticket_id"),
+                rs.getString("policy"),
+                Priority.valueOf(rs.getString("priority")),
+                rs.getLong("target_seconds"),
+                TicketSla.State.valueOf(rs.getString("state")),
+                rs.getLong("consumed_seconds"),
+                toLocalDateTime(rs.getTimestamp("clock_started_at")),
+                toLocalDateTime(rs.getTimestamp("warning_at")),
+                toLocalDateTime(rs.getTimestamp("breach_at")),
+                toLocalDateTime(rs.getTimestamp("warned_at")),
+                toLocalDateTime(rs.getTimestamp("breached_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,291 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.ticket.domain.repository.TicketView;
+import com.sav.ticket.domain.repository.TicketViewPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JDBC store for ticket_view
+ * A refresh is one INSERT ... SELECT ... ON CONFLICT DO UPDATE over the source tables for a batch of ids;
+ * listings are plain single-table queries, built from the filter
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTicketViewStore implements TicketViewPort {
+
+    private static final String COLUMNS = """
+        id, version, title, description, status, type, priority, created_at, updated_at,
+        created_by_user_id, created_by_name, assigned_team, assigned_user_id, assigned_user_name,
+        message_count, last_message_at, attachment_count
+        """;
+
+    // Must match idx_ticket_view_search_trgm
+    private static final String SEARCH_EXPRESSION =
+            "lower(title || ' ' || coalesce(created_by_name, '') || ' ' || coalesce(assigned_user_name, ''))";
+
+    // statement_timestamp() orders concurrent refreshes of a row by when they read the source
+    private static final String REFRESH_TICKETS = """
+        INSERT INTO ticket_view (id, version, title, description, status, type, priority, created_at, updated_at,
+                                 created_by_user_id, created_by_name, assigned_team, assigned_user_id,
+                                 assigned_user_name, message_count, last_message_at, attachment_count, refreshed_at)
+        SELECT t.id, t.version, t.title, t.description, t.status, t.type, t.priority, t.created_at, t.updated_at,
+               t.created_by_user_id, c.first_name || ' ' || c.last_name, t.assigned_team, t.assigned_user_id,
+               a.first_name || ' ' || a.last_name, m.message_count, m.last_message_at, f.attachment_count,
+               statement_timestamp()
+        FROM tickets t
+        LEFT JOIN users c ON c.id = t.created_by_user_id
+        LEFT JOIN users a ON a.id = t.assigned_user_id
+        CROSS JOIN LATERAL (
+            SELECT COUNT(*) AS message_count, MAX(created_at) AS last_message_at
+            FROM ticket_messages WHERE ticket_id = t.id
+        ) m
+        CROSS JOIN LATERAL (
+            SELECT COUNT(*) AS attachment_count FROM ticket_attachments WHERE ticket_id = t.id
+        ) f
+        WHERE t.id IN (:ids)
+        ON CONFLICT (id) DO UPDATE SET
+            version = EXCLUDED.version,
+            title = EXCLUDED.title,
+            description = EXCLUDED.description,
+            status = EXCLUDED.status,
+            type = EXCLUDED.type,
+            priority = EXCLUDED.priority,
+            created_at = EXCLUDED.created_at,
+            updated_at = EXCLUDED.updated_at,
+            created_by_user_id = EXCLUDED.created_by_user_id,
+            created_by_name = EXCLUDED.created_by_name,
+            assigned_team = EXCLUDED.assigned_team,
+            assigned_user_id = EXCLUDED.assigned_user_id,
+            assigned_user_name = EXCLUDED.assigned_user_name,
+            message_count = EXCLUDED.message_count,
+            last_message_at = EXCLUDED.last_message_at,
+            attachment_count = EXCLUDED.attachment_count,
+            refreshed_at = EXCLUDED.refreshed_at
+        WHERE ticket_view.refreshed_at <= EXCLUDED.refreshed_at
+        """;
+
+    // Deleted or archived tickets
+    private static final String REMOVE_MISSING = """
+        DELETE FROM ticket_view v
+        WHERE v.id IN (:ids) AND NOT EXISTS (SELECT 1 FROM tickets t WHERE t.id = v.id)
+        """;
+
+    private static final String REFRESH_CREATOR_NAMES = """
+        UPDATE ticket_view v SET created_by_name = u.first_name || ' ' || u.last_name
+        FROM users u
+        WHERE v.created_by_user_id = u.id AND u.id IN (:userIds)
+        """;
+
+    private static final String REFRESH_ASSIGNEE_NAMES = """
+        UPDATE ticket_view v SET assigned_user_name = u.first_name || ' ' || u.last_name
+        FROM users u
+        WHERE v.assigned_user_id = u.id AND u.id IN (:userIds)
+        """;
+
+    private static final String COUNT_FOR_USER = """
+        SELECT COUNT(*) FILTER (WHERE created_by_user_id = :userId) AS created,
+               COUNT(*) FILTER (WHERE assigned_user_id = :userId) AS assigned,
+               COUNT(*) FILTER (WHERE created_by_user_id = :userId AND status = 'OPEN') AS created_open,
+               COUNT(*) FILTER (WHERE created_by_user_id = :userId AND status = 'IN_PROGRESS') AS created_in_progress
+        FROM ticket_view
+        WHERE created_by_user_id = :userId OR assigned_user_id = :userId
+        """;
+
+    // API sort properties (TicketResponse field names) to columns
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "id"),
+            Map.entry("title", "title"),
+            Map.entry("status", "status"),
+            Map.entry("type", "type"),
+            Map.entry("priority", "priority"),
+            Map.entry("createdAt", "created_at"),
+            Map.entry("updatedAt", "updated_at"),
+            Map.entry("assignedTeam", "assigned_team"),
+            Map.entry("messageCount", "message_count"),
+            Map.entry("lastMessageAt", "last_message_at"),
+            Map.entry("attachmentCount", "attachment_count"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void refreshTickets(Collection<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<Long>> ids = Map.of("ids", ticketIds);
+        jdbcTemplate.update(REFRESH_TICKETS, ids);
+        jdbcTemplate.update(REMOVE_MISSING, ids);
+    }
+
+    @Override
+    public void refreshUserNames(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<String>> ids = Map.of("userIds", userIds);
+        jdbcTemplate.update(REFRESH_CREATOR_NAMES, ids);
+        jdbcTemplate.update(REFRESH_ASSIGNEE_NAMES, ids);
+    }
+
+    @Override
+    public Page<TicketView> find(Filter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = where(filter, params);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query(where, pageable.getSort(), params));
+        }
+
+        params.addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        List<TicketView> content = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM ticket_view" + where + orderBy(pageable.getSort())
+                        + " LIMIT :limit OFFSET :offset",
+                params, JdbcTicketViewStore::mapRow);
+
+        // The count is skipped when the page alone tells the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket_view" + where, params, Long.class);
+            return total != null ? total : 0L;
+        });
+    }
+
+    @Override
+    public List<TicketView> findAll(Filter filter, Sort sort) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return query(where(filter, params), sort, params);
+    }
+
+    @Override
+    public List<TicketView> findFirst(Filter filter, Sort sort, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM ticket_view" + where(filter, params) + orderBy(sort) + " LIMIT :limit",
+                params, JdbcTicketViewStore::mapRow);
+    }
+
+    @Override
+    public UserCounts countForUser(String userId) {
+        return jdbcTemplate.queryForObject(COUNT_FOR_USER, Map.of("userId", userId), (rs, rowNum) -> new UserCounts(
+                rs.getLong("created"),
+                rs.getLong("assigned"),
+                rs.getLong("created_open"),
+                rs.getLong("created_in_progress")));
+    }
+
+    private List<TicketView> query(String where, Sort sort, MapSqlParameterSource params) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM ticket_view" + where + orderBy(sort),
+                params, JdbcTicketViewStore::mapRow);
+    }
+
+    private static String where(Filter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.status() != null) {
+            conditions.add("status = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.priority() != null) {
+            conditions.add("priority = :priority");
+            params.addValue("priority", filter.priority().name());
+        }
+        if (filter.assignedTeam() != null) {
+            conditions.add("assigned_team = :assignedTeam");
+            params.addValue("assignedTeam", filter.assignedTeam().name());
+        }
+        if (filter.createdByUserId() != null) {
+            conditions.add("created_by_user_id = :createdByUserId");
+            params.addValue("createdByUserId", filter.createdByUserId());
+        }
+        if (filter.assignedUserId() != null) {
+            conditions.add("assigned_user_id = :assignedUserId");
+            params.addValue("assignedUserId", filter.assignedUserId());
+        }
+        if (filter.searchTerm() != null && !filter.searchTerm().isBlank()) {
+            conditions.add(SEARCH_EXPRESSION + " LIKE :contains");
+            params.addValue("contains", "%" + escapeLike(filter.searchTerm().toLowerCase(Locale.ROOT)) + "%");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Newest first by default; the id breaks ties in the direction of the last order so pages are stable
+     */
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY created_at DESC, id DESC";
+        }
+        List<String> orders = new ArrayList<>();
+        Sort.Direction last = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Cannot sort tickets by " + order.getProperty());
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            last = order.getDirection();
+        }
+        if (!orders.contains("id ASC") && !orders.contains("id DESC")) {
+            orders.add(last.isAscending() ? "id ASC" : "id DESC");
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static TicketView mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String team = rs.getString("assigned_team");
+        return new TicketView(
+                rs.getLong("id"),
+                rs.getLong("version"),
+                rs.getString("title"),
+                rs.getString("description"),
+                TicketStatus.valueOf(rs.getString("status")),
+                TicketType.valueOf(rs.getString("type")),
+                Priority.valueOf(rs.getString("priority")),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getString("created_by_user_id"),
+                rs.getString("created_by_name"),
+                team != null ? Team.valueOf(team) : null,
+                rs.getString("assigned_user_id"),
+                rs.getString("assigned_user_name"),
+                rs.getInt("message_count"),
+                toLocalDateTime(rs.getTimestamp("last_message_at")),
+                rs.getInt("attachment_count"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
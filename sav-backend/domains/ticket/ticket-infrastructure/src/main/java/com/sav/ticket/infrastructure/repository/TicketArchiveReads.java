@@ -0,0 +1,16 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.repository.TicketAccessProjection;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment reading the ticket archive, mixed into {@link TicketRepository}
+ */
+public interface TicketArchiveReads {
+
+    Optional<Ticket> findArchivedById(Long id);
+
+    Optional<TicketAccessProjection> findArchivedAccessById(Long id);
+}
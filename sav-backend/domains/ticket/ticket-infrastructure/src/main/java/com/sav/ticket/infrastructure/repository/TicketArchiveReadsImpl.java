@@ -0,0 +1,135 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.entity.TicketAttachment;
+import com.sav.ticket.domain.entity.TicketMessage;
+import com.sav.ticket.domain.repository.TicketAccessProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Archived tickets come back detached, with their messages and attachments already loaded
+ * Messages and attachments are read from the ticket's own yearly partition only
+ */
+@RequiredArgsConstructor
+public class TicketArchiveReadsImpl implements TicketArchiveReads {
+
+    private static final String SELECT_TICKET = """
+        SELECT id, version, title, description, status, type, priority, created_at, updated_at,
+               created_by_user_id, assigned_team, assigned_user_id
+        FROM archived_tickets WHERE id = ?
+        """;
+
+    private static final String SELECT_ACCESS = """
+        SELECT id, created_by_user_id, assigned_user_id, assigned_team, version
+        FROM archived_tickets WHERE id = ?
+        """;
+
+    private static final String SELECT_MESSAGES = """
+        SELECT id, content, created_at, author_id
+        FROM archived_ticket_messages
+        WHERE ticket_id = ? AND ticket_created_at = ?
+        ORDER BY created_at, id
+        """;
+
+    private static final String SELECT_ATTACHMENTS = """
+        SELECT id, filename, file_url, uploaded_at
+        FROM archived_ticket_attachments
+        WHERE ticket_id = ? AND ticket_created_at = ?
+        ORDER BY id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Ticket> findArchivedById(Long id) {
+        List<Ticket> tickets = jdbcTemplate.query(SELECT_TICKET, (rs, rowNum) -> Ticket.builder()
+                .id(rs.getLong("id"))
+                .version(rs.getLong("version"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .status(TicketStatus.valueOf(rs.getString("status")))
+                .type(TicketType.valueOf(rs.getString("type")))
+                .priority(Priority.valueOf(rs.getString("priority")))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .createdByUserId(rs.getString("created_by_user_id"))
+                .assignedTeam(team(rs.getString("assigned_team")))
+                .assignedUserId(rs.getString("assigned_user_id"))
+                .build(), id);
+        if (tickets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Ticket ticket = tickets.get(0);
+        Timestamp partitionKey = Timestamp.valueOf(ticket.getCreatedAt());
+        ticket.getMessages().addAll(jdbcTemplate.query(SELECT_MESSAGES, (rs, rowNum) -> TicketMessage.builder()
+                .id(rs.getLong("id"))
+                .content(rs.getString("content"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .authorId(rs.getString("author_id"))
+                .ticket(ticket)
+                .build(), ticket.getId(), partitionKey));
+        ticket.getAttachments().addAll(jdbcTemplate.query(SELECT_ATTACHMENTS, (rs, rowNum) -> TicketAttachment.builder()
+                .id(rs.getLong("id"))
+                .filename(rs.getString("filename"))
+                .fileUrl(rs.getString("file_url"))
+                .uploadedAt(rs.getTimestamp("uploaded_at").toLocalDateTime())
+                .ticket(ticket)
+                .build(), ticket.getId(), partitionKey));
+        return Optional.of(ticket);
+    }
+
+    @Override
+    public Optional<TicketAccessProjection> findArchivedAccessById(Long id) {
+        return jdbcTemplate.query(SELECT_ACCESS, (rs, rowNum) -> (TicketAccessProjection) new ArchivedAccess(
+                        rs.getLong("id"),
+                        rs.getString("created_by_user_id"),
+                        rs.getString("assigned_user_id"),
+                        team(rs.getString("assigned_team")),
+                        rs.getLong("version")), id)
+                .stream()
+                .findFirst();
+    }
+
+    private static Team team(String value) {
+        return value != null ? Team.valueOf(value) : null;
+    }
+
+    private record ArchivedAccess(Long id, String createdByUserId, String assignedUserId, Team assignedTeam,
+                                  Long version) implements TicketAccessProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getCreatedByUserId() {
+            return createdByUserId;
+        }
+
+        @Override
+        public String getAssignedUserId() {
+            return assignedUserId;
+        }
+
+        @Override
+        public Team getAssignedTeam() {
+            return assignedTeam;
+        }
+
+        @Override
+        public Long getVersion() {
+            return version;
+        }
+    }
+}
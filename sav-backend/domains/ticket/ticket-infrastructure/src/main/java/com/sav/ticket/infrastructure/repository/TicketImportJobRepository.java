@@ -0,0 +1,10 @@
+package com.sav.ticket.infrastructure.repository;
+
+import com.sav.ticket.domain.entity.TicketImportJob;
+import com.sav.ticket.domain.repository.TicketImportJobRepositoryPort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketImportJobRepository extends JpaRepository<TicketImportJob, Long>, TicketImportJobRepositoryPort {
+}
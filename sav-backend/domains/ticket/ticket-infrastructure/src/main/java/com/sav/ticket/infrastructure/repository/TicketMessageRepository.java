@@ -1,14 +1,36 @@
 package com.sav.ticket.infrastructure.repository;
 
 import com.sav.ticket.domain.entity.TicketMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.sav.ticket.domain.repository.TicketMessageRepositoryPort;
 
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 @Repository
 public interface TicketMessageRepository extends JpaRepository<TicketMessage, Long> , TicketMessageRepositoryPort {
     List<TicketMessage> findByTicketIdOrderByCreatedAtAsc(Long ticketId);
 
+    @Query("""
+        SELECT m FROM TicketMessage m
+        WHERE m.ticket.id = :ticketId
+        ORDER BY m.createdAt ASC, m.id ASC
+        """)
+    List<TicketMessage> findTimeline(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    @Query("""
+        SELECT m FROM TicketMessage m
+        WHERE m.ticket.id = :ticketId
+        AND (m.createdAt > :afterCreatedAt
+             OR (m.createdAt = :afterCreatedAt AND m.id > :afterId))
+        ORDER BY m.createdAt ASC, m.id ASC
+        """)
+    List<TicketMessage> findTimelineAfter(@Param("ticketId") Long ticketId,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
 }
@@ -4,7 +4,10 @@ import com.sav.common.enums.Priority;
 import com.sav.common.enums.Team;
 import com.sav.common.enums.TicketStatus;
 import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.repository.TicketAccessProjection;
+import com.sav.ticket.domain.repository.TicketAudienceProjection;
 import com.sav.ticket.domain.repository.TicketStatisticsProjection;
+import com.sav.ticket.domain.repository.UserWorkloadProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,11 +16,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.sav.ticket.domain.repository.TicketRepositoryPort;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryPort {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryPort, TicketArchiveReads {
 
     // Basic queries
     List<Ticket> findByCreatedByUserId(String userId);
@@ -48,6 +53,37 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRep
     @Query("SELECT t FROM Ticket t LEFT JOIN FETCH t.messages WHERE t.id = :id")
     Optional<Ticket> findByIdWithMessages(@Param("id") Long id);
 
+    @Query("SELECT t.version FROM Ticket t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("""
+        SELECT t.id AS id,
+               t.createdByUserId AS createdByUserId,
+               t.assignedUserId AS assignedUserId,
+               t.assignedTeam AS assignedTeam
+        FROM Ticket t WHERE t.id = :id
+        """)
+    Optional<TicketAudienceProjection> findAudienceById(@Param("id") Long id);
+
+    @Query("""
+        SELECT t.id AS id,
+               t.createdByUserId AS createdByUserId,
+               t.assignedUserId AS assignedUserId,
+               t.assignedTeam AS assignedTeam,
+               t.version AS version
+        FROM Ticket t WHERE t.id = :id
+        """)
+    Optional<TicketAccessProjection> findAccessById(@Param("id") Long id);
+
+    @Query("""
+        SELECT t.id AS id,
+               t.createdByUserId AS createdByUserId,
+               t.assignedUserId AS assignedUserId,
+               t.assignedTeam AS assignedTeam
+        FROM Ticket t WHERE t.id IN :ids
+        """)
+    List<TicketAudienceProjection> findAudienceByIdIn(@Param("ids") Collection<Long> ids);
+
     // Additional useful queries
     @Query("SELECT t FROM Ticket t WHERE t.assignedUserId IS NULL")
     List<Ticket> findUnassignedTickets();
@@ -78,4 +114,20 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRep
         FROM tickets
         """, nativeQuery = true)
     TicketStatisticsProjection getTicketStatistics();
+
+    // Workload for many users in one round trip
+    @Query(value = """
+        SELECT
+            t.assigned_user_id as assignedUserId,
+            t.status as status,
+            COUNT(*) as ticketCount,
+            AVG(EXTRACT(EPOCH FROM (CASE WHEN t.status IN ('RESOLVED', 'CLOSED') THEN t.updated_at ELSE :now END) - t.created_at)) / 3600.0 as averageAgeHours,
+            SUM(CASE WHEN s.breached_at IS NOT NULL OR s.breach_at <= :now THEN 1 ELSE 0 END) as overdueCount
+        FROM tickets t
+        LEFT JOIN ticket_sla s ON s.ticket_id = t.id
+        WHERE t.assigned_user_id IN (:userIds)
+        GROUP BY t.assigned_user_id, t.status
+        """, nativeQuery = true)
+    List<UserWorkloadProjection> getWorkloadByAssignedUsers(@Param("userIds") Collection<String> userIds,
+                                                            @Param("now") LocalDateTime now);
 }
\ No newline at end of file
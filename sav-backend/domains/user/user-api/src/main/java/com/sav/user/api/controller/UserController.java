@@ -11,12 +11,18 @@ import com.sav.user.api.service.CentralizedUserSyncService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -29,6 +35,9 @@ public class UserController {
     private final UserMapper userMapper;
     private final CentralizedUserSyncService centralizedUserSyncService;
 
+    // Lets the browser and the gateway reuse the technician list briefly instead of re-querying it
+    private static final CacheControl TECHNICIANS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(15)).cachePrivate();
+
     /**
      * Get current user profile with automatic user creation fallback
      * Delegates user creation logic to CentralizedUserSyncService
@@ -110,6 +119,46 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get a page of user summaries - Technician and Admin only
+     * Optional role/status filters replace the unbounded list endpoints for large user bases
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<Page<UserSummaryResponse>> getUsersPage(
+            @RequestParam(name = "role", required = false) UserRole role,
+            @RequestParam(name = "status", required = false) UserStatus status,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "sortBy", defaultValue = "username") String sortBy,
+            @RequestParam(name = "sortDir", defaultValue = "asc") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+
+        Pageable pageable = PageRequest.of(page, size, sort);
+        Page<UserSummaryResponse> response = userService.getUserSummaries(role, status, pageable)
+                .map(userMapper::toSummaryResponse);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Keyset-paginated user summaries ordered by username - Technician and Admin only
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<UserSummarySliceResponse> scrollUsers(
+            @RequestParam(name = "role", required = false) UserRole role,
+            @RequestParam(name = "status", required = false) UserStatus status,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
+
+        UserService.UserSummarySlice slice = userService.getUserSummariesAfter(role, status, after, size);
+        return ResponseEntity.ok(userMapper.toSliceResponse(slice));
+    }
+
     /**
      * Get user by ID - Technician and Admin only
      */
@@ -130,7 +179,9 @@ public class UserController {
     public ResponseEntity<List<UserResponse>> getAvailableTechnicians() {
         List<User> technicians = userService.getAvailableTechnicians();
         List<UserResponse> response = userMapper.toResponseList(technicians);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .cacheControl(TECHNICIANS_CACHE_CONTROL)
+                .body(response);
     }
 
     /**
@@ -152,11 +203,12 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> updateUserRole(
             @PathVariable(name = "userId") String userId,
-            @Valid @RequestBody UpdateUserRoleRequest request) {
+            @Valid @RequestBody UpdateUserRoleRequest request,
+            Authentication authentication) {
 
         log.info("Updating role for user: {} to: {}", userId, request.getRole());
 
-        return userService.updateUserRole(userId, request.getRole())
+        return userService.updateUserRole(userId, request.getRole(), AuthUtil.extractUserIdFromAuth(authentication))
                 .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -168,11 +220,12 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> updateUserStatus(
             @PathVariable(name = "userId") String userId,
-            @Valid @RequestBody UpdateUserStatusRequest request) {
+            @Valid @RequestBody UpdateUserStatusRequest request,
+            Authentication authentication) {
 
         log.info("Updating status for user: {} to: {}", userId, request.getStatus());
 
-        return userService.updateUserStatus(userId, request.getStatus())
+        return userService.updateUserStatus(userId, request.getStatus(), AuthUtil.extractUserIdFromAuth(authentication))
                 .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -194,11 +247,12 @@ public class UserController {
     @PatchMapping("/{userId}/activate")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> activateUser(
-            @PathVariable(name = "userId") String userId) {
+            @PathVariable(name = "userId") String userId,
+            Authentication authentication) {
 
         log.info("Activating user: {}", userId);
 
-        return userService.updateUserStatus(userId, UserStatus.ACTIVE)
+        return userService.updateUserStatus(userId, UserStatus.ACTIVE, AuthUtil.extractUserIdFromAuth(authentication))
                 .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -209,11 +263,12 @@ public class UserController {
     @PatchMapping("/{userId}/deactivate")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> deactivateUser(
-            @PathVariable(name = "userId") String userId) {
+            @PathVariable(name = "userId") String userId,
+            Authentication authentication) {
 
         log.info("Deactivating user: {}", userId);
 
-        return userService.updateUserStatus(userId, UserStatus.INACTIVE)
+        return userService.updateUserStatus(userId, UserStatus.INACTIVE, AuthUtil.extractUserIdFromAuth(authentication))
                 .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -233,7 +288,7 @@ public class UserController {
     /**
      * Search users by username - Technician and Admin only
      */
-    @GetMapping("/search")
+    @GetMapping(value = "/search", params = "username")
     @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
     public ResponseEntity<UserResponse> searchUserByUsername(
             @RequestParam(name = "username") String username) {
@@ -241,4 +296,20 @@ public class UserController {
                 .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Ranked typeahead search over username, name, email, company and department - Technician and Admin only
+     */
+    @GetMapping(value = "/search", params = "q")
+    @PreAuthorize("hasAnyRole('TECHNICIAN', 'ADMIN')")
+    public ResponseEntity<Page<UserResponse>> searchUsers(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "role", required = false) UserRole role,
+            @RequestParam(name = "status", required = false) UserStatus status,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+
+        Page<User> users = userService.searchUsers(query, role, status, PageRequest.of(page, size));
+        return ResponseEntity.ok(users.map(userMapper::toResponse));
+    }
 }
\ No newline at end of file
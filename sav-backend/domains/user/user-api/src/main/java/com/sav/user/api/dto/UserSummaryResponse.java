@@ -0,0 +1,16 @@
+package com.sav.user.api.dto;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UserSummaryResponse {
+    private String id;
+    private String username;
+    private String fullName;
+    private UserRole role;
+    private UserStatus status;
+}
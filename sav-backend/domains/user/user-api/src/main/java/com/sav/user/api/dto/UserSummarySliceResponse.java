@@ -0,0 +1,14 @@
+package com.sav.user.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UserSummarySliceResponse {
+    private List<UserSummaryResponse> users;
+    private String nextCursor;
+    private boolean hasNext;
+}
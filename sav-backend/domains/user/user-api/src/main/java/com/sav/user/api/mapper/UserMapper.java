@@ -2,7 +2,11 @@ package com.sav.user.api.mapper;
 
 import com.sav.user.api.dto.UserResponse;
 import com.sav.user.api.dto.UserStatsResponse;
+import com.sav.user.api.dto.UserSummaryResponse;
+import com.sav.user.api.dto.UserSummarySliceResponse;
 import com.sav.user.domain.entity.User;
+import com.sav.user.domain.repository.UserSummaryProjection;
+import com.sav.user.domain.service.UserService.UserSummarySlice;
 import com.sav.user.domain.service.UserService.UserStats;
 import org.springframework.stereotype.Component;
 
@@ -67,4 +71,38 @@ public class UserMapper {
                 .inactiveUsers(stats.totalUsers() - stats.activeUsers())
                 .build();
     }
+
+    /**
+     * Convert UserSummaryProjection to UserSummaryResponse DTO
+     */
+    public UserSummaryResponse toSummaryResponse(UserSummaryProjection summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return UserSummaryResponse.builder()
+                .id(summary.getId())
+                .username(summary.getUsername())
+                .fullName(summary.getFullName())
+                .role(summary.getRole())
+                .status(summary.getStatus())
+                .build();
+    }
+
+    /**
+     * Convert a keyset slice of summaries to its DTO
+     */
+    public UserSummarySliceResponse toSliceResponse(UserSummarySlice slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        return UserSummarySliceResponse.builder()
+                .users(slice.users().stream()
+                        .map(this::toSummaryResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(slice.nextCursor())
+                .hasNext(slice.hasNext())
+                .build();
+    }
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.sav.user.domain.repository;
 import com.sav.user.domain.entity.User;
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +19,20 @@ public interface UserRepositoryPort {
     List<User> findByRole(UserRole role);
     List<User> findByRoleAndStatus(UserRole role, UserStatus status);
     boolean existsById(String id);
+    List<UserSummaryProjection> findSummariesByIdIn(Collection<String> ids);
     long count();
     long countByStatus(UserStatus status);
     long countByRole(UserRole role);
     List<User> findAll();
     void deleteById(String id);
+
+    // Ranked search - term is lower-cased, prefix/contains are escaped LIKE patterns
+    Page<User> searchUsers(String term, String prefix, String contains, String role, String status, Pageable pageable);
+
+    // Projected listings - null role/status means no filter
+    Page<UserSummaryProjection> findSummaries(UserRole role, UserStatus status, Pageable pageable);
+    List<UserSummaryProjection> findSummariesAfter(UserRole role, UserStatus status, String afterUsername, Pageable pageable);
+
+    // All user counts in one grouped query (used to reconcile the in-memory statistics)
+    List<UserRoleStatusCountProjection> countGroupedByRoleAndStatus();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.sav.user.domain.repository;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+
+/**
+ * Projection for user counts grouped by role and status
+ */
+public interface UserRoleStatusCountProjection {
+
+    UserRole getRole();
+    UserStatus getStatus();
+    long getUserCount();
+}
@@ -0,0 +1,21 @@
+package com.sav.user.domain.repository;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+
+/**
+ * Lightweight projection for user listings - avoids loading every column
+ */
+public interface UserSummaryProjection {
+
+    String getId();
+    String getUsername();
+    String getFirstName();
+    String getLastName();
+    UserRole getRole();
+    UserStatus getStatus();
+
+    default String getFullName() {
+        return getFirstName() + " " + getLastName();
+    }
+}
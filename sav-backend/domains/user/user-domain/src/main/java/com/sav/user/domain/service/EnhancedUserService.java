@@ -4,10 +4,17 @@ import com.sav.user.domain.entity.User;
 import com.sav.user.domain.repository.UserRepositoryPort;
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import com.sav.common.events.user.UserCreatedEvent;
+import com.sav.common.events.user.UserProfileUpdatedEvent;
+import com.sav.common.events.user.UserRoleChangedEvent;
+import com.sav.common.events.user.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -28,6 +35,10 @@ public class EnhancedUserService {
 
     private final UserRepositoryPort userRepository;
     private final UserSyncService userSyncService;
+    private final UserSearchService userSearchService;
+    private final ObjectProvider<UserWorkloadProvider> userWorkloadProvider;
+    private final UserStatsAggregator userStatsAggregator;
+    private final ApplicationEventPublisher eventPublisher;
     
     // Thread-safe lock for user creation
     private final ReentrantLock userCreationLock = new ReentrantLock();
@@ -57,6 +68,7 @@ public class EnhancedUserService {
         if (existingUser.isPresent()) {
             // Update existing user with enhanced validation
             User user = existingUser.get();
+            String oldName = user.getFullName();
             boolean updated = false;
 
             if (StringUtils.hasText(username) && !username.equals(user.getUsername())) {
@@ -82,16 +94,24 @@ public class EnhancedUserService {
             }
 
             // Enhanced role update logic
-            if (role != null && shouldUpdateRole(user.getRole(), role)) {
+            UserRole oldRole = user.getRole();
+            if (role != null && shouldUpdateRole(oldRole, role)) {
                 user.setRole(role);
                 updated = true;
                 log.info("Updated user role from {} to {} for user: {}", 
-                        user.getRole(), role, username);
+                        oldRole, role, username);
             }
 
             if (updated) {
                 log.info("Updated user profile: {}", username);
-                return userRepository.save(user);
+                User savedUser = userRepository.save(user);
+                if (oldRole != savedUser.getRole()) {
+                    eventPublisher.publishEvent(new UserRoleChangedEvent(keycloakId, oldRole, savedUser.getRole(), "system"));
+                }
+                if (!oldName.equals(savedUser.getFullName())) {
+                    eventPublisher.publishEvent(new UserProfileUpdatedEvent(keycloakId, savedUser.getFullName(), "system"));
+                }
+                return savedUser;
             } else {
                 log.debug("No updates needed for user: {}", username);
                 return user;
@@ -109,7 +129,11 @@ public class EnhancedUserService {
                     .build();
 
             log.info("Created new user: {} with role: {}", username, role);
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserCreatedEvent(
+                    savedUser.getId(), savedUser.getUsername(), savedUser.getEmail(),
+                    savedUser.getRole(), savedUser.getStatus()));
+            return savedUser;
         }
     }
 
@@ -197,6 +221,7 @@ public class EnhancedUserService {
         return userRepository.findById(keycloakId)
                 .map(user -> {
                     boolean updated = false;
+                    String oldName = user.getFullName();
 
                     if (StringUtils.hasText(firstName) && !firstName.equals(user.getFirstName())) {
                         validateName(firstName, "First name");
@@ -228,7 +253,11 @@ public class EnhancedUserService {
 
                     if (updated) {
                         log.info("Updated profile for user: {}", keycloakId);
-                        return userRepository.save(user);
+                        User savedUser = userRepository.save(user);
+                        if (!oldName.equals(savedUser.getFullName())) {
+                            eventPublisher.publishEvent(new UserProfileUpdatedEvent(keycloakId, savedUser.getFullName(), "system"));
+                        }
+                        return savedUser;
                     } else {
                         log.debug("No profile updates needed for user: {}", keycloakId);
                         return user;
@@ -262,7 +291,9 @@ public class EnhancedUserService {
 
                     user.setStatus(status);
                     log.info("Updated status for user: {} from {} to {}", keycloakId, oldStatus, status);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    eventPublisher.publishEvent(new UserStatusChangedEvent(keycloakId, oldStatus, status, "system"));
+                    return savedUser;
                 });
     }
 
@@ -292,7 +323,11 @@ public class EnhancedUserService {
 
                     user.setRole(newRole);
                     log.info("Updated role for user: {} from {} to {}", keycloakId, oldRole, newRole);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    if (oldRole != newRole) {
+                        eventPublisher.publishEvent(new UserRoleChangedEvent(keycloakId, oldRole, newRole, "system"));
+                    }
+                    return savedUser;
                 });
     }
 
@@ -307,17 +342,12 @@ public class EnhancedUserService {
     }
 
     /**
-     * Get user statistics with caching
+     * Get user statistics from the event-maintained counters (always current, no cache needed)
      */
-    @Cacheable(value = "userStats", key = "'stats'")
     public UserStats getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByStatus(UserStatus.ACTIVE);
-        long technicians = userRepository.countByRole(UserRole.TECHNICIAN);
-        long admins = userRepository.countByRole(UserRole.ADMIN);
-        long clients = userRepository.countByRole(UserRole.USER);
-
-        return new UserStats(totalUsers, activeUsers, clients, technicians, admins);
+        UserService.UserStats stats = userStatsAggregator.getStats();
+        return new UserStats(stats.totalUsers(), stats.activeUsers(), stats.clients(),
+                stats.technicians(), stats.admins());
     }
 
     /**
@@ -412,9 +442,8 @@ public class EnhancedUserService {
             return List.of();
         }
 
-        // This would need to be implemented in the repository
-        // For now, return empty list
-        return List.of();
+        return userSearchService.search(query, role, status, PageRequest.of(0, UserSearchService.MAX_PAGE_SIZE))
+                .getContent();
     }
 
     /**
@@ -425,9 +454,12 @@ public class EnhancedUserService {
             return new UserWorkloadStats(0, 0, 0, 0);
         }
 
-        // This would need to be implemented with ticket counts
-        // For now, return default values
-        return new UserWorkloadStats(0, 0, 0, 0);
+        // Ticket counts live in the ticket domain; fall back to zeros when it is not deployed
+        UserWorkloadProvider provider = userWorkloadProvider.getIfAvailable();
+        if (provider == null) {
+            return new UserWorkloadStats(0, 0, 0, 0);
+        }
+        return provider.getUserWorkloadStats(userId);
     }
 
     // Enhanced validation methods
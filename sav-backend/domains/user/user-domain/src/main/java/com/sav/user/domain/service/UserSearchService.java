@@ -0,0 +1,72 @@
+package com.sav.user.domain.service;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+import com.sav.user.domain.entity.User;
+import com.sav.user.domain.repository.UserRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Ranked user search / typeahead backed by the users trigram index
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UserSearchService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final UserRepositoryPort userRepository;
+
+    /**
+     * Search users by username, name, email, company or department
+     * Results are ranked: exact username, username prefix, name/email prefix, substring
+     */
+    public Page<User> search(String query, UserRole role, UserStatus status, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+        if (!StringUtils.hasText(query)) {
+            return Page.empty(page);
+        }
+
+        String term = normalize(query);
+        String escaped = escapeLike(term);
+
+        log.debug("Searching users for '{}' (role: {}, status: {})", term, role, status);
+
+        return userRepository.searchUsers(
+                term,
+                escaped + "%",
+                "%" + escaped + "%",
+                role != null ? role.name() : null,
+                status != null ? status.name() : null,
+                page);
+    }
+
+    private String normalize(String query) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        return term.length() > MAX_QUERY_LENGTH ? term.substring(0, MAX_QUERY_LENGTH) : term;
+    }
+
+    private String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
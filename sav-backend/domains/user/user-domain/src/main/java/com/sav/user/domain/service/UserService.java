@@ -2,15 +2,27 @@ package com.sav.user.domain.service;
 
 import com.sav.user.domain.entity.User;
 import com.sav.user.domain.repository.UserRepositoryPort;
+import com.sav.user.domain.repository.UserSummaryProjection;
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import com.sav.common.events.user.UserCreatedEvent;
+import com.sav.common.events.user.UserProfileUpdatedEvent;
+import com.sav.common.events.user.UserRoleChangedEvent;
+import com.sav.common.events.user.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +32,13 @@ public class UserService {
 
     private final UserRepositoryPort userRepository;
     private final UserSyncService userSyncService;
+    private final UserSearchService userSearchService;
+    private final UserStatsAggregator userStatsAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("username", "firstName", "lastName", "role", "status", "createdAt");
 
     /**
      * Create or update user profile (sync with Keycloak)
@@ -34,13 +53,22 @@ public class UserService {
         if (existingUser.isPresent()) {
             // Update existing user
             User user = existingUser.get();
+            UserRole oldRole = user.getRole();
+            String oldName = user.getFullName();
             user.setUsername(username);
             user.setFirstName(firstName);
             user.setLastName(lastName);
             user.setEmail(email);
             user.setRole(role);
 
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            if (oldRole != role) {
+                eventPublisher.publishEvent(new UserRoleChangedEvent(keycloakId, oldRole, role, "system"));
+            }
+            if (!oldName.equals(savedUser.getFullName())) {
+                eventPublisher.publishEvent(new UserProfileUpdatedEvent(keycloakId, savedUser.getFullName(), "system"));
+            }
+            return savedUser;
         } else {
             // Create new user
             User user = User.builder()
@@ -53,7 +81,11 @@ public class UserService {
                     .status(UserStatus.ACTIVE)
                     .build();
 
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserCreatedEvent(
+                    savedUser.getId(), savedUser.getUsername(), savedUser.getEmail(),
+                    savedUser.getRole(), savedUser.getStatus()));
+            return savedUser;
         }
     }
 
@@ -116,13 +148,18 @@ public class UserService {
 
         return userRepository.findById(keycloakId)
                 .map(user -> {
+                    String oldName = user.getFullName();
                     user.setFirstName(firstName);
                     user.setLastName(lastName);
                     user.setPhoneNumber(phoneNumber);
                     user.setCompany(company);
                     user.setDepartment(department);
 
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    if (!oldName.equals(savedUser.getFullName())) {
+                        eventPublisher.publishEvent(new UserProfileUpdatedEvent(keycloakId, savedUser.getFullName(), "system"));
+                    }
+                    return savedUser;
                 });
     }
 
@@ -131,12 +168,25 @@ public class UserService {
      */
     @Transactional
     public Optional<User> updateUserStatus(String keycloakId, UserStatus status) {
+        return updateUserStatus(keycloakId, status, "system");
+    }
+
+    /**
+     * Update user status, recording who made the change
+     */
+    @Transactional
+    public Optional<User> updateUserStatus(String keycloakId, UserStatus status, String changedBy) {
         log.info("Updating status for user: {} to: {}", keycloakId, status);
 
         return userRepository.findById(keycloakId)
                 .map(user -> {
+                    UserStatus oldStatus = user.getStatus();
                     user.setStatus(status);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    if (oldStatus != status) {
+                        eventPublisher.publishEvent(new UserStatusChangedEvent(keycloakId, oldStatus, status, changedBy));
+                    }
+                    return savedUser;
                 });
     }
 
@@ -145,12 +195,25 @@ public class UserService {
      */
     @Transactional
     public Optional<User> updateUserRole(String keycloakId, UserRole newRole) {
+        return updateUserRole(keycloakId, newRole, "system");
+    }
+
+    /**
+     * Update user role (admin only), recording who made the change
+     */
+    @Transactional
+    public Optional<User> updateUserRole(String keycloakId, UserRole newRole, String changedBy) {
         log.info("Updating role for user: {} to: {}", keycloakId, newRole);
 
         return userRepository.findById(keycloakId)
                 .map(user -> {
+                    UserRole oldRole = user.getRole();
                     user.setRole(newRole);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    if (oldRole != newRole) {
+                        eventPublisher.publishEvent(new UserRoleChangedEvent(keycloakId, oldRole, newRole, changedBy));
+                    }
+                    return savedUser;
                 });
     }
 
@@ -162,22 +225,64 @@ public class UserService {
     }
 
     /**
-     * Get user statistics
+     * Summaries (role and status included) of those of the given user IDs that exist, in one query
      */
-    public UserStats getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByStatus(UserStatus.ACTIVE);
-        long technicians = userRepository.countByRole(UserRole.TECHNICIAN);
-        long admins = userRepository.countByRole(UserRole.ADMIN);
-        long clients = userRepository.countByRole(UserRole.USER);
+    public List<UserSummaryProjection> findUserSummaries(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findSummariesByIdIn(userIds);
+    }
 
-        return new UserStats(totalUsers, activeUsers, clients, technicians, admins);
+    /**
+     * Get user statistics (served from event-maintained counters)
+     */
+    public UserStats getUserStatistics() {
+        return userStatsAggregator.getStats();
     }
 
     public List<User> getUsersByStatus(UserStatus status) {
         return userRepository.findByStatus(status);
     }
 
+    /**
+     * Get a page of lightweight user summaries, optionally filtered by role and/or status
+     * Sorting is done in the database and limited to indexed/simple columns
+     */
+    public Page<UserSummaryProjection> getUserSummaries(UserRole role, UserStatus status, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort users by: " + order.getProperty());
+            }
+        }
+        Sort sort = pageable.getSort().and(Sort.by("id"));
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+        return userRepository.findSummaries(role, status, page);
+    }
+
+    /**
+     * Keyset (cursor) listing of user summaries ordered by username
+     * Pass the previous slice's nextCursor to continue; null starts from the beginning
+     */
+    public UserSummarySlice getUserSummariesAfter(UserRole role, UserStatus status, String afterUsername, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to know whether another slice exists without a count query
+        List<UserSummaryProjection> rows = userRepository.findSummariesAfter(
+                role, status, afterUsername, PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<UserSummaryProjection> users = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? users.get(users.size() - 1).getUsername() : null;
+        return new UserSummarySlice(users, nextCursor, hasNext);
+    }
+
+    /**
+     * Ranked, paginated user search with optional role/status filters
+     */
+    public Page<User> searchUsers(String query, UserRole role, UserStatus status, Pageable pageable) {
+        return userSearchService.search(query, role, status, pageable);
+    }
+
     /**
      * Get or create user from Keycloak JWT token data
      * This method ensures user exists in database, creating if necessary
@@ -245,4 +350,6 @@ public class UserService {
     // Inner class for statistics
     public record UserStats(long totalUsers, long activeUsers, long clients,
                             long technicians, long admins) {}
+
+    public record UserSummarySlice(List<UserSummaryProjection> users, String nextCursor, boolean hasNext) {}
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.sav.user.domain.service;
+
+import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
+import com.sav.common.events.user.UserCreatedEvent;
+import com.sav.common.events.user.UserRoleChangedEvent;
+import com.sav.common.events.user.UserStatusChangedEvent;
+import com.sav.user.domain.repository.UserRepositoryPort;
+import com.sav.user.domain.repository.UserRoleStatusCountProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory user statistics kept current from user events
+ * Counters are reconciled periodically against one grouped query, which also corrects
+ * drift from writes that bypass the services (data initializer, manual SQL)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsAggregator {
+
+    private final UserRepositoryPort userRepository;
+
+    private final AtomicLongArray roleCounts = new AtomicLongArray(UserRole.values().length);
+    private final AtomicLongArray statusCounts = new AtomicLongArray(UserStatus.values().length);
+    private volatile boolean initialized;
+
+    /**
+     * Current statistics - O(1), loads the counters on first use
+     */
+    public UserService.UserStats getStats() {
+        if (!initialized) {
+            reconcile();
+        }
+
+        long total = 0;
+        for (int i = 0; i < roleCounts.length(); i++) {
+            total += roleCounts.get(i);
+        }
+
+        return new UserService.UserStats(
+                total,
+                statusCounts.get(UserStatus.ACTIVE.ordinal()),
+                roleCounts.get(UserRole.USER.ordinal()),
+                roleCounts.get(UserRole.TECHNICIAN.ordinal()),
+                roleCounts.get(UserRole.ADMIN.ordinal()));
+    }
+
+    /**
+     * Reload all counters with a single GROUP BY role, status query
+     */
+    @Scheduled(fixedDelayString = "${sav.users.stats-reconcile-interval-ms:300000}",
+               initialDelayString = "${sav.users.stats-reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        long[] roles = new long[roleCounts.length()];
+        long[] statuses = new long[statusCounts.length()];
+
+        for (UserRoleStatusCountProjection row : userRepository.countGroupedByRoleAndStatus()) {
+            if (row.getRole() != null) {
+                roles[row.getRole().ordinal()] += row.getUserCount();
+            }
+            if (row.getStatus() != null) {
+                statuses[row.getStatus().ordinal()] += row.getUserCount();
+            }
+        }
+
+        boolean drifted = false;
+        for (int i = 0; i < roles.length; i++) {
+            drifted |= roleCounts.getAndSet(i, roles[i]) != roles[i];
+        }
+        for (int i = 0; i < statuses.length; i++) {
+            drifted |= statusCounts.getAndSet(i, statuses[i]) != statuses[i];
+        }
+
+        if (initialized && drifted) {
+            log.info("User statistics counters corrected during reconciliation");
+        }
+        initialized = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserCreated(UserCreatedEvent event) {
+        if (!initialized) {
+            return;
+        }
+        if (event.getRole() != null) {
+            roleCounts.incrementAndGet(event.getRole().ordinal());
+        }
+        if (event.getStatus() != null) {
+            statusCounts.incrementAndGet(event.getStatus().ordinal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserRoleChanged(UserRoleChangedEvent event) {
+        if (!initialized || event.getOldRole() == event.getNewRole()) {
+            return;
+        }
+        if (event.getOldRole() != null) {
+            roleCounts.decrementAndGet(event.getOldRole().ordinal());
+        }
+        if (event.getNewRole() != null) {
+            roleCounts.incrementAndGet(event.getNewRole().ordinal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserStatusChanged(UserStatusChangedEvent event) {
+        if (!initialized || event.getOldStatus() == event.getNewStatus()) {
+            return;
+        }
+        if (event.getOldStatus() != null) {
+            statusCounts.decrementAndGet(event.getOldStatus().ordinal());
+        }
+        if (event.getNewStatus() != null) {
+            statusCounts.incrementAndGet(event.getNewStatus().ordinal());
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.sav.user.domain.service;
 
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import com.sav.common.events.user.UserCreatedEvent;
+import com.sav.common.events.user.UserProfileUpdatedEvent;
+import com.sav.common.events.user.UserRoleChangedEvent;
 import com.sav.user.domain.entity.User;
 import com.sav.user.domain.repository.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,7 @@ import java.util.Optional;
 public class UserSyncService {
 
     private final UserRepositoryPort userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Synchronize user from Keycloak JWT token data
@@ -37,6 +42,7 @@ public class UserSyncService {
         if (existingUser.isPresent()) {
             // Update existing user with latest Keycloak data
             User user = existingUser.get();
+            String oldName = user.getFullName();
             boolean updated = false;
 
             if (!username.equals(user.getUsername())) {
@@ -60,16 +66,24 @@ public class UserSyncService {
             }
 
             // Only update role if it's higher privilege (USER -> TECHNICIAN -> ADMIN)
-            if (shouldUpdateRole(user.getRole(), role)) {
+            UserRole oldRole = user.getRole();
+            if (shouldUpdateRole(oldRole, role)) {
                 user.setRole(role);
                 updated = true;
                 log.info("Updated user role from {} to {} for user: {}", 
-                        user.getRole(), role, username);
+                        oldRole, role, username);
             }
 
             if (updated) {
                 log.info("Updated user profile from Keycloak: {}", username);
-                return userRepository.save(user);
+                User savedUser = userRepository.save(user);
+                if (oldRole != savedUser.getRole()) {
+                    eventPublisher.publishEvent(new UserRoleChangedEvent(keycloakId, oldRole, savedUser.getRole(), "keycloak-sync"));
+                }
+                if (!oldName.equals(savedUser.getFullName())) {
+                    eventPublisher.publishEvent(new UserProfileUpdatedEvent(keycloakId, savedUser.getFullName(), "keycloak-sync"));
+                }
+                return savedUser;
             } else {
                 log.debug("No updates needed for user: {}", username);
                 return user;
@@ -87,7 +101,7 @@ public class UserSyncService {
                     .build();
 
             log.info("Created new user from Keycloak: {} with role: {}", username, role);
-            return userRepository.save(user);
+            return saveNewUser(user);
         }
     }
 
@@ -151,6 +165,14 @@ public class UserSyncService {
                 .status(UserStatus.ACTIVE)
                 .build();
 
-        return userRepository.save(user);
+        return saveNewUser(user);
+    }
+
+    private User saveNewUser(User user) {
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserCreatedEvent(
+                savedUser.getId(), savedUser.getUsername(), savedUser.getEmail(),
+                savedUser.getRole(), savedUser.getStatus()));
+        return savedUser;
     }
 }
@@ -0,0 +1,12 @@
+package com.sav.user.domain.service;
+
+/**
+ * Port for ticket workload figures - implemented by the ticket domain, which depends on this module
+ */
+public interface UserWorkloadProvider {
+
+    /**
+     * Get workload statistics for a single user
+     */
+    EnhancedUserService.UserWorkloadStats getUserWorkloadStats(String userId);
+}
@@ -2,12 +2,18 @@ package com.sav.user.infrastructure.repository;
 
 import com.sav.user.domain.entity.User;
 import com.sav.user.domain.repository.UserRepositoryPort;
+import com.sav.user.domain.repository.UserRoleStatusCountProjection;
+import com.sav.user.domain.repository.UserSummaryProjection;
 import com.sav.common.enums.UserRole;
 import com.sav.common.enums.UserStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +39,65 @@ public interface UserRepository extends JpaRepository<User, String>, UserReposit
 
     @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' ORDER BY u.firstName, u.lastName")
     List<User> findAllActiveUsers();
+
+    /**
+     * Ranked typeahead search over username, names, email, company and department.
+     * Exact username matches rank first, then username prefixes, then name/email prefixes,
+     * then plain substring matches. The WHERE expression mirrors idx_users_search_trgm.
+     */
+    @Query(value = """
+            SELECT u.* FROM users u
+            WHERE (CAST(:role AS VARCHAR) IS NULL OR u.role = CAST(:role AS VARCHAR))
+              AND (CAST(:status AS VARCHAR) IS NULL OR u.status = CAST(:status AS VARCHAR))
+              AND lower(coalesce(u.username, '') || ' ' || coalesce(u.first_name, '') || ' ' || coalesce(u.last_name, '') || ' ' ||
+                        coalesce(u.email, '') || ' ' || coalesce(u.company, '') || ' ' || coalesce(u.department, '')) LIKE :contains
+            ORDER BY CASE
+                         WHEN lower(u.username) = :term THEN 0
+                         WHEN lower(u.username) LIKE :prefix THEN 1
+                         WHEN lower(u.first_name) LIKE :prefix OR lower(u.last_name) LIKE :prefix
+                              OR lower(u.email) LIKE :prefix THEN 2
+                         ELSE 3
+                     END,
+                     u.last_name, u.first_name, u.id
+            """,
+            countQuery = """
+            SELECT count(*) FROM users u
+            WHERE (CAST(:role AS VARCHAR) IS NULL OR u.role = CAST(:role AS VARCHAR))
+              AND (CAST(:status AS VARCHAR) IS NULL OR u.status = CAST(:status AS VARCHAR))
+              AND lower(coalesce(u.username, '') || ' ' || coalesce(u.first_name, '') || ' ' || coalesce(u.last_name, '') || ' ' ||
+                        coalesce(u.email, '') || ' ' || coalesce(u.company, '') || ' ' || coalesce(u.department, '')) LIKE :contains
+            """,
+            nativeQuery = true)
+    Page<User> searchUsers(@Param("term") String term,
+                           @Param("prefix") String prefix,
+                           @Param("contains") String contains,
+                           @Param("role") String role,
+                           @Param("status") String status,
+                           Pageable pageable);
+
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, " +
+                   "u.role AS role, u.status AS status FROM User u " +
+                   "WHERE (:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status)",
+           countQuery = "SELECT count(u) FROM User u " +
+                        "WHERE (:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status)")
+    Page<UserSummaryProjection> findSummaries(@Param("role") UserRole role,
+                                              @Param("status") UserStatus status,
+                                              Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.role AS role, u.status AS status FROM User u " +
+           "WHERE (:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status) " +
+           "AND (:afterUsername IS NULL OR u.username > :afterUsername) " +
+           "ORDER BY u.username ASC")
+    List<UserSummaryProjection> findSummariesAfter(@Param("role") UserRole role,
+                                                   @Param("status") UserStatus status,
+                                                   @Param("afterUsername") String afterUsername,
+                                                   Pageable pageable);
+
+    @Query("SELECT u.role AS role, u.status AS status, COUNT(u) AS userCount FROM User u GROUP BY u.role, u.status")
+    List<UserRoleStatusCountProjection> countGroupedByRoleAndStatus();
+
+    @Query("SELECT u.id AS id, u.username AS username, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.role AS role, u.status AS status FROM User u WHERE u.id IN :ids")
+    List<UserSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<String> ids);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ public enum TicketStatus {
     OPEN,
     ASSIGNED,
     IN_PROGRESS,
+    WAITING_FOR_CUSTOMER,
     RESOLVED,
     REOPENED,
     CLOSED
@@ -8,12 +8,21 @@ public class TicketAssignedEvent extends BaseDomainEvent {
     private final Long ticketId;
     private final String assignedTo;
     private final String assignedBy;
+    /**
+     * Null when the publisher did not capture the ticket
+     */
+    private final TicketSnapshot ticket;
 
     public TicketAssignedEvent(Long ticketId, String assignedTo, String assignedBy) {
+        this(ticketId, assignedTo, assignedBy, null);
+    }
+
+    public TicketAssignedEvent(Long ticketId, String assignedTo, String assignedBy, TicketSnapshot ticket) {
         super();
         this.ticketId = ticketId;
         this.assignedTo = assignedTo;
         this.assignedBy = assignedBy;
+        this.ticket = ticket;
     }
 
     @Override
@@ -0,0 +1,28 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+@Getter
+public class TicketMessageAddedEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final Long messageId;
+    private final String authorId;
+
+    public TicketMessageAddedEvent(Long ticketId, Long messageId, String authorId) {
+        super();
+        this.ticketId = ticketId;
+        this.messageId = messageId;
+        this.authorId = authorId;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketMessageAdded";
+    }
+}
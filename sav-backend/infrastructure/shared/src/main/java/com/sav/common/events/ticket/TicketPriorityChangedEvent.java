@@ -0,0 +1,37 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * The priority of a single ticket changed
+ */
+@Getter
+public class TicketPriorityChangedEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final Priority oldPriority;
+    private final Priority newPriority;
+    private final String changedBy;
+    private final TicketSnapshot ticket;
+
+    public TicketPriorityChangedEvent(Long ticketId, Priority oldPriority, Priority newPriority, String changedBy,
+                                      TicketSnapshot ticket) {
+        super();
+        this.ticketId = ticketId;
+        this.oldPriority = oldPriority;
+        this.newPriority = newPriority;
+        this.changedBy = changedBy;
+        this.ticket = ticket;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketPriorityChanged";
+    }
+}
@@ -0,0 +1,36 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ticket used up its SLA target - published once per clock, cluster-wide
+ */
+@Getter
+public class TicketSlaBreachedEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final Priority priority;
+    private final String policy;
+    private final LocalDateTime breachedAt;
+
+    public TicketSlaBreachedEvent(Long ticketId, Priority priority, String policy, LocalDateTime breachedAt) {
+        super();
+        this.ticketId = ticketId;
+        this.priority = priority;
+        this.policy = policy;
+        this.breachedAt = breachedAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketSlaBreached";
+    }
+}
@@ -0,0 +1,36 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ticket used up the warning share of its SLA target - published once per clock, cluster-wide
+ */
+@Getter
+public class TicketSlaWarningEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final Priority priority;
+    private final String policy;
+    private final LocalDateTime breachAt;
+
+    public TicketSlaWarningEvent(Long ticketId, Priority priority, String policy, LocalDateTime breachAt) {
+        super();
+        this.ticketId = ticketId;
+        this.priority = priority;
+        this.policy = policy;
+        this.breachAt = breachAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketSlaWarning";
+    }
+}
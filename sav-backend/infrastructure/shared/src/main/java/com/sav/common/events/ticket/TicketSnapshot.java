@@ -0,0 +1,30 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+
+/**
+ * The reporting attributes of a ticket right after the change an event describes
+ * When one write changes several attributes, each event carries the attributes as of its own change,
+ * in the order the events are published, so consumers can attribute every change to the right values
+ */
+public record TicketSnapshot(
+    TicketStatus status,
+    Priority priority,
+    TicketType type,
+    Team team
+) {
+    public TicketSnapshot withStatus(TicketStatus status) {
+        return new TicketSnapshot(status, priority, type, team);
+    }
+
+    public TicketSnapshot withPriority(Priority priority) {
+        return new TicketSnapshot(status, priority, type, team);
+    }
+
+    public TicketSnapshot withTeam(Team team) {
+        return new TicketSnapshot(status, priority, type, team);
+    }
+}
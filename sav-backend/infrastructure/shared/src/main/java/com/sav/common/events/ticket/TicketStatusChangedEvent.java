@@ -10,14 +10,24 @@ public class TicketStatusChangedEvent extends BaseDomainEvent {
     private final TicketStatus oldStatus;
     private final TicketStatus newStatus;
     private final String changedBy;
+    /**
+     * Null when the publisher did not capture the ticket
+     */
+    private final TicketSnapshot ticket;
 
     public TicketStatusChangedEvent(Long ticketId, TicketStatus oldStatus,
                                     TicketStatus newStatus, String changedBy) {
+        this(ticketId, oldStatus, newStatus, changedBy, null);
+    }
+
+    public TicketStatusChangedEvent(Long ticketId, TicketStatus oldStatus,
+                                    TicketStatus newStatus, String changedBy, TicketSnapshot ticket) {
         super();
         this.ticketId = ticketId;
         this.oldStatus = oldStatus;
         this.newStatus = newStatus;
         this.changedBy = changedBy;
+        this.ticket = ticket;
     }
 
     @Override
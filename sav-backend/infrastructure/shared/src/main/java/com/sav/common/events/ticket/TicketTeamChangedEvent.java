@@ -0,0 +1,37 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Team;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * A single ticket moved to another team (or its first one, when oldTeam is null)
+ */
+@Getter
+public class TicketTeamChangedEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final Team oldTeam;
+    private final Team newTeam;
+    private final String changedBy;
+    private final TicketSnapshot ticket;
+
+    public TicketTeamChangedEvent(Long ticketId, Team oldTeam, Team newTeam, String changedBy,
+                                  TicketSnapshot ticket) {
+        super();
+        this.ticketId = ticketId;
+        this.oldTeam = oldTeam;
+        this.newTeam = newTeam;
+        this.changedBy = changedBy;
+        this.ticket = ticket;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketTeamChanged";
+    }
+}
@@ -0,0 +1,29 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * A ticket, its messages or its attachments changed in a way no more specific event describes
+ */
+@Getter
+public class TicketUpdatedEvent extends BaseDomainEvent {
+    private final Long ticketId;
+    private final String updatedBy;
+
+    public TicketUpdatedEvent(Long ticketId, String updatedBy) {
+        super();
+        this.ticketId = ticketId;
+        this.updatedBy = updatedBy;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return ticketId.toString();
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketUpdated";
+    }
+}
@@ -0,0 +1,56 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.Team;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One event per committed batch of a bulk operation, instead of one event per ticket
+ */
+@Getter
+public class TicketsBulkUpdatedEvent extends BaseDomainEvent {
+    private final String operation;
+    private final List<Change> changes;
+    private final String assignedTo;
+    private final Team team;
+    private final Priority priority;
+    private final String changedBy;
+
+    public TicketsBulkUpdatedEvent(String operation, List<Change> changes, String assignedTo,
+                                   Team team, Priority priority, String changedBy) {
+        super();
+        this.operation = operation;
+        this.changes = List.copyOf(changes);
+        this.assignedTo = assignedTo;
+        this.team = team;
+        this.priority = priority;
+        this.changedBy = changedBy;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return "tickets";
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketsBulkUpdated";
+    }
+
+    /**
+     * @param before the ticket as it was before the operation, null when the publisher did not capture it
+     */
+    public record Change(Long ticketId, TicketStatus oldStatus, TicketStatus newStatus, TicketSnapshot before) {
+        public Change(Long ticketId, TicketStatus oldStatus, TicketStatus newStatus) {
+            this(ticketId, oldStatus, newStatus, null);
+        }
+
+        public boolean statusChanged() {
+            return oldStatus != newStatus;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sav.common.events.ticket;
+
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One event per committed import batch; the tickets' history rows are written with the batch itself
+ */
+@Getter
+public class TicketsImportedEvent extends BaseDomainEvent {
+    private final List<Long> ticketIds;
+    private final String importedBy;
+
+    public TicketsImportedEvent(List<Long> ticketIds, String importedBy) {
+        super();
+        this.ticketIds = List.copyOf(ticketIds);
+        this.importedBy = importedBy;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return "tickets";
+    }
+
+    @Override
+    public String getEventType() {
+        return "TicketsImported";
+    }
+}
@@ -1,6 +1,7 @@
 package com.sav.common.events.user;
 
 import com.sav.common.enums.UserRole;
+import com.sav.common.enums.UserStatus;
 import com.sav.common.events.BaseDomainEvent;
 import lombok.Getter;
 
@@ -10,13 +11,15 @@ public class UserCreatedEvent extends BaseDomainEvent {
     private final String username;
     private final String email;
     private final UserRole role;
+    private final UserStatus status;
 
-    public UserCreatedEvent(String userId, String username, String email, UserRole role) {
+    public UserCreatedEvent(String userId, String username, String email, UserRole role, UserStatus status) {
         super();
         this.userId = userId;
         this.username = username;
         this.email = email;
         this.role = role;
+        this.status = status;
     }
 
     @Override
@@ -0,0 +1,28 @@
+package com.sav.common.events.user;
+
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+@Getter
+public class UserProfileUpdatedEvent extends BaseDomainEvent {
+    private final String userId;
+    private final String fullName;
+    private final String changedBy;
+
+    public UserProfileUpdatedEvent(String userId, String fullName, String changedBy) {
+        super();
+        this.userId = userId;
+        this.fullName = fullName;
+        this.changedBy = changedBy;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return userId;
+    }
+
+    @Override
+    public String getEventType() {
+        return "UserProfileUpdated";
+    }
+}
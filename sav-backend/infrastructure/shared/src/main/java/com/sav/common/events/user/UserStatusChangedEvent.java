@@ -0,0 +1,31 @@
+package com.sav.common.events.user;
+
+import com.sav.common.enums.UserStatus;
+import com.sav.common.events.BaseDomainEvent;
+import lombok.Getter;
+
+@Getter
+public class UserStatusChangedEvent extends BaseDomainEvent {
+    private final String userId;
+    private final UserStatus oldStatus;
+    private final UserStatus newStatus;
+    private final String changedBy;
+
+    public UserStatusChangedEvent(String userId, UserStatus oldStatus, UserStatus newStatus, String changedBy) {
+        super();
+        this.userId = userId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.changedBy = changedBy;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return userId;
+    }
+
+    @Override
+    public String getEventType() {
+        return "UserStatusChanged";
+    }
+}
@@ -0,0 +1,38 @@
+package com.sav.common.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Identity of a caller whose bearer token the gateway has already validated
+ * Travels to the backend in the {@link #HEADER} header, signed by {@link InternalPrincipalCodec}
+ *
+ * @param issuedAt  when the gateway signed it (bounds how long a captured header can be replayed)
+ * @param expiresAt expiry of the original token
+ */
+public record InternalPrincipal(
+        String subject,
+        String username,
+        String email,
+        String givenName,
+        String familyName,
+        String fullName,
+        List<String> roles,
+        String issuer,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public static final String HEADER = "X-Sav-Principal";
+
+    public InternalPrincipal {
+        if (subject == null || subject.isBlank()) {
+            throw new IllegalArgumentException("subject is required");
+        }
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public InternalPrincipal withIssuedAt(Instant issuedAt) {
+        return new InternalPrincipal(subject, username, email, givenName, familyName, fullName, roles, issuer,
+                issuedAt, expiresAt);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sav.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Compact HMAC-SHA256 signed form of an {@link InternalPrincipal}, shared by the gateway and the backend
+ * Format: base64url fields joined by '.', then '.' and the base64url signature over everything before it
+ * Fields: version, sub, username, email, given name, family name, name, roles (comma separated),
+ * issuer, issued-at and expires-at (epoch seconds)
+ */
+public final class InternalPrincipalCodec {
+
+    private static final String VERSION = "1";
+    private static final int FIELD_COUNT = 11;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration maxAge;
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * @param secret shared with the other side, at least 32 bytes
+     * @param maxAge how long after signing a header is still accepted
+     */
+    public InternalPrincipalCodec(String secret, Duration maxAge) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("The internal principal secret must be at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxAge = maxAge;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String encode(InternalPrincipal principal) {
+        StringBuilder value = new StringBuilder(256);
+        append(value, VERSION);
+        append(value, principal.subject());
+        append(value, principal.username());
+        append(value, principal.email());
+        append(value, principal.givenName());
+        append(value, principal.familyName());
+        append(value, principal.fullName());
+        append(value, String.join(",", principal.roles()));
+        append(value, principal.issuer());
+        append(value, Long.toString(principal.issuedAt().getEpochSecond()));
+        append(value, principal.expiresAt() != null ? Long.toString(principal.expiresAt().getEpochSecond()) : null);
+        value.append(ENCODER.encodeToString(sign(value.substring(0, value.length() - 1))));
+        return value.toString();
+    }
+
+    /**
+     * Verify and decode a header value
+     *
+     * @throws IllegalArgumentException if it is malformed, wrongly signed, too old or the token has expired
+     */
+    public InternalPrincipal decode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing internal principal");
+        }
+        int signatureStart = value.lastIndexOf('.');
+        if (signatureStart < 0) {
+            throw new IllegalArgumentException("Malformed internal principal");
+        }
+        byte[] expected = sign(value.substring(0, signatureStart));
+        byte[] actual;
+        try {
+            actual = DECODER.decode(value.substring(signatureStart + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed internal principal signature");
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("Invalid internal principal signature");
+        }
+
+        List<String> fields = split(value.substring(0, signatureStart));
+        if (fields.size() != FIELD_COUNT || !VERSION.equals(fields.get(0))) {
+            throw new IllegalArgumentException("Unsupported internal principal format");
+        }
+        Instant now = Instant.now();
+        Instant issuedAt = Instant.ofEpochSecond(Long.parseLong(fields.get(9)));
+        Instant expiresAt = fields.get(10) != null ? Instant.ofEpochSecond(Long.parseLong(fields.get(10))) : null;
+        if (issuedAt.plus(maxAge).isBefore(now) || issuedAt.isAfter(now.plus(maxAge))) {
+            throw new IllegalArgumentException("Internal principal is too old");
+        }
+        if (expiresAt != null && expiresAt.isBefore(now)) {
+            throw new IllegalArgumentException("Token has expired");
+        }
+        String roles = fields.get(7);
+        return new InternalPrincipal(fields.get(1), fields.get(2), fields.get(3), fields.get(4), fields.get(5),
+                fields.get(6), roles == null || roles.isEmpty() ? List.of() : Arrays.asList(roles.split(",")),
+                fields.get(8), issuedAt, expiresAt);
+    }
+
+    // Absent values are written as "~", which base64url never produces
+    private static void append(StringBuilder value, String field) {
+        value.append(field != null ? ENCODER.encodeToString(field.getBytes(StandardCharsets.UTF_8)) : "~").append('.');
+    }
+
+    private static List<String> split(String payload) {
+        List<String> fields = new ArrayList<>(FIELD_COUNT);
+        for (String field : payload.split("\\.", -1)) {
+            fields.add(field.equals("~") ? null : new String(DECODER.decode(field), StandardCharsets.UTF_8));
+        }
+        return fields;
+    }
+
+    private byte[] sign(String payload) {
+        Mac mac = macs.get();
+        return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sav.common.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application roles from Keycloak token claims: realm_access.roles, else resource_access.sav-backend.roles
+ * Only ADMIN, TECHNICIAN and USER are kept
+ */
+public final class TokenRoles {
+
+    public static final List<String> APPLICATION_ROLES = List.of("ADMIN", "TECHNICIAN", "USER");
+
+    private static final String CLIENT_ID = "sav-backend";
+
+    private TokenRoles() {
+    }
+
+    public static List<String> fromClaims(Map<String, Object> claims) {
+        if (claims == null) {
+            return List.of();
+        }
+        Collection<?> realmRoles = roles(claims.get("realm_access"));
+        if (realmRoles != null) {
+            return filter(realmRoles);
+        }
+        if (claims.get("resource_access") instanceof Map<?, ?> resourceAccess) {
+            Collection<?> clientRoles = roles(resourceAccess.get(CLIENT_ID));
+            if (clientRoles != null) {
+                return filter(clientRoles);
+            }
+        }
+        return List.of();
+    }
+
+    private static Collection<?> roles(Object access) {
+        if (access instanceof Map<?, ?> map && map.get("roles") instanceof Collection<?> roles) {
+            return roles;
+        }
+        return null;
+    }
+
+    private static List<String> filter(Collection<?> roles) {
+        return roles.stream()
+                .filter(APPLICATION_ROLES::contains)
+                .map(String.class::cast)
+                .toList();
+    }
+}
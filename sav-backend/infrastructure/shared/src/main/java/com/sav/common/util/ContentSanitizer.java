@@ -0,0 +1,401 @@
+package com.sav.common.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-pass sanitizer for user supplied text (ticket titles, descriptions, messages)
+ * Validation, removal of dangerous constructs and HTML escaping happen in one scan of the input,
+ * written into a reused per-thread buffer; input that needs no change is returned as is
+ */
+public final class ContentSanitizer {
+
+    /**
+     * Ticket messages: rejected when blank, punctuation only, too long or carrying script markers;
+     * otherwise script-capable elements, tags, event handlers and script URLs are dropped and the rest escaped
+     */
+    public static final ContentSanitizer MESSAGE = new ContentSanitizer(
+            List.of("script", "iframe", "object", "embed"), true, true,
+            List.of("javascript", "vbscript", "data"), true, false,
+            10_000, List.of("<script", "javascript:", "vbscript:", "onload=", "onerror=", "onclick="));
+
+    /**
+     * Descriptions: script elements and tags removed, no escaping
+     */
+    public static final ContentSanitizer HTML = new ContentSanitizer(
+            List.of("script"), true, false, List.of(), false, false, Integer.MAX_VALUE, List.of());
+
+    /**
+     * Titles: markup kept but escaped, including '/'
+     */
+    public static final ContentSanitizer TEXT = new ContentSanitizer(
+            List.of(), false, false, List.of(), true, true, Integer.MAX_VALUE, List.of());
+
+    // Larger buffers are not kept per thread
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String[] droppedElements;
+    private final String[] droppedElementCloseTags;
+    private final boolean stripTags;
+    private final boolean stripEventHandlers;
+    private final String[] strippedSchemes;
+    private final boolean escape;
+    private final boolean escapeSlash;
+    private final int maxLength;
+    private final String[] rejectedMarkers;
+    // ASCII characters that may start something other than a plain copy
+    private final boolean[] triggers = new boolean[128];
+    private final boolean[] markerStarts = new boolean[128];
+
+    private ContentSanitizer(List<String> droppedElements, boolean stripTags, boolean stripEventHandlers,
+                             List<String> strippedSchemes, boolean escape, boolean escapeSlash,
+                             int maxLength, List<String> rejectedMarkers) {
+        this.droppedElements = droppedElements.toArray(new String[0]);
+        this.droppedElementCloseTags = droppedElements.stream().map(name -> "</" + name + ">").toArray(String[]::new);
+        this.stripTags = stripTags;
+        this.stripEventHandlers = stripEventHandlers;
+        this.strippedSchemes = strippedSchemes.toArray(new String[0]);
+        this.escape = escape;
+        this.escapeSlash = escapeSlash;
+        this.maxLength = maxLength;
+        this.rejectedMarkers = rejectedMarkers.toArray(new String[0]);
+
+        if (stripTags || this.droppedElements.length > 0) {
+            triggers['<'] = true;
+        }
+        if (escape) {
+            triggers['&'] = true;
+            triggers['<'] = true;
+            triggers['>'] = true;
+            triggers['"'] = true;
+            triggers['\''] = true;
+            triggers['/'] = escapeSlash;
+        }
+        if (stripEventHandlers) {
+            triggers['o'] = true;
+            triggers['O'] = true;
+        }
+        for (String scheme : this.strippedSchemes) {
+            triggers[scheme.charAt(0)] = true;
+            triggers[Character.toUpperCase(scheme.charAt(0))] = true;
+        }
+        for (String marker : this.rejectedMarkers) {
+            markerStarts[marker.charAt(0)] = true;
+            markerStarts[Character.toUpperCase(marker.charAt(0))] = true;
+        }
+    }
+
+    /**
+     * Same policy with a different length limit
+     */
+    public ContentSanitizer withMaxLength(int maxLength) {
+        return new ContentSanitizer(List.of(droppedElements), stripTags, stripEventHandlers, List.of(strippedSchemes),
+                escape, escapeSlash, maxLength, List.of(rejectedMarkers));
+    }
+
+    /**
+     * Sanitize input, returning it unchanged (same instance) when nothing had to be removed or escaped
+     *
+     * @throws IllegalArgumentException if the policy rejects the input
+     */
+    public String sanitize(String input) {
+        if (input == null) {
+            return null;
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        try {
+            return scan(input, buffer, false) ? buffer.toString() : input;
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Append the sanitized input to out
+     *
+     * @return whether the appended text differs from the input
+     * @throws IllegalArgumentException if the policy rejects the input
+     */
+    public boolean sanitizeTo(CharSequence input, StringBuilder out) {
+        return scan(input, out, true);
+    }
+
+    /**
+     * Unchanged runs are copied in bulk when the next removal or escape is reached; input that needs
+     * no change at all is only copied if appendUnchanged is set
+     */
+    private boolean scan(CharSequence input, StringBuilder out, boolean appendUnchanged) {
+        if (input.length() > maxLength) {
+            throw new IllegalArgumentException("Content exceeds " + maxLength + " characters");
+        }
+        int end = input.length();
+        int start = 0;
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        boolean validate = rejectedMarkers.length > 0;
+        if (validate && start == end) {
+            throw new IllegalArgumentException("Content is blank");
+        }
+
+        int base = out.length();
+        boolean changed = false;
+        boolean meaningful = false;
+        // Start of the input not yet copied to out
+        int run = start;
+        // Index of the next '>' at or after the scan position, end when there is none
+        int nextTagEnd = -1;
+        // Per dropped element: no closing tag at or after this index
+        int[] noCloseTagFrom = droppedElements.length > 0 ? new int[droppedElements.length] : null;
+        if (noCloseTagFrom != null) {
+            Arrays.fill(noCloseTagFrom, Integer.MAX_VALUE);
+        }
+
+        int i = start;
+        while (i < end) {
+            char c = input.charAt(i);
+            if (validate) {
+                checkMarkers(input, i, end, c);
+                meaningful |= !isSpaceOrPunct(c);
+            }
+            if (c >= 128 || !triggers[c]) {
+                i++;
+                continue;
+            }
+
+            int skipTo = -1;
+            if (c == '<' && (stripTags || droppedElements.length > 0)) {
+                skipTo = droppedElementEnd(input, i, end, noCloseTagFrom);
+                if (skipTo < 0 && stripTags) {
+                    if (nextTagEnd < i) {
+                        nextTagEnd = indexOf(input, '>', i + 1, end);
+                    }
+                    skipTo = nextTagEnd < end ? nextTagEnd + 1 : -1;
+                }
+            }
+            boolean eventHandler = false;
+            if (skipTo < 0 && stripEventHandlers && (c | 0x20) == 'o') {
+                skipTo = eventHandlerEnd(input, i, end);
+                eventHandler = skipTo > 0;
+            }
+            if (skipTo < 0) {
+                skipTo = schemeEnd(input, i, end);
+            }
+
+            if (skipTo > 0) {
+                if (validate) {
+                    meaningful |= skipped(input, i + 1, skipTo, end);
+                }
+                changed = flush(out, base, input, run, i, changed);
+                if (eventHandler) {
+                    // The whitespace before the handler goes with it
+                    while (out.length() > base && isRegexSpace(out.charAt(out.length() - 1))) {
+                        out.setLength(out.length() - 1);
+                    }
+                }
+                i = skipTo;
+                run = i;
+                continue;
+            }
+
+            String entity = escape ? entity(c) : null;
+            if (entity != null) {
+                changed = flush(out, base, input, run, i, changed);
+                out.append(entity);
+                run = i + 1;
+            }
+            i++;
+        }
+
+        if (validate && !meaningful) {
+            throw new IllegalArgumentException("Content has no text");
+        }
+        if (!changed) {
+            boolean trimmed = start > 0 || end < input.length();
+            if (appendUnchanged || trimmed) {
+                out.append(input, start, end);
+            }
+            return trimmed;
+        }
+        flush(out, base, input, run, end, true);
+        // Removed markup can leave whitespace at the end
+        while (out.length() > base && out.charAt(out.length() - 1) <= ' ') {
+            out.setLength(out.length() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Copy input[from, to) to out, sizing out for the whole input on the first change;
+     * leading whitespace left behind by removed markup is dropped (the input itself is already trimmed)
+     */
+    private static boolean flush(StringBuilder out, int base, CharSequence input, int from, int to, boolean changed) {
+        if (!changed) {
+            out.ensureCapacity(base + input.length() + 16);
+        }
+        if (out.length() == base) {
+            while (from < to && input.charAt(from) <= ' ') {
+                from++;
+            }
+        }
+        out.append(input, from, to);
+        return true;
+    }
+
+    private String entity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#x27;";
+            case '/' -> escapeSlash ? "&#x2F;" : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * End of a dropped element (open tag, content and closing tag) starting at '<', or -1
+     */
+    private int droppedElementEnd(CharSequence input, int i, int end, int[] noCloseTagFrom) {
+        for (int e = 0; e < droppedElements.length; e++) {
+            String name = droppedElements[e];
+            if (!regionMatches(input, i + 1, end, name)) {
+                continue;
+            }
+            int openEnd = indexOf(input, '>', i + 1 + name.length(), end);
+            if (openEnd >= end) {
+                return -1;
+            }
+            if (openEnd + 1 >= noCloseTagFrom[e]) {
+                continue;
+            }
+            int close = indexOfIgnoreCase(input, droppedElementCloseTags[e], openEnd + 1, end);
+            if (close < 0) {
+                noCloseTagFrom[e] = openEnd + 1;
+                continue;
+            }
+            return close + droppedElementCloseTags[e].length();
+        }
+        return -1;
+    }
+
+    /**
+     * End of on\w+\s*= starting at i, or -1
+     */
+    private static int eventHandlerEnd(CharSequence input, int i, int end) {
+        if (i + 2 >= end || (input.charAt(i + 1) | 0x20) != 'n' || !isWordChar(input.charAt(i + 2))) {
+            return -1;
+        }
+        int j = i + 3;
+        while (j < end && isWordChar(input.charAt(j))) {
+            j++;
+        }
+        while (j < end && isRegexSpace(input.charAt(j))) {
+            j++;
+        }
+        return j < end && input.charAt(j) == '=' ? j + 1 : -1;
+    }
+
+    /**
+     * End of scheme\s*: starting at i, or -1
+     */
+    private int schemeEnd(CharSequence input, int i, int end) {
+        for (String scheme : strippedSchemes) {
+            if (!regionMatches(input, i, end, scheme)) {
+                continue;
+            }
+            int j = i + scheme.length();
+            while (j < end && isRegexSpace(input.charAt(j))) {
+                j++;
+            }
+            if (j < end && input.charAt(j) == ':') {
+                return j + 1;
+            }
+        }
+        return -1;
+    }
+
+    private void checkMarkers(CharSequence input, int i, int end, char c) {
+        if (c >= 128 || !markerStarts[c]) {
+            return;
+        }
+        for (String marker : rejectedMarkers) {
+            if (regionMatches(input, i, end, marker)) {
+                throw new IllegalArgumentException("Content contains forbidden construct '" + marker + "'");
+            }
+        }
+    }
+
+    /**
+     * Validate a removed region, returning whether it held any text
+     */
+    private boolean skipped(CharSequence input, int from, int to, int end) {
+        boolean meaningful = false;
+        for (int k = from; k < to; k++) {
+            char c = input.charAt(k);
+            checkMarkers(input, k, end, c);
+            meaningful |= !isSpaceOrPunct(c);
+        }
+        return meaningful;
+    }
+
+    /**
+     * ASCII case-insensitive match of a lower-case literal, as (?i) does
+     */
+    private static boolean regionMatches(CharSequence input, int from, int end, String lower) {
+        if (end - from < lower.length()) {
+            return false;
+        }
+        for (int k = 0; k < lower.length(); k++) {
+            char c = input.charAt(from + k);
+            char expected = lower.charAt(k);
+            if (c != expected && !(expected >= 'a' && expected <= 'z' && c == expected - ('a' - 'A'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence input, char target, int from, int end) {
+        for (int k = from; k < end; k++) {
+            if (input.charAt(k) == target) {
+                return k;
+            }
+        }
+        return end;
+    }
+
+    private static int indexOfIgnoreCase(CharSequence input, String lower, int from, int end) {
+        for (int k = indexOf(input, lower.charAt(0), from, end); k < end; k = indexOf(input, lower.charAt(0), k + 1, end)) {
+            if (regionMatches(input, k, end, lower)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Whitespace or ASCII punctuation (\s and \p{Punct})
+     */
+    private static boolean isSpaceOrPunct(char c) {
+        return isRegexSpace(c) || (c >= '!' && c <= '/') || (c >= ':' && c <= '@')
+                || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+}
@@ -11,12 +11,6 @@ import java.util.regex.Pattern;
 @Component
 public class InputSanitizer {
 
-    // HTML tags pattern for basic sanitization
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
-    
-    // Script pattern for XSS prevention
-    private static final Pattern SCRIPT_PATTERN = Pattern.compile("(?i)<script[^>]*>.*?</script>");
-    
     // SQL injection patterns
     private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile("(?i)(union|select|insert|update|delete|drop|create|alter|exec|execute)");
 
@@ -27,14 +21,9 @@ public class InputSanitizer {
         if (!StringUtils.hasText(input)) {
             return input;
         }
-        
-        // Remove script tags
-        String sanitized = SCRIPT_PATTERN.matcher(input).replaceAll("");
-        
-        // Remove other potentially dangerous HTML tags
-        sanitized = HTML_TAG_PATTERN.matcher(sanitized).replaceAll("");
-        
-        return sanitized.trim();
+
+        // Script elements and all other tags removed in one pass
+        return ContentSanitizer.HTML.sanitize(input);
     }
 
     /**
@@ -44,14 +33,8 @@ public class InputSanitizer {
         if (!StringUtils.hasText(input)) {
             return input;
         }
-        
-        return input.trim()
-                .replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&#x27;")
-                .replace("/", "&#x2F;");
+
+        return ContentSanitizer.TEXT.sanitize(input);
     }
 
     /**
@@ -0,0 +1,194 @@
+package com.sav.loadtest;
+
+import com.sav.common.enums.Priority;
+import com.sav.common.enums.TicketStatus;
+import com.sav.common.enums.TicketType;
+import com.sav.ticket.domain.entity.Ticket;
+import com.sav.ticket.domain.entity.TicketMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ticket insert throughput benchmark, run with --insert-benchmark=true instead of the scenario mix
+ * Compares one round-trip per row with generated keys read back (how IDENTITY ids forced Hibernate
+ * to insert) against JPA persists with pooled-lo sequence ids and JDBC batching
+ * The rows of each run are deleted by the ids it inserted
+ */
+final class InsertThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertThroughputBenchmark.class);
+
+    private static final int TICKETS_PER_TRANSACTION = 1000;
+    private static final int IDS_PER_DELETE = 10_000;
+
+    private static final String INSERT_TICKET = """
+        INSERT INTO tickets (version, title, description, status, type, priority,
+                             created_at, updated_at, created_by_user_id)
+        VALUES (0, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_MESSAGE = """
+        INSERT INTO ticket_messages (content, created_at, author_id, ticket_id)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int ticketCount;
+    private final int messagesPerTicket;
+    private final int batchSize;
+    private final String authorId;
+
+    InsertThroughputBenchmark(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory, int ticketCount, int messagesPerTicket,
+                              int batchSize, String authorId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.ticketCount = ticketCount;
+        this.messagesPerTicket = messagesPerTicket;
+        this.batchSize = batchSize;
+        this.authorId = authorId;
+    }
+
+    void run() {
+        long rows = (long) ticketCount * (1 + messagesPerTicket);
+        log.info("Insert benchmark: {} tickets x {} messages ({} rows), batch size {}",
+                ticketCount, messagesPerTicket, rows, batchSize);
+
+        double rowByRow = measure("row-at-a-time", rows, this::insertRowByRow);
+        double batched = measure("pooled-lo + batching", rows, this::insertBatched);
+
+        log.info("Insert benchmark: row-at-a-time {} rows/s, pooled-lo + batching {} rows/s ({}x)",
+                String.format("%.0f", rowByRow), String.format("%.0f", batched),
+                String.format("%.1f", batched / rowByRow));
+    }
+
+    private double measure(String name, long rows, Insert insert) {
+        List<Long> ticketIds = new ArrayList<>(ticketCount);
+        long elapsedNanos;
+        try {
+            long start = System.nanoTime();
+            insert.run(ticketIds);
+            elapsedNanos = System.nanoTime() - start;
+        } finally {
+            delete(ticketIds);
+        }
+        double rowsPerSecond = rows / (elapsedNanos / 1_000_000_000.0);
+        log.info("Insert benchmark [{}]: {} rows in {} ms ({} rows/s)",
+                name, rows, elapsedNanos / 1_000_000, String.format("%.0f", rowsPerSecond));
+        return rowsPerSecond;
+    }
+
+    private void insertRowByRow(List<Long> ticketIds) {
+        for (int offset = 0; offset < ticketCount; offset += TICKETS_PER_TRANSACTION) {
+            int first = offset;
+            int last = Math.min(offset + TICKETS_PER_TRANSACTION, ticketCount);
+            List<Long> inserted = new ArrayList<>(last - first);
+            transactionTemplate.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                for (int i = first; i < last; i++) {
+                    int index = i;
+                    KeyHolder keyHolder = new GeneratedKeyHolder();
+                    jdbcTemplate.update(con -> {
+                        PreparedStatement ps = con.prepareStatement(INSERT_TICKET, new String[] {"id"});
+                        ps.setString(1, "Insert benchmark ticket " + index);
+                        ps.setString(2, "Benchmark ticket " + index);
+                        ps.setString(3, TicketStatus.OPEN.name());
+                        ps.setString(4, TicketType.ASSISTANCE.name());
+                        ps.setString(5, Priority.MEDIUM.name());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                        ps.setString(8, authorId);
+                        return ps;
+                    }, keyHolder);
+                    long ticketId = keyHolder.getKey().longValue();
+                    inserted.add(ticketId);
+
+                    for (int m = 0; m < messagesPerTicket; m++) {
+                        String content = "Benchmark message " + m;
+                        jdbcTemplate.update(con -> {
+                            PreparedStatement ps = con.prepareStatement(INSERT_MESSAGE, new String[] {"id"});
+                            ps.setString(1, content);
+                            ps.setTimestamp(2, now);
+                            ps.setString(3, authorId);
+                            ps.setLong(4, ticketId);
+                            return ps;
+                        }, new GeneratedKeyHolder());
+                    }
+                }
+            });
+            // Only ids of committed transactions, a rolled back one left nothing behind
+            ticketIds.addAll(inserted);
+        }
+    }
+
+    private void insertBatched(List<Long> ticketIds) {
+        for (int offset = 0; offset < ticketCount; offset += TICKETS_PER_TRANSACTION) {
+            int first = offset;
+            int last = Math.min(offset + TICKETS_PER_TRANSACTION, ticketCount);
+            List<Long> inserted = new ArrayList<>(last - first);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = first; i < last; i++) {
+                    Ticket ticket = Ticket.builder()
+                            .title("Insert benchmark ticket " + i)
+                            .description("Benchmark ticket " + i)
+                            .status(TicketStatus.OPEN)
+                            .type(TicketType.ASSISTANCE)
+                            .priority(Priority.MEDIUM)
+                            .createdByUserId(authorId)
+                            .build();
+                    for (int m = 0; m < messagesPerTicket; m++) {
+                        ticket.getMessages().add(TicketMessage.builder()
+                                .content("Benchmark message " + m)
+                                .authorId(authorId)
+                                .ticket(ticket)
+                                .build());
+                    }
+                    entityManager.persist(ticket);
+                    inserted.add(ticket.getId());
+
+                    // Keep the persistence context small; each flush sends full JDBC batches
+                    if ((i - first + 1) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+            ticketIds.addAll(inserted);
+        }
+    }
+
+    /**
+     * Delete exactly the tickets a run inserted; their messages go with them (ON DELETE CASCADE)
+     */
+    private void delete(List<Long> ticketIds) {
+        for (int offset = 0; offset < ticketIds.size(); offset += IDS_PER_DELETE) {
+            Long[] chunk = ticketIds.subList(offset, Math.min(offset + IDS_PER_DELETE, ticketIds.size()))
+                    .toArray(new Long[0]);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "DELETE FROM tickets WHERE id = ANY(?)",
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", chunk))));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Insert {
+        void run(List<Long> ticketIds);
+    }
+}
@@ -0,0 +1,145 @@
+package com.sav.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop driver: each worker sends one request, waits for the response, then picks the next scenario
+ * Latencies are recorded in HdrHistograms per scenario; only the measured phase is reported
+ */
+final class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Scenario.LoadContext context;
+    private final LoadTestOptions options;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Scenario[] weightedScenarios;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    private volatile boolean measuring;
+    private volatile boolean running;
+
+    LoadDriver(Scenario.LoadContext context, LoadTestOptions options) {
+        this.context = context;
+        this.options = options;
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(2, options.concurrency() / 4));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        List<Scenario> weighted = new ArrayList<>();
+        options.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+            stats.put(scenario, new ScenarioStats());
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("The scenario mix has no positive weights");
+        }
+        this.weightedScenarios = weighted.toArray(new Scenario[0]);
+    }
+
+    LoadReport run() throws InterruptedException {
+        running = true;
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.submit(this::workLoop);
+        }
+
+        log.info("Warming up for {} s with {} virtual users", options.warmup().toSeconds(), options.concurrency());
+        Thread.sleep(options.warmup().toMillis());
+
+        stats.values().forEach(ScenarioStats::reset);
+        measuring = true;
+        long start = System.nanoTime();
+        log.info("Measuring for {} s", options.duration().toSeconds());
+        Thread.sleep(options.duration().toMillis());
+        measuring = false;
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        httpExecutor.shutdownNow();
+
+        Map<Scenario, LoadReport.ScenarioResult> results = new EnumMap<>(Scenario.class);
+        stats.forEach((scenario, scenarioStats) -> results.put(scenario, scenarioStats.result(scenario, elapsed)));
+        return new LoadReport(options, elapsed, results);
+    }
+
+    private void workLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            Scenario scenario = weightedScenarios[random.nextInt(weightedScenarios.length)];
+            long start = System.nanoTime();
+            int status;
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        scenario.request(context, random), HttpResponse.BodyHandlers.discarding());
+                status = response.statusCode();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                status = -1;
+            }
+            long latency = System.nanoTime() - start;
+            if (measuring) {
+                stats.get(scenario).record(latency, status);
+            }
+        }
+    }
+
+    private static final class ScenarioStats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final Map<Integer, AtomicLong> errorStatuses = new ConcurrentHashMap<>();
+
+        void record(long latencyNanos, int status) {
+            recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+                errorStatuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+            }
+        }
+
+        void reset() {
+            recorder.reset();
+            errors.set(0);
+            errorStatuses.clear();
+        }
+
+        LoadReport.ScenarioResult result(Scenario scenario, Duration elapsed) {
+            Histogram histogram = recorder.getIntervalHistogram();
+            Map<String, Long> statuses = new TreeMap<>();
+            errorStatuses.forEach((status, count) -> statuses.put(status < 0 ? "io-error" : String.valueOf(status), count.get()));
+            return LoadReport.ScenarioResult.from(scenario, histogram, errors.get(), statuses, elapsed);
+        }
+    }
+}
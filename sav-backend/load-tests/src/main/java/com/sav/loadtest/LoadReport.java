@@ -0,0 +1,72 @@
+package com.sav.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint throughput and latency percentiles for the measured phase
+ */
+record LoadReport(LoadTestOptions options, Duration elapsed, Map<Scenario, ScenarioResult> results) {
+
+    record ScenarioResult(String endpoint, long requests, long errors, Map<String, Long> errorStatuses,
+                          double throughputPerSecond, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        static ScenarioResult from(Scenario scenario, Histogram histogram, long errors,
+                                   Map<String, Long> errorStatuses, Duration elapsed) {
+            long requests = histogram.getTotalCount();
+            return new ScenarioResult(scenario.getEndpoint(), requests, errors, errorStatuses,
+                    requests / (elapsed.toNanos() / 1_000_000_000.0),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nLoad test: %d tickets, %d virtual users, %d s measured%n",
+                options.tickets(), options.concurrency(), elapsed.toSeconds());
+        out.printf("%-34s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long totalRequests = 0;
+        double totalThroughput = 0;
+        for (ScenarioResult result : results.values()) {
+            out.printf("%-34s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.endpoint(), result.requests(), result.errors(), result.throughputPerSecond(),
+                    result.p50Ms(), result.p95Ms(), result.p99Ms(), result.maxMs());
+            if (!result.errorStatuses().isEmpty()) {
+                out.printf("%-34s errors by status: %s%n", "", result.errorStatuses());
+            }
+            totalRequests += result.requests();
+            totalThroughput += result.throughputPerSecond();
+        }
+        out.printf("%-34s %9d %8s %9.1f%n", "total", totalRequests, "", totalThroughput);
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("tickets", options.tickets());
+        json.put("messagesPerTicket", options.messagesPerTicket());
+        json.put("concurrency", options.concurrency());
+        json.put("durationSeconds", elapsed.toMillis() / 1000.0);
+        Map<String, ScenarioResult> endpoints = new LinkedHashMap<>();
+        results.forEach((scenario, result) -> endpoints.put(scenario.getEndpoint(), result));
+        json.put("endpoints", endpoints);
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), json);
+    }
+}
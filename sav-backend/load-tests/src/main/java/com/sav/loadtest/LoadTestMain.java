@@ -0,0 +1,145 @@
+package com.sav.loadtest;
+
+import com.sav.app.SavApplication;
+import com.sav.user.domain.service.UserStatsAggregator;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots SavApplication against a throwaway PostgreSQL (Testcontainers) with a stub JWT issuer,
+ * seeds data, replays the scenario mix and reports per-endpoint throughput and p50/p95/p99 latency
+ * Example: java -jar load-tests-exec.jar --tickets=100000 --concurrency=64 --duration-seconds=120
+ */
+public final class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        PostgreSQLContainer<?> postgres = null;
+        ConfigurableApplicationContext app = null;
+        try (StubJwtIssuer issuer = new StubJwtIssuer()) {
+            String dbUrl = options.dbUrl();
+            String dbUsername = options.dbUsername();
+            String dbPassword = options.dbPassword();
+            if (dbUrl == null) {
+                postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                        .withDatabaseName("sav")
+                        .withUsername(dbUsername)
+                        .withPassword(dbPassword)
+                        .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=256MB");
+                postgres.start();
+                dbUrl = postgres.getJdbcUrl();
+                log.info("Started PostgreSQL container at {}", dbUrl);
+            }
+
+            app = new SpringApplicationBuilder(SavApplication.class)
+                    .run(applicationArguments(options, dbUrl, dbUsername, dbPassword, issuer.getIssuer()));
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+
+            JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+            if (options.insertBenchmark()) {
+                new InsertThroughputBenchmark(jdbcTemplate, app.getBean(PlatformTransactionManager.class),
+                        app.getBean(EntityManagerFactory.class), options.tickets(), options.messagesPerTicket(),
+                        app.getEnvironment().getProperty("spring.jpa.properties.hibernate.jdbc.batch_size",
+                                Integer.class, 50),
+                        SeedDataGenerator.ADMIN_ID).run();
+            } else {
+                runScenarios(options, jdbcTemplate, app, issuer, port);
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void runScenarios(LoadTestOptions options, JdbcTemplate jdbcTemplate,
+                                     ConfigurableApplicationContext app, StubJwtIssuer issuer, int port) throws Exception {
+        SeedDataGenerator.SeedData seedData = options.seed()
+                ? new SeedDataGenerator(jdbcTemplate).seed(options)
+                : existingSeedData(jdbcTemplate, options);
+        app.getBean(UserStatsAggregator.class).reconcile();
+
+        Map<String, String> tokens = new HashMap<>();
+        seedData.userIds().forEach(id -> tokens.put(id, issuer.issueToken(id, id, "USER")));
+        seedData.technicianIds().forEach(id -> tokens.put(id, issuer.issueToken(id, id, "TECHNICIAN")));
+
+        Scenario.LoadContext context = new Scenario.LoadContext("http://localhost:" + port + "/api", seedData, tokens);
+        LoadReport report = new LoadDriver(context, options).run();
+
+        report.print(System.out);
+        Path reportFile = Path.of(options.reportFile());
+        report.write(reportFile);
+        log.info("Report written to {}", reportFile.toAbsolutePath());
+    }
+
+    private static String[] applicationArguments(LoadTestOptions options, String dbUrl, String dbUsername,
+                                                 String dbPassword, String issuer) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.datasource.url=" + dbUrl + (dbUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                "--spring.datasource.username=" + dbUsername,
+                "--spring.datasource.password=" + dbPassword,
+                "--spring.datasource.hikari.maximum-pool-size=" + Math.max(20, options.concurrency() / 2),
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.show-sql=false",
+                "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer,
+                "--sav.imports.storage-dir=" + Files.createTempDirectory("sav-load-test-imports"),
+                // Request logging at DEBUG would dominate the measurements
+                "--logging.level.root=WARN",
+                "--logging.level.com.sav=WARN",
+                "--logging.level.com.sav.loadtest=INFO",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.security.oauth2=WARN"));
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Reuse tickets seeded by an earlier run against --db-url (--seed=false)
+     */
+    private static SeedDataGenerator.SeedData existingSeedData(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT min(id) AS first_id, count(*) AS ticket_count FROM tickets WHERE title ~ '^Load test ticket [0-9]+$'");
+        Number firstId = (Number) range.get("first_id");
+        if (firstId == null) {
+            throw new IllegalStateException("No seeded tickets found - run once with --seed=true");
+        }
+        LoadTestOptions seeded = new LoadTestOptions(((Number) range.get("ticket_count")).intValue(),
+                options.messagesPerTicket(), options.users(), options.technicians(), options.concurrency(),
+                options.warmup(), options.duration(), options.mix(), options.dbUrl(), options.dbUsername(),
+                options.dbPassword(), false, options.reportFile(), false);
+        return SeedDataGenerator.SeedData.of(firstId.longValue(), seeded);
+    }
+}
@@ -0,0 +1,113 @@
+package com.sav.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, given as --name=value
+ * Without --db-url a PostgreSQL container is started through Testcontainers
+ */
+record LoadTestOptions(
+        int tickets,
+        int messagesPerTicket,
+        int users,
+        int technicians,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        boolean seed,
+        String reportFile,
+        boolean insertBenchmark) {
+
+    static final String USAGE = """
+        Options (--name=value):
+          tickets               seeded tickets, up to 1000000 (default 10000)
+          messages-per-ticket   seeded messages per ticket (default 3)
+          users                 seeded USER accounts (default 500)
+          technicians           seeded TECHNICIAN accounts (default 20)
+          concurrency           concurrent virtual users (default 32)
+          warmup-seconds        unmeasured warmup (default 15)
+          duration-seconds      measured run (default 60)
+          mix                   scenario weights, e.g. create=10,list=30,dashboard=25,message=15,attachment=5,statistics=15
+          db-url                use this database instead of a container (its data is kept)
+          db-username, db-password
+          seed                  false to reuse data already in db-url (default true)
+          report                JSON report file (default load-test-report.json)
+          insert-benchmark      true to measure ticket insert throughput (tickets, messages-per-ticket)
+                                instead of seeding and running the scenarios (default false)
+        """;
+
+    private static final Set<String> NAMES = Set.of("tickets", "messages-per-ticket", "users", "technicians",
+            "concurrency", "warmup-seconds", "duration-seconds", "mix", "db-url", "db-username", "db-password",
+            "seed", "report", "insert-benchmark");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            String name = arg.substring(2, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option '" + name + "'");
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+
+        int tickets = intValue(values, "tickets", 10_000);
+        if (tickets < 1 || tickets > 1_000_000) {
+            throw new IllegalArgumentException("tickets must be between 1 and 1000000");
+        }
+
+        return new LoadTestOptions(
+                tickets,
+                intValue(values, "messages-per-ticket", 3),
+                Math.max(1, intValue(values, "users", 500)),
+                Math.max(1, intValue(values, "technicians", 20)),
+                Math.max(1, intValue(values, "concurrency", 32)),
+                Duration.ofSeconds(intValue(values, "warmup-seconds", 15)),
+                Duration.ofSeconds(intValue(values, "duration-seconds", 60)),
+                parseMix(values.get("mix")),
+                values.get("db-url"),
+                values.getOrDefault("db-username", "admin"),
+                values.getOrDefault("db-password", "admin123"),
+                Boolean.parseBoolean(values.getOrDefault("seed", "true")),
+                values.getOrDefault("report", "load-test-report.json"),
+                Boolean.parseBoolean(values.getOrDefault("insert-benchmark", "false")));
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number: " + value);
+        }
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        if (mix == null) {
+            for (Scenario scenario : Scenario.values()) {
+                weights.put(scenario, scenario.getDefaultWeight());
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "'");
+            }
+            weights.put(Scenario.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,127 @@
+package com.sav.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request types in the replayed traffic mix, with their default weights
+ * Each request is sent with a token for a user allowed to make it (creators for their own tickets)
+ */
+enum Scenario {
+
+    CREATE_TICKET("create", "POST /tickets", 10),
+    LIST_TICKETS("list", "GET /tickets", 30),
+    DASHBOARD("dashboard", "GET /tickets/dashboard", 25),
+    POST_MESSAGE("message", "POST /tickets/{id}/messages", 15),
+    UPLOAD_ATTACHMENT("attachment", "POST /tickets/{id}/attachments", 5),
+    STATISTICS("statistics", "GET /tickets/statistics", 15);
+
+    private static final String BOUNDARY = "sav-load-test-boundary";
+    private static final byte[] ATTACHMENT_CONTENT = ("2024-01-01 12:00:00 ERROR printer spooler stopped\n".repeat(200))
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final String key;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Scenario(String key, String endpoint, int defaultWeight) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + key + "'");
+    }
+
+    HttpRequest request(LoadContext context, ThreadLocalRandom random) {
+        SeedDataGenerator.SeedData data = context.seedData();
+        return switch (this) {
+            case CREATE_TICKET -> context.post(randomUser(data, random), "/tickets", "application/json", """
+                    {"title":"Load test ticket created during run","description":"The VPN client disconnects every few minutes.",\
+                    "type":"ASSISTANCE","priority":"MEDIUM"}""".getBytes(StandardCharsets.UTF_8));
+            case LIST_TICKETS -> context.get(randomTechnician(data, random),
+                    "/tickets?page=" + random.nextInt(50) + "&size=20");
+            case DASHBOARD -> context.get(random.nextInt(5) == 0 ? randomTechnician(data, random) : randomUser(data, random),
+                    "/tickets/dashboard");
+            case POST_MESSAGE -> {
+                long ticketId = randomTicket(data, random);
+                yield context.post(data.creatorOf(ticketId), "/tickets/" + ticketId + "/messages", "application/json",
+                        "{\"content\":\"Any update on this? Still happening this morning.\"}".getBytes(StandardCharsets.UTF_8));
+            }
+            case UPLOAD_ATTACHMENT -> {
+                long ticketId = randomTicket(data, random);
+                yield context.post(data.creatorOf(ticketId), "/tickets/" + ticketId + "/attachments",
+                        "multipart/form-data; boundary=" + BOUNDARY, multipartFile("spooler.log"));
+            }
+            case STATISTICS -> context.get(randomTechnician(data, random), "/tickets/statistics");
+        };
+    }
+
+    private static String randomUser(SeedDataGenerator.SeedData data, ThreadLocalRandom random) {
+        return data.userIds().get(random.nextInt(data.userIds().size()));
+    }
+
+    private static String randomTechnician(SeedDataGenerator.SeedData data, ThreadLocalRandom random) {
+        return data.technicianIds().get(random.nextInt(data.technicianIds().size()));
+    }
+
+    private static long randomTicket(SeedDataGenerator.SeedData data, ThreadLocalRandom random) {
+        return data.firstTicketId() + random.nextInt(data.ticketCount());
+    }
+
+    private static byte[] multipartFile(String filename) {
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n";
+        String tail = "\r\n--" + BOUNDARY + "--\r\n";
+        byte[] headBytes = head.getBytes(StandardCharsets.UTF_8);
+        byte[] tailBytes = tail.getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[headBytes.length + ATTACHMENT_CONTENT.length + tailBytes.length];
+        System.arraycopy(headBytes, 0, body, 0, headBytes.length);
+        System.arraycopy(ATTACHMENT_CONTENT, 0, body, headBytes.length, ATTACHMENT_CONTENT.length);
+        System.arraycopy(tailBytes, 0, body, headBytes.length + ATTACHMENT_CONTENT.length, tailBytes.length);
+        return body;
+    }
+
+    /**
+     * Base URL (including the /api context path), seeded data and a bearer token per seeded user
+     */
+    record LoadContext(String baseUrl, SeedDataGenerator.SeedData seedData, Map<String, String> tokens) {
+
+        HttpRequest get(String userId, String path) {
+            return authorized(userId, path).GET().build();
+        }
+
+        HttpRequest post(String userId, String path, String contentType, byte[] body) {
+            return authorized(userId, path)
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+        }
+
+        private HttpRequest.Builder authorized(String userId, String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(LoadDriver.REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + tokens.get(userId))
+                    // Spread clients across addresses like real traffic, so per-client limits apply per user
+                    .header("X-Forwarded-For", "10.0." + (userId.hashCode() >>> 8 & 0xff) + "." + (userId.hashCode() & 0xff));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.sav.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates users, tickets and messages with set-based INSERT ... SELECT generate_series statements,
+ * so even a million tickets seed in well under a minute
+ * Ticket ids are reserved as one contiguous range, so the creator of any ticket can be derived from its id
+ */
+final class SeedDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedDataGenerator.class);
+
+    static final String USER_PREFIX = "lt-user-";
+    static final String TECHNICIAN_PREFIX = "lt-tech-";
+    static final String ADMIN_ID = "lt-admin-000001";
+
+    private static final int TICKETS_PER_STATEMENT = 100_000;
+
+    private static final String INSERT_USERS = """
+        INSERT INTO users (id, username, first_name, last_name, email, role, status, created_at, updated_at)
+        SELECT ? || lpad(g::text, 6, '0'), ? || lpad(g::text, 6, '0'), 'Load', 'Test ' || g,
+               ? || lpad(g::text, 6, '0') || '@loadtest.sav.com', ?, 'ACTIVE', now(), now()
+        FROM generate_series(1, ?) g
+        ON CONFLICT DO NOTHING
+        """;
+
+    /*
+     * Status mix roughly matching a live help desk: most tickets closed or resolved, a working set open
+     * Parameters: first id, ticket offset, count, users, technicians
+     */
+    private static final String INSERT_TICKETS = """
+        INSERT INTO tickets (id, version, title, description, status, type, priority, created_at, updated_at,
+                             created_by_user_id, assigned_team, assigned_user_id)
+        SELECT t.id, 0, 'Load test ticket ' || t.n,
+               'Generated ticket ' || t.n || ' for load testing. ' || repeat('Details of the reported problem. ', 1 + t.n % 8),
+               t.status,
+               (ARRAY['BUG','FEATURE_REQUEST','ASSISTANCE','INCIDENT','RECLAMATION','RELANCE'])[1 + t.n % 6],
+               CASE WHEN t.n % 6 = 3 THEN (ARRAY['MEDIUM','HIGH','CRITICAL'])[1 + t.n % 3]
+                    WHEN t.n % 6 = 1 THEN (ARRAY['LOW','MEDIUM','HIGH'])[1 + t.n % 3]
+                    ELSE (ARRAY['LOW','MEDIUM','HIGH','CRITICAL'])[1 + t.n % 4] END,
+               t.created_at, t.created_at + interval '2 hours',
+               ? || lpad((1 + t.n % ?)::text, 6, '0'),
+               CASE WHEN t.status = 'OPEN' THEN NULL ELSE (ARRAY['SUPPORT','DEVELOPMENT'])[1 + t.n % 2] END,
+               CASE WHEN t.status = 'OPEN' THEN NULL ELSE ? || lpad((1 + t.n % ?)::text, 6, '0') END
+        FROM (
+            SELECT ? + g AS id, ? + g AS n,
+                   now() - (random() * interval '365 days') AS created_at,
+                   CASE WHEN r < 0.45 THEN 'CLOSED' WHEN r < 0.60 THEN 'RESOLVED' WHEN r < 0.72 THEN 'OPEN'
+                        WHEN r < 0.84 THEN 'ASSIGNED' WHEN r < 0.96 THEN 'IN_PROGRESS' ELSE 'REOPENED' END AS status
+            FROM (SELECT g, random() AS r FROM generate_series(0, ? - 1) g) s
+        ) t
+        """;
+
+    private static final String INSERT_MESSAGES = """
+        INSERT INTO ticket_messages (content, created_at, author_id, ticket_id)
+        SELECT 'Message ' || m || ' on ticket ' || t.id,
+               t.created_at + m * interval '20 minutes',
+               CASE WHEN m % 2 = 1 THEN t.created_by_user_id ELSE coalesce(t.assigned_user_id, t.created_by_user_id) END,
+               t.id
+        FROM tickets t
+        CROSS JOIN generate_series(1, ?) m
+        WHERE t.id BETWEEN ? AND ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SeedDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    SeedData seed(LoadTestOptions options) {
+        long start = System.nanoTime();
+
+        insertUsers(USER_PREFIX, "USER", options.users());
+        insertUsers(TECHNICIAN_PREFIX, "TECHNICIAN", options.technicians());
+        insertUsers("lt-admin-", "ADMIN", 1);
+
+        long firstTicketId = reserveIds("tickets_seq", options.tickets());
+        for (int offset = 0; offset < options.tickets(); offset += TICKETS_PER_STATEMENT) {
+            int count = Math.min(TICKETS_PER_STATEMENT, options.tickets() - offset);
+            jdbcTemplate.update(INSERT_TICKETS,
+                    USER_PREFIX, options.users(), TECHNICIAN_PREFIX, options.technicians(),
+                    firstTicketId + offset, offset, count);
+
+            if (options.messagesPerTicket() > 0) {
+                jdbcTemplate.update(INSERT_MESSAGES, options.messagesPerTicket(),
+                        firstTicketId + offset, firstTicketId + offset + count - 1);
+            }
+            log.info("Seeded {}/{} tickets", offset + count, options.tickets());
+        }
+
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE tickets");
+        jdbcTemplate.execute("ANALYZE ticket_messages");
+
+        log.info("Seeded {} users, {} technicians, {} tickets and {} messages in {} s",
+                options.users(), options.technicians(), options.tickets(),
+                (long) options.tickets() * options.messagesPerTicket(), (System.nanoTime() - start) / 1_000_000_000);
+        return SeedData.of(firstTicketId, options);
+    }
+
+    /**
+     * Take a contiguous block of ids and move the sequence past it, keeping Hibernate's pooled-lo blocks clear
+     */
+    private long reserveIds(String sequence, int count) {
+        Long first = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', ?, false)", Long.class, first + count);
+        return first;
+    }
+
+    private void insertUsers(String prefix, String role, int count) {
+        jdbcTemplate.update(INSERT_USERS, prefix, prefix, prefix, role, count);
+    }
+
+    /**
+     * What the scenarios need to know about the seeded data
+     * Ticket firstTicketId + n was created by user (1 + n % users), matching INSERT_TICKETS
+     */
+    record SeedData(long firstTicketId, int ticketCount, List<String> userIds, List<String> technicianIds) {
+
+        static SeedData of(long firstTicketId, LoadTestOptions options) {
+            return new SeedData(firstTicketId, options.tickets(),
+                    ids(USER_PREFIX, options.users()), ids(TECHNICIAN_PREFIX, options.technicians()));
+        }
+
+        String creatorOf(long ticketId) {
+            return userIds.get((int) ((ticketId - firstTicketId) % userIds.size()));
+        }
+
+        private static List<String> ids(String prefix, int count) {
+            List<String> ids = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                ids.add(prefix + String.format("%06d", i));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sav.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal OpenID provider standing in for Keycloak: serves discovery and JWKS documents
+ * so the resource server can be pointed at it with issuer-uri, and signs Keycloak-shaped tokens
+ */
+final class StubJwtIssuer implements AutoCloseable {
+
+    private static final String REALM_PATH = "/realms/sav-realm";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(12);
+
+    private final HttpServer server;
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final String issuer;
+
+    StubJwtIssuer() throws IOException, JOSEException {
+        signingKey = new RSAKeyGenerator(2048)
+                .keyID("load-test")
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .generate();
+        signer = new RSASSASigner(signingKey);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        issuer = "http://localhost:" + server.getAddress().getPort() + REALM_PATH;
+
+        String discovery = """
+            {"issuer":"%s","jwks_uri":"%s/protocol/openid-connect/certs",\
+            "id_token_signing_alg_values_supported":["RS256"],"subject_types_supported":["public"]}
+            """.formatted(issuer, issuer);
+        String jwks = new JWKSet(signingKey.toPublicJWK()).toString();
+
+        server.createContext(REALM_PATH + "/.well-known/openid-configuration", exchange -> respond(exchange, discovery));
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> respond(exchange, jwks));
+        server.start();
+    }
+
+    String getIssuer() {
+        return issuer;
+    }
+
+    String issueToken(String userId, String username, String role) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(userId)
+                .audience("sav-backend")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .claim("preferred_username", username)
+                .claim("email", username + "@loadtest.sav.com")
+                .claim("given_name", "Load")
+                .claim("family_name", "Test")
+                .claim("name", "Load Test " + username)
+                .claim("realm_access", Map.of("roles", List.of(role)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+        return jwt.serialize();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
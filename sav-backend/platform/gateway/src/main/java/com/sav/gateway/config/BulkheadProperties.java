@@ -0,0 +1,89 @@
+package com.sav.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Concurrency budgets shared by the routes that name them in their Bulkhead filter (sav.gateway.bulkheads)
+ */
+@ConfigurationProperties(prefix = "sav.gateway")
+public class BulkheadProperties {
+
+    private Map<String, Budget> bulkheads = new LinkedHashMap<>();
+
+    public Map<String, Budget> getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Map<String, Budget> bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    public static class Budget {
+
+        /**
+         * Hard ceiling on concurrent requests; also the starting limit when adaptive
+         */
+        private int maxConcurrent = 32;
+
+        /**
+         * Move the limit between minConcurrent and maxConcurrent from observed latency and failures
+         */
+        private boolean adaptive = false;
+
+        private int minConcurrent = 4;
+
+        /**
+         * Responses slower than this (or failing with 5xx) shrink the adaptive limit
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(2);
+
+        /**
+         * Factor applied to the limit on each slow or failed response
+         */
+        private double backoffRatio = 0.9;
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public boolean isAdaptive() {
+            return adaptive;
+        }
+
+        public void setAdaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        public int getMinConcurrent() {
+            return minConcurrent;
+        }
+
+        public void setMinConcurrent(int minConcurrent) {
+            this.minConcurrent = minConcurrent;
+        }
+
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sav.gateway.config;
+
+import com.sav.common.security.InternalPrincipalCodec;
+import com.sav.gateway.security.JwksCache;
+import com.sav.gateway.security.JwtValidationGlobalFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * Gateway-side JWT validation, enabled with sav.gateway.jwt.enabled
+ */
+@Configuration
+@EnableConfigurationProperties(GatewayJwtProperties.class)
+@ConditionalOnProperty(prefix = "sav.gateway.jwt", name = "enabled", havingValue = "true")
+public class GatewayJwtConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public JwksCache jwksCache(WebClient.Builder webClientBuilder, GatewayJwtProperties properties) {
+        if (properties.getIssuerUri() == null || properties.getIssuerUri().isBlank()) {
+            throw new IllegalStateException("sav.gateway.jwt.issuer-uri is required when sav.gateway.jwt.enabled is set");
+        }
+        return new JwksCache(webClientBuilder, properties);
+    }
+
+    @Bean
+    public ReactiveJwtDecoder gatewayJwtDecoder(JwksCache jwksCache, GatewayJwtProperties properties) {
+        NimbusReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder.withJwkSource(jwksCache::select).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getIssuerUri()));
+        return decoder;
+    }
+
+    @Bean
+    public JwtValidationGlobalFilter jwtValidationGlobalFilter(ReactiveJwtDecoder gatewayJwtDecoder,
+                                                               GatewayJwtProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        // The gateway only signs; the max age is enforced by the backend
+        InternalPrincipalCodec codec = new InternalPrincipalCodec(properties.getInternalPrincipalSecret(), Duration.ZERO);
+        return new JwtValidationGlobalFilter(gatewayJwtDecoder, codec, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sav.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bearer token validation at the gateway (sav.gateway.jwt)
+ * Validated callers are forwarded with a signed X-Sav-Principal header the backend can trust
+ */
+@ConfigurationProperties(prefix = "sav.gateway.jwt")
+public class GatewayJwtProperties {
+
+    private boolean enabled = false;
+
+    private String issuerUri;
+
+    /**
+     * Defaults to the jwks_uri of the issuer's OpenID discovery document
+     */
+    private String jwkSetUri;
+
+    /**
+     * Signing keys are re-fetched in the background this often
+     */
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Minimum time between on-demand fetches triggered by an unknown key id
+     */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * A validated token is trusted this long (never past its expiry) without verifying its signature again
+     */
+    private Duration validatedTokenTtl = Duration.ofMinutes(1);
+
+    private int validatedTokenCacheSize = 10000;
+
+    /**
+     * Shared with the backend (sav.security.internal-principal.secret), at least 32 bytes
+     */
+    private String internalPrincipalSecret;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getIssuerUri() {
+        return issuerUri;
+    }
+
+    public void setIssuerUri(String issuerUri) {
+        this.issuerUri = issuerUri;
+    }
+
+    public String getJwkSetUri() {
+        return jwkSetUri;
+    }
+
+    public void setJwkSetUri(String jwkSetUri) {
+        this.jwkSetUri = jwkSetUri;
+    }
+
+    public Duration getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public void setJwksRefreshInterval(Duration jwksRefreshInterval) {
+        this.jwksRefreshInterval = jwksRefreshInterval;
+    }
+
+    public Duration getJwksMinRefreshInterval() {
+        return jwksMinRefreshInterval;
+    }
+
+    public void setJwksMinRefreshInterval(Duration jwksMinRefreshInterval) {
+        this.jwksMinRefreshInterval = jwksMinRefreshInterval;
+    }
+
+    public Duration getValidatedTokenTtl() {
+        return validatedTokenTtl;
+    }
+
+    public void setValidatedTokenTtl(Duration validatedTokenTtl) {
+        this.validatedTokenTtl = validatedTokenTtl;
+    }
+
+    public int getValidatedTokenCacheSize() {
+        return validatedTokenCacheSize;
+    }
+
+    public void setValidatedTokenCacheSize(int validatedTokenCacheSize) {
+        this.validatedTokenCacheSize = validatedTokenCacheSize;
+    }
+
+    public String getInternalPrincipalSecret() {
+        return internalPrincipalSecret;
+    }
+
+    public void setInternalPrincipalSecret(String internalPrincipalSecret) {
+        this.internalPrincipalSecret = internalPrincipalSecret;
+    }
+}
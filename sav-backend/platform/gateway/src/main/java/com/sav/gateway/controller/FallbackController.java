@@ -0,0 +1,57 @@
+package com.sav.gateway.controller;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.TimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fallback for the CircuitBreaker route filters, shaped like the backend error response
+ * Timeouts answer 504, an open circuit or unreachable backend 503
+ */
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+
+    @RequestMapping("/{circuitBreaker}")
+    public ResponseEntity<Map<String, Object>> fallback(@PathVariable("circuitBreaker") String circuitBreaker,
+                                                        ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        // The routing filter reports a response timeout as a 504 ResponseStatusException
+        boolean timedOut = cause instanceof TimeoutException
+                || (cause instanceof ResponseStatusException statusException
+                        && statusException.getStatusCode().isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT));
+        HttpStatus status = timedOut ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+        String message = timedOut
+                ? "The service took too long to respond"
+                : cause instanceof CallNotPermittedException
+                        ? "The service is temporarily unavailable, please retry shortly"
+                        : "The service is unavailable";
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        // The forward has replaced the request path; the matched route identifies the original request
+        body.put("route", exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_MATCHED_PATH_ROUTE_ID_ATTR));
+        body.put("circuitBreaker", circuitBreaker);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (!timedOut) {
+            response.header(HttpHeaders.RETRY_AFTER, "5");
+        }
+        return response.body(body);
+    }
+}
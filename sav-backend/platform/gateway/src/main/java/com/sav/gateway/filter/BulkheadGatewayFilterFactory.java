@@ -0,0 +1,108 @@
+package com.sav.gateway.filter;
+
+import com.sav.gateway.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps concurrent requests per named budget so slow routes cannot take every backend thread
+ * Routes naming the same bulkhead share its budget; requests over the limit get 503 with Retry-After
+ * <p>
+ * Usage in a route: {@code - Bulkhead=reporting}, budgets under sav.gateway.bulkheads
+ */
+@Component
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadGatewayFilterFactory.class);
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public BulkheadGatewayFilterFactory(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String name = config.getName();
+        ConcurrencyLimiter limiter = limiters.computeIfAbsent(name, this::createLimiter);
+        Counter rejected = Counter.builder("gateway.bulkhead.rejected")
+                .description("Requests refused because the bulkhead was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+
+        return (exchange, chain) -> {
+            if (!limiter.tryAcquire()) {
+                rejected.increment();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                return response.setComplete();
+            }
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> {
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        boolean failed = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                        limiter.release(System.nanoTime() - start, failed);
+                    });
+        };
+    }
+
+    private ConcurrencyLimiter createLimiter(String name) {
+        BulkheadProperties.Budget budget = properties.getBulkheads().get(name);
+        if (budget == null) {
+            log.warn("No budget configured for bulkhead '{}', using defaults", name);
+            budget = new BulkheadProperties.Budget();
+        }
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(budget);
+        Gauge.builder("gateway.bulkhead.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("gateway.bulkhead.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a permit")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    public static class Config {
+
+        private String name = "default";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
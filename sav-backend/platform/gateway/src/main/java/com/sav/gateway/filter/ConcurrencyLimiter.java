@@ -0,0 +1,67 @@
+package com.sav.gateway.filter;
+
+import com.sav.gateway.config.BulkheadProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counting semaphore with an optionally adaptive limit (additive increase, multiplicative decrease)
+ * The limit grows by one after a fast response while the budget is at least half used,
+ * and shrinks by backoffRatio after a slow or failed one
+ */
+class ConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private volatile int limit;
+
+    ConcurrencyLimiter(BulkheadProperties.Budget budget) {
+        this.adaptive = budget.isAdaptive();
+        this.maxLimit = Math.max(1, budget.getMaxConcurrent());
+        this.minLimit = Math.max(1, Math.min(budget.getMinConcurrent(), maxLimit));
+        this.latencyThresholdNanos = budget.getLatencyThreshold().toNanos();
+        this.backoffRatio = budget.getBackoffRatio();
+        this.limit = maxLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a permit, feeding the response outcome into the limit when adaptive
+     */
+    void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (!adaptive) {
+            return;
+        }
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
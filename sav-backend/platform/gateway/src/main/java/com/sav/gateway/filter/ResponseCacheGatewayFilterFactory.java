@@ -0,0 +1,385 @@
+package com.sav.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches GET responses per route and caller, and lets identical concurrent GETs share one backend call
+ * The cache key includes a hash of the Authorization header, so one user's response is never served to another
+ * Backend Cache-Control decides what is stored and for how long; entries with an ETag are revalidated
+ * with If-None-Match once stale, and client conditional requests are answered here
+ * <p>
+ * Usage in a route: {@code - name: ResponseCache, args: {ttl: 15s}}
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final String METRIC_REQUESTS = "gateway.cache.requests";
+
+    // CORS headers depend on the caller's Origin (not part of the key); the gateway adds its own
+    private static final String ACCESS_CONTROL_PREFIX = "access-control-";
+    private static final List<String> UNCACHED_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION, HttpHeaders.VARY);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxEntries;
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public ResponseCacheGatewayFilterFactory(MeterRegistry meterRegistry,
+                                             @Value("${sav.gateway.cache.max-entries:10000}") int maxEntries) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.maxEntries = maxEntries;
+        meterRegistry.gaugeMapSize("gateway.cache.entries", List.of(), entries);
+        meterRegistry.gaugeMapSize("gateway.cache.in-flight", List.of(), inFlight);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Must wrap NettyWriteResponseFilter to see the response body, as ModifyResponseBody does
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config),
+                NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        String routeId = routeId(exchange);
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        CacheDirectives requestDirectives = CacheDirectives.parse(request.getHeaders().getCacheControl());
+        if (requestDirectives.noStore()) {
+            count(routeId, "bypass");
+            return chain.filter(exchange);
+        }
+
+        // Read before fetch() rewrites the conditional headers, which mutates the original request's headers too
+        List<String> ifNoneMatch = List.copyOf(request.getHeaders().getIfNoneMatch());
+        String key = cacheKey(routeId, request, config);
+        CachedResponse cached = entries.get(key);
+        if (cached != null && !requestDirectives.noCache() && cached.isFresh(System.nanoTime())) {
+            count(routeId, "hit");
+            return write(exchange, cached, ifNoneMatch);
+        }
+
+        boolean[] leader = {false};
+        Mono<CachedResponse> call = inFlight.computeIfAbsent(key, k -> {
+            leader[0] = true;
+            return Mono.defer(() -> fetch(exchange, chain, config, k, cached))
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache();
+        });
+        if (leader[0]) {
+            count(routeId, cached != null && cached.eTag() != null ? "revalidated" : "miss");
+        } else {
+            count(routeId, "coalesced");
+        }
+        return call.flatMap(response -> write(exchange, response, ifNoneMatch));
+    }
+
+    /**
+     * Run the rest of the chain once, capturing the backend response instead of writing it
+     */
+    private Mono<CachedResponse> fetch(ServerWebExchange exchange, GatewayFilterChain chain, Config config,
+                                       String key, CachedResponse stale) {
+        ServerHttpRequest upstream = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    // Conditional requests are answered from the shared representation, not forwarded
+                    headers.remove(HttpHeaders.IF_NONE_MATCH);
+                    headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                    if (stale != null && stale.eTag() != null) {
+                        headers.setIfNoneMatch(stale.eTag());
+                    }
+                })
+                .build();
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse());
+        return chain.filter(exchange.mutate().request(upstream).response(capturing).build())
+                .then(Mono.fromSupplier(() -> {
+                    if (stale != null && capturing.status().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return store(key, stale.refresh(freshness(capturing.headers(), config)));
+                    }
+                    CachedResponse response = capturing.toCachedResponse(freshness(capturing.headers(), config));
+                    if (isStorable(response, capturing.headers(), config)) {
+                        store(key, response);
+                    } else {
+                        entries.remove(key);
+                    }
+                    return response;
+                }));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, List<String> ifNoneMatch) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach(headers::put);
+
+        if (cached.eTag() != null && cached.status().isSameCodeAs(HttpStatus.OK)
+                && (ifNoneMatch.contains(cached.eTag()) || ifNoneMatch.contains("*"))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean isStorable(CachedResponse response, HttpHeaders headers, Config config) {
+        if (!response.status().isSameCodeAs(HttpStatus.OK) || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || response.body().length > config.getMaxBodySize()) {
+            return false;
+        }
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        if (directives.noStore() || (directives.isPrivate() && !config.isVaryByAuthorization())) {
+            return false;
+        }
+        // Nothing to gain from an entry that is already stale and cannot be revalidated
+        return response.eTag() != null || response.freshForNanos() > 0;
+    }
+
+    /**
+     * Freshness lifetime: s-maxage, then max-age, then the route ttl; zero for no-cache
+     */
+    private long freshness(HttpHeaders headers, Config config) {
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        if (directives.noCache()) {
+            return 0;
+        }
+        if (directives.sharedMaxAge() >= 0) {
+            return Duration.ofSeconds(directives.sharedMaxAge()).toNanos();
+        }
+        if (directives.maxAge() >= 0) {
+            return Duration.ofSeconds(directives.maxAge()).toNanos();
+        }
+        return config.getTtl().toNanos();
+    }
+
+    private CachedResponse store(String key, CachedResponse response) {
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> !entry.isFresh(now) && entry.eTag() == null);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, response);
+        return response;
+    }
+
+    private String cacheKey(String routeId, ServerHttpRequest request, Config config) {
+        HttpHeaders headers = request.getHeaders();
+        StringBuilder key = new StringBuilder(routeId)
+                .append(' ').append(request.getURI().getRawPath())
+                .append('?').append(request.getURI().getRawQuery() != null ? request.getURI().getRawQuery() : "")
+                .append(' ').append(String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT)))
+                .append(' ').append(String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)));
+        if (config.isVaryByAuthorization()) {
+            String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+            key.append(' ').append(authorization != null ? sha256(authorization) : "-");
+        }
+        return key.toString();
+    }
+
+    private void count(String routeId, String result) {
+        Counter.builder(METRIC_REQUESTS)
+                .description("Cacheable gateway requests by outcome")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static class Config {
+
+        // Freshness when the backend sends no max-age
+        private Duration ttl = Duration.ZERO;
+
+        // Key entries by the caller's credentials; only disable for responses that do not depend on the caller
+        private boolean varyByAuthorization = true;
+
+        // Larger responses are passed through (and still coalesced) but not stored
+        private int maxBodySize = 1024 * 1024;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public boolean isVaryByAuthorization() {
+            return varyByAuthorization;
+        }
+
+        public void setVaryByAuthorization(boolean varyByAuthorization) {
+            this.varyByAuthorization = varyByAuthorization;
+        }
+
+        public int getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+
+    record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String eTag,
+                          long freshForNanos, long storedAtNanos) {
+
+        boolean isFresh(long now) {
+            return now - storedAtNanos < freshForNanos;
+        }
+
+        CachedResponse refresh(long freshForNanos) {
+            return new CachedResponse(status, headers, body, eTag, freshForNanos, System.nanoTime());
+        }
+    }
+
+    record CacheDirectives(boolean noStore, boolean noCache, boolean isPrivate, long maxAge, long sharedMaxAge) {
+
+        static CacheDirectives parse(String cacheControl) {
+            boolean noStore = false;
+            boolean noCache = false;
+            boolean isPrivate = false;
+            long maxAge = -1;
+            long sharedMaxAge = -1;
+            if (cacheControl != null) {
+                for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                    String value = directive.trim();
+                    if (value.equals("no-store")) {
+                        noStore = true;
+                    } else if (value.equals("no-cache")) {
+                        noCache = true;
+                    } else if (value.equals("private")) {
+                        isPrivate = true;
+                    } else if (value.startsWith("max-age=")) {
+                        maxAge = seconds(value.substring("max-age=".length()));
+                    } else if (value.startsWith("s-maxage=")) {
+                        sharedMaxAge = seconds(value.substring("s-maxage=".length()));
+                    }
+                }
+            }
+            return new CacheDirectives(noStore, noCache, isPrivate, maxAge, sharedMaxAge);
+        }
+
+        private static long seconds(String value) {
+            try {
+                return Math.max(0, Long.parseLong(value.replace("\"", "")));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Collects status, headers and body written by the routing filter without committing the real response
+     */
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders captured = new HttpHeaders();
+        private byte[] body = new byte[0];
+
+        CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return captured;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body))
+                    .doOnNext(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        this.body = bytes;
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.empty();
+        }
+
+        HttpStatusCode status() {
+            HttpStatusCode status = getStatusCode();
+            return status != null ? status : HttpStatus.OK;
+        }
+
+        HttpHeaders headers() {
+            return captured;
+        }
+
+        CachedResponse toCachedResponse(long freshForNanos) {
+            HttpHeaders headers = new HttpHeaders();
+            captured.forEach((name, values) -> {
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!lower.startsWith(ACCESS_CONTROL_PREFIX)
+                        && UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            return new CachedResponse(status(), HttpHeaders.readOnlyHttpHeaders(headers), body,
+                    captured.getETag(), freshForNanos, System.nanoTime());
+        }
+    }
+}
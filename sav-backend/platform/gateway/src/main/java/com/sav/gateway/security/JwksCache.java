@@ -0,0 +1,131 @@
+package com.sav.gateway.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sav.gateway.config.GatewayJwtProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issuer signing keys held in memory and refreshed in the background
+ * An unknown key id (rotation) triggers an immediate fetch, at most once per jwksMinRefreshInterval;
+ * concurrent fetches are coalesced
+ */
+public class JwksCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksCache.class);
+
+    private final WebClient webClient;
+    private final GatewayJwtProperties properties;
+    private volatile JWKSet keys = new JWKSet();
+    private volatile long lastFetchNanos;
+    private volatile String jwkSetUri;
+    private Mono<JWKSet> inFlight;
+    private Disposable backgroundRefresh;
+
+    public JwksCache(WebClient.Builder webClientBuilder, GatewayJwtProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.properties = properties;
+        this.jwkSetUri = properties.getJwkSetUri();
+    }
+
+    public void start() {
+        backgroundRefresh = Flux.interval(Duration.ZERO, properties.getJwksRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("Could not refresh signing keys: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public void stop() {
+        if (backgroundRefresh != null) {
+            backgroundRefresh.dispose();
+        }
+    }
+
+    /**
+     * Keys matching the token header, fetching the key set again when none does
+     */
+    public Flux<JWK> select(SignedJWT jwt) {
+        JWKSelector selector = new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader()));
+        List<JWK> matches = selector.select(keys);
+        if (!matches.isEmpty()) {
+            return Flux.fromIterable(matches);
+        }
+        boolean recentlyFetched = lastFetchNanos != 0
+                && System.nanoTime() - lastFetchNanos < properties.getJwksMinRefreshInterval().toNanos();
+        if (recentlyFetched && !keys.getKeys().isEmpty()) {
+            return Flux.empty();
+        }
+        return refresh().flatMapIterable(selector::select);
+    }
+
+    int size() {
+        return keys.getKeys().size();
+    }
+
+    private synchronized Mono<JWKSet> refresh() {
+        if (inFlight == null) {
+            inFlight = resolveJwkSetUri()
+                    .flatMap(uri -> webClient.get().uri(uri).retrieve().bodyToMono(String.class))
+                    .map(JwksCache::parse)
+                    .doOnNext(fetched -> {
+                        keys = fetched;
+                        log.debug("Loaded {} signing keys", fetched.getKeys().size());
+                    })
+                    .doFinally(signal -> {
+                        lastFetchNanos = System.nanoTime();
+                        clearInFlight();
+                    })
+                    .cache();
+        }
+        return inFlight;
+    }
+
+    private synchronized void clearInFlight() {
+        inFlight = null;
+    }
+
+    private Mono<String> resolveJwkSetUri() {
+        if (jwkSetUri != null) {
+            return Mono.just(jwkSetUri);
+        }
+        String discovery = properties.getIssuerUri().replaceAll("/$", "") + "/.well-known/openid-configuration";
+        return webClient.get().uri(discovery)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                })
+                .map(document -> {
+                    Object uri = document.get("jwks_uri");
+                    if (!(uri instanceof String value)) {
+                        throw new IllegalStateException("No jwks_uri in " + discovery);
+                    }
+                    jwkSetUri = value;
+                    return value;
+                });
+    }
+
+    private static JWKSet parse(String body) {
+        try {
+            return JWKSet.parse(body);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JWK set: " + e.getMessage(), e);
+        }
+    }
+}
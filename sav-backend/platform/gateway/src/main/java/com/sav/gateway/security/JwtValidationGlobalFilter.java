@@ -0,0 +1,183 @@
+package com.sav.gateway.security;
+
+import com.sav.common.security.InternalPrincipal;
+import com.sav.common.security.InternalPrincipalCodec;
+import com.sav.common.security.TokenRoles;
+import com.sav.gateway.config.GatewayJwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates bearer tokens once at the edge and forwards the caller as a signed X-Sav-Principal header
+ * Invalid tokens are answered 401 here, requests without one pass through for the backend to decide,
+ * and a client-supplied X-Sav-Principal never reaches the backend
+ * Runs ahead of ResponseCache so cached responses are only served to valid tokens; the Authorization
+ * header is kept for backends that do not trust the internal principal
+ */
+public class JwtValidationGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtValidationGlobalFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ReactiveJwtDecoder decoder;
+    private final InternalPrincipalCodec codec;
+    private final long validatedTokenTtlNanos;
+    private final int maxEntries;
+    private final Map<String, Validated> validated = new ConcurrentHashMap<>();
+    private final Counter valid;
+    private final Counter cached;
+    private final Counter invalid;
+    private final Counter unavailable;
+
+    public JwtValidationGlobalFilter(ReactiveJwtDecoder decoder, InternalPrincipalCodec codec,
+                                     GatewayJwtProperties properties, MeterRegistry meterRegistry) {
+        this.decoder = decoder;
+        this.codec = codec;
+        this.validatedTokenTtlNanos = properties.getValidatedTokenTtl().toNanos();
+        this.maxEntries = properties.getValidatedTokenCacheSize();
+        this.valid = counter(meterRegistry, "valid");
+        this.cached = counter(meterRegistry, "cached");
+        this.invalid = counter(meterRegistry, "invalid");
+        this.unavailable = counter(meterRegistry, "unavailable");
+        meterRegistry.gaugeMapSize("gateway.jwt.validated-tokens", List.of(), validated);
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            if (!headers.containsKey(InternalPrincipal.HEADER)) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange.mutate()
+                    .request(request -> request.headers(h -> h.remove(InternalPrincipal.HEADER)))
+                    .build());
+        }
+
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return principal(token)
+                .flatMap(principal -> {
+                    String header = codec.encode(principal.withIssuedAt(Instant.now()));
+                    return chain.filter(exchange.mutate()
+                            .request(request -> request.headers(h -> h.set(InternalPrincipal.HEADER, header)))
+                            .build());
+                })
+                .onErrorResume(BadJwtException.class, e -> {
+                    invalid.increment();
+                    log.debug("Rejected bearer token: {}", e.getMessage());
+                    return reject(exchange, HttpStatus.UNAUTHORIZED);
+                })
+                .onErrorResume(KeysUnavailableException.class, e -> {
+                    log.warn("Could not validate bearer token: {}", e.getCause().getMessage());
+                    return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE);
+                });
+    }
+
+    private Mono<InternalPrincipal> principal(String token) {
+        long now = System.nanoTime();
+        Validated entry = validated.get(token);
+        if (entry != null && now - entry.validUntilNanos() < 0) {
+            cached.increment();
+            return Mono.just(entry.principal());
+        }
+        return decoder.decode(token)
+                .onErrorMap(e -> !(e instanceof BadJwtException), e -> {
+                    // Signing keys could not be loaded: not the caller's fault
+                    unavailable.increment();
+                    return new KeysUnavailableException(e);
+                })
+                .map(jwt -> {
+                    valid.increment();
+                    InternalPrincipal principal = toPrincipal(jwt);
+                    store(token, principal, now);
+                    return principal;
+                });
+    }
+
+    private void store(String token, InternalPrincipal principal, long now) {
+        long validUntil = now + validatedTokenTtlNanos;
+        if (principal.expiresAt() != null) {
+            long untilExpiry = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            validUntil = Math.min(validUntil, now + untilExpiry);
+        }
+        if (validated.size() >= maxEntries) {
+            validated.values().removeIf(entry -> now - entry.validUntilNanos() >= 0);
+            if (validated.size() >= maxEntries) {
+                validated.clear();
+            }
+        }
+        validated.put(token, new Validated(principal, validUntil));
+    }
+
+    private static InternalPrincipal toPrincipal(Jwt jwt) {
+        if (jwt.getSubject() == null || jwt.getSubject().isBlank()) {
+            throw new BadJwtException("Token has no subject");
+        }
+        return new InternalPrincipal(
+                jwt.getSubject(),
+                jwt.getClaimAsString("preferred_username"),
+                jwt.getClaimAsString("email"),
+                jwt.getClaimAsString("given_name"),
+                jwt.getClaimAsString("family_name"),
+                jwt.getClaimAsString("name"),
+                TokenRoles.fromClaims(jwt.getClaims()),
+                jwt.getClaimAsString("iss"),
+                Instant.now(),
+                jwt.getExpiresAt());
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        if (status == HttpStatus.UNAUTHORIZED) {
+            response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        }
+        return response.setComplete();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.jwt.validations")
+                .description("Bearer tokens seen by the gateway by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Validated(InternalPrincipal principal, long validUntilNanos) {
+    }
+
+    /**
+     * Raised when the token could not be checked at all; answered 503 rather than 401
+     */
+    static class KeysUnavailableException extends RuntimeException {
+        KeysUnavailableException(Throwable cause) {
+            super("Signing keys unavailable", cause);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.sav.security.config;
 
+import com.sav.common.security.InternalPrincipal;
+import com.sav.common.security.InternalPrincipalCodec;
+import com.sav.common.security.TokenRoles;
+import com.sav.security.filter.InternalPrincipalAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -7,35 +13,55 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.util.Collection;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    /**
+     * Trust the X-Sav-Principal header signed by the gateway (sav.gateway.jwt) instead of validating
+     * the bearer token again; requests without it are still validated as bearer tokens
+     */
+    @Value("${sav.security.internal-principal.enabled:false}")
+    private boolean internalPrincipalEnabled;
+
+    @Value("${sav.security.internal-principal.secret:}")
+    private String internalPrincipalSecret;
+
+    @Value("${sav.security.internal-principal.max-age-seconds:30}")
+    private long internalPrincipalMaxAgeSeconds;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
-                .csrf(csrf -> csrf
-                    .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
-                    .ignoringRequestMatchers("/api/auth/**", "/api/public/**")
-                )
+                .csrf(csrf -> {
+                    csrf.csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
+                            .ignoringRequestMatchers("/api/auth/**", "/api/public/**");
+                    if (internalPrincipalEnabled) {
+                        // Same exemption bearer token requests get; the header is verified before it is trusted
+                        csrf.ignoringRequestMatchers(request -> request.getHeader(InternalPrincipal.HEADER) != null);
+                    }
+                })
 
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(authz -> authz
+                        // Async re-dispatches (SSE streams completing) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/actuator/**",
                                 "/public/**",
@@ -51,52 +77,37 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
-                .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt
-                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
-                        )
-                )
+                .oauth2ResourceServer(oauth2 -> {
+                    oauth2.jwt(jwt -> jwt
+                            .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                    );
+                    if (internalPrincipalEnabled) {
+                        // The gateway forwards the Authorization header too; its token was validated there
+                        DefaultBearerTokenResolver bearerTokenResolver = new DefaultBearerTokenResolver();
+                        oauth2.bearerTokenResolver(request -> request.getHeader(InternalPrincipal.HEADER) != null
+                                ? null
+                                : bearerTokenResolver.resolve(request));
+                    }
+                })
 
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable);
 
+        if (internalPrincipalEnabled) {
+            InternalPrincipalCodec codec = new InternalPrincipalCodec(internalPrincipalSecret,
+                    Duration.ofSeconds(internalPrincipalMaxAgeSeconds));
+            http.addFilterBefore(new InternalPrincipalAuthenticationFilter(codec), BearerTokenAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
-            Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-            if (realmAccess != null) {
-                @SuppressWarnings("unchecked")
-                Collection<String> roles = (Collection<String>) realmAccess.get("roles");
-                if (roles != null) {
-                    return roles.stream()
-                            .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                            .collect(Collectors.toList());
-                }
-            }
-
-            Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
-            if (resourceAccess != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("sav-backend");
-                if (clientAccess != null) {
-                    @SuppressWarnings("unchecked")
-                    Collection<String> roles = (Collection<String>) clientAccess.get("roles");
-                    if (roles != null) {
-                        return roles.stream()
-                                .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                                .collect(Collectors.toList());
-                    }
-                }
-            }
-
-            return List.of();
-        });
+        converter.setJwtGrantedAuthoritiesConverter(jwt -> TokenRoles.fromClaims(jwt.getClaims()).stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+                .toList());
         return converter;
     }
 
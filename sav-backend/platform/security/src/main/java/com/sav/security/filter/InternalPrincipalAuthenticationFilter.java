@@ -0,0 +1,93 @@
+package com.sav.security.filter;
+
+import com.sav.common.security.InternalPrincipal;
+import com.sav.common.security.InternalPrincipalCodec;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticates requests from the gateway by the signed X-Sav-Principal header instead of the bearer token
+ * The principal becomes a JwtAuthenticationToken carrying the same claims, so SecurityUtil, AuthUtil and
+ * method security work unchanged; requests without the header fall through to bearer token validation
+ */
+@Slf4j
+public class InternalPrincipalAuthenticationFilter extends OncePerRequestFilter {
+
+    private final InternalPrincipalCodec codec;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    public InternalPrincipalAuthenticationFilter(InternalPrincipalCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(InternalPrincipal.HEADER);
+        if (header == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        InternalPrincipal principal;
+        try {
+            principal = codec.decode(header);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected internal principal from {}: {}", request.getRemoteAddr(), e.getMessage());
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(toAuthentication(header, principal));
+        SecurityContextHolder.setContext(context);
+        // Kept for async re-dispatches (SSE), as BearerTokenAuthenticationFilter does
+        securityContextRepository.saveContext(context, request, response);
+        chain.doFilter(request, response);
+    }
+
+    private static JwtAuthenticationToken toAuthentication(String tokenValue, InternalPrincipal principal) {
+        Jwt.Builder jwt = Jwt.withTokenValue(tokenValue)
+                .header("alg", "HS256")
+                .subject(principal.subject())
+                .issuedAt(principal.issuedAt())
+                .claim("realm_access", Map.of("roles", principal.roles()));
+        if (principal.expiresAt() != null) {
+            jwt.expiresAt(principal.expiresAt());
+        }
+        putIfPresent(jwt, "iss", principal.issuer());
+        putIfPresent(jwt, "preferred_username", principal.username());
+        putIfPresent(jwt, "email", principal.email());
+        putIfPresent(jwt, "given_name", principal.givenName());
+        putIfPresent(jwt, "family_name", principal.familyName());
+        putIfPresent(jwt, "name", principal.fullName());
+
+        List<SimpleGrantedAuthority> authorities = principal.roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+        return new JwtAuthenticationToken(jwt.build(), authorities, principal.subject());
+    }
+
+    private static void putIfPresent(Jwt.Builder jwt, String claim, String value) {
+        if (value != null) {
+            jwt.claim(claim, value);
+        }
+    }
+}
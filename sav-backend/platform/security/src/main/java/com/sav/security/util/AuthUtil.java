@@ -1,13 +1,12 @@
 package com.sav.security.util;
 
+import com.sav.common.security.TokenRoles;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for extracting information from JWT authentication tokens
@@ -48,19 +47,9 @@ public class AuthUtil {
     /**
      * Extract roles from JWT authentication
      */
-    @SuppressWarnings("unchecked")
     public static List<String> extractRolesFromAuth(Authentication authentication) {
         if (authentication instanceof JwtAuthenticationToken jwtAuth) {
-            Jwt jwt = jwtAuth.getToken();
-            Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-            if (realmAccess != null) {
-                List<String> roles = (List<String>) realmAccess.get("roles");
-                if (roles != null) {
-                    return roles.stream()
-                            .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                            .collect(Collectors.toList());
-                }
-            }
+            return TokenRoles.fromClaims(jwtAuth.getToken().getClaims());
         }
         return List.of();
     }
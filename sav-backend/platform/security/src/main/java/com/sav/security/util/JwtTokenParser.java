@@ -1,14 +1,13 @@
 package com.sav.security.util;
 
 import com.sav.common.dto.KeycloakUserInfo;
+import com.sav.common.security.TokenRoles;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for parsing JWT tokens and extracting user information
@@ -33,42 +32,10 @@ public class JwtTokenParser {
                 .firstName(jwt.getClaimAsString("given_name"))
                 .lastName(jwt.getClaimAsString("family_name"))
                 .fullName(jwt.getClaimAsString("name"))
-                .roles(extractRoles(jwt))
+                .roles(TokenRoles.fromClaims(jwt.getClaims()))
                 .build();
     }
 
-    /**
-     * Extract roles from JWT token
-     * Checks both realm_access.roles and resource_access.sav-backend.roles
-     */
-    @SuppressWarnings("unchecked")
-    private List<String> extractRoles(Jwt jwt) {
-        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-        if (realmAccess != null) {
-            List<String> roles = (List<String>) realmAccess.get("roles");
-            if (roles != null) {
-                return roles.stream()
-                        .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                        .collect(Collectors.toList());
-            }
-        }
-
-        Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
-        if (resourceAccess != null) {
-            Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("sav-backend");
-            if (clientAccess != null) {
-                List<String> roles = (List<String>) clientAccess.get("roles");
-                if (roles != null) {
-                    return roles.stream()
-                            .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                            .collect(Collectors.toList());
-                }
-            }
-        }
-
-        return List.of();
-    }
-
     /**
      * Extract user ID from JWT token
      */
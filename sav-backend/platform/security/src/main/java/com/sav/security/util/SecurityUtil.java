@@ -1,5 +1,6 @@
 package com.sav.security.util;
 
+import com.sav.common.security.TokenRoles;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -58,20 +59,10 @@ public class SecurityUtil {
     /**
      * Get current user roles from JWT token
      */
-    @SuppressWarnings("unchecked")
     public static List<String> getCurrentUserRoles() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth instanceof JwtAuthenticationToken jwtToken) {
-            Jwt jwt = jwtToken.getToken();
-            Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-            if (realmAccess != null) {
-                List<String> roles = (List<String>) realmAccess.get("roles");
-                if (roles != null) {
-                    return roles.stream()
-                            .filter(role -> List.of("ADMIN", "TECHNICIAN", "USER").contains(role))
-                            .toList();
-                }
-            }
+            return TokenRoles.fromClaims(jwtToken.getToken().getClaims());
         }
         return List.of();
     }
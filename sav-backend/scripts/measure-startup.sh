@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Time-to-first-request of a regular start vs. the fast-start build (AOT + AppCDS + lazy non-critical beans)
+# Usage: measure-startup.sh <application jar> (run from the directory holding the jar, lib/ and application.jsa)
+# Needs the database from docker compose; the port can be overridden with PORT
+set -euo pipefail
+
+JAR=${1:?application jar}
+PORT=${PORT:-18090}
+URL="http://localhost:${PORT}/api/actuator/health"
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+measure() {
+  local label=$1
+  shift
+  local start
+  start=$(date +%s%N)
+  java "$@" --server.port="${PORT}" --logging.file.name= > "startup-${label}.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+  until curl -s -o /dev/null "${URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "${label}: application exited, see startup-${label}.log" >&2
+      exit 1
+    fi
+    if (( ($(date +%s%N) - start) / 1000000000 > TIMEOUT_SECONDS )); then
+      echo "${label}: no response after ${TIMEOUT_SECONDS}s, see startup-${label}.log" >&2
+      kill "${pid}"
+      exit 1
+    fi
+    sleep 0.05
+  done
+
+  local elapsed_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  trap - EXIT
+  printf '%-12s %6d ms to first request\n' "${label}" "${elapsed_ms}"
+}
+
+measure regular -jar "${JAR}" --spring.profiles.active=default
+if [[ -f application.jsa ]]; then
+  measure fast-start -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "${JAR}" --spring.profiles.active=fast-start
+else
+  echo "application.jsa not found, build with -Pfast-start first" >&2
+  exit 1
+fi
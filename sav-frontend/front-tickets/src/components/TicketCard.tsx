@@ -18,6 +18,8 @@ export const TicketCard: React.FC<TicketCardProps> = ({ ticket, onStatusChange,
         return 'bg-yellow-100 text-yellow-800'
       case TicketStatus.IN_PROGRESS:
         return 'bg-orange-100 text-orange-800'
+      case TicketStatus.WAITING_FOR_CUSTOMER:
+        return 'bg-purple-100 text-purple-800'
       case TicketStatus.RESOLVED:
         return 'bg-green-100 text-green-800'
       case TicketStatus.CLOSED:
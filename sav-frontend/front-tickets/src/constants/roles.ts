@@ -22,6 +22,7 @@ export const TicketStatus = {
   OPEN: 'OPEN',
   ASSIGNED: 'ASSIGNED',
   IN_PROGRESS: 'IN_PROGRESS',
+  WAITING_FOR_CUSTOMER: 'WAITING_FOR_CUSTOMER',
   RESOLVED: 'RESOLVED',
   REOPENED: 'REOPENED',
   CLOSED: 'CLOSED',
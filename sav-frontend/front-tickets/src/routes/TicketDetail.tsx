@@ -243,6 +243,16 @@ function TicketDetailContent({ id }: { id: string }) {
                   </Button>
                 )}
 
+                {ticket.status === TicketStatus.IN_PROGRESS && (
+                  <Button
+                    color="violet"
+                    onClick={() => handleStatusChange(TicketStatus.WAITING_FOR_CUSTOMER)}
+                    loading={updateStatusMutation.isPending}
+                  >
+                    Wait for Customer
+                  </Button>
+                )}
+
                 {ticket.status !== TicketStatus.RESOLVED &&
                   ticket.status !== TicketStatus.CLOSED && (
                     <Button
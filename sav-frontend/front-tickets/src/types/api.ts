@@ -61,6 +61,7 @@ export enum TicketStatus {
   OPEN = 'OPEN',
   ASSIGNED = 'ASSIGNED',
   IN_PROGRESS = 'IN_PROGRESS',
+  WAITING_FOR_CUSTOMER = 'WAITING_FOR_CUSTOMER',
   RESOLVED = 'RESOLVED',
   REOPENED = 'REOPENED',
   CLOSED = 'CLOSED',
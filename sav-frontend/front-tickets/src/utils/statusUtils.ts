@@ -8,6 +8,8 @@ export const getStatusColor = (status: TicketStatus): string => {
       return 'orange'
     case TicketStatus.IN_PROGRESS:
       return 'yellow'
+    case TicketStatus.WAITING_FOR_CUSTOMER:
+      return 'violet'
     case TicketStatus.RESOLVED:
       return 'green'
     case TicketStatus.REOPENED:
@@ -42,6 +44,8 @@ export const getStatusLabel = (status: TicketStatus): string => {
       return 'Assigned'
     case TicketStatus.IN_PROGRESS:
       return 'In Progress'
+    case TicketStatus.WAITING_FOR_CUSTOMER:
+      return 'Waiting for Customer'
     case TicketStatus.RESOLVED:
       return 'Resolved'
     case TicketStatus.REOPENED: